@@ -0,0 +1,154 @@
+package com.graphs.struct;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.IntSummaryStatistics;
+import java.util.PrimitiveIterator;
+import java.util.stream.IntStream;
+
+/**
+ * This interface represents (open) neighbourhood of a vertex as a set of indexes of adjacent vertices.
+ * <p>
+ * A representation is chosen by degree of a vertex - see {@link #adapt(Adjacency)}.
+ * Vertices of low degree keep their neighbours in {@link SortedArrayAdjacency},
+ * while vertices of high degree keep them in {@link HashAdjacency},
+ * or in {@link BitSetAdjacency} if their neighbours have close indexes, like in a complete graph.
+ * </p>
+ *
+ * @author Łukasz Malara
+ * @version JDK 1.7
+ * @since 2.1
+ */
+interface Adjacency {
+
+    /**
+     * This field stores the greatest degree of a vertex that is still represented by {@link SortedArrayAdjacency}.
+     *
+     * @since 2.1
+     */
+    int SORTED_ARRAY_THRESHOLD = 32;
+
+    /**
+     * This field stores the greatest number of bits per index of a neighbourhood that is turned into {@link BitSetAdjacency}.
+     * A bitset is turned back into {@link HashAdjacency} once it takes four times as many bits per index,
+     * which is as much memory as hashing takes.
+     *
+     * @since 2.1
+     */
+    int DENSE_FACTOR = 16;
+
+    /**
+     * This method returns the number of indexes in this neighbourhood.
+     *
+     * @return degree of a vertex.
+     * @since 2.1
+     */
+    int size();
+
+    /**
+     * This method checks whether this neighbourhood contains given index.
+     *
+     * @param index numerical index of vertex.
+     * @return {@code true} if this neighbourhood contains given index, {@code false} otherwise.
+     * @since 2.1
+     */
+    boolean contains(int index);
+
+    /**
+     * This method adds given index to this neighbourhood, unless it is already there.
+     *
+     * @param index numerical index of vertex.
+     * @return {@code true} if given index has been added, {@code false} otherwise.
+     * @since 2.1
+     */
+    boolean add(int index);
+
+    /**
+     * This method removes given index from this neighbourhood, if it is there.
+     *
+     * @param index numerical index of vertex.
+     * @return {@code true} if given index has been removed, {@code false} otherwise.
+     * @since 2.1
+     */
+    boolean remove(int index);
+
+    /**
+     * This method returns a copy of indexes from this neighbourhood.
+     *
+     * @return new array of indexes from this neighbourhood.
+     * @since 2.1
+     */
+    int @NotNull [] toArray();
+
+    /**
+     * This method returns a sequential stream of indexes from this neighbourhood.
+     *
+     * @return stream of indexes from this neighbourhood.
+     * @since 2.1
+     */
+    @NotNull IntStream stream();
+
+    /**
+     * This method returns an iterator over indexes from this neighbourhood, which reads them in place.
+     * Indexes are iterated in ascending order, unless this neighbourhood is hashed.
+     *
+     * @return iterator over indexes from this neighbourhood.
+     * @since 2.1
+     */
+    default @NotNull PrimitiveIterator.OfInt iterator() {
+        return this.stream().iterator();
+    }
+
+    /**
+     * This method returns an independent copy of this neighbourhood of the same representation.
+     *
+     * @return new neighbourhood with the same indexes.
+     * @since 2.1
+     */
+    @NotNull Adjacency copy();
+
+    /**
+     * This method returns a representation suitable for the current degree of given neighbourhood.
+     * A neighbourhood that outgrows {@link #SORTED_ARRAY_THRESHOLD} is rehashed,
+     * while a hashed neighbourhood that shrinks to a half of it is sorted back into an array.
+     * A hashed neighbourhood whose indexes span at most {@link #DENSE_FACTOR} times its degree is turned into a bitset;
+     * this is checked only when its degree reaches a power of two, so the span is computed in amortized constant time.
+     *
+     * @param adjacency neighbourhood to adapt.
+     * @return given neighbourhood, or a new one with the same indexes but a different representation.
+     * @since 2.1
+     */
+    static @NotNull Adjacency adapt(@NotNull Adjacency adjacency) {
+        if (adjacency instanceof SortedArrayAdjacency && adjacency.size() > SORTED_ARRAY_THRESHOLD) {
+            return new HashAdjacency(adjacency);
+        }
+        if (adjacency instanceof HashAdjacency && adjacency.size() <= SORTED_ARRAY_THRESHOLD / 2) {
+            return new SortedArrayAdjacency(adjacency);
+        }
+        if (adjacency instanceof HashAdjacency && Integer.bitCount(adjacency.size()) == 1) {
+            IntSummaryStatistics statistics = adjacency.stream().summaryStatistics();
+            long span = (long) statistics.getMax() - statistics.getMin() + 1;
+            if (span <= (long) DENSE_FACTOR * adjacency.size()) return new BitSetAdjacency(adjacency);
+        }
+        if (adjacency instanceof BitSetAdjacency bitSet) {
+            if (bitSet.size() <= SORTED_ARRAY_THRESHOLD / 2) return new SortedArrayAdjacency(adjacency);
+            if (bitSet.capacity() > 4L * DENSE_FACTOR * bitSet.size()) return new HashAdjacency(adjacency);
+        }
+        return adjacency;
+    }
+
+    /**
+     * This method creates a neighbourhood of given indexes in a representation suitable for their number and span.
+     *
+     * @param indexes distinct indexes of vertices.
+     * @return new neighbourhood of given indexes.
+     * @since 2.1
+     */
+    static @NotNull Adjacency of(int @NotNull [] indexes) {
+        Adjacency adjacency = new SortedArrayAdjacency(indexes);
+        if (indexes.length <= SORTED_ARRAY_THRESHOLD) return adjacency;
+        IntSummaryStatistics statistics = adjacency.stream().summaryStatistics();
+        long span = (long) statistics.getMax() - statistics.getMin() + 1;
+        return span <= (long) DENSE_FACTOR * indexes.length ? new BitSetAdjacency(adjacency) : new HashAdjacency(adjacency);
+    }
+}
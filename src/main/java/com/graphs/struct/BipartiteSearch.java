@@ -0,0 +1,201 @@
+package com.graphs.struct;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * This class colours vertices of {@link CsrGraph} with two colours by breadth-first search over its arrays,
+ * one connected component at a time, and finds an odd cycle once two adjacent vertices get the same colour.
+ * <p>
+ * Colours, parents and depths of vertices are kept in primitive arrays indexed by dense identifiers.
+ * Searches of different components write to different elements of the arrays,
+ * so components can be coloured in parallel. Once any search finds an odd cycle, the others stop.
+ * </p>
+ *
+ * @author Łukasz Malara
+ * @version JDK 1.7
+ * @see CsrGraph#findBipartition()
+ * @since 2.1
+ */
+final class BipartiteSearch {
+
+    /**
+     * This field stores a colour of a vertex that has not been reached yet.
+     *
+     * @since 2.1
+     */
+    static final byte UNCOLOURED = 0;
+
+    /**
+     * This field stores a colour of vertices of the first part, which includes the first vertex of each component.
+     *
+     * @since 2.1
+     */
+    static final byte FIRST = 1;
+
+    /**
+     * This field stores a colour of vertices of the second part.
+     *
+     * @since 2.1
+     */
+    static final byte SECOND = 2;
+
+    /**
+     * This field stores a value returned by a search that has not found an odd cycle.
+     *
+     * @since 2.1
+     */
+    static final long NO_CONFLICT = -1;
+
+    /**
+     * This field stores the beginning of neighbours of each vertex in {@link #targets}.
+     *
+     * @since 2.1
+     */
+    private final IntStorage offsets;
+
+    /**
+     * This field stores dense identifiers of neighbours of all vertices, one vertex after another.
+     *
+     * @since 2.1
+     */
+    private final IntStorage targets;
+
+    /**
+     * This field stores membership of each vertex in a searched subset, or {@code null} if all vertices are searched.
+     *
+     * @since 2.1
+     */
+    private final boolean[] member;
+
+    /**
+     * This field stores a colour of each vertex.
+     *
+     * @since 2.1
+     */
+    private final byte[] colours;
+
+    /**
+     * This field stores a parent of each coloured vertex in a tree of a search, or {@code -1} for the first vertex of a component.
+     *
+     * @since 2.1
+     */
+    private final int[] parents;
+
+    /**
+     * This field stores a depth of each coloured vertex in a tree of a search.
+     *
+     * @since 2.1
+     */
+    private final int[] depths;
+
+    /**
+     * This field tells whether any search has already found an odd cycle.
+     *
+     * @since 2.1
+     */
+    private volatile boolean conflicting;
+
+    /**
+     * This constructor prepares colouring of vertices over given arrays of a graph.
+     *
+     * @param offsets beginning of neighbours of each vertex in targets, of length {@code order + 1}.
+     * @param targets dense identifiers of neighbours of all vertices, one vertex after another.
+     * @param member  membership of each vertex in a searched subset, or {@code null} to search all vertices.
+     * @since 2.1
+     */
+    BipartiteSearch(@NotNull IntStorage offsets, @NotNull IntStorage targets, boolean[] member) {
+        this.offsets = offsets;
+        this.targets = targets;
+        this.member = member;
+        int order = offsets.length() - 1;
+        this.colours = new byte[order];
+        this.parents = new int[order];
+        this.depths = new int[order];
+    }
+
+    /**
+     * This method returns a colour of given vertex.
+     *
+     * @param id dense identifier of a vertex.
+     * @return {@link #FIRST}, {@link #SECOND}, or {@link #UNCOLOURED} if given vertex has not been reached.
+     * @since 2.1
+     */
+    byte colourOf(int id) {
+        return this.colours[id];
+    }
+
+    /**
+     * This method colours a component of given uncoloured vertex, which gets {@link #FIRST} colour.
+     *
+     * @param start dense identifier of the first vertex of a component.
+     * @param queue array able to hold all vertices of a component, used as a queue of a search.
+     * @return an edge joining two vertices of the same colour as {@code first << 32 | second},
+     * or {@link #NO_CONFLICT} if the component has been coloured or another search has found an odd cycle.
+     * @since 2.1
+     */
+    long colour(int start, int @NotNull [] queue) {
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = start;
+        this.colours[start] = FIRST;
+        this.parents[start] = -1;
+        while (head < tail && !this.conflicting) {
+            int current = queue[head++];
+            byte opposite = this.colours[current] == FIRST ? SECOND : FIRST;
+            for (int k = this.offsets.get(current); k < this.offsets.get(current + 1); k++) {
+                int neighbour = this.targets.get(k);
+                if (this.member != null && !this.member[neighbour]) continue;
+                if (this.colours[neighbour] == UNCOLOURED) {
+                    this.colours[neighbour] = opposite;
+                    this.parents[neighbour] = current;
+                    this.depths[neighbour] = this.depths[current] + 1;
+                    queue[tail++] = neighbour;
+                } else if (this.colours[neighbour] == this.colours[current]) {
+                    this.conflicting = true;
+                    return (long) current << Integer.SIZE | neighbour;
+                }
+            }
+        }
+        return NO_CONFLICT;
+    }
+
+    /**
+     * This method builds an odd cycle closed by given edge between two vertices of the same colour.
+     * Both ends are at the same depth of a tree of a search, so paths from them up to their lowest common ancestor
+     * have the same length, and together with the edge they form a cycle of odd length.
+     *
+     * @param conflict an edge joining two vertices of the same colour as {@code first << 32 | second}.
+     * @return dense identifiers of vertices of an odd cycle in order of the cycle.
+     * @since 2.1
+     */
+    int @NotNull [] oddCycle(long conflict) {
+        int first = (int) (conflict >>> Integer.SIZE);
+        int second = (int) conflict;
+        int[] up = new int[this.depths[first] + 1];
+        int[] down = new int[this.depths[second] + 1];
+        int upLength = 0;
+        int downLength = 0;
+        while (this.depths[first] > this.depths[second]) {
+            up[upLength++] = first;
+            first = this.parents[first];
+        }
+        while (this.depths[second] > this.depths[first]) {
+            down[downLength++] = second;
+            second = this.parents[second];
+        }
+        while (first != second) {
+            up[upLength++] = first;
+            first = this.parents[first];
+            down[downLength++] = second;
+            second = this.parents[second];
+        }
+        up[upLength++] = first;
+        int[] cycle = Arrays.copyOf(up, upLength + downLength);
+        for (int k = 0; k < downLength; k++) {
+            cycle[upLength + k] = down[downLength - 1 - k];
+        }
+        return cycle;
+    }
+}
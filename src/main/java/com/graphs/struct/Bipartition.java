@@ -0,0 +1,164 @@
+package com.graphs.struct;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * This class represents a result of checking whether a graph is bipartite.
+ * <p>
+ * A bipartite graph is split into two parts, so that each edge joins a vertex of the first part with a vertex of the second one.
+ * The first vertex of each connected component, that is the one of the least index, belongs to the first part.
+ * A graph that is not bipartite has no parts, instead it comes with an odd cycle, which proves it.
+ * An empty graph is not bipartite, as {@link Graph#isBipartite()} tells, so it has neither parts nor an odd cycle.
+ * </p>
+ *
+ * @author Łukasz Malara
+ * @version JDK 1.7
+ * @see Graph#findBipartition()
+ * @see CsrGraph#findBipartition()
+ * @since 2.1
+ */
+public final class Bipartition {
+
+    /**
+     * This field stores indexes of vertices of the first part in ascending order.
+     *
+     * @since 2.1
+     */
+    private final int[] first;
+
+    /**
+     * This field stores indexes of vertices of the second part in ascending order.
+     *
+     * @since 2.1
+     */
+    private final int[] second;
+
+    /**
+     * This field stores indexes of vertices of an odd cycle in order of the cycle, or nothing if a graph is bipartite.
+     *
+     * @since 2.1
+     */
+    private final int[] oddCycle;
+
+    /**
+     * This constructor creates a result of checking bipartiteness.
+     *
+     * @param first    sorted indexes of vertices of the first part.
+     * @param second   sorted indexes of vertices of the second part.
+     * @param oddCycle indexes of vertices of an odd cycle in order of the cycle, or an empty array if there is none.
+     * @since 2.1
+     */
+    Bipartition(int @NotNull [] first, int @NotNull [] second, int @NotNull [] oddCycle) {
+        this.first = first;
+        this.second = second;
+        this.oddCycle = oddCycle;
+    }
+
+    /**
+     * This method tells whether a graph is bipartite.
+     * The first vertex of each component belongs to the first part, so the first part is empty only for an empty graph.
+     *
+     * @return {@code true} if a graph is not empty and is bipartite, {@code false} if it is empty or contains an odd cycle.
+     * @since 2.1
+     */
+    public boolean isBipartite() {
+        return this.first.length > 0;
+    }
+
+    /**
+     * This method returns an unmodifiable sorted set of vertices of the first part.
+     *
+     * @return vertices of the first part, or an empty set if a graph is not bipartite.
+     * @since 2.1
+     */
+    public @NotNull @Unmodifiable Set<Integer> getFirstPart() {
+        return toUnmodifiableSortedSet(this.first);
+    }
+
+    /**
+     * This method returns indexes of vertices of the first part without boxing them.
+     *
+     * @return sorted array of indexes of vertices of the first part, which is empty if a graph is not bipartite.
+     * @since 2.1
+     */
+    public int @NotNull [] getFirstPartIndexes() {
+        return this.first.clone();
+    }
+
+    /**
+     * This method returns an unmodifiable sorted set of vertices of the second part.
+     *
+     * @return vertices of the second part, or an empty set if a graph is not bipartite.
+     * @since 2.1
+     */
+    public @NotNull @Unmodifiable Set<Integer> getSecondPart() {
+        return toUnmodifiableSortedSet(this.second);
+    }
+
+    /**
+     * This method returns indexes of vertices of the second part without boxing them.
+     *
+     * @return sorted array of indexes of vertices of the second part, which is empty if a graph is not bipartite.
+     * @since 2.1
+     */
+    public int @NotNull [] getSecondPartIndexes() {
+        return this.second.clone();
+    }
+
+    /**
+     * This method returns vertices of an odd cycle, which proves that a graph is not bipartite.
+     * Each vertex of the list is adjacent to the next one, and the last vertex is adjacent to the first one.
+     *
+     * @return unmodifiable list of vertices of an odd cycle, or an empty list if a graph is bipartite or empty.
+     * @since 2.1
+     */
+    public @NotNull @Unmodifiable List<Integer> getOddCycle() {
+        return IntStream.of(this.oddCycle).boxed().toList();
+    }
+
+    /**
+     * This method returns indexes of vertices of an odd cycle without boxing them.
+     *
+     * @return indexes of vertices of an odd cycle in order of the cycle, or an empty array if a graph is bipartite or empty.
+     * @see #getOddCycle()
+     * @since 2.1
+     */
+    public int @NotNull [] getOddCycleIndexes() {
+        return this.oddCycle.clone();
+    }
+
+    /**
+     * This method maps given indexes to an unmodifiable sorted set.
+     *
+     * @param indexes indexes of vertices.
+     * @return unmodifiable sorted set of given indexes.
+     * @since 2.1
+     */
+    private static @NotNull @Unmodifiable Set<Integer> toUnmodifiableSortedSet(int @NotNull [] indexes) {
+        return Collections.unmodifiableSortedSet(IntStream.of(indexes)
+                .boxed()
+                .collect(Collectors.toCollection(TreeSet::new)));
+    }
+
+    /**
+     * This method returns user-friendly representation of this result as both parts or an odd cycle.
+     *
+     * @return parts of a bipartite graph, an odd cycle of a graph that is not bipartite, or a note of an empty graph.
+     * @since 2.1
+     */
+    @Override
+    public String toString() {
+        if (isBipartite()) return "Bipartite: " + Arrays.toString(this.first) + " | " + Arrays.toString(this.second);
+        if (this.oddCycle.length == 0) return "Empty graph";
+        return "Odd cycle: " + Arrays.toString(this.oddCycle);
+    }
+}
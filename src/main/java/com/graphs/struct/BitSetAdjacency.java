@@ -0,0 +1,232 @@
+package com.graphs.struct;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * This class implements neighbourhood of a vertex of a dense graph as a row of an adjacency matrix.
+ * Each index is a single bit of a word, so membership is a single bit probe,
+ * and a neighbourhood of consecutive indexes is filled a word at a time.
+ * <p>
+ * A row does not start at index {@code 0}, but at {@link #base}, so a neighbourhood of vertices
+ * with large but close indexes takes as much memory as one of small indexes.
+ * </p>
+ *
+ * @author Łukasz Malara
+ * @version JDK 1.7
+ * @see Adjacency#adapt(Adjacency)
+ * @since 2.1
+ */
+final class BitSetAdjacency implements Adjacency {
+
+    /**
+     * This field stores binary logarithm of the number of bits in a word.
+     *
+     * @since 2.1
+     */
+    private static final int WORD_SHIFT = 6;
+
+    /**
+     * This field stores index represented by the lowest bit of the first word. It is always a multiple of {@code 64}.
+     *
+     * @since 2.1
+     */
+    private int base;
+
+    /**
+     * This field stores bits of this neighbourhood, where bit {@code i} stands for index {@code base + i}.
+     *
+     * @since 2.1
+     */
+    private long[] words;
+
+    /**
+     * This field stores the number of set bits.
+     *
+     * @since 2.1
+     */
+    private int size;
+
+    /**
+     * This constructor creates an empty neighbourhood.
+     *
+     * @since 2.1
+     */
+    BitSetAdjacency() {
+        this.words = new long[1];
+    }
+
+    /**
+     * This constructor creates a neighbourhood containing the same indexes as given one.
+     *
+     * @param adjacency neighbourhood to copy indexes from.
+     * @since 2.1
+     */
+    BitSetAdjacency(@NotNull Adjacency adjacency) {
+        int[] indexes = adjacency.toArray();
+        int min = Arrays.stream(indexes).min().orElse(0);
+        int max = Arrays.stream(indexes).max().orElse(0);
+        this.base = min & -Long.SIZE;
+        this.words = new long[((max - this.base) >>> WORD_SHIFT) + 1];
+        for (int index : indexes) {
+            this.add(index);
+        }
+    }
+
+    /**
+     * This constructor creates a neighbourhood containing given number of consecutive indexes.
+     *
+     * @param from  the lowest index.
+     * @param count number of indexes.
+     * @since 2.1
+     */
+    BitSetAdjacency(int from, int count) {
+        this.base = from & -Long.SIZE;
+        int fromBit = from - this.base;
+        int toBit = fromBit + count;
+        this.words = new long[Math.max(1, (toBit + Long.SIZE - 1) >>> WORD_SHIFT)];
+        if (count > 0) {
+            int first = fromBit >>> WORD_SHIFT;
+            int last = (toBit - 1) >>> WORD_SHIFT;
+            long firstMask = -1L << fromBit;
+            long lastMask = -1L >>> -toBit;
+            if (first == last) {
+                this.words[first] = firstMask & lastMask;
+            } else {
+                this.words[first] = firstMask;
+                Arrays.fill(this.words, first + 1, last, -1L);
+                this.words[last] = lastMask;
+            }
+        }
+        this.size = count;
+    }
+
+    /**
+     * This constructor creates a copy of given neighbourhood.
+     *
+     * @param other neighbourhood to copy.
+     * @since 2.1
+     */
+    private BitSetAdjacency(@NotNull BitSetAdjacency other) {
+        this.base = other.base;
+        this.words = other.words.clone();
+        this.size = other.size;
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean contains(int index) {
+        int bit = index - this.base;
+        return bit >= 0 && (bit >>> WORD_SHIFT) < this.words.length
+                && (this.words[bit >>> WORD_SHIFT] & (1L << bit)) != 0;
+    }
+
+    @Override
+    public boolean add(int index) {
+        if (index < this.base) this.rebase(index);
+        int word = (index - this.base) >>> WORD_SHIFT;
+        if (word >= this.words.length) {
+            this.words = Arrays.copyOf(this.words, Math.max(word + 1, this.words.length * 2));
+        }
+        long mask = 1L << (index - this.base);
+        if ((this.words[word] & mask) != 0) return false;
+        this.words[word] |= mask;
+        this.size++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(int index) {
+        if (!this.contains(index)) return false;
+        int bit = index - this.base;
+        this.words[bit >>> WORD_SHIFT] &= ~(1L << bit);
+        this.size--;
+        return true;
+    }
+
+    @Override
+    public int @NotNull [] toArray() {
+        int[] indexes = new int[this.size];
+        int position = 0;
+        for (int word = 0; word < this.words.length; word++) {
+            long bits = this.words[word];
+            while (bits != 0) {
+                indexes[position++] = this.base + (word << WORD_SHIFT) + Long.numberOfTrailingZeros(bits);
+                bits &= bits - 1;
+            }
+        }
+        return indexes;
+    }
+
+    @Override
+    public @NotNull IntStream stream() {
+        return StreamSupport.intStream(Spliterators.spliterator(this.iterator(), this.size,
+                Spliterator.ORDERED | Spliterator.SORTED | Spliterator.DISTINCT | Spliterator.NONNULL), false);
+    }
+
+    @Override
+    public @NotNull PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int word;
+            private long bits = BitSetAdjacency.this.words[0];
+
+            @Override
+            public boolean hasNext() {
+                while (this.bits == 0 && this.word + 1 < BitSetAdjacency.this.words.length) {
+                    this.bits = BitSetAdjacency.this.words[++this.word];
+                }
+                return this.bits != 0;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!this.hasNext()) throw new NoSuchElementException();
+                int index = BitSetAdjacency.this.base + (this.word << WORD_SHIFT) + Long.numberOfTrailingZeros(this.bits);
+                this.bits &= this.bits - 1;
+                return index;
+            }
+        };
+    }
+
+    @Override
+    public @NotNull Adjacency copy() {
+        return new BitSetAdjacency(this);
+    }
+
+    /**
+     * This method returns the number of bits allocated by this neighbourhood.
+     *
+     * @return number of allocated bits.
+     * @since 2.1
+     */
+    long capacity() {
+        return (long) this.words.length << WORD_SHIFT;
+    }
+
+    /**
+     * This method moves {@link #base} down, so it covers given index.
+     * The row is extended at least by its current length, so adding indexes in descending order takes amortized constant time.
+     *
+     * @param index numerical index of vertex lower than {@link #base}.
+     * @since 2.1
+     */
+    private void rebase(int index) {
+        int newBase = (int) Math.max(0, Math.min(index, this.base - capacity())) & -Long.SIZE;
+        int shift = (this.base - newBase) >>> WORD_SHIFT;
+        long[] extended = new long[this.words.length + shift];
+        System.arraycopy(this.words, 0, extended, shift, this.words.length);
+        this.words = extended;
+        this.base = newBase;
+    }
+}
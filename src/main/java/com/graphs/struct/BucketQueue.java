@@ -0,0 +1,233 @@
+package com.graphs.struct;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * This class implements a bucket queue of vertices keyed by small non-negative {@code int} values,
+ * where a key of a queued vertex can be decremented in constant time.
+ * <p>
+ * Each bucket is a doubly-linked list of vertices of the same key, kept in primitive arrays indexed by dense identifiers.
+ * The least non-empty bucket is tracked by a cursor, which moves down by one with a decremented key
+ * and moves up only over empty buckets, so a sequence of operations takes time linear in their number and the greatest key.
+ * Initially vertices of the same key are polled in ascending order of dense identifiers.
+ * </p>
+ * <p>
+ * A queue can also start empty and have vertices added later. An added vertex moves the cursor down to its key,
+ * so the cursor moves up again by at most that key, which is paid for by adding the vertex.
+ * </p>
+ *
+ * @author Łukasz Malara
+ * @version JDK 1.7
+ * @see IndependentSetStrategy#MIN_RESIDUAL_DEGREE
+ * @see ConnectedDominatingSetStrategy#GREEDY_GROWTH
+ * @since 2.1
+ */
+final class BucketQueue {
+
+    /**
+     * This field stores a key of each vertex.
+     *
+     * @since 2.1
+     */
+    private final int[] keys;
+
+    /**
+     * This field stores the first vertex of each bucket, or {@code -1} if a bucket is empty.
+     *
+     * @since 2.1
+     */
+    private final int[] heads;
+
+    /**
+     * This field stores the next vertex of a bucket of each vertex, or {@code -1} if there is none.
+     *
+     * @since 2.1
+     */
+    private final int[] next;
+
+    /**
+     * This field stores the previous vertex of a bucket of each vertex, or {@code -1} if there is none.
+     *
+     * @since 2.1
+     */
+    private final int[] previous;
+
+    /**
+     * This field stores whether each vertex is still queued.
+     *
+     * @since 2.1
+     */
+    private final boolean[] queued;
+
+    /**
+     * This field stores the number of queued vertices.
+     *
+     * @since 2.1
+     */
+    private int size;
+
+    /**
+     * This field stores a bucket, below which all buckets are empty.
+     *
+     * @since 2.1
+     */
+    private int least;
+
+    /**
+     * This constructor queues all vertices with given keys.
+     *
+     * @param keys   key of each vertex, which is not copied and is decremented in place.
+     * @param maxKey the greatest of given keys.
+     * @since 2.1
+     */
+    BucketQueue(int @NotNull [] keys, int maxKey) {
+        int n = keys.length;
+        this.keys = keys;
+        this.heads = new int[maxKey + 1];
+        this.next = new int[n];
+        this.previous = new int[n];
+        this.queued = new boolean[n];
+        Arrays.fill(this.heads, -1);
+        for (int id = n - 1; id >= 0; id--) {
+            this.link(id);
+        }
+        this.size = n;
+    }
+
+    /**
+     * This constructor creates an empty queue of vertices of given number.
+     *
+     * @param order  number of vertices that can be queued.
+     * @param maxKey the greatest key of a vertex that can be queued.
+     * @since 2.1
+     */
+    BucketQueue(int order, int maxKey) {
+        this.keys = new int[order];
+        this.heads = new int[maxKey + 1];
+        this.next = new int[order];
+        this.previous = new int[order];
+        this.queued = new boolean[order];
+        Arrays.fill(this.heads, -1);
+    }
+
+    /**
+     * This method tells whether no vertex is queued.
+     *
+     * @return {@code true} if this queue is empty, {@code false} otherwise.
+     * @since 2.1
+     */
+    boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * This method tells whether given vertex is still queued.
+     *
+     * @param id dense identifier of a vertex.
+     * @return {@code true} if given vertex has been neither polled nor removed, {@code false} otherwise.
+     * @since 2.1
+     */
+    boolean contains(int id) {
+        return this.queued[id];
+    }
+
+    /**
+     * This method removes a vertex of the least key.
+     *
+     * @return dense identifier of a removed vertex.
+     * @throws IllegalStateException if this queue is empty.
+     * @since 2.1
+     */
+    int poll() {
+        if (this.size == 0) throw new IllegalStateException("Queue is empty.");
+        while (this.heads[this.least] < 0) {
+            this.least++;
+        }
+        int id = this.heads[this.least];
+        this.remove(id);
+        return id;
+    }
+
+    /**
+     * This method removes given queued vertex.
+     *
+     * @param id dense identifier of a queued vertex.
+     * @since 2.1
+     */
+    void remove(int id) {
+        this.unlink(id);
+        this.size--;
+    }
+
+    /**
+     * This method decrements a key of given queued vertex by one, moving it to the head of a lower bucket.
+     *
+     * @param id dense identifier of a queued vertex of a positive key.
+     * @since 2.1
+     */
+    void decrement(int id) {
+        this.unlink(id);
+        this.keys[id]--;
+        this.link(id);
+        this.least = Math.min(this.least, this.keys[id]);
+    }
+
+    /**
+     * This method queues given vertex with given key, which is not greater than the greatest key of this queue.
+     *
+     * @param id  dense identifier of a vertex that is not queued.
+     * @param key key of given vertex.
+     * @since 2.1
+     */
+    void add(int id, int key) {
+        this.keys[id] = key;
+        this.link(id);
+        this.size++;
+        this.least = Math.min(this.least, key);
+    }
+
+    /**
+     * This method increments a key of given queued vertex by one, moving it to the head of a higher bucket.
+     *
+     * @param id dense identifier of a queued vertex of a key less than the greatest key of this queue.
+     * @since 2.1
+     */
+    void increment(int id) {
+        this.unlink(id);
+        this.keys[id]++;
+        this.link(id);
+    }
+
+    /**
+     * This method puts given vertex at the head of a bucket of its key.
+     *
+     * @param id dense identifier of a vertex.
+     * @since 2.1
+     */
+    private void link(int id) {
+        int head = this.heads[this.keys[id]];
+        this.next[id] = head;
+        this.previous[id] = -1;
+        if (head >= 0) this.previous[head] = id;
+        this.heads[this.keys[id]] = id;
+        this.queued[id] = true;
+    }
+
+    /**
+     * This method takes given vertex out of a bucket of its key.
+     *
+     * @param id dense identifier of a queued vertex.
+     * @since 2.1
+     */
+    private void unlink(int id) {
+        if (this.previous[id] >= 0) {
+            this.next[this.previous[id]] = this.next[id];
+        } else {
+            this.heads[this.keys[id]] = this.next[id];
+        }
+        if (this.next[id] >= 0) this.previous[this.next[id]] = this.previous[id];
+        this.queued[id] = false;
+    }
+}
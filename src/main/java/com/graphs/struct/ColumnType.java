@@ -0,0 +1,41 @@
+package com.graphs.struct;
+
+/**
+ * This enum lists types of values that can be stored in a column of vertex attributes of {@link Graph}.
+ * A column keeps values of every vertex in a single primitive array, so none of them is boxed.
+ *
+ * @author Łukasz Malara
+ * @version JDK 1.7
+ * @see Graph#addColumn(String, ColumnType)
+ * @since 2.1
+ */
+public enum ColumnType {
+
+    /**
+     * This constant stands for a column of {@code int} values, kept in {@code int[]}.
+     *
+     * @since 2.1
+     */
+    INT,
+
+    /**
+     * This constant stands for a column of {@code long} values, kept in {@code long[]}.
+     *
+     * @since 2.1
+     */
+    LONG,
+
+    /**
+     * This constant stands for a column of {@code double} values, kept in {@code double[]}.
+     *
+     * @since 2.1
+     */
+    DOUBLE,
+
+    /**
+     * This constant stands for a column of {@code boolean} values, kept in a {@code BitSet}.
+     *
+     * @since 2.1
+     */
+    BOOLEAN
+}
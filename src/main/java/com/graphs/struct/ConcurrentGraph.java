@@ -0,0 +1,1039 @@
+package com.graphs.struct;
+
+import com.graphs.exceptions.vertex.NegativeVertexIndexException;
+import com.graphs.exceptions.vertex.NoSuchVertexIndexException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * This class implements a graph that can be shared by threads modifying and querying it at the same time.
+ * <p>
+ * Vertices are spread over stripes by their indexes, and each stripe is guarded by its own {@code StampedLock}.
+ * Adding a vertex, setting its data, connecting and disconnecting two vertices lock only the stripes of these vertices,
+ * so threads working on different vertices rarely wait for each other.
+ * Queries of a single vertex read its stripe optimistically without locking, and take a read lock
+ * only if the stripe has been modified meanwhile.
+ * Removing a vertex locks all stripes, as neighbours of a vertex may belong to any of them.
+ * </p>
+ * <p>
+ * Queries of many vertices, such as {@link #getVertexIndexes()}, are weakly consistent: they see each stripe
+ * in a consistent state, but not necessarily all stripes at the same moment.
+ * Queries of the whole graph, such as algorithms, run on a consistent snapshot created by {@link #freeze()},
+ * where dense identifiers of vertices follow ascending order of their indexes.
+ * </p>
+ *
+ * @param <T> the bounding type stored in this graph in its vertices.
+ * @author Łukasz Malara
+ * @version JDK 1.7
+ * @see Graph
+ * @since 2.1
+ */
+public final class ConcurrentGraph<T> implements IntGraph {
+
+    /**
+     * This class implements a vertex of a concurrent graph. It is guarded by a lock of its stripe.
+     *
+     * @param <E> the type of element stored in this vertex.
+     * @since 2.1
+     */
+    private static final class Node<E> {
+
+        /**
+         * This field represents (open) neighbourhood of this vertex as indexes of adjacent vertices.
+         *
+         * @since 2.1
+         */
+        private Adjacency neighbours = new SortedArrayAdjacency();
+
+        /**
+         * This field represents data stored in this vertex.
+         *
+         * @since 2.1
+         */
+        private E element;
+
+        /**
+         * This method adds given index to the neighbourhood of this vertex and adapts its representation.
+         *
+         * @param index numerical index of an adjacent vertex.
+         * @since 2.1
+         */
+        private void addNeighbour(int index) {
+            this.neighbours.add(index);
+            this.neighbours = Adjacency.adapt(this.neighbours);
+        }
+
+        /**
+         * This method removes given index from the neighbourhood of this vertex and adapts its representation.
+         *
+         * @param index numerical index of a vertex that is no longer adjacent.
+         * @since 2.1
+         */
+        private void removeNeighbour(int index) {
+            this.neighbours.remove(index);
+            this.neighbours = Adjacency.adapt(this.neighbours);
+        }
+    }
+
+    /**
+     * This class implements a stripe of vertices guarded by a single lock.
+     *
+     * @param <E> the type of element stored in vertices.
+     * @since 2.1
+     */
+    private static final class Stripe<E> {
+
+        /**
+         * This field stores a lock guarding vertices of this stripe, including their neighbourhoods and data.
+         *
+         * @since 2.1
+         */
+        private final StampedLock lock = new StampedLock();
+
+        /**
+         * This field stores vertices of this stripe mapped by their indexes.
+         *
+         * @since 2.1
+         */
+        private final IntLinkedHashMap<Node<E>> vertices = new IntLinkedHashMap<>();
+
+        /**
+         * This field stores statistics of degrees of vertices of this stripe.
+         *
+         * @since 2.1
+         */
+        private final DegreeStatistics statistics = new DegreeStatistics();
+    }
+
+    /**
+     * This class implements a copy of vertices of a stripe taken by {@link #freeze()}.
+     *
+     * @since 2.1
+     */
+    private static final class StripeCopy {
+
+        /**
+         * This field stores indexes of vertices of a stripe.
+         *
+         * @since 2.1
+         */
+        private final int[] indexes;
+
+        /**
+         * This field stores indexes of neighbours of each vertex, in the same order as {@link #indexes}.
+         *
+         * @since 2.1
+         */
+        private final int[][] neighbours;
+
+        /**
+         * This field stores data of each vertex, in the same order as {@link #indexes}.
+         *
+         * @since 2.1
+         */
+        private final Object[] elements;
+
+        /**
+         * This constructor copies vertices of given stripe. It must be called while holding a lock of the stripe,
+         * or within an optimistic read of it.
+         *
+         * @param stripe stripe to copy.
+         * @since 2.1
+         */
+        private StripeCopy(@NotNull Stripe<?> stripe) {
+            this.indexes = stripe.vertices.keys();
+            this.neighbours = new int[this.indexes.length][];
+            this.elements = new Object[this.indexes.length];
+            for (int k = 0; k < this.indexes.length; k++) {
+                Node<?> node = stripe.vertices.get(this.indexes[k]);
+                this.neighbours[k] = node.neighbours.toArray();
+                this.elements[k] = node.element;
+            }
+        }
+    }
+
+    /**
+     * This field stores stripes of vertices. Their number is a power of two.
+     *
+     * @since 2.1
+     */
+    private final Stripe<T>[] stripes;
+
+    /**
+     * This field stores the number of vertices.
+     *
+     * @since 2.1
+     */
+    private final AtomicInteger order = new AtomicInteger();
+
+    /**
+     * This field stores the number of edges.
+     *
+     * @since 2.1
+     */
+    private final AtomicLong edgeCount = new AtomicLong();
+
+    /**
+     * This field counts modifications of this graph, both of its structure and of data stored in its vertices.
+     *
+     * @since 2.1
+     */
+    private final AtomicLong modCount = new AtomicLong();
+
+    /**
+     * This field stores the latest snapshot of this graph created by {@link #freeze()}, together with
+     * the value of {@link #modCount} at the moment of its creation.
+     *
+     * @since 2.1
+     */
+    private volatile Map.Entry<Long, CsrGraph<T>> frozen;
+
+    /**
+     * This field stores the number of attempts to copy stripes one at a time by {@link #freeze()}
+     * before all stripes are locked at once.
+     *
+     * @since 2.1
+     */
+    private static final int FREEZE_ATTEMPTS = 3;
+
+    /**
+     * This constructor creates an empty graph with a number of stripes suitable for available processors.
+     *
+     * @since 2.1
+     */
+    public ConcurrentGraph() {
+        this(4 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * This constructor creates an empty graph with at least given number of stripes.
+     *
+     * @param concurrencyLevel expected number of threads modifying this graph at the same time.
+     * @throws IllegalArgumentException if given number is not positive.
+     * @since 2.1
+     */
+    @SuppressWarnings("unchecked")
+    public ConcurrentGraph(int concurrencyLevel) {
+        if (concurrencyLevel <= 0) throw new IllegalArgumentException("Concurrency level must be positive.");
+        int count = Integer.highestOneBit(Math.min(concurrencyLevel, 1 << 16) * 2 - 1);
+        this.stripes = (Stripe<T>[]) new Stripe<?>[count];
+        for (int k = 0; k < count; k++) {
+            this.stripes[k] = new Stripe<>();
+        }
+    }
+
+    /**
+     * This method returns a stripe of a vertex with given {@code int} index.
+     * Bits of an index are mixed differently than in {@link IntLinkedHashMap},
+     * so vertices of a single stripe are still spread over its whole table.
+     *
+     * @param index numerical index of vertex.
+     * @return position of a stripe.
+     * @throws NegativeVertexIndexException if parameter type {@code int < 0}.
+     * @since 2.1
+     */
+    private int stripeOf(int index) throws NegativeVertexIndexException {
+        if (index < 0) throw new NegativeVertexIndexException();
+        int hash = index;
+        hash = (hash ^ (hash >>> 16)) * 0x85EBCA6B;
+        hash = (hash ^ (hash >>> 13)) * 0xC2B2AE35;
+        return (hash ^ (hash >>> 16)) & (this.stripes.length - 1);
+    }
+
+    /**
+     * This method returns a vertex with given index. It must be called while holding a lock of its stripe,
+     * or within an optimistic read of it.
+     *
+     * @param index numerical index of vertex.
+     * @return vertex with given index.
+     * @throws NoSuchVertexIndexException if this graph does not contain vertex with given {@code int} index.
+     * @since 2.1
+     */
+    private @NotNull Node<T> getNode(int index) throws NoSuchVertexIndexException {
+        Node<T> node = this.stripes[stripeOf(index)].vertices.get(index);
+        if (node == null) throw new NoSuchVertexIndexException(index);
+        return node;
+    }
+
+    /**
+     * This method reads a value from given stripe, first optimistically without locking.
+     * If the stripe has been modified during an optimistic read, which may also make the read fail,
+     * the value is read once again under a read lock.
+     *
+     * @param stripe stripe to read from.
+     * @param reader reader of a value.
+     * @return value read from given stripe.
+     * @since 2.1
+     */
+    private static int readInt(@NotNull Stripe<?> stripe, @NotNull IntSupplier reader) {
+        long stamp = stripe.lock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                int value = reader.getAsInt();
+                if (stripe.lock.validate(stamp)) return value;
+            } catch (RuntimeException e) {
+                // a torn read of a stripe being modified, it is repeated under a read lock
+            }
+        }
+        stamp = stripe.lock.readLock();
+        try {
+            return reader.getAsInt();
+        } finally {
+            stripe.lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * This method reads a value from given stripe, first optimistically without locking.
+     *
+     * @param stripe stripe to read from.
+     * @param reader reader of a value.
+     * @param <R>    type of a value.
+     * @return value read from given stripe.
+     * @see #readInt(Stripe, IntSupplier)
+     * @since 2.1
+     */
+    private static <R> R read(@NotNull Stripe<?> stripe, @NotNull Supplier<R> reader) {
+        long stamp = stripe.lock.tryOptimisticRead();
+        if (stamp != 0) {
+            try {
+                R value = reader.get();
+                if (stripe.lock.validate(stamp)) return value;
+            } catch (RuntimeException e) {
+                // a torn read of a stripe being modified, it is repeated under a read lock
+            }
+        }
+        stamp = stripe.lock.readLock();
+        try {
+            return reader.get();
+        } finally {
+            stripe.lock.unlockRead(stamp);
+        }
+    }
+
+    /**
+     * This method counts a modification of this graph if it has happened.
+     *
+     * @param modified {@code true} if this graph has been modified.
+     * @return given value.
+     * @since 2.1
+     */
+    private boolean modifiedIf(boolean modified) {
+        if (modified) this.modCount.incrementAndGet();
+        return modified;
+    }
+
+    /**
+     * This method adds a new vertex to this graph. The vertex is added only if the graph does not contain it already.
+     *
+     * @param index numerical index of vertex.
+     * @return {@code true} if vertex with given {@code int} index was added, {@code false} otherwise.
+     * @throws NegativeVertexIndexException if parameter type {@code int < 0}.
+     * @see Graph#addNewVertex(int)
+     * @since 2.1
+     */
+    public boolean addNewVertex(int index) throws NegativeVertexIndexException {
+        Stripe<T> stripe = this.stripes[stripeOf(index)];
+        long stamp = stripe.lock.writeLock();
+        try {
+            if (stripe.vertices.containsKey(index)) return false;
+            stripe.vertices.put(index, new Node<>());
+            stripe.statistics.add(0);
+            this.order.incrementAndGet();
+            return modifiedIf(true);
+        } finally {
+            stripe.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * This method adds a new vertex with given data to store in it to this graph.
+     * The vertex is added only if the graph does not contain it already.
+     *
+     * @param index numerical index of vertex.
+     * @param data  data to store in added vertex.
+     * @return {@code true} if vertex with given {@code int} index was added, {@code false} otherwise.
+     * @throws NegativeVertexIndexException if parameter type {@code int < 0}.
+     * @see Graph#addNewVertex(int, Object)
+     * @since 2.1
+     */
+    public boolean addNewVertex(int index, T data) throws NegativeVertexIndexException {
+        Stripe<T> stripe = this.stripes[stripeOf(index)];
+        long stamp = stripe.lock.writeLock();
+        try {
+            if (stripe.vertices.containsKey(index)) return false;
+            Node<T> node = new Node<>();
+            node.element = data;
+            stripe.vertices.put(index, node);
+            stripe.statistics.add(0);
+            this.order.incrementAndGet();
+            return modifiedIf(true);
+        } finally {
+            stripe.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * This method returns data stored in a vertex by given index.
+     *
+     * @param index numerical index of vertex.
+     * @return data stored in vertex by given index.
+     * @throws NegativeVertexIndexException if parameter type {@code int < 0}.
+     * @throws NoSuchVertexIndexException   if this graph does not contain vertex with given {@code int} index.
+     * @see Graph#getVertexData(int)
+     * @since 2.1
+     */
+    public T getVertexData(int index) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        return read(this.stripes[stripeOf(index)], () -> getNode(index).element);
+    }
+
+    /**
+     * This method sets data to store in a vertex by given index.
+     *
+     * @param index numerical index of vertex.
+     * @param data  data to store in vertex.
+     * @throws NegativeVertexIndexException if parameter type {@code int < 0}.
+     * @throws NoSuchVertexIndexException   if this graph does not contain vertex with given {@code int} index.
+     * @see Graph#setVertexData(int, Object)
+     * @since 2.1
+     */
+    public void setVertexData(int index, T data) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        Stripe<T> stripe = this.stripes[stripeOf(index)];
+        long stamp = stripe.lock.writeLock();
+        try {
+            getNode(index).element = data;
+            modifiedIf(true);
+        } finally {
+            stripe.lock.unlockWrite(stamp);
+        }
+    }
+
+    /**
+     * This method connects given two vertices by their indexes.
+     * Stripes of both vertices are locked in ascending order, so two threads never wait for each other.
+     *
+     * @param indexV numerical index of the first vertex.
+     * @param indexU numerical index of another vertex.
+     * @return {@code true} if vertices with given indexes have been connected, {@code false} otherwise.
+     * @throws NegativeVertexIndexException if any {@code int < 0}.
+     * @throws NoSuchVertexIndexException   if this graph does not contain vertex with given either index.
+     * @see Graph#connectVertices(int, int)
+     * @since 2.1
+     */
+    public boolean connectVertices(int indexV, int indexU) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        return modifyEdge(indexV, indexU, true);
+    }
+
+    /**
+     * This method disconnects given two vertices.
+     * Stripes of both vertices are locked in ascending order, so two threads never wait for each other.
+     *
+     * @param indexV numerical index of the first vertex.
+     * @param indexU numerical index of another vertex.
+     * @return {@code true} if vertices with given indexes have been disconnected, {@code false} otherwise.
+     * @throws NegativeVertexIndexException if any {@code int < 0}.
+     * @throws NoSuchVertexIndexException   if this graph does not contain vertex with given either index.
+     * @see Graph#disconnectVertices(int, int)
+     * @since 2.1
+     */
+    public boolean disconnectVertices(int indexV, int indexU) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        return modifyEdge(indexV, indexU, false);
+    }
+
+    /**
+     * This method connects or disconnects given two vertices while holding locks of their stripes.
+     *
+     * @param indexV  numerical index of the first vertex.
+     * @param indexU  numerical index of another vertex.
+     * @param connect {@code true} to connect vertices, {@code false} to disconnect them.
+     * @return {@code true} if this graph has been modified, {@code false} otherwise.
+     * @throws NegativeVertexIndexException if any {@code int < 0}.
+     * @throws NoSuchVertexIndexException   if this graph does not contain vertex with given either index.
+     * @since 2.1
+     */
+    private boolean modifyEdge(int indexV, int indexU, boolean connect) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        int stripeV = stripeOf(indexV);
+        int stripeU = stripeOf(indexU);
+        Stripe<T> first = this.stripes[Math.min(stripeV, stripeU)];
+        Stripe<T> second = this.stripes[Math.max(stripeV, stripeU)];
+        long firstStamp = first.lock.writeLock();
+        long secondStamp = first == second ? 0 : second.lock.writeLock();
+        try {
+            Node<T> v = getNode(indexV);
+            Node<T> u = getNode(indexU);
+            if (indexV == indexU || v.neighbours.contains(indexU) == connect) return false;
+            int change = connect ? 1 : -1;
+            if (connect) {
+                v.addNeighbour(indexU);
+                u.addNeighbour(indexV);
+            } else {
+                v.removeNeighbour(indexU);
+                u.removeNeighbour(indexV);
+            }
+            this.stripes[stripeV].statistics.change(v.neighbours.size() - change, v.neighbours.size());
+            this.stripes[stripeU].statistics.change(u.neighbours.size() - change, u.neighbours.size());
+            this.edgeCount.addAndGet(change);
+            return modifiedIf(true);
+        } finally {
+            if (first != second) second.lock.unlockWrite(secondStamp);
+            first.lock.unlockWrite(firstStamp);
+        }
+    }
+
+    /**
+     * This method removes a vertex from this graph, together with all its edges.
+     * As neighbours of a vertex may belong to any stripe, all stripes are locked.
+     *
+     * @param index numerical index of a vertex.
+     * @return {@code true} if vertex with given index has been removed.
+     * @throws NegativeVertexIndexException if parameter type {@code int < 0}.
+     * @throws NoSuchVertexIndexException   if this graph does not contain vertex with given {@code int} index.
+     * @see Graph#removeVertex(int)
+     * @since 2.1
+     */
+    public boolean removeVertex(int index) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        Stripe<T> stripe = this.stripes[stripeOf(index)];
+        long[] stamps = lockAll(true);
+        try {
+            Node<T> node = getNode(index);
+            for (int neighbour : node.neighbours.toArray()) {
+                Node<T> adjacent = getNode(neighbour);
+                adjacent.removeNeighbour(index);
+                this.stripes[stripeOf(neighbour)].statistics.change(adjacent.neighbours.size() + 1, adjacent.neighbours.size());
+            }
+            stripe.statistics.remove(node.neighbours.size());
+            this.edgeCount.addAndGet(-node.neighbours.size());
+            stripe.vertices.remove(index);
+            this.order.decrementAndGet();
+            return modifiedIf(true);
+        } finally {
+            unlockAll(stamps);
+        }
+    }
+
+    /**
+     * This method locks all stripes in ascending order.
+     *
+     * @param write {@code true} to take write locks, {@code false} to take read locks.
+     * @return stamps of taken locks.
+     * @since 2.1
+     */
+    private long @NotNull [] lockAll(boolean write) {
+        long[] stamps = new long[this.stripes.length];
+        for (int k = 0; k < this.stripes.length; k++) {
+            stamps[k] = write ? this.stripes[k].lock.writeLock() : this.stripes[k].lock.readLock();
+        }
+        return stamps;
+    }
+
+    /**
+     * This method unlocks all stripes in descending order.
+     *
+     * @param stamps stamps of taken locks.
+     * @since 2.1
+     */
+    private void unlockAll(long @NotNull [] stamps) {
+        for (int k = this.stripes.length - 1; k >= 0; k--) {
+            this.stripes[k].lock.unlock(stamps[k]);
+        }
+    }
+
+    /**
+     * This method returns the number of vertices of this graph.
+     *
+     * @return number of vertices.
+     * @since 2.1
+     */
+    @Override
+    public int getOrder() {
+        return this.order.get();
+    }
+
+    /**
+     * This method returns the number of edges of this graph.
+     *
+     * @return number of edges.
+     * @since 2.1
+     */
+    @Override
+    public long getEdgeCount() {
+        return this.edgeCount.get();
+    }
+
+    /**
+     * This method returns the minimal degree of a vertex of this graph. It is weakly consistent.
+     * Each stripe keeps statistics of degrees of its vertices, so it takes time proportional to the number of stripes.
+     *
+     * @return minimal degree, or {@code 0} if this graph is empty.
+     * @since 2.1
+     */
+    @Override
+    public int getMinDegree() {
+        int min = Integer.MAX_VALUE;
+        for (Stripe<T> stripe : this.stripes) {
+            min = Math.min(min, readInt(stripe, () -> stripe.vertices.size() == 0 ? Integer.MAX_VALUE : stripe.statistics.getMinDegree()));
+        }
+        return min == Integer.MAX_VALUE ? 0 : min;
+    }
+
+    /**
+     * This method returns the maximal degree of a vertex of this graph. It is weakly consistent.
+     * Each stripe keeps statistics of degrees of its vertices, so it takes time proportional to the number of stripes.
+     *
+     * @return maximal degree, or {@code 0} if this graph is empty.
+     * @since 2.1
+     */
+    @Override
+    public int getMaxDegree() {
+        int max = 0;
+        for (Stripe<T> stripe : this.stripes) {
+            max = Math.max(max, readInt(stripe, stripe.statistics::getMaxDegree));
+        }
+        return max;
+    }
+
+    /**
+     * This method returns indexes of all vertices of this graph. It is weakly consistent.
+     *
+     * @return sorted array of vertices indexes.
+     * @since 2.1
+     */
+    @Override
+    public int @NotNull [] getVertexIndexes() {
+        return Arrays.stream(this.stripes)
+                .flatMapToInt(stripe -> Arrays.stream(read(stripe, stripe.vertices::keys)))
+                .sorted()
+                .toArray();
+    }
+
+    /**
+     * This method returns an unmodifiable sorted set of vertices of this graph. It is weakly consistent.
+     *
+     * @return unmodifiable sorted set of vertices of this graph.
+     * @see Graph#getVertices()
+     * @since 2.1
+     */
+    public @NotNull @Unmodifiable Set<Integer> getVertices() {
+        return toUnmodifiableSortedSet(Arrays.stream(getVertexIndexes()));
+    }
+
+    /**
+     * This method returns indexes of neighbours of vertex given by {@code int} index.
+     *
+     * @param index numerical index of a vertex.
+     * @return sorted array of indexes of neighbours of a vertex.
+     * @throws NegativeVertexIndexException if parameter type {@code int < 0}.
+     * @throws NoSuchVertexIndexException   if this graph does not contain vertex with given {@code int} index.
+     * @since 2.1
+     */
+    @Override
+    public int @NotNull [] getNeighbourIndexes(int index) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        int[] neighbours = read(this.stripes[stripeOf(index)], () -> getNode(index).neighbours.toArray());
+        Arrays.sort(neighbours);
+        return neighbours;
+    }
+
+    /**
+     * This method returns an unmodifiable sorted set of neighbours of vertex given by {@code int} index.
+     *
+     * @param index numerical index of a vertex.
+     * @return unmodifiable sorted set of neighbours of a vertex given by {@code int} index.
+     * @throws NegativeVertexIndexException if parameter type {@code int < 0}.
+     * @throws NoSuchVertexIndexException   if this graph does not contain vertex with given {@code int} index.
+     * @see Graph#getVertexNeighbourhood(int)
+     * @since 2.1
+     */
+    public @NotNull @Unmodifiable Set<Integer> getVertexNeighbourhood(int index) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        return toUnmodifiableSortedSet(Arrays.stream(getNeighbourIndexes(index)));
+    }
+
+    /**
+     * This method returns the degree of vertex given by {@code int} index.
+     *
+     * @param index numerical index of a vertex.
+     * @return number of vertices in an open neighbourhood of a vertex.
+     * @throws NegativeVertexIndexException if parameter type {@code int < 0}.
+     * @throws NoSuchVertexIndexException   if this graph does not contain vertex with given {@code int} index.
+     * @since 2.1
+     */
+    @Override
+    public int getDegree(int index) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        return readInt(this.stripes[stripeOf(index)], () -> getNode(index).neighbours.size());
+    }
+
+    /**
+     * This method checks whether this graph contains a vertex with given {@code int} index.
+     *
+     * @param index numerical index of vertex.
+     * @return {@code true} if this graph contains vertex with given index, {@code false} otherwise.
+     * @throws NegativeVertexIndexException if parameter type {@code int < 0}.
+     * @see Graph#isVertexOfGraph(int)
+     * @since 2.1
+     */
+    @Override
+    public boolean isVertexOfGraph(int index) throws NegativeVertexIndexException {
+        Stripe<T> stripe = this.stripes[stripeOf(index)];
+        return readInt(stripe, () -> stripe.vertices.containsKey(index) ? 1 : 0) == 1;
+    }
+
+    /**
+     * This method checks whether given indexes are a subset of vertices of this graph. It is weakly consistent.
+     *
+     * @param subset indexes of vertices to check if they are in this graph.
+     * @return {@code true} if given indexes are a non-empty subset of vertices of this graph, {@code false} otherwise.
+     * @throws NegativeVertexIndexException if given indexes contain negative number(s).
+     * @since 2.1
+     */
+    @Override
+    public boolean areVerticesOfGraph(int @NotNull ... subset) throws NegativeVertexIndexException {
+        if (subset.length == 0) return false;
+        for (int index : subset) {
+            if (!isVertexOfGraph(index)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * This method returns connected components of a snapshot of this graph.
+     *
+     * @return connected components of this graph.
+     * @see #freeze()
+     * @since 2.1
+     */
+    @Override
+    public @NotNull ConnectedComponents connectedComponents() {
+        return freeze().connectedComponents();
+    }
+
+    /**
+     * This method splits vertices of a snapshot of this graph into two parts, or finds its odd cycle.
+     *
+     * @return bipartition of this graph, or an odd cycle of this graph.
+     * @see #freeze()
+     * @since 2.1
+     */
+    @Override
+    public @NotNull Bipartition findBipartition() {
+        return freeze().findBipartition();
+    }
+
+    /**
+     * This method checks whether given indexes induce connected subgraph of a snapshot of this graph, or do not.
+     *
+     * @param subset indexes of vertices to check if they induce connected subgraph of this graph.
+     * @return {@code true} if given indexes induce connected subgraph of this graph, {@code false} otherwise.
+     * @throws NegativeVertexIndexException if given indexes contain negative number(s).
+     * @throws NoSuchVertexIndexException   if given indexes contain number that could not be identified with any vertex index.
+     * @see #freeze()
+     * @since 2.1
+     */
+    @Override
+    public boolean doInduceConnectedSubGraph(int @NotNull ... subset) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        return freeze().doInduceConnectedSubGraph(subset);
+    }
+
+    /**
+     * This method checks whether given subset induces connected subgraph of a snapshot of this graph, or does not.
+     *
+     * @param subset indexes of vertices to check if they induce connected subgraph of this graph.
+     * @return {@code true} if given subset induces connected subgraph of this graph, {@code false} otherwise.
+     * @throws NoSuchVertexIndexException if given subset contains number that could not be identified with any vertex index.
+     * @see #freeze()
+     * @since 2.1
+     */
+    @Override
+    public boolean doInduceConnectedSubGraph(@NotNull VertexSubset subset) throws NoSuchVertexIndexException {
+        return freeze().doInduceConnectedSubGraph(subset);
+    }
+
+    /**
+     * This method checks whether given indexes induce bipartite subgraph of a snapshot of this graph, or do not.
+     *
+     * @param subset indexes of vertices to check if they induce bipartite subgraph of this graph.
+     * @return {@code true} if given indexes induce bipartite subgraph of this graph, {@code false} otherwise.
+     * @throws NegativeVertexIndexException if given indexes contain negative number(s).
+     * @throws NoSuchVertexIndexException   if given indexes contain number that could not be identified with any vertex index.
+     * @see #freeze()
+     * @since 2.1
+     */
+    @Override
+    public boolean doInduceBipartiteSubGraph(int @NotNull ... subset) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        return freeze().doInduceBipartiteSubGraph(subset);
+    }
+
+    /**
+     * This method checks whether given subset induces bipartite subgraph of a snapshot of this graph, or does not.
+     *
+     * @param subset indexes of vertices to check if they induce bipartite subgraph of this graph.
+     * @return {@code true} if given subset induces bipartite subgraph of this graph, {@code false} otherwise.
+     * @throws NoSuchVertexIndexException if given subset contains number that could not be identified with any vertex index.
+     * @see #freeze()
+     * @since 2.1
+     */
+    @Override
+    public boolean doInduceBipartiteSubGraph(@NotNull VertexSubset subset) throws NoSuchVertexIndexException {
+        return freeze().doInduceBipartiteSubGraph(subset);
+    }
+
+    /**
+     * This method checks whether given indexes are a connected dominating set of a snapshot of this graph, or are not.
+     *
+     * @param subset indexes of vertices to check if they are a connected dominating set of this graph.
+     * @return {@code true} if given indexes are a connected dominating set of this graph, {@code false} otherwise.
+     * @throws NegativeVertexIndexException if given indexes contain negative number(s).
+     * @throws NoSuchVertexIndexException   if given indexes contain number that could not be identified with any vertex index.
+     * @see #freeze()
+     * @since 2.1
+     */
+    @Override
+    public boolean isCDS(int @NotNull ... subset) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        return freeze().isCDS(subset);
+    }
+
+    /**
+     * This method checks whether given subset is a connected dominating set of a snapshot of this graph, or is not.
+     *
+     * @param subset indexes of vertices to check if they are a connected dominating set of this graph.
+     * @return {@code true} if given subset is a connected dominating set of this graph, {@code false} otherwise.
+     * @throws NoSuchVertexIndexException if given subset contains number that could not be identified with any vertex index.
+     * @see #freeze()
+     * @since 2.1
+     */
+    @Override
+    public boolean isCDS(@NotNull VertexSubset subset) throws NoSuchVertexIndexException {
+        return freeze().isCDS(subset);
+    }
+
+    /**
+     * This method checks whether given indexes are an independent set of a snapshot of this graph, or are not.
+     *
+     * @param subset indexes of vertices to check if they are an independent set of this graph.
+     * @return {@code true} if given indexes are an independent set of this graph, {@code false} otherwise.
+     * @throws NegativeVertexIndexException if given indexes contain negative number(s).
+     * @throws NoSuchVertexIndexException   if given indexes contain number that could not be identified with any vertex index.
+     * @see #freeze()
+     * @since 2.1
+     */
+    @Override
+    public boolean isIndependentSet(int @NotNull ... subset) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        return freeze().isIndependentSet(subset);
+    }
+
+    /**
+     * This method checks whether given subset is an independent set of a snapshot of this graph, or is not.
+     *
+     * @param subset indexes of vertices to check if they are an independent set of this graph.
+     * @return {@code true} if given subset is an independent set of this graph, {@code false} otherwise.
+     * @throws NoSuchVertexIndexException if given subset contains number that could not be identified with any vertex index.
+     * @see #freeze()
+     * @since 2.1
+     */
+    @Override
+    public boolean isIndependentSet(@NotNull VertexSubset subset) throws NoSuchVertexIndexException {
+        return freeze().isIndependentSet(subset);
+    }
+
+    /**
+     * This method finds a minimal connected dominating set in a snapshot of this graph.
+     *
+     * @return sorted array of indexes of vertices of minimal connected dominating set.
+     * @see #freeze()
+     * @since 2.1
+     */
+    @Override
+    public int @NotNull [] findMCDSIndexes() {
+        return freeze().findMCDSIndexes();
+    }
+
+    /**
+     * This method finds a minimal connected dominating set in a snapshot of this graph by given strategy.
+     *
+     * @param strategy strategy of finding a connected dominating set.
+     * @return sorted array of indexes of vertices of minimal connected dominating set.
+     * @see #freeze()
+     * @since 2.1
+     */
+    @Override
+    public int @NotNull [] findMCDSIndexes(@NotNull ConnectedDominatingSetStrategy strategy) {
+        return freeze().findMCDSIndexes(strategy);
+    }
+
+    /**
+     * This method finds a minimal dominating set in a snapshot of this graph.
+     *
+     * @return sorted array of indexes of vertices of minimal dominating set.
+     * @see #freeze()
+     * @since 2.1
+     */
+    @Override
+    public int @NotNull [] findMDSIndexes() {
+        return freeze().findMDSIndexes();
+    }
+
+    /**
+     * This method finds a dominating set of a snapshot of this graph by a round-based parallel algorithm.
+     *
+     * @return sorted array of indexes of vertices of dominating set.
+     * @see #freeze()
+     * @since 2.1
+     */
+    @Override
+    public int @NotNull [] findParallelMDSIndexes() {
+        return freeze().findParallelMDSIndexes();
+    }
+
+    /**
+     * This method finds a maximal independent set of a snapshot of this graph.
+     *
+     * @return sorted array of indexes of vertices of maximal independent set.
+     * @see #freeze()
+     * @since 2.1
+     */
+    @Override
+    public int @NotNull [] findMISIndexes() {
+        return freeze().findMISIndexes();
+    }
+
+    /**
+     * This method finds a maximal independent set of a snapshot of this graph by given greedy strategy.
+     *
+     * @param strategy greedy strategy of taking vertices.
+     * @return sorted array of indexes of vertices of maximal independent set.
+     * @see #freeze()
+     * @since 2.1
+     */
+    @Override
+    public int @NotNull [] findMISIndexes(@NotNull IndependentSetStrategy strategy) {
+        return freeze().findMISIndexes(strategy);
+    }
+
+    /**
+     * This method finds a maximal independent set of a snapshot of this graph by a randomized parallel algorithm.
+     *
+     * @param seed seed of random priorities of vertices.
+     * @return sorted array of indexes of vertices of maximal independent set.
+     * @see #freeze()
+     * @since 2.1
+     */
+    @Override
+    public int @NotNull [] findParallelMISIndexes(long seed) {
+        return freeze().findParallelMISIndexes(seed);
+    }
+
+    /**
+     * This method returns a consistent snapshot of this graph in compressed sparse row format.
+     * Stripes are copied one at a time, each under its own lock or within an optimistic read of it,
+     * and the copy is kept only if this graph has not been modified meanwhile, so it reflects a single moment.
+     * After {@link #FREEZE_ATTEMPTS} modified copies, all stripes are read-locked for the time of copying instead.
+     * A snapshot is then built from the copy without holding any lock, and it is reused until this graph is modified.
+     *
+     * @return snapshot of this graph.
+     * @see Graph#freeze()
+     * @since 2.1
+     */
+    public @NotNull CsrGraph<T> freeze() {
+        Map.Entry<Long, CsrGraph<T>> cached = this.frozen;
+        if (cached != null && cached.getKey() == this.modCount.get()) return cached.getValue();
+        for (int attempt = 0; attempt < FREEZE_ATTEMPTS; attempt++) {
+            long version = this.modCount.get();
+            StripeCopy[] copies = new StripeCopy[this.stripes.length];
+            for (int k = 0; k < this.stripes.length; k++) {
+                Stripe<T> stripe = this.stripes[k];
+                copies[k] = read(stripe, () -> new StripeCopy(stripe));
+            }
+            if (this.modCount.get() == version) return compress(copies, version);
+        }
+        long version;
+        StripeCopy[] copies = new StripeCopy[this.stripes.length];
+        long[] stamps = lockAll(false);
+        try {
+            version = this.modCount.get();
+            for (int k = 0; k < this.stripes.length; k++) {
+                copies[k] = new StripeCopy(this.stripes[k]);
+            }
+        } finally {
+            unlockAll(stamps);
+        }
+        return compress(copies, version);
+    }
+
+    /**
+     * This method builds a snapshot from copies of all stripes, where dense identifiers follow ascending order of indexes,
+     * and caches it as a snapshot of given version of this graph.
+     *
+     * @param copies  copies of all stripes taken at the same moment.
+     * @param version value of {@link #modCount} at the moment of copying.
+     * @return snapshot of this graph.
+     * @since 2.1
+     */
+    private @NotNull CsrGraph<T> compress(@NotNull StripeCopy @NotNull [] copies, long version) {
+        int size = 0;
+        for (StripeCopy copy : copies) {
+            size += copy.indexes.length;
+        }
+        long[] pairs = new long[size];
+        int[][] neighbours = new int[size][];
+        Object[] data = new Object[size];
+        int position = 0;
+        for (StripeCopy copy : copies) {
+            for (int k = 0; k < copy.indexes.length; k++, position++) {
+                pairs[position] = (long) copy.indexes[k] << Integer.SIZE | position;
+                neighbours[position] = copy.neighbours[k];
+                data[position] = copy.elements[k];
+            }
+        }
+        Arrays.sort(pairs);
+        IntStorage indexes = IntStorage.allocate(size, false);
+        IntStorage offsets = IntStorage.allocate(size + 1, false);
+        Object[] elements = new Object[size];
+        for (int id = 0; id < size; id++) {
+            indexes.set(id, (int) (pairs[id] >>> Integer.SIZE));
+            offsets.set(id + 1, offsets.get(id) + neighbours[(int) pairs[id]].length);
+            elements[id] = data[(int) pairs[id]];
+        }
+        IntStorage targets = IntStorage.allocate(offsets.get(size), false);
+        for (int id = 0; id < size; id++) {
+            int target = offsets.get(id);
+            for (int neighbour : neighbours[(int) pairs[id]]) {
+                targets.set(target++, neighbour);
+            }
+        }
+        CsrGraph<T> snapshot = new CsrGraph<>(indexes, offsets, targets, elements, false);
+        this.frozen = Map.entry(version, snapshot);
+        return snapshot;
+    }
+
+    /**
+     * This method collects a stream of vertices indexes to unmodifiable {@code SortedSet}.
+     *
+     * @param indexes stream of vertices indexes.
+     * @return unmodifiable {@code SortedSet} of given vertices indexes.
+     * @since 2.1
+     */
+    private static @NotNull @Unmodifiable Set<Integer> toUnmodifiableSortedSet(@NotNull IntStream indexes) {
+        return Collections.unmodifiableSortedSet(indexes
+                .boxed()
+                .collect(Collectors.toCollection(TreeSet::new)));
+    }
+
+    /**
+     * This method returns user-friendly representation of a snapshot of this graph.
+     *
+     * @return user-friendly representation of this graph.
+     * @see Graph#toString()
+     * @since 2.1
+     */
+    @Override
+    public String toString() {
+        return freeze().toString();
+    }
+}
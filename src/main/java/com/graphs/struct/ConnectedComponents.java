@@ -0,0 +1,227 @@
+package com.graphs.struct;
+
+import com.graphs.exceptions.vertex.NegativeVertexIndexException;
+import com.graphs.exceptions.vertex.NoSuchVertexIndexException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * This class represents connected components of a graph at the moment of their computation.
+ * <p>
+ * Components are numbered from {@code 0} to {@link #getCount()} {@code - 1}
+ * in ascending order of the least index of a vertex in each of them,
+ * so the numbering does not depend on the way components have been found.
+ * Components are immutable, they are not affected by later modifications of a graph.
+ * </p>
+ *
+ * @author Łukasz Malara
+ * @version JDK 1.7
+ * @see Graph#connectedComponents()
+ * @see CsrGraph#connectedComponents()
+ * @since 2.1
+ */
+public final class ConnectedComponents {
+
+    /**
+     * This field stores indexes of all vertices in ascending order.
+     *
+     * @since 2.1
+     */
+    private final int[] indexes;
+
+    /**
+     * This field stores a component of each vertex in the same order as {@link #indexes}.
+     *
+     * @since 2.1
+     */
+    private final int[] components;
+
+    /**
+     * This field stores the number of vertices of each component.
+     *
+     * @since 2.1
+     */
+    private final int[] sizes;
+
+    /**
+     * This field stores the least component of the greatest number of vertices, or {@code -1} if there is no component.
+     *
+     * @since 2.1
+     */
+    private final int largest;
+
+    /**
+     * This constructor numbers components given by roots of vertices.
+     *
+     * @param indexes indexes of all vertices in ascending order.
+     * @param roots   any representative of a component of each vertex, in the same order as indexes,
+     *                where representatives are dense identifiers below the number of vertices.
+     * @since 2.1
+     */
+    ConnectedComponents(int @NotNull [] indexes, int @NotNull [] roots) {
+        this.indexes = indexes;
+        this.components = new int[indexes.length];
+        int[] numbers = new int[indexes.length];
+        Arrays.fill(numbers, -1);
+        int count = 0;
+        for (int position = 0; position < indexes.length; position++) {
+            int root = roots[position];
+            if (numbers[root] < 0) numbers[root] = count++;
+            this.components[position] = numbers[root];
+        }
+        this.sizes = new int[count];
+        for (int component : this.components) {
+            this.sizes[component]++;
+        }
+        int greatest = -1;
+        for (int component = 0; component < count; component++) {
+            if (greatest < 0 || this.sizes[component] > this.sizes[greatest]) greatest = component;
+        }
+        this.largest = greatest;
+    }
+
+    /**
+     * This method returns the number of connected components.
+     *
+     * @return number of components, which is {@code 0} for an empty graph.
+     * @since 2.1
+     */
+    public int getCount() {
+        return this.sizes.length;
+    }
+
+    /**
+     * This method returns a component of a vertex with given {@code int} index.
+     *
+     * @param index numerical index of vertex.
+     * @return number of a component of given vertex.
+     * @throws NegativeVertexIndexException if parameter type {@code int < 0}.
+     * @throws NoSuchVertexIndexException   if a graph did not contain vertex with given {@code int} index.
+     * @since 2.1
+     */
+    public int getComponent(int index) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        if (index < 0) throw new NegativeVertexIndexException();
+        int position = Arrays.binarySearch(this.indexes, index);
+        if (position < 0) throw new NoSuchVertexIndexException(index);
+        return this.components[position];
+    }
+
+    /**
+     * This method checks whether vertices with given indexes are in the same connected component.
+     *
+     * @param indexV numerical index of first vertex.
+     * @param indexU numerical index of second vertex.
+     * @return {@code true} if a path joins given vertices, {@code false} otherwise.
+     * @throws NegativeVertexIndexException if any of parameters type {@code int < 0}.
+     * @throws NoSuchVertexIndexException   if a graph did not contain vertex with any of given indexes.
+     * @since 2.1
+     */
+    public boolean areConnected(int indexV, int indexU) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        return getComponent(indexV) == getComponent(indexU);
+    }
+
+    /**
+     * This method returns the number of vertices of given component.
+     *
+     * @param component number of a component.
+     * @return number of vertices of given component.
+     * @throws IllegalArgumentException if there is no component of given number.
+     * @since 2.1
+     */
+    public int getComponentSize(int component) {
+        checkComponent(component);
+        return this.sizes[component];
+    }
+
+    /**
+     * This method returns the number of vertices of each component.
+     *
+     * @return new array, where the number of vertices of a component is stored at its number.
+     * @since 2.1
+     */
+    public int @NotNull [] getComponentSizes() {
+        return this.sizes.clone();
+    }
+
+    /**
+     * This method returns indexes of vertices of given component.
+     *
+     * @param component number of a component.
+     * @return sorted array of indexes of vertices of given component.
+     * @throws IllegalArgumentException if there is no component of given number.
+     * @since 2.1
+     */
+    public int @NotNull [] getComponentIndexes(int component) {
+        checkComponent(component);
+        return IntStream.range(0, this.indexes.length)
+                .filter(position -> this.components[position] == component)
+                .map(position -> this.indexes[position])
+                .toArray();
+    }
+
+    /**
+     * This method returns the least component of the greatest number of vertices.
+     *
+     * @return number of the largest component, or {@code -1} if a graph was empty.
+     * @since 2.1
+     */
+    public int getLargestComponent() {
+        return this.largest;
+    }
+
+    /**
+     * This method returns an unmodifiable sorted set of vertices of the largest component.
+     *
+     * @return vertices of the largest component, or an empty set if a graph was empty.
+     * @see #getLargestComponent()
+     * @since 2.1
+     */
+    public @NotNull @Unmodifiable Set<Integer> getLargestComponentVertices() {
+        if (this.largest < 0) return Collections.emptySortedSet();
+        return Collections.unmodifiableSortedSet(IntStream.of(getComponentIndexes(this.largest))
+                .boxed()
+                .collect(Collectors.toCollection(TreeSet::new)));
+    }
+
+    /**
+     * This method returns a component of a vertex at given position of ascending order of indexes.
+     *
+     * @param position position of a vertex in ascending order of indexes of all vertices.
+     * @return number of a component of given vertex.
+     * @since 2.1
+     */
+    int componentAt(int position) {
+        return this.components[position];
+    }
+
+    /**
+     * This method checks whether there is a component of given number.
+     *
+     * @param component number of a component.
+     * @throws IllegalArgumentException if there is no component of given number.
+     * @since 2.1
+     */
+    private void checkComponent(int component) {
+        if (component < 0 || component >= this.sizes.length) {
+            throw new IllegalArgumentException("There is no component of number " + component + ".");
+        }
+    }
+
+    /**
+     * This method returns user-friendly representation of components as the number of vertices of each of them.
+     *
+     * @return sizes of components.
+     * @since 2.1
+     */
+    @Override
+    public String toString() {
+        return "Connected components: " + Arrays.toString(this.sizes);
+    }
+}
@@ -0,0 +1,55 @@
+package com.graphs.struct;
+
+/**
+ * This enum lists strategies of finding a minimal connected dominating set of {@link Graph}.
+ * Strategies differ in the quality of a set and in the time it takes to find one.
+ * Each strategy returns all vertices of a graph that is not connected, as it has no connected dominating set.
+ *
+ * @author Łukasz Malara
+ * @version JDK 1.7
+ * @see Graph#findMCDS(ConnectedDominatingSetStrategy)
+ * @since 2.1
+ */
+public enum ConnectedDominatingSetStrategy {
+
+    /**
+     * This constant stands for pruning all vertices one at a time, from the least degree up, unless a vertex is a cut vertex,
+     * which is the strategy of {@link Graph#findMCDS()}. It usually finds the smallest set,
+     * quickly on random graphs, but in {@code O(n (n + m))} time in the worst case, for instance on a long path.
+     *
+     * @since 2.1
+     */
+    PRUNING,
+
+    /**
+     * This constant stands for the marking process of Wu and Li, followed by their pruning rules 1 and 2.
+     * Each vertex is decided on by looking at its neighbourhood only, so vertices are processed in parallel.
+     * It suits geometric topologies, such as wireless networks, where neighbours of a vertex are mostly adjacent,
+     * while in a random graph nearly all vertices stay marked.
+     *
+     * @see MarkingProcess
+     * @since 2.1
+     */
+    MARKING,
+
+    /**
+     * This constant stands for taking inner vertices of a breadth-first spanning tree rooted at a vertex of the greatest degree.
+     * It always runs in time linear in the number of vertices and edges, so it is a baseline that always finishes quickly,
+     * but its set is usually the largest one.
+     *
+     * @see SpanningTree
+     * @since 2.1
+     */
+    SPANNING_TREE,
+
+    /**
+     * This constant stands for growing a tree greedily, in the style of Guha and Khuller, from a vertex of the greatest degree:
+     * a vertex that is dominated and has the most neighbours that are not dominated yet is added to the tree,
+     * until all vertices are dominated. Vertices are kept in a bucket queue, so it runs in time linear
+     * in the number of vertices and edges, and its set is usually much smaller than the one of {@link #SPANNING_TREE}.
+     *
+     * @see BucketQueue
+     * @since 2.1
+     */
+    GREEDY_GROWTH
+}
@@ -0,0 +1,1555 @@
+package com.graphs.struct;
+
+import com.graphs.exceptions.vertex.NegativeVertexIndexException;
+import com.graphs.exceptions.vertex.NoSuchVertexIndexException;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Unmodifiable;
+import org.jetbrains.annotations.UnmodifiableView;
+
+import java.util.*;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * This class implements an immutable snapshot of {@link Graph} in compressed sparse row format.
+ * <p>
+ * Each vertex of a snapshot is given a dense identifier from {@code 0} to {@code n - 1},
+ * in order of insertion of vertices into the original graph.
+ * Neighbours of a vertex with identifier {@code id} are identifiers stored in {@link #targets}
+ * from {@code offsets[id]} inclusive to {@code offsets[id + 1]} exclusive.
+ * Hence, traversals run over primitive arrays instead of chasing vertex objects.
+ * </p>
+ * <p>
+ * A snapshot is created by {@link Graph#freeze()} and exposes the same queries and algorithms as {@link Graph},
+ * which give the same results as long as the original graph has not been modified since.
+ * A snapshot created by {@link Graph#freezeOffHeap()} keeps its offsets, neighbours and indexes outside of the heap instead,
+ * so these arrays add neither to a heap budget nor to garbage collection pauses.
+ * Elements of vertices stay on the heap, and so does the original graph, whose neighbourhoods are never kept off-heap.
+ * Its memory is released by {@link #close()}, after which the snapshot must not be queried anymore.
+ * </p>
+ *
+ * @param <T> the bounding type stored in this graph in its vertices.
+ * @author Łukasz Malara
+ * @version JDK 1.7
+ * @see Graph#freeze()
+ * @see Graph#freezeOffHeap()
+ * @since 2.1
+ */
+public final class CsrGraph<T> implements IntGraph, AutoCloseable {
+
+    /**
+     * This field stores the number of first neighbours of each vertex that are linked
+     * before the largest component is sampled by {@link #linkInParallel(DisjointSet)}.
+     *
+     * @since 2.1
+     */
+    private static final int SAMPLED_NEIGHBOURS = 2;
+
+    /**
+     * This field stores the initial capacity of a {@code HashMap} table, which is doubled once it is three quarters full.
+     *
+     * @see #sortByHashBucket()
+     * @since 2.1
+     */
+    private static final int MIN_HASH_CAPACITY = 16;
+
+    /**
+     * This field stores the greatest capacity of a {@code HashMap} table.
+     *
+     * @see #sortByHashBucket()
+     * @since 2.1
+     */
+    private static final int MAX_HASH_CAPACITY = 1 << 30;
+
+    /**
+     * This field stores the prime generated hash codes of vertices of {@link Graph} start from.
+     *
+     * @see #hashBucket(int, int)
+     * @since 2.1
+     */
+    private static final int VERTEX_HASH_PRIME = 59;
+
+    /**
+     * This field maps dense identifiers of vertices to their indexes.
+     *
+     * @since 2.1
+     */
+    private IntStorage indexes;
+
+    /**
+     * This field stores the beginning of neighbours of each vertex in {@link #targets}.
+     * Its length is the number of vertices increased by one.
+     *
+     * @since 2.1
+     */
+    private IntStorage offsets;
+
+    /**
+     * This field stores dense identifiers of neighbours of all vertices, one vertex after another.
+     * Each edge is stored twice, once for each of its ends.
+     *
+     * @since 2.1
+     */
+    private IntStorage targets;
+
+    /**
+     * This field stores indexes of vertices in ascending order.
+     *
+     * @see #sortedIds
+     * @since 2.1
+     */
+    private IntStorage sortedIndexes;
+
+    /**
+     * This field stores dense identifiers of vertices in the same order as {@link #sortedIndexes}.
+     *
+     * @since 2.1
+     */
+    private IntStorage sortedIds;
+
+    /**
+     * This field stores data of each vertex by its dense identifier,
+     * or {@code null} if no vertex stores any data.
+     *
+     * @since 2.1
+     */
+    private final Object[] elements;
+
+    /**
+     * This field stores the minimal degree of a vertex of this graph.
+     *
+     * @since 2.1
+     */
+    private final int minDegree;
+
+    /**
+     * This field stores the maximal degree of a vertex of this graph.
+     *
+     * @since 2.1
+     */
+    private final int maxDegree;
+
+    /**
+     * This field stores connected components of this graph once they have been computed,
+     * as they never change for a snapshot.
+     *
+     * @see #connectedComponents()
+     * @since 2.1
+     */
+    private volatile ConnectedComponents components;
+
+    /**
+     * This field stores a bipartition of this graph once it has been found, as it never changes for a snapshot.
+     *
+     * @see #findBipartition()
+     * @since 2.1
+     */
+    private volatile Bipartition bipartition;
+
+    /**
+     * This constructor creates a snapshot from given storages.
+     * Targets are given as indexes of vertices and are translated in place into dense identifiers.
+     * Indexes sorted for lookups are kept in the same kind of storage as given indexes.
+     *
+     * @param indexes  indexes of vertices in order of their dense identifiers.
+     * @param offsets  beginning of neighbours of each vertex in targets.
+     * @param targets  indexes of neighbours of all vertices, one vertex after another.
+     * @param elements data of each vertex in order of their dense identifiers, or {@code null} if there is none.
+     * @param offHeap  whether indexes sorted for lookups should be kept outside of the heap.
+     * @see Graph#freeze()
+     * @see Graph#freezeOffHeap()
+     * @since 2.1
+     */
+    CsrGraph(@NotNull IntStorage indexes, @NotNull IntStorage offsets, @NotNull IntStorage targets, Object[] elements, boolean offHeap) {
+        this.indexes = indexes;
+        this.offsets = offsets;
+        this.targets = targets;
+        this.elements = elements;
+        int order = indexes.length();
+        long[] pairs = new long[order];
+        for (int id = 0; id < order; id++) {
+            pairs[id] = (long) indexes.get(id) << Integer.SIZE | id;
+        }
+        Arrays.parallelSort(pairs);
+        this.sortedIndexes = IntStorage.allocate(order, offHeap);
+        this.sortedIds = IntStorage.allocate(order, offHeap);
+        for (int position = 0; position < order; position++) {
+            this.sortedIndexes.set(position, (int) (pairs[position] >>> Integer.SIZE));
+            this.sortedIds.set(position, (int) pairs[position]);
+        }
+        for (int k = 0; k < targets.length(); k++) {
+            targets.set(k, getId(targets.get(k)));
+        }
+        int min = order == 0 ? 0 : Integer.MAX_VALUE;
+        int max = 0;
+        for (int id = 0; id < order; id++) {
+            min = Math.min(min, degree(id));
+            max = Math.max(max, degree(id));
+        }
+        this.minDegree = min;
+        this.maxDegree = max;
+    }
+
+    /**
+     * This method returns the number of vertices of this graph.
+     *
+     * @return number of vertices.
+     * @since 2.1
+     */
+    @Override
+    public int getOrder() {
+        return this.indexes.length();
+    }
+
+    /**
+     * This method returns the number of edges of this graph.
+     *
+     * @return number of edges.
+     * @since 2.1
+     */
+    @Override
+    public long getEdgeCount() {
+        return this.targets.length() / 2;
+    }
+
+    /**
+     * This method returns the minimal degree of a vertex of this graph.
+     *
+     * @return minimal degree, or {@code 0} if this graph is empty.
+     * @since 2.1
+     */
+    @Override
+    public int getMinDegree() {
+        return this.minDegree;
+    }
+
+    /**
+     * This method returns the maximal degree of a vertex of this graph.
+     *
+     * @return maximal degree, or {@code 0} if this graph is empty.
+     * @since 2.1
+     */
+    @Override
+    public int getMaxDegree() {
+        return this.maxDegree;
+    }
+
+    /**
+     * This method returns dense identifier of a vertex with given {@code int} index.
+     *
+     * @param index numerical index of vertex.
+     * @return dense identifier of vertex, or a negative number if this graph does not contain it.
+     * @throws NegativeVertexIndexException if parameter type {@code int < 0}.
+     * @since 2.1
+     */
+    private int findId(int index) throws NegativeVertexIndexException {
+        if (index < 0) throw new NegativeVertexIndexException();
+        int low = 0;
+        int high = this.sortedIndexes.length() - 1;
+        while (low <= high) {
+            int middle = (low + high) >>> 1;
+            int candidate = this.sortedIndexes.get(middle);
+            if (candidate < index) {
+                low = middle + 1;
+            } else if (candidate > index) {
+                high = middle - 1;
+            } else {
+                return this.sortedIds.get(middle);
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * This method returns dense identifier of a vertex with given {@code int} index.
+     *
+     * @param index numerical index of vertex.
+     * @return dense identifier of vertex.
+     * @throws NegativeVertexIndexException if parameter type {@code int < 0}.
+     * @throws NoSuchVertexIndexException   if this graph does not contain vertex with given {@code int} index.
+     * @since 2.1
+     */
+    private int getId(int index) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        int id = findId(index);
+        if (id < 0) throw new NoSuchVertexIndexException(index);
+        return id;
+    }
+
+    /**
+     * This method returns an unmodifiable sorted set of vertices of this graph.
+     *
+     * @return unmodifiable sorted set of vertices of this graph.
+     * @see Graph#getVertices()
+     * @since 2.1
+     */
+    public @NotNull @UnmodifiableView Set<Integer> getVertices() {
+        return toUnmodifiableSortedSet(IntStream.range(0, getOrder()).map(this.sortedIndexes::get));
+    }
+
+    /**
+     * This method returns indexes of all vertices of this graph without boxing them.
+     *
+     * @return sorted array of vertices indexes.
+     * @see #getVertices()
+     * @since 2.1
+     */
+    @Override
+    public int @NotNull [] getVertexIndexes() {
+        return this.sortedIndexes.toArray();
+    }
+
+    /**
+     * This method returns data stored in a vertex by given index.
+     *
+     * @param index numerical index of vertex.
+     * @return data stored in vertex by given index.
+     * @throws NegativeVertexIndexException if parameter type {@code int < 0}.
+     * @throws NoSuchVertexIndexException   if this graph does not contain vertex with given {@code int} index.
+     * @see Graph#getVertexData(int)
+     * @since 2.1
+     */
+    @SuppressWarnings("unchecked")
+    public @UnmodifiableView T getVertexData(int index) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        return (T) element(getId(index));
+    }
+
+    /**
+     * This method returns an unmodifiable sorted set of neighbours of vertex given by {@code int} index.
+     *
+     * @param index numerical index of a vertex.
+     * @return unmodifiable sorted set of neighbours of a vertex given by {@code int} index.
+     * @throws NegativeVertexIndexException if parameter type {@code int < 0}.
+     * @throws NoSuchVertexIndexException   if this graph does not contain vertex with given {@code int} index.
+     * @see Graph#getVertexNeighbourhood(int)
+     * @since 2.1
+     */
+    public @NotNull @Unmodifiable Set<Integer> getVertexNeighbourhood(int index) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        int id = getId(index);
+        return toUnmodifiableSortedSet(IntStream.range(this.offsets.get(id), this.offsets.get(id + 1))
+                .map(k -> this.indexes.get(this.targets.get(k))));
+    }
+
+    /**
+     * This method returns indexes of neighbours of vertex given by {@code int} index without boxing them.
+     *
+     * @param index numerical index of a vertex.
+     * @return sorted array of indexes of neighbours of a vertex.
+     * @throws NegativeVertexIndexException if parameter type {@code int < 0}.
+     * @throws NoSuchVertexIndexException   if this graph does not contain vertex with given {@code int} index.
+     * @see #getVertexNeighbourhood(int)
+     * @since 2.1
+     */
+    @Override
+    public int @NotNull [] getNeighbourIndexes(int index) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        int id = getId(index);
+        int[] neighbours = new int[degree(id)];
+        for (int k = this.offsets.get(id); k < this.offsets.get(id + 1); k++) {
+            neighbours[k - this.offsets.get(id)] = this.indexes.get(this.targets.get(k));
+        }
+        Arrays.sort(neighbours);
+        return neighbours;
+    }
+
+    /**
+     * This method returns the degree of vertex given by {@code int} index.
+     *
+     * @param index numerical index of a vertex.
+     * @return number of vertices in an open neighbourhood of a vertex.
+     * @throws NegativeVertexIndexException if parameter type {@code int < 0}.
+     * @throws NoSuchVertexIndexException   if this graph does not contain vertex with given {@code int} index.
+     * @since 2.1
+     */
+    @Override
+    public int getDegree(int index) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        return degree(getId(index));
+    }
+
+    /**
+     * This method checks whether this graph contains a vertex with given {@code int} index.
+     *
+     * @param index numerical index of vertex.
+     * @return {@code true} if this graph contains vertex with given index, {@code false} otherwise.
+     * @throws NegativeVertexIndexException if parameter type {@code int < 0}.
+     * @see Graph#isVertexOfGraph(int)
+     * @since 2.1
+     */
+    @Override
+    public boolean isVertexOfGraph(int index) throws NegativeVertexIndexException {
+        return findId(index) >= 0;
+    }
+
+    /**
+     * This method checks whether given {@code Collection} is a subset of vertices of this graph.
+     *
+     * @param subset {@code Collection} containing indexes of vertices to check if they are in this graph.
+     * @return true if given {@code Collection} is a subset of vertices of this graph, false otherwise.
+     * @throws NegativeVertexIndexException if given {@code Collection} contains negative number(s).
+     * @see Graph#areVerticesOfGraph(Collection)
+     * @since 2.1
+     */
+    public boolean areVerticesOfGraph(@NotNull Collection<Integer> subset) throws NegativeVertexIndexException {
+        return !subset.isEmpty() && subset.stream().allMatch(this::isVertexOfGraph);
+    }
+
+    /**
+     * This method checks whether given indexes are a subset of vertices of this graph.
+     *
+     * @param subset indexes of vertices to check if they are in this graph.
+     * @return true if given indexes are a subset of vertices of this graph, false otherwise.
+     * @throws NegativeVertexIndexException if given indexes contain negative number(s).
+     * @see #areVerticesOfGraph(Collection)
+     * @since 2.1
+     */
+    @Override
+    public boolean areVerticesOfGraph(int @NotNull ... subset) throws NegativeVertexIndexException {
+        if (subset.length == 0) return false;
+        for (int index : subset) {
+            if (!isVertexOfGraph(index)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * This method checks whether this graph is connected or disconnected.
+     * A graph of at least {@link Parallelism#THRESHOLD} vertices is searched in parallel.
+     *
+     * @return {@code true} if this graph is connected, {@code false} otherwise.
+     * @see Graph#isConnected()
+     * @since 2.1
+     */
+    public boolean isConnected() {
+        int order = getOrder();
+        if (order >= Parallelism.THRESHOLD) {
+            return new ParallelBreadthFirstSearch(this.offsets, this.targets, null).search(0, order) == order;
+        }
+        return isConnectedSubGraph(IntStream.range(0, order).toArray());
+    }
+
+    /**
+     * This method checks whether given {@code Collection} induces connected subgraph of this graph, or does not.
+     *
+     * @param subset {@code Collection} containing indexes of vertices to check if they induce connected subgraph of this graph.
+     * @return {@code true} if given {@code Collection} induces connected subgraph of this graph, {@code false} otherwise.
+     * @throws NegativeVertexIndexException if given {@code Collection} contains negative number(s).
+     * @throws NoSuchVertexIndexException   if given {@code Collection} contains number that could not be identified with any vertex index.
+     * @see Graph#doInduceConnectedSubGraph(Collection)
+     * @since 2.1
+     */
+    public boolean doInduceConnectedSubGraph(@NotNull Collection<Integer> subset) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        return doInduceConnectedSubGraph(VertexSubset.of(subset));
+    }
+
+    /**
+     * This method checks whether given indexes induce connected subgraph of this graph, or do not.
+     *
+     * @param subset indexes of vertices to check if they induce connected subgraph of this graph.
+     * @return {@code true} if given indexes induce connected subgraph of this graph, {@code false} otherwise.
+     * @throws NegativeVertexIndexException if given indexes contain negative number(s).
+     * @throws NoSuchVertexIndexException   if given indexes contain number that could not be identified with any vertex index.
+     * @see #doInduceConnectedSubGraph(Collection)
+     * @since 2.1
+     */
+    @Override
+    public boolean doInduceConnectedSubGraph(int @NotNull ... subset) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        return doInduceConnectedSubGraph(VertexSubset.of(subset));
+    }
+
+    /**
+     * This method checks whether given subset induces connected subgraph of this graph, or does not.
+     *
+     * @param subset indexes of vertices to check if they induce connected subgraph of this graph.
+     * @return {@code true} if given subset induces connected subgraph of this graph, {@code false} otherwise.
+     * @throws NoSuchVertexIndexException if given subset contains number that could not be identified with any vertex index.
+     * @see Graph#doInduceConnectedSubGraph(VertexSubset)
+     * @since 2.1
+     */
+    @Override
+    public boolean doInduceConnectedSubGraph(@NotNull VertexSubset subset) throws NoSuchVertexIndexException {
+        return isConnectedSubGraph(mapIndexesToIds(subset.toArray()));
+    }
+
+    /**
+     * This method checks whether the all given vertices are in a connected subgraph of this graph or are not.
+     * A subset of at least {@link Parallelism#THRESHOLD} vertices is searched in parallel.
+     *
+     * @param subset dense identifiers of a subset of vertices of this graph.
+     * @return {@code true} if given subset induces connected subgraph of this graph, {@code false} otherwise.
+     * @since 2.1
+     */
+    private boolean isConnectedSubGraph(int @NotNull [] subset) {
+        if (subset.length >= Parallelism.THRESHOLD) {
+            long[] member = ParallelBreadthFirstSearch.bitmap(getOrder(), subset);
+            return new ParallelBreadthFirstSearch(this.offsets, this.targets, member).search(subset[0], subset.length) == subset.length;
+        }
+        return depthFirstSearch(subset, membership(subset)) == subset.length;
+    }
+
+    /**
+     * This method is an implementation of depth-first search over primitive arrays.
+     * Only vertices from given subset can be visited. It returns the number of visited vertices.
+     *
+     * @param subset dense identifiers of a subset of vertices of this graph, search starts from the first of them.
+     * @param member membership of each vertex in given subset.
+     * @return numbers of visited vertices.
+     * @see Graph#isConnected()
+     * @since 2.1
+     */
+    private int depthFirstSearch(int @NotNull [] subset, boolean @NotNull [] member) {
+        if (subset.length == 0) return 0;
+        boolean[] visited = new boolean[getOrder()];
+        int[] stack = new int[getOrder()];
+        int top = 0;
+        int count = 1;
+        visited[subset[0]] = true;
+        stack[top++] = subset[0];
+        while (top > 0) {
+            int current = stack[--top];
+            for (int k = this.offsets.get(current); k < this.offsets.get(current + 1); k++) {
+                int neighbour = this.targets.get(k);
+                if (member[neighbour] && !visited[neighbour]) {
+                    visited[neighbour] = true;
+                    stack[top++] = neighbour;
+                    count++;
+                }
+            }
+        }
+        return count;
+    }
+
+    /**
+     * This method returns connected components of this graph.
+     * They are computed once by a disjoint-set forest over dense identifiers, in a single pass over all edges,
+     * and then returned by each call.
+     * A graph of at least {@link Parallelism#THRESHOLD} vertices is processed in parallel.
+     *
+     * @return connected components of this graph.
+     * @see Graph#connectedComponents()
+     * @since 2.1
+     */
+    @Override
+    public @NotNull ConnectedComponents connectedComponents() {
+        int order = getOrder();
+        ConnectedComponents result = this.components;
+        if (result == null) {
+            DisjointSet forest = new DisjointSet(order);
+            if (order >= Parallelism.THRESHOLD) {
+                linkInParallel(forest);
+            } else {
+                for (int id = 0; id < order; id++) {
+                    for (int k = this.offsets.get(id); k < this.offsets.get(id + 1); k++) {
+                        if (this.targets.get(k) > id) forest.union(id, this.targets.get(k));
+                    }
+                }
+            }
+            int[] roots = new int[order];
+            for (int position = 0; position < order; position++) {
+                roots[position] = forest.find(this.sortedIds.get(position));
+            }
+            result = new ConnectedComponents(this.sortedIndexes.toArray(), roots);
+            this.components = result;
+        }
+        return result;
+    }
+
+    /**
+     * This method merges ends of all edges of this graph in parallel, following Afforest.
+     * First, each vertex is linked with its first {@link #SAMPLED_NEIGHBOURS} neighbours,
+     * which is usually enough to reveal the largest component.
+     * Then, the most frequent set among randomly sampled vertices is taken as the largest component,
+     * and only vertices outside of it are linked with the rest of their neighbours.
+     * An edge from the largest component to another set is still linked from the other end.
+     *
+     * @param forest disjoint-set forest of all vertices of this graph.
+     * @since 2.1
+     */
+    private void linkInParallel(@NotNull DisjointSet forest) {
+        int order = getOrder();
+        for (int round = 0; round < SAMPLED_NEIGHBOURS; round++) {
+            int shift = round;
+            IntStream.range(0, order).parallel().forEach(id -> {
+                int k = this.offsets.get(id) + shift;
+                if (k < this.offsets.get(id + 1)) forest.link(id, this.targets.get(k));
+            });
+        }
+        Map<Integer, Integer> frequencies = new HashMap<>();
+        ThreadLocalRandom.current().ints(1024, 0, order)
+                .forEach(id -> frequencies.merge(forest.find(id), 1, Integer::sum));
+        int largest = Collections.max(frequencies.entrySet(), Map.Entry.comparingByValue()).getKey();
+        IntStream.range(0, order).parallel().forEach(id -> {
+            if (forest.find(id) == largest) return;
+            for (int k = this.offsets.get(id) + SAMPLED_NEIGHBOURS; k < this.offsets.get(id + 1); k++) {
+                forest.link(id, this.targets.get(k));
+            }
+        });
+    }
+
+    /**
+     * This method checks whether this graph is complete or is not.
+     *
+     * @return {@code true} if graph is complete, {@code false} otherwise.
+     * @see Graph#isComplete()
+     * @since 2.1
+     */
+    public boolean isComplete() {
+        long order = getOrder();
+        return getEdgeCount() == order * (order - 1) / 2;
+    }
+
+    /**
+     * This method checks whether this graph is bipartite or is not.
+     *
+     * @return {@code true} if this graph is not empty and is bipartite, {@code false} otherwise.
+     * @see #findBipartition()
+     * @see Graph#isBipartite()
+     * @since 2.1
+     */
+    public boolean isBipartite() {
+        return findBipartition().isBipartite();
+    }
+
+    /**
+     * This method splits vertices of this graph into two parts, so that each edge joins vertices of different parts,
+     * or finds an odd cycle, which proves that there are no such parts.
+     * Each connected component is coloured by breadth-first search from its vertex of the least index,
+     * over primitive arrays of colours, in time linear in the number of vertices and edges.
+     * A graph of at least {@link Parallelism#THRESHOLD} vertices has its components coloured in parallel.
+     * The result is computed once and then returned by each call.
+     * An empty graph has neither parts nor an odd cycle, and its result is not bipartite.
+     *
+     * @return bipartition of this graph, or an odd cycle of this graph.
+     * @see Graph#findBipartition()
+     * @since 2.1
+     */
+    @Override
+    public @NotNull Bipartition findBipartition() {
+        Bipartition result = this.bipartition;
+        if (result == null) {
+            int order = getOrder();
+            BipartiteSearch search = new BipartiteSearch(this.offsets, this.targets, null);
+            long conflict;
+            if (order >= Parallelism.THRESHOLD) {
+                conflict = colourInParallel(search);
+            } else {
+                conflict = BipartiteSearch.NO_CONFLICT;
+                int[] queue = new int[order];
+                for (int position = 0; position < order && conflict == BipartiteSearch.NO_CONFLICT; position++) {
+                    int id = this.sortedIds.get(position);
+                    if (search.colourOf(id) == BipartiteSearch.UNCOLOURED) conflict = search.colour(id, queue);
+                }
+            }
+            result = toBipartition(search, conflict);
+            this.bipartition = result;
+        }
+        return result;
+    }
+
+    /**
+     * This method colours connected components of this graph in parallel, each one by a separate search.
+     *
+     * @param search colouring of all vertices of this graph.
+     * @return an edge joining two vertices of the same colour, or {@link BipartiteSearch#NO_CONFLICT} if there is none.
+     * @see #connectedComponents()
+     * @since 2.1
+     */
+    private long colourInParallel(@NotNull BipartiteSearch search) {
+        ConnectedComponents connected = connectedComponents();
+        int[] sizes = connected.getComponentSizes();
+        int[] starts = new int[sizes.length];
+        Arrays.fill(starts, -1);
+        for (int position = 0; position < getOrder(); position++) {
+            int component = connected.componentAt(position);
+            if (starts[component] < 0) starts[component] = this.sortedIds.get(position);
+        }
+        AtomicLong conflict = new AtomicLong(BipartiteSearch.NO_CONFLICT);
+        IntStream.range(0, sizes.length).parallel().forEach(component -> {
+            long found = search.colour(starts[component], new int[sizes[component]]);
+            if (found != BipartiteSearch.NO_CONFLICT) conflict.compareAndSet(BipartiteSearch.NO_CONFLICT, found);
+        });
+        return conflict.get();
+    }
+
+    /**
+     * This method maps colours of vertices, or an odd cycle closed by given edge, to indexes of vertices.
+     *
+     * @param search   finished colouring of vertices of this graph.
+     * @param conflict an edge joining two vertices of the same colour, or {@link BipartiteSearch#NO_CONFLICT} if there is none.
+     * @return bipartition of coloured vertices, or an odd cycle.
+     * @since 2.1
+     */
+    private @NotNull Bipartition toBipartition(@NotNull BipartiteSearch search, long conflict) {
+        if (conflict != BipartiteSearch.NO_CONFLICT) {
+            int[] cycle = search.oddCycle(conflict);
+            for (int k = 0; k < cycle.length; k++) {
+                cycle[k] = this.indexes.get(cycle[k]);
+            }
+            return new Bipartition(new int[0], new int[0], cycle);
+        }
+        IntStream.Builder first = IntStream.builder();
+        IntStream.Builder second = IntStream.builder();
+        for (int position = 0; position < getOrder(); position++) {
+            byte colour = search.colourOf(this.sortedIds.get(position));
+            if (colour == BipartiteSearch.FIRST) first.add(this.sortedIndexes.get(position));
+            if (colour == BipartiteSearch.SECOND) second.add(this.sortedIndexes.get(position));
+        }
+        return new Bipartition(first.build().toArray(), second.build().toArray(), new int[0]);
+    }
+
+    /**
+     * This method checks whether given {@code Collection} induces bipartite subgraph of this graph or does not.
+     *
+     * @param subset {@code Collection} containing indexes of vertices to check if they induce bipartite subgraph of this graph.
+     * @return {@code true} if given {@code Collection} is a subset of vertices of this graph that induces bipartite subgraph, {@code false} otherwise.
+     * @throws NegativeVertexIndexException if given {@code Collection} contains negative number(s).
+     * @throws NoSuchVertexIndexException   if given {@code Collection} contains number that could not be identified with any vertex index.
+     * @see Graph#doInduceBipartiteSubGraph(Collection)
+     * @since 2.1
+     */
+    public boolean doInduceBipartiteSubGraph(@NotNull Collection<Integer> subset) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        return doInduceBipartiteSubGraph(VertexSubset.of(subset));
+    }
+
+    /**
+     * This method checks whether given indexes induce bipartite subgraph of this graph, or do not.
+     *
+     * @param subset indexes of vertices to check if they induce bipartite subgraph of this graph.
+     * @return {@code true} if given indexes induce bipartite subgraph of this graph, {@code false} otherwise.
+     * @throws NegativeVertexIndexException if given indexes contain negative number(s).
+     * @throws NoSuchVertexIndexException   if given indexes contain number that could not be identified with any vertex index.
+     * @see #doInduceBipartiteSubGraph(Collection)
+     * @since 2.1
+     */
+    @Override
+    public boolean doInduceBipartiteSubGraph(int @NotNull ... subset) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        return doInduceBipartiteSubGraph(VertexSubset.of(subset));
+    }
+
+    /**
+     * This method checks whether given subset induces bipartite subgraph of this graph, or does not.
+     *
+     * @param subset indexes of vertices to check if they induce bipartite subgraph of this graph.
+     * @return {@code true} if given subset induces bipartite subgraph of this graph, {@code false} otherwise.
+     * @throws NoSuchVertexIndexException if given subset contains number that could not be identified with any vertex index.
+     * @see Graph#doInduceBipartiteSubGraph(VertexSubset)
+     * @since 2.1
+     */
+    @Override
+    public boolean doInduceBipartiteSubGraph(@NotNull VertexSubset subset) throws NoSuchVertexIndexException {
+        return isBipartiteSubGraph(mapIndexesToIds(subset.toArray()));
+    }
+
+    /**
+     * This method checks whether the all given vertices are in a bipartite subgraph of this graph or are not.
+     * Each connected component of the subgraph is coloured by breadth-first search, so the subgraph need not be connected.
+     *
+     * @param subset dense identifiers of a subset of vertices of this graph.
+     * @return {@code true} if given subset is not empty and induces bipartite subgraph of this graph, {@code false} otherwise.
+     * @since 2.1
+     */
+    private boolean isBipartiteSubGraph(int @NotNull [] subset) {
+        if (subset.length == 0) return false;
+        BipartiteSearch search = new BipartiteSearch(this.offsets, this.targets, membership(subset));
+        int[] queue = new int[subset.length];
+        for (int id : subset) {
+            if (search.colourOf(id) == BipartiteSearch.UNCOLOURED
+                    && search.colour(id, queue) != BipartiteSearch.NO_CONFLICT) return false;
+        }
+        return true;
+    }
+
+    /**
+     * This method checks whether given {@code Collection} is a connected dominating set of this graph or is not.
+     *
+     * @param subset {@code Collection} containing indexes of vertices to check if they induce a connected dominating set of this graph.
+     * @return {@code true} if given {@code Collection} is a connected dominating set in this graph, {@code false} otherwise.
+     * @throws NegativeVertexIndexException if given {@code Collection} contains negative number(s).
+     * @throws NoSuchVertexIndexException   if given {@code Collection} contains number that could not be identified with any vertex index.
+     * @see Graph#isCDS(Collection)
+     * @since 2.1
+     */
+    public boolean isCDS(@NotNull Collection<Integer> subset) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        return isCDS(VertexSubset.of(subset));
+    }
+
+    /**
+     * This method checks whether given indexes are a connected dominating set of this graph, or are not.
+     *
+     * @param subset indexes of vertices to check if they are a connected dominating set of this graph.
+     * @return {@code true} if given indexes are a connected dominating set of this graph, {@code false} otherwise.
+     * @throws NegativeVertexIndexException if given indexes contain negative number(s).
+     * @throws NoSuchVertexIndexException   if given indexes contain number that could not be identified with any vertex index.
+     * @see #isCDS(Collection)
+     * @since 2.1
+     */
+    @Override
+    public boolean isCDS(int @NotNull ... subset) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        return isCDS(VertexSubset.of(subset));
+    }
+
+    /**
+     * This method checks whether given subset is a connected dominating set of this graph, or is not.
+     *
+     * @param subset indexes of vertices to check if they are a connected dominating set of this graph.
+     * @return {@code true} if given subset is a connected dominating set of this graph, {@code false} otherwise.
+     * @throws NoSuchVertexIndexException if given subset contains number that could not be identified with any vertex index.
+     * @see Graph#isCDS(VertexSubset)
+     * @since 2.1
+     */
+    @Override
+    public boolean isCDS(@NotNull VertexSubset subset) throws NoSuchVertexIndexException {
+        return isConnectedDominatingSubGraph(mapIndexesToIds(subset.toArray()));
+    }
+
+    /**
+     * This method checks whether the all given vertices are a connected dominating set of this graph or are not.
+     *
+     * @param ids dense identifiers of a subset of vertices of this graph.
+     * @return {@code true} if given subset is a connected dominating set of this graph, {@code false} otherwise.
+     * @since 2.1
+     */
+    private boolean isConnectedDominatingSubGraph(int @NotNull [] ids) {
+        boolean[] member = membership(ids);
+        if (depthFirstSearch(ids, member) != ids.length) return false;
+        return IntStream.range(0, getOrder())
+                .noneMatch(v -> !member[v] && IntStream.range(this.offsets.get(v), this.offsets.get(v + 1))
+                        .noneMatch(k -> member[this.targets.get(k)]));
+    }
+
+    /**
+     * This method checks whether given {@code Collection} is an independent set of vertices of this graph or is not.
+     *
+     * @param subset {@code  Collection} containing indexes of vertices to check if they induce an independent set in this graph.
+     * @return {@code true} if given {@code Collection} is an independent set of this graph, false otherwise.
+     * @throws NegativeVertexIndexException if given {@code Collection} contains negative number(s).
+     * @throws NoSuchVertexIndexException   if given {@code Collection} contains number that could not be identified with any vertex index.
+     * @see Graph#isIndependentSet(Collection)
+     * @since 2.1
+     */
+    public boolean isIndependentSet(@NotNull Collection<Integer> subset) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        return isIndependentSet(VertexSubset.of(subset));
+    }
+
+    /**
+     * This method checks whether given indexes are an independent set of this graph, or are not.
+     *
+     * @param subset indexes of vertices to check if they are an independent set of this graph.
+     * @return {@code true} if given indexes are an independent set of this graph, {@code false} otherwise.
+     * @throws NegativeVertexIndexException if given indexes contain negative number(s).
+     * @throws NoSuchVertexIndexException   if given indexes contain number that could not be identified with any vertex index.
+     * @see #isIndependentSet(Collection)
+     * @since 2.1
+     */
+    @Override
+    public boolean isIndependentSet(int @NotNull ... subset) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        return isIndependentSet(VertexSubset.of(subset));
+    }
+
+    /**
+     * This method checks whether given subset is an independent set of this graph, or is not.
+     *
+     * @param subset indexes of vertices to check if they are an independent set of this graph.
+     * @return {@code true} if given subset is an independent set of this graph, {@code false} otherwise.
+     * @throws NoSuchVertexIndexException if given subset contains number that could not be identified with any vertex index.
+     * @see Graph#isIndependentSet(VertexSubset)
+     * @since 2.1
+     */
+    @Override
+    public boolean isIndependentSet(@NotNull VertexSubset subset) throws NoSuchVertexIndexException {
+        return isIndependentSubGraph(mapIndexesToIds(subset.toArray()));
+    }
+
+    /**
+     * This method checks whether the all given vertices are an independent set of this graph or are not.
+     * Neighbours of each vertex of the subset are checked once, so the check takes linear time.
+     *
+     * @param ids dense identifiers of a subset of vertices of this graph.
+     * @return {@code true} if given subset is not empty and is an independent set of this graph, {@code false} otherwise.
+     * @since 2.1
+     */
+    private boolean isIndependentSubGraph(int @NotNull [] ids) {
+        if (ids.length == 0) return false;
+        boolean[] member = membership(ids);
+        return Arrays.stream(ids)
+                .noneMatch(id -> IntStream.range(this.offsets.get(id), this.offsets.get(id + 1))
+                        .anyMatch(k -> member[this.targets.get(k)]));
+    }
+
+    /**
+     * This method finds a minimal connected dominating set in this graph.
+     * Vertices are removed in ascending order of degrees kept in a lazy heap,
+     * while a spanning tree of remaining vertices tells cut vertices, which are kept.
+     *
+     * @return minimal connected dominating set of this graph.
+     * @see Graph#findMCDS()
+     * @since 2.1
+     */
+    public @NotNull @Unmodifiable Set<Integer> findMCDS() {
+        return findMCDS(ConnectedDominatingSetStrategy.PRUNING);
+    }
+
+    /**
+     * This method finds a minimal connected dominating set in this graph by given strategy.
+     *
+     * @param strategy strategy of finding a connected dominating set.
+     * @return minimal connected dominating set of this graph.
+     * @see Graph#findMCDS(ConnectedDominatingSetStrategy)
+     * @since 2.1
+     */
+    public @NotNull @Unmodifiable Set<Integer> findMCDS(@NotNull ConnectedDominatingSetStrategy strategy) {
+        return mapIdsToIndexes(computeMCDS(strategy));
+    }
+
+    /**
+     * This method finds a minimal connected dominating set in this graph without boxing indexes of its vertices.
+     *
+     * @return sorted array of indexes of vertices of minimal connected dominating set.
+     * @see #findMCDS()
+     * @since 2.1
+     */
+    @Override
+    public int @NotNull [] findMCDSIndexes() {
+        return findMCDSIndexes(ConnectedDominatingSetStrategy.PRUNING);
+    }
+
+    /**
+     * This method finds a minimal connected dominating set in this graph by given strategy without boxing indexes of its vertices.
+     *
+     * @param strategy strategy of finding a connected dominating set.
+     * @return sorted array of indexes of vertices of minimal connected dominating set.
+     * @see #findMCDS(ConnectedDominatingSetStrategy)
+     * @since 2.1
+     */
+    @Override
+    public int @NotNull [] findMCDSIndexes(@NotNull ConnectedDominatingSetStrategy strategy) {
+        return mapIdsToSortedIndexes(computeMCDS(strategy));
+    }
+
+    /**
+     * This method computes a minimal connected dominating set in this graph by given strategy.
+     * A graph that is not connected has no connected dominating set, then all its vertices are returned.
+     *
+     * @param strategy strategy of finding a connected dominating set.
+     * @return dense identifiers of vertices of minimal connected dominating set.
+     * @since 2.1
+     */
+    private int @NotNull [] computeMCDS(@NotNull ConnectedDominatingSetStrategy strategy) {
+        int n = getOrder();
+        if (n == 0 || !isConnected()) return IntStream.range(0, n).toArray();
+        return switch (strategy) {
+            case PRUNING -> computeMCDS();
+            case MARKING -> computeMarkedCDS();
+            case SPANNING_TREE -> computeSpanningTreeCDS();
+            case GREEDY_GROWTH -> computeGrownCDS();
+        };
+    }
+
+    /**
+     * This method computes a connected dominating set in this connected graph as inner vertices of a breadth-first spanning tree.
+     * Inner vertices of a tree are connected, and each leaf is dominated by its parent.
+     * The tree is rooted at a vertex of the greatest degree, so the root is more likely to dominate many leaves.
+     * A tree of a single vertex has no inner vertex, then the vertex alone is returned.
+     *
+     * @return dense identifiers of vertices of connected dominating set.
+     * @see ConnectedDominatingSetStrategy#SPANNING_TREE
+     * @since 2.1
+     */
+    private int @NotNull [] computeSpanningTreeCDS() {
+        int n = getOrder();
+        if (n == 1) return new int[]{0};
+        SpanningTree tree = new SpanningTree(this.offsets, this.targets, vertexOfMaxDegree());
+        boolean[] inner = new boolean[n];
+        for (int v = 0; v < n; v++) {
+            int parent = tree.parentOf(v);
+            if (parent >= 0) inner[parent] = true;
+        }
+        return IntStream.range(0, n).filter(v -> inner[v]).toArray();
+    }
+
+    /**
+     * This method computes a connected dominating set in this connected graph by growing a tree greedily,
+     * in the style of Guha and Khuller. A vertex of the greatest degree is black, its neighbours are grey, other vertices are white.
+     * Then a grey vertex of the most white neighbours turns black and its white neighbours turn grey, until no vertex is white.
+     * Black vertices are always connected and dominate grey ones.
+     * <p>
+     * Grey vertices are kept in a bucket queue keyed by the number of neighbours that are not white,
+     * so a vertex of the most white neighbours is polled first. A vertex turning grey increments keys of its grey neighbours,
+     * so each edge is looked at a constant number of times, and the whole algorithm runs in time linear in the number
+     * of vertices and edges.
+     * </p>
+     *
+     * @return dense identifiers of vertices of connected dominating set.
+     * @see ConnectedDominatingSetStrategy#GREEDY_GROWTH
+     * @since 2.1
+     */
+    private int @NotNull [] computeGrownCDS() {
+        int n = getOrder();
+        boolean[] white = new boolean[n];
+        Arrays.fill(white, true);
+        BucketQueue grey = new BucketQueue(n, this.maxDegree);
+        int[] connectedDS = new int[n];
+        int size = 0;
+        int whiteLeft = n;
+        int v = vertexOfMaxDegree();
+        white[v] = false;
+        whiteLeft--;
+        while (true) {
+            connectedDS[size++] = v;
+            for (int k = this.offsets.get(v); k < this.offsets.get(v + 1); k++) {
+                int neighbour = this.targets.get(k);
+                if (!white[neighbour]) continue;
+                white[neighbour] = false;
+                whiteLeft--;
+                int whiteNeighbours = 0;
+                for (int j = this.offsets.get(neighbour); j < this.offsets.get(neighbour + 1); j++) {
+                    int next = this.targets.get(j);
+                    if (white[next]) whiteNeighbours++;
+                    if (grey.contains(next)) grey.increment(next);
+                }
+                grey.add(neighbour, this.maxDegree - whiteNeighbours);
+            }
+            if (whiteLeft == 0) break;
+            v = grey.poll();
+        }
+        return Arrays.copyOf(connectedDS, size);
+    }
+
+    /**
+     * This method returns a vertex of the greatest degree, of the least dense identifier among such vertices.
+     *
+     * @return dense identifier of a vertex of the greatest degree.
+     * @since 2.1
+     */
+    private int vertexOfMaxDegree() {
+        int n = getOrder();
+        for (int v = 0; v < n; v++) {
+            if (degree(v) == this.maxDegree) return v;
+        }
+        throw new IllegalStateException("Graph is empty.");
+    }
+
+    /**
+     * This method computes a connected dominating set in this graph by the marking process of Wu and Li.
+     * Vertices of a complete graph are never marked, then any single vertex is a connected dominating set.
+     *
+     * @return dense identifiers of vertices of connected dominating set.
+     * @see MarkingProcess
+     * @since 2.1
+     */
+    private int @NotNull [] computeMarkedCDS() {
+        int[] marked = new MarkingProcess(this.offsets, this.targets).compute();
+        return marked.length > 0 ? marked : new int[]{0};
+    }
+
+    /**
+     * This method computes a minimal connected dominating set in this graph.
+     * It is the same approximation algorithm as in {@link Graph}: starting from all vertices, a vertex of the least degree
+     * among vertices that are neither removed nor fixed is removed, unless it is a cut vertex of the remaining subgraph,
+     * in which case it is fixed. A removed vertex without a fixed neighbour fixes its remaining neighbour of the greatest degree,
+     * and of the least index among such neighbours.
+     * Vertices of the same degree are taken in the same order as in {@link Graph} before snapshots, see {@link #sortByHashBucket()}.
+     * <p>
+     * Degrees are kept in a lazy heap, and cut vertices are recognised by a spanning tree of the remaining subgraph,
+     * which is repaired locally after each removal instead of searching the whole subgraph again.
+     * It is fast when a removal splits the tree into a large and a small side, as in random graphs,
+     * but the whole heuristic still takes {@code O(n (n + m))} time in the worst case, for instance on a long path.
+     * </p>
+     *
+     * @return dense identifiers of vertices of minimal connected dominating set of this connected graph.
+     * @see SpanningTree
+     * @see ConnectedDominatingSetStrategy#PRUNING
+     * @since 2.1
+     */
+    private int @NotNull [] computeMCDS() {
+        int n = getOrder();
+        SpanningTree tree = new SpanningTree(this.offsets, this.targets);
+        boolean[] fixed = new boolean[n];
+        int[] degrees = new int[n];
+        int[] order = sortByHashBucket();
+        int[] positions = new int[n];
+        VertexHeap heap = new VertexHeap(n);
+        for (int position = 0; position < n; position++) {
+            int v = order[position];
+            positions[v] = position;
+            degrees[v] = degree(v);
+            heap.push(position, degrees[v]);
+        }
+        while (!heap.isEmpty()) {
+            long entry = heap.poll();
+            int u = order[VertexHeap.id(entry)];
+            if (fixed[u] || !tree.isMember(u) || VertexHeap.key(entry) != degrees[u]) continue;
+            if (!tree.removeUnlessCut(u)) {
+                fixed[u] = true;
+                continue;
+            }
+            boolean intersection = false;
+            int w = -1;
+            for (int k = this.offsets.get(u); k < this.offsets.get(u + 1); k++) {
+                int neighbour = this.targets.get(k);
+                if (fixed[neighbour]) intersection = true;
+                if (!fixed[neighbour] && tree.isMember(neighbour)) {
+                    heap.push(positions[neighbour], --degrees[neighbour]);
+                    if (w < 0 || degrees[neighbour] > degrees[w]
+                            || degrees[neighbour] == degrees[w] && this.indexes.get(neighbour) < this.indexes.get(w)) w = neighbour;
+                }
+            }
+            if (!intersection && w >= 0) fixed[w] = true;
+        }
+        return IntStream.range(0, n).filter(tree::isMember).toArray();
+    }
+
+    /**
+     * This method orders vertices of the same degree for {@link #computeMCDS()} the way {@link Graph} took them
+     * before it delegated to snapshots, which is the iteration order of a {@code HashMap} of all its vertices:
+     * by a bucket of the hash code of an index, and then by order of insertion, which is the order of dense identifiers.
+     * It keeps connected dominating sets found by earlier versions unchanged.
+     *
+     * @return dense identifiers of all vertices in order of taking vertices of the same degree.
+     * @see #hashBucket(int, int)
+     * @since 2.1
+     */
+    private int @NotNull [] sortByHashBucket() {
+        int n = getOrder();
+        int capacity = MIN_HASH_CAPACITY;
+        while (n - 1 > capacity / 4 * 3 && capacity < MAX_HASH_CAPACITY) {
+            capacity <<= 1;
+        }
+        int[] starts = new int[capacity + 1];
+        for (int id = 0; id < n; id++) {
+            starts[hashBucket(this.indexes.get(id), capacity) + 1]++;
+        }
+        for (int bucket = 1; bucket < starts.length; bucket++) {
+            starts[bucket] += starts[bucket - 1];
+        }
+        int[] sorted = new int[n];
+        for (int id = n - 1; id >= 0; id--) {
+            sorted[starts[hashBucket(this.indexes.get(id), capacity)]++] = id;
+        }
+        return sorted;
+    }
+
+    /**
+     * This method returns a bucket of a vertex of given index in a {@code HashMap} table of given capacity.
+     * The hash code of a vertex of {@link Graph} is {@code 59 + index}, and {@code HashMap} spreads its higher bits.
+     *
+     * @param index     numerical index of vertex.
+     * @param capacity  capacity of a table, a power of two.
+     * @return bucket of given vertex.
+     * @since 2.1
+     */
+    private static int hashBucket(int index, int capacity) {
+        int hash = VERTEX_HASH_PRIME + index;
+        return (hash ^ hash >>> 16) & (capacity - 1);
+    }
+
+    /**
+     * This method finds a minimal dominating set in this graph.
+     * Vertices are taken greedily from a bucket queue of degrees, in time linear in the number of vertices and edges.
+     *
+     * @return minimal dominating set of this graph.
+     * @see Graph#findMDS()
+     * @since 2.1
+     */
+    public @NotNull @Unmodifiable Set<Integer> findMDS() {
+        return mapIdsToIndexes(computeMDS());
+    }
+
+    /**
+     * This method finds a minimal dominating set in this graph without boxing indexes of its vertices.
+     *
+     * @return sorted array of indexes of vertices of minimal dominating set.
+     * @see #findMDS()
+     * @since 2.1
+     */
+    @Override
+    public int @NotNull [] findMDSIndexes() {
+        return mapIdsToSortedIndexes(computeMDS());
+    }
+
+    /**
+     * This method finds a dominating set of this graph by a round-based parallel greedy with rounded spans.
+     * A graph of at least {@link Parallelism#THRESHOLD} vertices is processed in parallel.
+     * <p>
+     * The set is usually a bit larger than the one of {@link #findMDS()}, but rounds are spread over threads,
+     * to learn more details, read here: {@link ParallelDominatingSet}.
+     * </p>
+     *
+     * @return dominating set of this graph.
+     * @see Graph#findParallelMDS()
+     * @since 2.1
+     */
+    public @NotNull @Unmodifiable Set<Integer> findParallelMDS() {
+        return mapIdsToIndexes(new ParallelDominatingSet(this.offsets, this.targets).compute());
+    }
+
+    /**
+     * This method finds a dominating set of this graph by a round-based parallel greedy with rounded spans
+     * without boxing indexes of its vertices.
+     *
+     * @return sorted array of indexes of vertices of dominating set.
+     * @see #findParallelMDS()
+     * @since 2.1
+     */
+    @Override
+    public int @NotNull [] findParallelMDSIndexes() {
+        return mapIdsToSortedIndexes(new ParallelDominatingSet(this.offsets, this.targets).compute());
+    }
+
+    /**
+     * This method computes a minimal dominating set in this graph.
+     * It is the same approximation algorithm as in {@link Graph}: a vertex that is not dominated yet
+     * and has the most neighbours outside a dominating set is added to it, until all vertices are dominated.
+     * A vertex that is not dominated has no neighbour in a dominating set, so the number of its neighbours
+     * outside the set is just its degree. Hence, vertices are put into buckets by degree once,
+     * and the buckets are walked from the greatest degree down, skipping dominated vertices,
+     * in time linear in the number of vertices and edges.
+     *
+     * @return dense identifiers of vertices of minimal dominating set.
+     * @since 2.1
+     */
+    private int @NotNull [] computeMDS() {
+        int n = getOrder();
+        boolean[] dominated = new boolean[n];
+        int[] minimalDS = new int[n];
+        int size = 0;
+        for (int v : sortByDegree(true)) {
+            if (dominated[v]) continue;
+            minimalDS[size++] = v;
+            dominated[v] = true;
+            for (int k = this.offsets.get(v); k < this.offsets.get(v + 1); k++) {
+                dominated[this.targets.get(k)] = true;
+            }
+        }
+        return Arrays.copyOf(minimalDS, size);
+    }
+
+    /**
+     * This method sorts vertices of this graph by a bucket queue of degrees.
+     * Vertices of the same degree stay in ascending order of dense identifiers.
+     *
+     * @param descending whether vertices should be sorted from the greatest degree down.
+     * @return dense identifiers of all vertices in order of degrees.
+     * @since 2.1
+     */
+    private int @NotNull [] sortByDegree(boolean descending) {
+        int n = getOrder();
+        int[] starts = new int[this.maxDegree + 2];
+        for (int id = 0; id < n; id++) {
+            starts[bucket(id, descending) + 1]++;
+        }
+        for (int bucket = 1; bucket < starts.length; bucket++) {
+            starts[bucket] += starts[bucket - 1];
+        }
+        int[] sorted = new int[n];
+        for (int id = 0; id < n; id++) {
+            sorted[starts[bucket(id, descending)]++] = id;
+        }
+        return sorted;
+    }
+
+    /**
+     * This method returns a bucket of a vertex sorted by {@link #sortByDegree(boolean)}.
+     *
+     * @param id         dense identifier of a vertex.
+     * @param descending whether vertices are sorted from the greatest degree down.
+     * @return bucket of given vertex.
+     * @since 2.1
+     */
+    private int bucket(int id, boolean descending) {
+        return descending ? this.maxDegree - degree(id) : degree(id);
+    }
+
+    /**
+     * This method finds a maximal independent set of this graph.
+     *
+     * @return maximal independent set of this graph.
+     * @see Graph#findMIS()
+     * @since 2.1
+     */
+    public @NotNull @Unmodifiable Set<Integer> findMIS() {
+        return findMIS(IndependentSetStrategy.MIN_DEGREE);
+    }
+
+    /**
+     * This method finds a maximal independent set of this graph by given greedy strategy.
+     *
+     * @param strategy greedy strategy of taking vertices.
+     * @return maximal independent set of this graph.
+     * @see Graph#findMIS(IndependentSetStrategy)
+     * @since 2.1
+     */
+    public @NotNull @Unmodifiable Set<Integer> findMIS(@NotNull IndependentSetStrategy strategy) {
+        return mapIdsToIndexes(computeMIS(strategy));
+    }
+
+    /**
+     * This method finds a maximal independent set of this graph without boxing indexes of its vertices.
+     *
+     * @return sorted array of indexes of vertices of maximal independent set.
+     * @see #findMIS()
+     * @since 2.1
+     */
+    @Override
+    public int @NotNull [] findMISIndexes() {
+        return findMISIndexes(IndependentSetStrategy.MIN_DEGREE);
+    }
+
+    /**
+     * This method finds a maximal independent set of this graph by given greedy strategy without boxing indexes of its vertices.
+     *
+     * @param strategy greedy strategy of taking vertices.
+     * @return sorted array of indexes of vertices of maximal independent set.
+     * @see #findMIS(IndependentSetStrategy)
+     * @since 2.1
+     */
+    @Override
+    public int @NotNull [] findMISIndexes(@NotNull IndependentSetStrategy strategy) {
+        return mapIdsToSortedIndexes(computeMIS(strategy));
+    }
+
+    /**
+     * This method finds a maximal independent set of this graph by a randomized algorithm in the style of Luby.
+     * A graph of at least {@link Parallelism#THRESHOLD} vertices is processed in parallel.
+     * <p>
+     * Each vertex gets a random priority drawn from given seed, and vertices of lower priorities than all their
+     * neighbours left join the set in rounds, in expected logarithmic number of rounds.
+     * The set is the same for the same seed, whatever the number of threads, to learn more details,
+     * read here: {@link ParallelIndependentSet}.
+     * </p>
+     *
+     * @param seed seed of random priorities of vertices.
+     * @return maximal independent set of this graph.
+     * @see Graph#findParallelMIS(long)
+     * @since 2.1
+     */
+    public @NotNull @Unmodifiable Set<Integer> findParallelMIS(long seed) {
+        return mapIdsToIndexes(new ParallelIndependentSet(this.offsets, this.targets, seed).compute());
+    }
+
+    /**
+     * This method finds a maximal independent set of this graph by a randomized algorithm in the style of Luby
+     * without boxing indexes of its vertices.
+     *
+     * @param seed seed of random priorities of vertices.
+     * @return sorted array of indexes of vertices of maximal independent set.
+     * @see #findParallelMIS(long)
+     * @since 2.1
+     */
+    @Override
+    public int @NotNull [] findParallelMISIndexes(long seed) {
+        return mapIdsToSortedIndexes(new ParallelIndependentSet(this.offsets, this.targets, seed).compute());
+    }
+
+    /**
+     * This method computes a maximal independent set in this graph by given greedy strategy.
+     *
+     * @param strategy greedy strategy of taking vertices.
+     * @return dense identifiers of vertices of maximal independent set.
+     * @since 2.1
+     */
+    private int @NotNull [] computeMIS(@NotNull IndependentSetStrategy strategy) {
+        return switch (strategy) {
+            case MIN_DEGREE -> computeMinDegreeMIS();
+            case MIN_RESIDUAL_DEGREE -> computeMinResidualDegreeMIS();
+        };
+    }
+
+    /**
+     * This method computes a maximal independent set in this graph.
+     * It is the same approximation algorithm as in {@link Graph}: a vertex of the least degree among vertices left
+     * is added to the set, and then it is removed together with its neighbours.
+     * Degrees in the whole graph never change, so vertices are put into buckets by degree once,
+     * and the buckets are walked from the least degree up, skipping removed vertices,
+     * in time linear in the number of vertices and edges.
+     *
+     * @return dense identifiers of vertices of maximal independent set.
+     * @see IndependentSetStrategy#MIN_DEGREE
+     * @since 2.1
+     */
+    private int @NotNull [] computeMinDegreeMIS() {
+        int n = getOrder();
+        boolean[] removed = new boolean[n];
+        int[] maximalIS = new int[n];
+        int size = 0;
+        for (int v : sortByDegree(false)) {
+            if (removed[v]) continue;
+            maximalIS[size++] = v;
+            removed[v] = true;
+            for (int k = this.offsets.get(v); k < this.offsets.get(v + 1); k++) {
+                removed[this.targets.get(k)] = true;
+            }
+        }
+        return Arrays.copyOf(maximalIS, size);
+    }
+
+    /**
+     * This method computes a maximal independent set in this graph, taking vertices by their residual degree.
+     * Vertices left are kept in a bucket queue by the number of their neighbours left,
+     * and removing a neighbour of an added vertex decrements residual degrees of its own neighbours left.
+     * Each edge causes at most one decrement, so the whole algorithm runs in time linear in the number of vertices and edges.
+     *
+     * @return dense identifiers of vertices of maximal independent set.
+     * @see IndependentSetStrategy#MIN_RESIDUAL_DEGREE
+     * @since 2.1
+     */
+    private int @NotNull [] computeMinResidualDegreeMIS() {
+        int n = getOrder();
+        int[] residualDegrees = new int[n];
+        for (int v = 0; v < n; v++) {
+            residualDegrees[v] = degree(v);
+        }
+        BucketQueue queue = new BucketQueue(residualDegrees, this.maxDegree);
+        int[] maximalIS = new int[n];
+        int size = 0;
+        while (!queue.isEmpty()) {
+            int v = queue.poll();
+            maximalIS[size++] = v;
+            for (int k = this.offsets.get(v); k < this.offsets.get(v + 1); k++) {
+                int neighbour = this.targets.get(k);
+                if (!queue.contains(neighbour)) continue;
+                queue.remove(neighbour);
+                for (int j = this.offsets.get(neighbour); j < this.offsets.get(neighbour + 1); j++) {
+                    int next = this.targets.get(j);
+                    if (queue.contains(next)) queue.decrement(next);
+                }
+            }
+        }
+        return Arrays.copyOf(maximalIS, size);
+    }
+
+    /**
+     * This method returns the degree of a vertex with given dense identifier.
+     *
+     * @param id dense identifier of vertex.
+     * @return number of vertices in an open neighbourhood of a vertex.
+     * @since 2.1
+     */
+    private int degree(int id) {
+        return this.offsets.get(id + 1) - this.offsets.get(id);
+    }
+
+    /**
+     * This method returns data stored in a vertex with given dense identifier.
+     *
+     * @param id dense identifier of vertex.
+     * @return data stored in vertex.
+     * @since 2.1
+     */
+    private Object element(int id) {
+        return this.elements == null ? null : this.elements[id];
+    }
+
+    /**
+     * This method returns membership of each vertex of this graph in given subset.
+     *
+     * @param subset dense identifiers of a subset of vertices of this graph.
+     * @return array, where {@code true} marks vertices from given subset.
+     * @since 2.1
+     */
+    private boolean @NotNull [] membership(int @NotNull [] subset) {
+        boolean[] member = new boolean[getOrder()];
+        for (int id : subset) {
+            member[id] = true;
+        }
+        return member;
+    }
+
+    /**
+     * This method maps an array of vertices indexes to their dense identifiers.
+     *
+     * @param indexes subset of vertices indexes of this graph.
+     * @return dense identifiers in order of given indexes.
+     * @throws NegativeVertexIndexException if given array contains negative number(s).
+     * @throws NoSuchVertexIndexException   if given array contains number that could not be identified with any vertex index.
+     * @since 2.1
+     */
+    private int @NotNull [] mapIndexesToIds(int @NotNull [] indexes) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        int[] ids = new int[indexes.length];
+        for (int k = 0; k < indexes.length; k++) {
+            ids[k] = getId(indexes[k]);
+        }
+        return ids;
+    }
+
+    /**
+     * This method maps dense identifiers to a sorted array of indexes of vertices.
+     *
+     * @param ids dense identifiers of vertices of this graph.
+     * @return new sorted array of vertices indexes.
+     * @since 2.1
+     */
+    private int @NotNull [] mapIdsToSortedIndexes(int @NotNull [] ids) {
+        int[] sorted = new int[ids.length];
+        for (int k = 0; k < ids.length; k++) {
+            sorted[k] = this.indexes.get(ids[k]);
+        }
+        Arrays.sort(sorted);
+        return sorted;
+    }
+
+    /**
+     * This method maps dense identifiers to unmodifiable {@code SortedSet} of indexes of vertices.
+     *
+     * @param ids dense identifiers of vertices of this graph.
+     * @return unmodifiable {@code SortedSet} of vertices indexes.
+     * @since 2.1
+     */
+    private @NotNull @UnmodifiableView Set<Integer> mapIdsToIndexes(int @NotNull [] ids) {
+        return toUnmodifiableSortedSet(Arrays.stream(ids).map(id -> this.indexes.get(id)));
+    }
+
+    /**
+     * This method collects a stream of vertices indexes to unmodifiable {@code SortedSet}.
+     *
+     * @param indexes stream of vertices indexes.
+     * @return unmodifiable {@code SortedSet} of given vertices indexes.
+     * @since 2.1
+     */
+    private static @NotNull @UnmodifiableView Set<Integer> toUnmodifiableSortedSet(@NotNull IntStream indexes) {
+        return Collections.unmodifiableSortedSet(indexes
+                .boxed()
+                .collect(Collectors.toCollection(TreeSet::new)));
+    }
+
+    /**
+     * This method releases memory of arrays of this snapshot.
+     * Memory of an off-heap snapshot is released immediately, while memory of a heap snapshot is left to the garbage collector.
+     * Any later query of this snapshot throws {@code IllegalStateException}. Closing a closed snapshot has no effect.
+     * <p>
+     * A snapshot returned by {@link Graph#freeze()} is shared by all its callers and should not be closed.
+     * A snapshot must not be closed while it is queried by another thread.
+     * </p>
+     *
+     * @since 2.1
+     */
+    @Override
+    public void close() {
+        for (IntStorage storage : new IntStorage[]{this.indexes, this.offsets, this.targets, this.sortedIndexes, this.sortedIds}) {
+            storage.close();
+        }
+        this.indexes = IntStorage.CLOSED;
+        this.offsets = IntStorage.CLOSED;
+        this.targets = IntStorage.CLOSED;
+        this.sortedIndexes = IntStorage.CLOSED;
+        this.sortedIds = IntStorage.CLOSED;
+    }
+
+    /**
+     * This method returns user-friendly representation of this graph in the same pattern as {@link Graph#toString()}.
+     *
+     * @return user-friendly representation of this graph.
+     * @since 2.1
+     */
+    @Override
+    public String toString() {
+        return IntStream.range(0, getOrder())
+                .map(this.sortedIds::get)
+                .mapToObj(id -> this.indexes.get(id) + " -> " + IntStream.range(this.offsets.get(id), this.offsets.get(id + 1))
+                        .map(k -> this.indexes.get(this.targets.get(k)))
+                        .sorted()
+                        .boxed()
+                        .toList()
+                        + ", content: " + element(id))
+                .collect(Collectors.joining("\n"));
+    }
+}
@@ -0,0 +1,159 @@
+package com.graphs.struct;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * This class keeps statistics of degrees of vertices of a graph up to date as the graph changes.
+ * It counts vertices of each degree, so the number of edges, the minimal and the maximal degree
+ * are known at any time without visiting the graph.
+ * <p>
+ * A change of a degree by one, which is what connecting and disconnecting vertices does,
+ * is recorded in constant time. Removing a vertex of the minimal or the maximal degree
+ * looks for the next non-empty degree, which takes time proportional to the gap between degrees.
+ * </p>
+ *
+ * @author Łukasz Malara
+ * @version JDK 1.7
+ * @since 2.1
+ */
+final class DegreeStatistics {
+
+    /**
+     * This field stores the number of vertices of each degree.
+     *
+     * @since 2.1
+     */
+    private int[] histogram = new int[4];
+
+    /**
+     * This field stores the sum of degrees of all vertices, which is twice the number of edges.
+     *
+     * @since 2.1
+     */
+    private long degreeSum;
+
+    /**
+     * This field stores the minimal degree, or {@code Integer.MAX_VALUE} if no vertex is counted.
+     *
+     * @since 2.1
+     */
+    private int minDegree = Integer.MAX_VALUE;
+
+    /**
+     * This field stores the maximal degree, or {@code -1} if no vertex is counted.
+     *
+     * @since 2.1
+     */
+    private int maxDegree = -1;
+
+    /**
+     * This method returns an independent copy of these statistics.
+     *
+     * @return new statistics with the same counts.
+     * @since 2.1
+     */
+    @NotNull DegreeStatistics copy() {
+        DegreeStatistics copy = new DegreeStatistics();
+        copy.histogram = this.histogram.clone();
+        copy.degreeSum = this.degreeSum;
+        copy.minDegree = this.minDegree;
+        copy.maxDegree = this.maxDegree;
+        return copy;
+    }
+
+    /**
+     * This method counts a vertex of given degree.
+     *
+     * @param degree degree of a counted vertex.
+     * @since 2.1
+     */
+    void add(int degree) {
+        if (degree >= this.histogram.length) {
+            this.histogram = Arrays.copyOf(this.histogram, Math.max(degree + 1, this.histogram.length * 2));
+        }
+        this.histogram[degree]++;
+        this.degreeSum += degree;
+        this.minDegree = Math.min(this.minDegree, degree);
+        this.maxDegree = Math.max(this.maxDegree, degree);
+    }
+
+    /**
+     * This method stops counting a vertex of given degree.
+     *
+     * @param degree degree of a vertex that is no longer counted.
+     * @since 2.1
+     */
+    void remove(int degree) {
+        this.histogram[degree]--;
+        this.degreeSum -= degree;
+        if (this.histogram[degree] > 0) return;
+        if (degree == this.maxDegree) {
+            while (this.maxDegree >= 0 && this.histogram[this.maxDegree] == 0) {
+                this.maxDegree--;
+            }
+        }
+        if (degree == this.minDegree) {
+            while (this.minDegree <= this.maxDegree && this.histogram[this.minDegree] == 0) {
+                this.minDegree++;
+            }
+            if (this.maxDegree < 0) this.minDegree = Integer.MAX_VALUE;
+        }
+    }
+
+    /**
+     * This method records a change of a degree of a counted vertex.
+     * A new degree is counted before an old one is removed, so a change by one never looks for the next non-empty degree.
+     *
+     * @param from old degree of a vertex.
+     * @param to   new degree of a vertex.
+     * @since 2.1
+     */
+    void change(int from, int to) {
+        if (from == to) return;
+        this.add(to);
+        this.remove(from);
+    }
+
+    /**
+     * This method returns the number of edges.
+     *
+     * @return number of edges.
+     * @since 2.1
+     */
+    long getEdgeCount() {
+        return this.degreeSum / 2;
+    }
+
+    /**
+     * This method returns the minimal degree.
+     *
+     * @return minimal degree of a vertex, or {@code 0} if no vertex is counted.
+     * @since 2.1
+     */
+    int getMinDegree() {
+        return this.maxDegree < 0 ? 0 : this.minDegree;
+    }
+
+    /**
+     * This method returns the maximal degree.
+     *
+     * @return maximal degree of a vertex, or {@code 0} if no vertex is counted.
+     * @since 2.1
+     */
+    int getMaxDegree() {
+        return Math.max(this.maxDegree, 0);
+    }
+
+    /**
+     * This method returns the number of vertices of each degree.
+     *
+     * @return new array, where an element at position {@code d} is the number of vertices of degree {@code d},
+     * up to the maximal degree.
+     * @since 2.1
+     */
+    int @NotNull [] getHistogram() {
+        return Arrays.copyOf(this.histogram, this.maxDegree + 1);
+    }
+}
@@ -0,0 +1,143 @@
+package com.graphs.struct;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandleProxies;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.util.function.Consumer;
+
+/**
+ * This class implements a storage of {@code int} values outside of the heap, in direct {@code ByteBuffer}s.
+ * <p>
+ * A single buffer cannot exceed {@code Integer.MAX_VALUE} bytes,
+ * so values are split into chunks of {@code 2^CHUNK_SHIFT} values each.
+ * Memory of chunks is released as soon as {@link #close()} is called,
+ * or once the storage becomes unreachable if it is never closed.
+ * Direct memory is limited by {@code -XX:MaxDirectMemorySize}, which defaults to the maximum heap size.
+ * </p>
+ *
+ * @author Łukasz Malara
+ * @version JDK 1.7
+ * @see HeapIntStorage
+ * @since 2.1
+ */
+final class DirectIntStorage implements IntStorage {
+
+    /**
+     * This field stores binary logarithm of the number of values in a chunk.
+     *
+     * @since 2.1
+     */
+    private static final int CHUNK_SHIFT = 28;
+
+    /**
+     * This field stores a mask of a position of a value inside its chunk.
+     *
+     * @since 2.1
+     */
+    private static final int CHUNK_MASK = (1 << CHUNK_SHIFT) - 1;
+
+    /**
+     * This field stores {@code sun.misc.Unsafe.invokeCleaner(ByteBuffer)} bound to the {@code Unsafe} instance,
+     * or {@code null} if it is not available, in which case memory is released by the garbage collector.
+     *
+     * @since 2.1
+     */
+    private static final Consumer<ByteBuffer> CLEANER = findCleaner();
+
+    /**
+     * This field stores number of values of this storage.
+     *
+     * @since 2.1
+     */
+    private final int length;
+
+    /**
+     * This field stores chunks of values of this storage.
+     *
+     * @since 2.1
+     */
+    private IntBuffer[] chunks;
+
+    /**
+     * This field stores buffers underlying {@link #chunks}, which are needed to release their memory.
+     *
+     * @since 2.1
+     */
+    private ByteBuffer[] buffers;
+
+    /**
+     * This constructor allocates a storage of given length, filled with zeros.
+     *
+     * @param length number of values.
+     * @since 2.1
+     */
+    DirectIntStorage(int length) {
+        this.length = length;
+        int count = (int) (((long) length + CHUNK_MASK) >>> CHUNK_SHIFT);
+        this.chunks = new IntBuffer[count];
+        this.buffers = new ByteBuffer[count];
+        for (int chunk = 0; chunk < count; chunk++) {
+            int values = Math.min(CHUNK_MASK + 1, length - (chunk << CHUNK_SHIFT));
+            this.buffers[chunk] = ByteBuffer.allocateDirect(values * Integer.BYTES).order(ByteOrder.nativeOrder());
+            this.chunks[chunk] = this.buffers[chunk].asIntBuffer();
+        }
+    }
+
+    @Override
+    public int length() {
+        return this.length;
+    }
+
+    @Override
+    public int get(int position) {
+        return this.chunks[position >>> CHUNK_SHIFT].get(position & CHUNK_MASK);
+    }
+
+    @Override
+    public void set(int position, int value) {
+        this.chunks[position >>> CHUNK_SHIFT].put(position & CHUNK_MASK, value);
+    }
+
+    @Override
+    public void close() {
+        ByteBuffer[] released = this.buffers;
+        this.chunks = new IntBuffer[0];
+        this.buffers = new ByteBuffer[0];
+        if (CLEANER == null) return;
+        for (ByteBuffer buffer : released) {
+            try {
+                CLEANER.accept(buffer);
+            } catch (IllegalArgumentException e) {
+                // a buffer that cannot be cleaned is released by the garbage collector
+            }
+        }
+    }
+
+    /**
+     * This method looks up {@code sun.misc.Unsafe.invokeCleaner(ByteBuffer)} bound to the {@code Unsafe} instance.
+     *
+     * @return cleaner of direct buffers, or {@code null} if it is not available.
+     * @since 2.1
+     */
+    @SuppressWarnings("unchecked")
+    private static Consumer<ByteBuffer> findCleaner() {
+        try {
+            Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+            Field field = unsafeClass.getDeclaredField("theUnsafe");
+            field.setAccessible(true);
+            MethodHandle cleaner = MethodHandles.lookup()
+                    .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                    .bindTo(field.get(null));
+            return MethodHandleProxies.asInterfaceInstance(Consumer.class, cleaner);
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            return null;
+        }
+    }
+}
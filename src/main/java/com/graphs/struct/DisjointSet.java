@@ -0,0 +1,129 @@
+package com.graphs.struct;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+
+/**
+ * This class implements a disjoint-set forest over dense identifiers from {@code 0} to {@code size - 1}.
+ * <p>
+ * Sets are merged either by {@link #union(int, int)}, which links by rank and is meant for a single thread,
+ * or by {@link #link(int, int)}, which links a root of a greater identifier under a root of a smaller one
+ * by compare-and-set, so many threads can merge sets at once, like in Afforest.
+ * Only one of these ways should be used by a single forest.
+ * Both ways halve paths while finding roots, so trees stay shallow.
+ * </p>
+ *
+ * @author Łukasz Malara
+ * @version JDK 1.7
+ * @see ConnectedComponents
+ * @since 2.1
+ */
+final class DisjointSet {
+
+    /**
+     * This field stores a handle of elements of {@link #parent}, used to link roots atomically.
+     *
+     * @since 2.1
+     */
+    private static final VarHandle PARENT = MethodHandles.arrayElementVarHandle(int[].class);
+
+    /**
+     * This field stores a parent of each element, where a root is its own parent.
+     *
+     * @since 2.1
+     */
+    private final int[] parent;
+
+    /**
+     * This field stores an upper bound of height of a tree of each root, used by {@link #union(int, int)}.
+     *
+     * @since 2.1
+     */
+    private final byte[] rank;
+
+    /**
+     * This constructor creates a forest of given number of singletons.
+     *
+     * @param size number of elements.
+     * @since 2.1
+     */
+    DisjointSet(int size) {
+        this.parent = new int[size];
+        this.rank = new byte[size];
+        for (int element = 0; element < size; element++) {
+            this.parent[element] = element;
+        }
+    }
+
+    /**
+     * This method finds a root of a set of given element, pointing each visited element at its grandparent.
+     *
+     * @param element element of this forest.
+     * @return root of a set of given element.
+     * @since 2.1
+     */
+    int find(int element) {
+        int current = element;
+        int next = parent(current);
+        while (next != current) {
+            int grandparent = parent(next);
+            if (grandparent != next) PARENT.setOpaque(this.parent, current, grandparent);
+            current = grandparent;
+            next = parent(current);
+        }
+        return current;
+    }
+
+    /**
+     * This method merges sets of given elements, linking a root of a lower rank under a root of a higher one.
+     * It is not thread-safe.
+     *
+     * @param first  element of this forest.
+     * @param second element of this forest.
+     * @return {@code true} if given elements were in different sets, {@code false} otherwise.
+     * @since 2.1
+     */
+    boolean union(int first, int second) {
+        int firstRoot = find(first);
+        int secondRoot = find(second);
+        if (firstRoot == secondRoot) return false;
+        if (this.rank[firstRoot] < this.rank[secondRoot]) {
+            this.parent[firstRoot] = secondRoot;
+        } else {
+            this.parent[secondRoot] = firstRoot;
+            if (this.rank[firstRoot] == this.rank[secondRoot]) this.rank[firstRoot]++;
+        }
+        return true;
+    }
+
+    /**
+     * This method merges sets of given elements, linking a root of a greater identifier under a root of a smaller one.
+     * Parents only ever decrease, so concurrent calls cannot form a cycle, and a lost race is simply retried.
+     *
+     * @param first  element of this forest.
+     * @param second element of this forest.
+     * @since 2.1
+     */
+    void link(int first, int second) {
+        int firstRoot = find(first);
+        int secondRoot = find(second);
+        while (firstRoot != secondRoot) {
+            int high = Math.max(firstRoot, secondRoot);
+            int low = Math.min(firstRoot, secondRoot);
+            if (PARENT.compareAndSet(this.parent, high, high, low)) return;
+            firstRoot = find(high);
+            secondRoot = find(low);
+        }
+    }
+
+    /**
+     * This method returns a parent of given element.
+     *
+     * @param element element of this forest.
+     * @return parent of given element.
+     * @since 2.1
+     */
+    private int parent(int element) {
+        return (int) PARENT.getOpaque(this.parent, element);
+    }
+}
@@ -0,0 +1,309 @@
+package com.graphs.struct;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.PrimitiveIterator;
+import java.util.function.IntConsumer;
+import java.util.function.IntFunction;
+
+/**
+ * This class maintains connected components of a graph while its edges and vertices are added and removed,
+ * so connectivity is answered in constant time instead of by a search of the whole graph.
+ * <p>
+ * A spanning forest of a graph is kept next to it, and every vertex points at a shared component.
+ * An added edge that joins two components becomes an edge of the forest,
+ * and the smaller of the components is relabelled, so a vertex is relabelled at most {@code log n} times while edges are added.
+ * A removed edge outside of the forest changes nothing. A removed edge of the forest splits a tree into two sides,
+ * which are walked in turns until the smaller side is exhausted, so the walk is proportional to the smaller side.
+ * Then edges of the smaller side are searched for a replacement edge that leads to the other side.
+ * If there is one, it becomes an edge of the forest, otherwise the smaller side becomes a new component.
+ * </p>
+ * <p>
+ * This is the first level of the structure of Holm, de Lichtenberg and Thorup, without promoting edges to higher levels,
+ * so removing an edge of the forest takes time proportional to the smaller side and its edges, rather than polylogarithmic time.
+ * In the worst case, when both sides are about equal, as for an edge in the middle of a path or between two halves
+ * of a dense graph, a single removal takes {@code O(n + m)} time, and {@code k} removals take {@code O(k (n + m))} time.
+ * Hence, this structure suits graphs whose edges are mostly added, or removed far from the middle of their trees.
+ * </p>
+ *
+ * @author Łukasz Malara
+ * @version JDK 1.7
+ * @see Graph#setDynamicConnectivity(boolean)
+ * @since 2.1
+ */
+final class DynamicConnectivity {
+
+    /**
+     * This class represents a connected component shared by all its vertices.
+     *
+     * @since 2.1
+     */
+    private static final class Component {
+
+        /**
+         * This field stores the number of vertices of this component.
+         *
+         * @since 2.1
+         */
+        private int size;
+
+        /**
+         * This constructor creates a component of given number of vertices.
+         *
+         * @param size number of vertices.
+         * @since 2.1
+         */
+        private Component(int size) {
+            this.size = size;
+        }
+    }
+
+    /**
+     * This class represents a vertex of a spanning forest.
+     *
+     * @since 2.1
+     */
+    private static final class Node {
+
+        /**
+         * This field stores indexes of neighbours of this vertex in a spanning forest.
+         *
+         * @since 2.1
+         */
+        private Adjacency tree = new SortedArrayAdjacency();
+
+        /**
+         * This field stores a component of this vertex.
+         *
+         * @since 2.1
+         */
+        private Component component;
+
+        /**
+         * This constructor creates a vertex of given component.
+         *
+         * @param component component of a vertex.
+         * @since 2.1
+         */
+        private Node(@NotNull Component component) {
+            this.component = component;
+        }
+    }
+
+    /**
+     * This field stores vertices of a spanning forest by their indexes.
+     *
+     * @since 2.1
+     */
+    private final IntLinkedHashMap<Node> nodes = new IntLinkedHashMap<>();
+
+    /**
+     * This field stores neighbours of vertices in a spanning forest, which are walked to relabel or split a tree.
+     *
+     * @since 2.1
+     */
+    private final TreeWalk.Neighbours forest = this::forEachForestNeighbour;
+
+    /**
+     * This field gives current neighbourhood of a vertex of a graph by its index, or {@code null} if it has been removed.
+     *
+     * @since 2.1
+     */
+    private final IntFunction<Adjacency> neighbours;
+
+    /**
+     * This field stores the number of connected components.
+     *
+     * @since 2.1
+     */
+    private int count;
+
+    /**
+     * This constructor creates an empty structure for a graph, whose neighbourhoods are given by a function.
+     *
+     * @param neighbours function giving current neighbourhood of a vertex of a graph by its index.
+     * @since 2.1
+     */
+    DynamicConnectivity(@NotNull IntFunction<Adjacency> neighbours) {
+        this.neighbours = neighbours;
+    }
+
+    /**
+     * This method returns the number of connected components.
+     *
+     * @return number of components.
+     * @since 2.1
+     */
+    int count() {
+        return this.count;
+    }
+
+    /**
+     * This method checks whether vertices of given indexes are in the same component.
+     *
+     * @param indexV index of the first vertex.
+     * @param indexU index of another vertex.
+     * @return {@code true} if a path joins given vertices, {@code false} otherwise.
+     * @since 2.1
+     */
+    boolean areConnected(int indexV, int indexU) {
+        return this.nodes.get(indexV).component == this.nodes.get(indexU).component;
+    }
+
+    /**
+     * This method adds an isolated vertex, which forms a new component.
+     *
+     * @param index index of an added vertex.
+     * @since 2.1
+     */
+    void addVertex(int index) {
+        this.nodes.put(index, new Node(new Component(1)));
+        this.count++;
+    }
+
+    /**
+     * This method removes a vertex, which has already been removed with all its edges from a graph.
+     * Each edge of a spanning forest at given vertex is removed by {@link #disconnect(int, int)},
+     * so in the worst case it takes {@code O(d (n + m))} time for a vertex of degree {@code d} in the forest.
+     *
+     * @param index index of a removed vertex.
+     * @since 2.1
+     */
+    void removeVertex(int index) {
+        Node node = this.nodes.get(index);
+        for (int neighbour : node.tree.toArray()) {
+            this.disconnect(index, neighbour);
+        }
+        this.nodes.remove(index);
+        this.count--;
+    }
+
+    /**
+     * This method takes into account an edge, which has already been added to a graph.
+     * If it joins two components, it becomes an edge of a spanning forest, and the smaller component is relabelled.
+     *
+     * @param indexV index of the first end of an edge.
+     * @param indexU index of another end of an edge.
+     * @since 2.1
+     */
+    void connect(int indexV, int indexU) {
+        Node v = this.nodes.get(indexV);
+        Node u = this.nodes.get(indexU);
+        if (v.component == u.component) return;
+        if (v.component.size < u.component.size) {
+            this.relabel(new TreeWalk(this.forest, indexV).finish(), u.component);
+        } else {
+            this.relabel(new TreeWalk(this.forest, indexU).finish(), v.component);
+        }
+        link(indexV, v, indexU, u);
+        this.count--;
+    }
+
+    /**
+     * This method takes into account an edge, which has already been removed from a graph.
+     * If it has been an edge of a spanning forest, it is replaced by another edge between the same sides, if there is one.
+     * An edge outside of the forest takes constant time. An edge of the forest takes time proportional to the smaller side
+     * with its edges, which is {@code O(n + m)} in the worst case, as there are no levels to amortize repeated searches.
+     *
+     * @param indexV index of the first end of an edge.
+     * @param indexU index of another end of an edge.
+     * @since 2.1
+     */
+    void disconnect(int indexV, int indexU) {
+        Node v = this.nodes.get(indexV);
+        Node u = this.nodes.get(indexU);
+        if (!v.tree.contains(indexU)) return;
+        cut(indexV, v, indexU, u);
+        TreeWalk walkV = new TreeWalk(this.forest, indexV);
+        TreeWalk walkU = new TreeWalk(this.forest, indexU);
+        boolean exhaustedV = true;
+        while (walkV.step()) {
+            if (!walkU.step()) {
+                exhaustedV = false;
+                break;
+            }
+        }
+        TreeWalk smaller = exhaustedV ? walkV : walkU;
+        Component old = v.component;
+        Component side = new Component(0);
+        this.relabel(smaller, side);
+        for (int k = 0; k < smaller.count(); k++) {
+            int index = smaller.visited(k);
+            Adjacency adjacency = this.neighbours.apply(index);
+            if (adjacency == null) continue;
+            for (PrimitiveIterator.OfInt iterator = adjacency.iterator(); iterator.hasNext(); ) {
+                int other = iterator.nextInt();
+                Node node = this.nodes.get(other);
+                if (node.component != side) {
+                    this.relabel(smaller, old);
+                    link(index, this.nodes.get(index), other, node);
+                    return;
+                }
+            }
+        }
+        this.count++;
+    }
+
+    /**
+     * This method passes each neighbour of given vertex in a spanning forest to given action.
+     *
+     * @param index  index of a vertex.
+     * @param action action to take for each neighbour in a spanning forest.
+     * @since 2.1
+     */
+    private void forEachForestNeighbour(int index, @NotNull IntConsumer action) {
+        for (PrimitiveIterator.OfInt iterator = this.nodes.get(index).tree.iterator(); iterator.hasNext(); ) {
+            action.accept(iterator.nextInt());
+        }
+    }
+
+    /**
+     * This method moves all vertices visited by given walk to given component.
+     *
+     * @param walk      finished walk of a tree.
+     * @param component component to move vertices to.
+     * @since 2.1
+     */
+    private void relabel(@NotNull TreeWalk walk, @NotNull Component component) {
+        for (int k = 0; k < walk.count(); k++) {
+            Node node = this.nodes.get(walk.visited(k));
+            if (node.component != component) {
+                node.component.size--;
+                node.component = component;
+                component.size++;
+            }
+        }
+    }
+
+    /**
+     * This method adds an edge between given vertices to a spanning forest.
+     *
+     * @param indexV index of the first vertex.
+     * @param v      the first vertex.
+     * @param indexU index of another vertex.
+     * @param u      another vertex.
+     * @since 2.1
+     */
+    private static void link(int indexV, @NotNull Node v, int indexU, @NotNull Node u) {
+        v.tree.add(indexU);
+        v.tree = Adjacency.adapt(v.tree);
+        u.tree.add(indexV);
+        u.tree = Adjacency.adapt(u.tree);
+    }
+
+    /**
+     * This method removes an edge between given vertices from a spanning forest.
+     *
+     * @param indexV index of the first vertex.
+     * @param v      the first vertex.
+     * @param indexU index of another vertex.
+     * @param u      another vertex.
+     * @since 2.1
+     */
+    private static void cut(int indexV, @NotNull Node v, int indexU, @NotNull Node u) {
+        v.tree.remove(indexU);
+        v.tree = Adjacency.adapt(v.tree);
+        u.tree.remove(indexV);
+        u.tree = Adjacency.adapt(u.tree);
+    }
+}
@@ -18,8 +18,11 @@ import java.io.File;
 import java.io.FileReader;
 import java.io.IOException;
 import java.util.*;
-import java.util.function.Function;
+import java.util.function.LongConsumer;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.StreamSupport;
 
 /**
  * This class implements undirected unweighted graphs.
@@ -37,7 +40,7 @@ import java.util.stream.Collectors;
  * @since 1.0-beta
  */
 @NoArgsConstructor
-public class Graph<T> {
+public class Graph<T> implements IntGraph {
 
     /**
      * This inner class implements vertices of this graph.
@@ -64,12 +67,14 @@ public class Graph<T> {
         private final int index;
 
         /**
-         * This field represents (open) neighbourhood of this vertex.
+         * This field represents (open) neighbourhood of this vertex as indexes of adjacent vertices.
+         * Its representation changes with the degree of this vertex, see {@link Adjacency#adapt(Adjacency)},
+         * unless this graph keeps dense adjacency, see {@link #setDenseAdjacency(boolean)}.
          *
          * @see #getDegree()
          * @since 1.0-beta
          */
-        private final List<Vertex<E>> neighbours = new ArrayList<>();
+        private Adjacency neighbours = Graph.this.denseAdjacency ? new BitSetAdjacency() : new SortedArrayAdjacency();
 
         /**
          * This field represents data stored in this vertex.
@@ -81,6 +86,25 @@ public class Graph<T> {
         @Setter
         private E element;
 
+        /**
+         * This field stores the epoch of this graph in which this vertex has been created.
+         * A vertex of an earlier epoch may be shared with a snapshot, so it is copied before it is modified.
+         *
+         * @see #snapshot()
+         * @since 2.1
+         */
+        private final int epoch = Graph.this.epoch;
+
+        /**
+         * This field stores a dense identifier of this vertex, which is its position in columns of vertex attributes.
+         * Identifiers of removed vertices are reused by added vertices, so identifiers stay below the greatest order
+         * this graph has ever had.
+         *
+         * @see #addColumn(String, ColumnType)
+         * @since 2.1
+         */
+        private final int id;
+
         /**
          * This constructor creates vertex based on a given {@code int} parameter.
          *
@@ -94,6 +118,22 @@ public class Graph<T> {
         private Vertex(int index) throws NegativeVertexIndexException {
             if (index < 0) throw new NegativeVertexIndexException();
             this.index = index;
+            this.id = Graph.this.allocateId();
+        }
+
+        /**
+         * This constructor creates a copy of given vertex with its own copy of a neighbourhood,
+         * while data stored in the vertex is shared.
+         *
+         * @param vertex vertex to copy.
+         * @see #getWritableVertex(int)
+         * @since 2.1
+         */
+        private Vertex(@NotNull Vertex<E> vertex) {
+            this.index = vertex.index;
+            this.id = vertex.id;
+            this.neighbours = vertex.neighbours.copy();
+            this.element = vertex.element;
         }
 
         /**
@@ -115,7 +155,7 @@ public class Graph<T> {
          * @since 1.0-beta
          */
         private boolean isConnectedWith(Vertex<E> vertex) {
-            return this.neighbours.contains(vertex);
+            return this.neighbours.contains(vertex.index);
         }
 
         /**
@@ -129,8 +169,8 @@ public class Graph<T> {
          */
         private boolean connectWith(Vertex<E> vertex) {
             if (this.canConnectWith(vertex)) {
-                this.neighbours.add(vertex);
-                return vertex.neighbours.add(this);
+                this.addNeighbour(vertex.index);
+                return vertex.addNeighbour(this.index);
             }
             return false;
         }
@@ -167,7 +207,47 @@ public class Graph<T> {
          * @since 1.0-beta
          */
         private boolean disconnectWith(Vertex<E> vertex) {
-            return this.canDisconnectWith(vertex) && vertex.neighbours.remove(this);
+            return this.canDisconnectWith(vertex) && vertex.removeNeighbour(this.index);
+        }
+
+        /**
+         * This method adds given index to the neighbourhood of this vertex and adapts its representation.
+         *
+         * @param index numerical index of an adjacent vertex.
+         * @return {@code true} if given index has been added, {@code false} otherwise.
+         * @since 2.1
+         */
+        private boolean addNeighbour(int index) {
+            boolean added = this.neighbours.add(index);
+            if (added) Graph.this.statistics.change(this.getDegree() - 1, this.getDegree());
+            this.adaptNeighbours();
+            return added;
+        }
+
+        /**
+         * This method removes given index from the neighbourhood of this vertex and adapts its representation.
+         *
+         * @param index numerical index of a vertex that is no longer adjacent.
+         * @return {@code true} if given index has been removed, {@code false} otherwise.
+         * @since 2.1
+         */
+        private boolean removeNeighbour(int index) {
+            boolean removed = this.neighbours.remove(index);
+            if (removed) Graph.this.statistics.change(this.getDegree() + 1, this.getDegree());
+            this.adaptNeighbours();
+            return removed;
+        }
+
+        /**
+         * This method adapts representation of the neighbourhood of this vertex to its current degree,
+         * unless this graph keeps dense adjacency.
+         *
+         * @since 2.1
+         */
+        private void adaptNeighbours() {
+            if (!Graph.this.denseAdjacency) {
+                this.neighbours = Adjacency.adapt(this.neighbours);
+            }
         }
 
         /**
@@ -183,7 +263,200 @@ public class Graph<T> {
     }
 
     /**
-     * This field represents all vertices of this graph.
+     * This inner class implements a live, read-only view of vertices of this graph.
+     * It reads vertices of this graph in place, so it reflects every later modification.
+     *
+     * @see #getVerticesView()
+     * @since 2.1
+     */
+    private final class VerticesView extends AbstractSet<Integer> {
+
+        @Override
+        public int size() {
+            return Graph.this.itsVertices.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof Integer index && index >= 0 && Graph.this.itsVertices.containsKey(index);
+        }
+
+        @Override
+        public @NotNull Iterator<Integer> iterator() {
+            return Graph.this.itsVertices.keyStream().iterator();
+        }
+    }
+
+    /**
+     * This inner class implements a live, read-only view of (open) neighbourhood of a vertex of this graph.
+     * It reads the neighbourhood of a vertex in place, so it reflects every later modification;
+     * once the vertex is removed from this graph, the view is empty.
+     *
+     * @see #getVertexNeighbourhoodView(int)
+     * @since 2.1
+     */
+    private final class NeighbourhoodView extends AbstractSet<Integer> {
+
+        /**
+         * This field stores the index of a vertex whose neighbourhood is viewed.
+         *
+         * @since 2.1
+         */
+        private final int index;
+
+        /**
+         * This constructor creates a view of neighbourhood of a vertex with given index.
+         *
+         * @param index numerical index of a vertex.
+         * @since 2.1
+         */
+        private NeighbourhoodView(int index) {
+            this.index = index;
+        }
+
+        /**
+         * This method returns the current neighbourhood of a viewed vertex.
+         *
+         * @return neighbourhood of a viewed vertex, or {@code null} if it is no longer a vertex of this graph.
+         * @since 2.1
+         */
+        private Adjacency neighbours() {
+            Vertex<T> vertex = Graph.this.itsVertices.get(this.index);
+            return vertex == null ? null : vertex.neighbours;
+        }
+
+        @Override
+        public int size() {
+            Adjacency neighbours = this.neighbours();
+            return neighbours == null ? 0 : neighbours.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            Adjacency neighbours = this.neighbours();
+            return neighbours != null && o instanceof Integer index && neighbours.contains(index);
+        }
+
+        @Override
+        public @NotNull Iterator<Integer> iterator() {
+            Adjacency neighbours = this.neighbours();
+            return neighbours == null ? Collections.emptyIterator() : neighbours.iterator();
+        }
+    }
+
+    /**
+     * This inner class implements a spliterator over edges of this graph, which reports each edge once,
+     * as {@code v << 32 | u} with {@code v < u}. It walks positions of vertices in order of insertion
+     * and splits a range of them in halves, so edges of a graph can be streamed in parallel.
+     *
+     * @see #edgeStream()
+     * @since 2.1
+     */
+    private final class EdgeSpliterator implements Spliterator.OfLong {
+
+        /**
+         * This field stores vertices of this graph at the moment of creating the first spliterator.
+         *
+         * @since 2.1
+         */
+        private final IntLinkedHashMap<Vertex<T>> vertices;
+
+        /**
+         * This field stores the position of the next vertex to walk.
+         *
+         * @since 2.1
+         */
+        private int position;
+
+        /**
+         * This field stores the position right after the last vertex to walk.
+         *
+         * @since 2.1
+         */
+        private final int fence;
+
+        /**
+         * This field stores the index of a vertex whose neighbours are being walked.
+         *
+         * @since 2.1
+         */
+        private int tail;
+
+        /**
+         * This field stores an iterator over neighbours of {@link #tail}, or {@code null} if no vertex is being walked.
+         *
+         * @since 2.1
+         */
+        private PrimitiveIterator.OfInt heads;
+
+        /**
+         * This constructor creates a spliterator over edges of vertices at positions from the given range.
+         *
+         * @param vertices vertices of this graph.
+         * @param position position of the first vertex.
+         * @param fence    position right after the last vertex.
+         * @since 2.1
+         */
+        private EdgeSpliterator(@NotNull IntLinkedHashMap<Vertex<T>> vertices, int position, int fence) {
+            this.vertices = vertices;
+            this.position = position;
+            this.fence = fence;
+        }
+
+        @Override
+        public boolean tryAdvance(@NotNull LongConsumer action) {
+            while (true) {
+                if (this.heads != null) {
+                    while (this.heads.hasNext()) {
+                        int head = this.heads.nextInt();
+                        if (head > this.tail) {
+                            action.accept((long) this.tail << Integer.SIZE | head);
+                            return true;
+                        }
+                    }
+                    this.heads = null;
+                }
+                if (this.position >= this.fence) return false;
+                Vertex<T> vertex = this.vertices.valueAt(this.position++);
+                if (vertex != null) {
+                    this.tail = vertex.index;
+                    this.heads = vertex.neighbours.iterator();
+                }
+            }
+        }
+
+        @Override
+        public void forEachRemaining(@NotNull LongConsumer action) {
+            while (this.tryAdvance(action)) {
+                // each call walks to the next edge
+            }
+        }
+
+        @Override
+        public Spliterator.OfLong trySplit() {
+            int middle = (this.position + this.fence) >>> 1;
+            if (this.heads != null || middle <= this.position) return null;
+            EdgeSpliterator prefix = new EdgeSpliterator(this.vertices, this.position, middle);
+            this.position = middle;
+            return prefix;
+        }
+
+        @Override
+        public long estimateSize() {
+            int order = Math.max(1, this.vertices.size());
+            return Graph.this.statistics.getEdgeCount() * (this.fence - this.position) / order;
+        }
+
+        @Override
+        public int characteristics() {
+            return Spliterator.ORDERED | Spliterator.DISTINCT | Spliterator.NONNULL;
+        }
+    }
+
+    /**
+     * This field represents all vertices of this graph mapped by their indexes.
+     * Vertices are kept in order of insertion, while any of them can be found by its index in constant time
+     * without boxing the index.
      * <pre>
      *  Minimal size: 0 (empty)
      *  Theoretical maximal size: {@link Integer#MAX_VALUE}
@@ -191,12 +464,131 @@ public class Graph<T> {
      *
      * @since 1.0-beta
      */
-    private final List<Vertex<T>> itsVertices = new ArrayList<>();
+    private IntLinkedHashMap<Vertex<T>> itsVertices = new IntLinkedHashMap<>();
+
+    /**
+     * This field counts modifications of this graph, both of its structure and of data stored in its vertices.
+     *
+     * @see #freeze()
+     * @since 2.1
+     */
+    private int modCount;
+
+    /**
+     * This field stores the latest snapshot of this graph created by {@link #freeze()}.
+     *
+     * @since 2.1
+     */
+    private CsrGraph<T> frozen;
+
+    /**
+     * This field stores the value of {@link #modCount} at the moment of creating {@link #frozen} snapshot.
+     *
+     * @since 2.1
+     */
+    private int frozenModCount;
+
+    /**
+     * This field tells whether neighbourhoods of all vertices are kept as rows of an adjacency matrix.
+     *
+     * @see #setDenseAdjacency(boolean)
+     * @since 2.1
+     */
+    @Getter
+    private boolean denseAdjacency;
+
+    /**
+     * This field stores connected components of this graph maintained through its modifications,
+     * or {@code null} if they are not maintained. It is never shared with a snapshot.
+     *
+     * @see #setDynamicConnectivity(boolean)
+     * @since 2.1
+     */
+    private DynamicConnectivity connectivity;
+
+    /**
+     * This field keeps the number of edges and statistics of degrees of vertices of this graph up to date.
+     *
+     * @see #getEdgeCount()
+     * @since 2.1
+     */
+    private DegreeStatistics statistics = new DegreeStatistics();
+
+    /**
+     * This field stores named columns of vertex attributes in order of their creation.
+     *
+     * @see #addColumn(String, ColumnType)
+     * @since 2.1
+     */
+    private Map<String, VertexColumn> columns = new LinkedHashMap<>();
+
+    /**
+     * This field stores the lowest identifier of a vertex that has never been used.
+     *
+     * @see Vertex#id
+     * @since 2.1
+     */
+    private int nextId;
+
+    /**
+     * This field stores identifiers of removed vertices, which are reused before {@link #nextId}.
+     *
+     * @since 2.1
+     */
+    private int[] freeIds = new int[0];
+
+    /**
+     * This field stores the number of identifiers in {@link #freeIds}.
+     *
+     * @since 2.1
+     */
+    private int freeCount;
+
+    /**
+     * This field stores the current epoch of this graph, which is advanced by each snapshot.
+     *
+     * @see #snapshot()
+     * @since 2.1
+     */
+    private int epoch;
+
+    /**
+     * This field tells whether {@link #itsVertices}, {@link #statistics} and {@link #columns} are shared with a snapshot,
+     * so they have to be detached before the next modification.
+     *
+     * @see #snapshot()
+     * @since 2.1
+     */
+    private boolean shared;
+
+    /**
+     * This field tells whether this graph is a read-only snapshot of another graph.
+     *
+     * @see #snapshot()
+     * @since 2.1
+     */
+    private boolean readOnly;
+
+    /**
+     * This constructor creates a read-only snapshot of given graph, which shares its vertices.
+     *
+     * @param graph graph to take a snapshot of.
+     * @see #snapshot()
+     * @since 2.1
+     */
+    private Graph(@NotNull Graph<T> graph) {
+        this.itsVertices = graph.itsVertices;
+        this.statistics = graph.statistics;
+        this.columns = graph.columns;
+        this.denseAdjacency = graph.denseAdjacency;
+        this.readOnly = true;
+    }
 
     /**
      * This constructor creates a graph based on a strictly defined pattern provided in a text file.
      * Path to file is given as a {@code  String} parameter.
      * The graph is created only if the algorithm ends successfully.
+     * Vertices and edges read from a file are loaded in bulk, see {@link GraphBuilder}.
      *
      * @param fileSource absolute or relative path to a file required to create a graph.
      * @throws NegativeVertexIndexException if negative number was provided in a file.
@@ -204,6 +596,7 @@ public class Graph<T> {
      */
     public Graph(@NotNull String fileSource) throws NegativeVertexIndexException {
         File file = new File(fileSource);
+        GraphBuilder<T> builder = new GraphBuilder<>();
         try (BufferedReader reader = new BufferedReader(new FileReader(file))) {
             String[] array;
             String temp;
@@ -215,11 +608,10 @@ public class Graph<T> {
                     array = temp.split(";");
                     if (array.length >= 1) {
                         indexV = Integer.parseInt(array[0]);
-                        this.addNewVertex(indexV);
+                        builder.addVertex(indexV);
                         if (array.length == 2) {
                             indexU = Integer.parseInt(array[1]);
-                            this.addNewVertex(indexU);
-                            this.getVertex(indexV).connectWith(this.getVertex(indexU));
+                            builder.addEdge(indexV, indexU);
                         }
                     }
                 }
@@ -229,6 +621,7 @@ public class Graph<T> {
         } catch (NumberFormatException e) {
             System.out.println(MessageProvider.NUMBER_FORMAT_EXC_MSG + e.getMessage());
         }
+        builder.populate(this);
     }
 
     /**
@@ -272,13 +665,11 @@ public class Graph<T> {
             if (Integer.MAX_VALUE - startIndex < size) {
                 startIndex = 0;
             }
-            this.addNewVertex(startIndex);
-            for (int i = startIndex; i < startIndex + size - 1; i++) {
-                for (int j = startIndex + 1; j < startIndex + size; j++) {
-                    this.addNewVertex(j);
-                    this.getVertex(i).connectWith(this.getVertex(j));
-                }
+            this.modCount++;
+            for (int i = startIndex; i < startIndex + size; i++) {
+                this.addNewVertex(i);
             }
+            this.connectAll(new BitSetAdjacency(startIndex, size));
         }
         return this;
     }
@@ -290,16 +681,119 @@ public class Graph<T> {
      */
     public void mapToComplete() {
         if (this.canBeMappedToComplete()) {
-            for (int i = 0; i < this.itsVertices.size(); i++) {
-                for (int j = 1; j < this.itsVertices.size(); j++) {
-                    Vertex<T> v = this.itsVertices.get(i);
-                    Vertex<T> u = this.itsVertices.get(j);
-                    v.connectWith(u);
+            this.modCount++;
+            this.connectAll(Adjacency.of(this.itsVertices.keys()));
+        }
+    }
+
+    /**
+     * This method connects every vertex of this graph with each other.
+     * Each vertex gets a copy of given neighbourhood of all vertices without its own index,
+     * so a neighbourhood kept as a bitset is filled a word at a time.
+     *
+     * @param all neighbourhood containing indexes of all vertices of this graph.
+     * @since 2.1
+     */
+    private void connectAll(@NotNull Adjacency all) {
+        for (int index : this.itsVertices.keys()) {
+            Vertex<T> vertex = this.getWritableVertex(index);
+            Adjacency neighbours = this.denseAdjacency && !(all instanceof BitSetAdjacency) ? new BitSetAdjacency(all) : all.copy();
+            neighbours.remove(vertex.index);
+            this.statistics.change(vertex.getDegree(), neighbours.size());
+            vertex.neighbours = neighbours;
+            vertex.adaptNeighbours();
+        }
+        if (this.connectivity != null) {
+            int[] indexes = this.itsVertices.keys();
+            for (int k = 1; k < indexes.length; k++) {
+                this.connectivity.connect(indexes[k - 1], indexes[k]);
+            }
+        }
+    }
+
+    /**
+     * This method chooses whether neighbourhoods of all vertices are kept as rows of an adjacency matrix.
+     * <p>
+     * A dense graph, such as a complete or a nearly complete one, takes a bit per possible edge,
+     * and checks adjacency of two vertices by a single bit probe.
+     * A row spans indexes from the lowest to the highest neighbour, so it suits graphs with close indexes of vertices.
+     * Otherwise, a representation of each neighbourhood follows its degree, and a neighbourhood of high degree
+     * turns into a row of an adjacency matrix on its own once its neighbours have close indexes.
+     * </p>
+     * Switching representation is not a modification of this graph, though a snapshot of this graph cannot switch it.
+     *
+     * @param denseAdjacency {@code true} to keep every neighbourhood as a row of an adjacency matrix,
+     *                       {@code false} to choose a representation of each neighbourhood by its degree.
+     * @since 2.1
+     */
+    public void setDenseAdjacency(boolean denseAdjacency) {
+        this.beforeModification();
+        this.denseAdjacency = denseAdjacency;
+        for (int index : this.itsVertices.keys()) {
+            Vertex<T> vertex = this.getWritableVertex(index);
+            if (denseAdjacency && !(vertex.neighbours instanceof BitSetAdjacency)) {
+                vertex.neighbours = new BitSetAdjacency(vertex.neighbours);
+            }
+            vertex.adaptNeighbours();
+        }
+    }
+
+    /**
+     * This method chooses whether connected components of this graph are maintained through its modifications.
+     * <p>
+     * Once they are maintained, {@link #isConnected()} and {@link #areConnected(int, int)} take constant time.
+     * An added edge costs amortized logarithmic time, as does an added edge in bulk or on mapping to complete.
+     * A removed edge that is not a part of the maintained spanning forest costs constant time,
+     * while a removed edge of the forest costs time proportional to the smaller of two sides it separates, with their edges.
+     * That is {@code O(n + m)} per removal in the worst case, such as edges removed from the middle of a long path,
+     * so a graph whose edges are often removed may be better served by {@link #isConnected()} without maintenance.
+     * Maintaining components suits a graph that is checked for connectivity after each batch of modifications.
+     * </p>
+     * Switching maintenance is not a modification of this graph, though a snapshot of this graph cannot switch it.
+     *
+     * @param dynamicConnectivity {@code true} to maintain connected components from now on, {@code false} to stop.
+     * @since 2.1
+     */
+    public void setDynamicConnectivity(boolean dynamicConnectivity) {
+        this.beforeModification();
+        if (!dynamicConnectivity) {
+            this.connectivity = null;
+        } else if (this.connectivity == null) {
+            this.connectivity = new DynamicConnectivity(this::findNeighbours);
+            for (int index : this.itsVertices.keys()) {
+                this.connectivity.addVertex(index);
+            }
+            for (Vertex<T> vertex : this.itsVertices.values()) {
+                for (PrimitiveIterator.OfInt iterator = vertex.neighbours.iterator(); iterator.hasNext(); ) {
+                    this.connectivity.connect(vertex.index, iterator.nextInt());
                 }
             }
         }
     }
 
+    /**
+     * This method tells whether connected components of this graph are maintained through its modifications.
+     *
+     * @return {@code true} if connected components are maintained, {@code false} otherwise.
+     * @see #setDynamicConnectivity(boolean)
+     * @since 2.1
+     */
+    public boolean isDynamicConnectivity() {
+        return this.connectivity != null;
+    }
+
+    /**
+     * This method returns current neighbourhood of a vertex with given index.
+     *
+     * @param index numerical index of vertex.
+     * @return neighbourhood of a vertex, or {@code null} if this graph does not contain it.
+     * @since 2.1
+     */
+    private Adjacency findNeighbours(int index) {
+        Vertex<T> vertex = this.itsVertices.get(index);
+        return vertex == null ? null : vertex.neighbours;
+    }
+
     /**
      * This method checks whether this graph can be mapped to complete.
      *
@@ -322,11 +816,52 @@ public class Graph<T> {
      */
     private @NotNull Vertex<T> getVertex(int index) throws NegativeVertexIndexException, NoSuchVertexIndexException {
         if (index < 0) throw new NegativeVertexIndexException();
-        return this.itsVertices.stream()
-                .filter(vertex -> vertex.index == index)
-                .findFirst()
-                .orElseThrow(() -> new NoSuchVertexIndexException(index));
+        Vertex<T> vertex = this.itsVertices.get(index);
+        if (vertex == null) throw new NoSuchVertexIndexException(index);
+        return vertex;
+    }
+
+    /**
+     * This method returns vertex with given {@code int} index that is not shared with any snapshot,
+     * so it can be modified. A shared vertex is replaced by its copy.
+     *
+     * @param index numerical index of vertex.
+     * @return vertex by given index, owned by this graph only.
+     * @throws NegativeVertexIndexException  if parameter type {@code int < 0}.
+     * @throws NoSuchVertexIndexException    if this graph does not contain vertex with given {@code int} index.
+     * @throws UnsupportedOperationException if this graph is a snapshot.
+     * @see #snapshot()
+     * @since 2.1
+     */
+    private @NotNull Vertex<T> getWritableVertex(int index) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        this.beforeModification();
+        Vertex<T> vertex = this.getVertex(index);
+        if (vertex.epoch != this.epoch) {
+            vertex = new Vertex<>(vertex);
+            this.itsVertices.put(index, vertex);
+        }
+        return vertex;
+    }
 
+    /**
+     * This method prepares this graph for a modification.
+     * The table of vertices shared with a snapshot is detached in time proportional to the number of its pages,
+     * each of which is copied later, only if an entry of it is written. Statistics of degrees and the map of columns
+     * are copied whole, as they are proportional to the maximum degree and the number of columns,
+     * while vertices and values of columns are copied one by one, only if they are modified.
+     *
+     * @throws UnsupportedOperationException if this graph is a snapshot.
+     * @see #snapshot()
+     * @since 2.1
+     */
+    private void beforeModification() {
+        if (this.readOnly) throw new UnsupportedOperationException("A snapshot of a graph cannot be modified.");
+        if (this.shared) {
+            this.itsVertices = this.itsVertices.copy();
+            this.statistics = this.statistics.copy();
+            this.columns = new LinkedHashMap<>(this.columns);
+            this.shared = false;
+        }
     }
 
     /**
@@ -335,90 +870,475 @@ public class Graph<T> {
      *
      * @return unmodifiable sorted set of vertices of this graph.
      * @see Collections#unmodifiableSortedSet(SortedSet)
+     * @see #getVerticesView()
      * @since 1.0-beta
      */
     public final @NotNull @UnmodifiableView Set<Integer> getVertices() {
-        return this.mapVerticesToIndexes(this.itsVertices);
+        return this.mapVerticesToIndexes(this.itsVertices.values());
     }
 
     /**
-     * This method returns unmodifiable data stored in a vertex by given index.
+     * This method returns a live, read-only view of vertices of this graph, which copies nothing.
+     * Vertices are iterated in order of insertion, while {@code size()} and {@code contains(Object)} take constant time.
+     * <p>
+     * The view reflects later modifications of this graph, which must not add or remove vertices during iteration.
+     * For a stable sorted copy, see {@link #getVertices()}.
+     * </p>
      *
-     * @param index numerical index of vertex.
-     * @return data stored in vertex by given index.
-     * @throws NegativeVertexIndexException if parameter type {@code int < 0}.
-     * @throws NoSuchVertexIndexException   if this graph does not contain vertex with given {@code int} index.
-     * @since 2.0
+     * @return live, read-only view of vertices of this graph.
+     * @since 2.1
      */
-    public final @UnmodifiableView T getVertexData(int index) throws NegativeVertexIndexException, NoSuchVertexIndexException {
-        return getVertex(index).getElement();
+    public final @NotNull @UnmodifiableView Set<Integer> getVerticesView() {
+        return new VerticesView();
     }
 
+    /**
+     * This method returns a lazy stream of indexes of vertices of this graph in order of insertion.
+     * Indexes are read in place without boxing, and the stream can be split to run in parallel.
+     * This graph must not be modified while the stream is consumed.
+     *
+     * @return stream of vertices indexes.
+     * @see #getVerticesView()
+     * @since 2.1
+     */
+    public final @NotNull IntStream vertexStream() {
+        return this.itsVertices.keyStream();
+    }
 
     /**
-     * This method set the data stored in a vertex by given index.
+     * This method returns a lazy stream of edges of this graph, where each edge is reported once.
+     * An edge between vertices {@code v < u} is encoded as {@code (long) v << 32 | u},
+     * so its ends are {@code (int) (edge >>> 32)} and {@code (int) edge}.
+     * <p>
+     * Edges are grouped by their lower end, and groups follow order of insertion of vertices.
+     * Walking edges allocates nothing per edge, and the stream can be split by ranges of vertices to run in parallel,
+     * see {@link java.util.stream.BaseStream#parallel()}. A primitive iterator is available by
+     * {@link LongStream#iterator()}. This graph must not be modified while the stream is consumed.
+     * </p>
      *
-     * @param index numerical index of vertex
-     * @param data  data to store in a vertex by given index.
-     * @throws NegativeVertexIndexException if parameter type {@code int < 0}.
-     * @throws NoSuchVertexIndexException   if this graph does not contain vertex with given {@code int} index.
-     * @since 2.0
+     * @return stream of encoded edges.
+     * @see #getEdgeCount()
+     * @since 2.1
      */
-    public void setVertexData(int index, T data) throws NegativeVertexIndexException, NoSuchVertexIndexException {
-        getVertex(index).setElement(data);
+    public final @NotNull LongStream edgeStream() {
+        return StreamSupport.longStream(new EdgeSpliterator(this.itsVertices, 0, this.itsVertices.end()), false);
     }
 
     /**
-     * This method returns an unmodifiable sorted set of neighbours of vertex given by {@code int} index.
+     * This method returns the number of vertices of this graph.
+     *
+     * @return number of vertices.
+     * @since 2.1
+     */
+    @Override
+    public int getOrder() {
+        return this.itsVertices.size();
+    }
+
+    /**
+     * This method returns the number of edges of this graph, which is kept up to date as this graph changes.
+     *
+     * @return number of edges.
+     * @since 2.1
+     */
+    @Override
+    public long getEdgeCount() {
+        return this.statistics.getEdgeCount();
+    }
+
+    /**
+     * This method returns the minimal degree of a vertex of this graph, which is kept up to date as this graph changes.
+     *
+     * @return minimal degree, or {@code 0} if this graph is empty.
+     * @since 2.1
+     */
+    @Override
+    public int getMinDegree() {
+        return this.statistics.getMinDegree();
+    }
+
+    /**
+     * This method returns the maximal degree of a vertex of this graph, which is kept up to date as this graph changes.
+     *
+     * @return maximal degree, or {@code 0} if this graph is empty.
+     * @since 2.1
+     */
+    @Override
+    public int getMaxDegree() {
+        return this.statistics.getMaxDegree();
+    }
+
+    /**
+     * This method returns the number of vertices of each degree, which is kept up to date as this graph changes.
+     *
+     * @return new array, where an element at position {@code d} is the number of vertices of degree {@code d},
+     * up to the maximal degree; empty if this graph is empty.
+     * @since 2.1
+     */
+    public int @NotNull [] getDegreeHistogram() {
+        return this.statistics.getHistogram();
+    }
+
+    /**
+     * This method returns indexes of all vertices of this graph without boxing them.
+     *
+     * @return sorted array of vertices indexes.
+     * @see #getVertices()
+     * @since 2.1
+     */
+    @Override
+    public final int @NotNull [] getVertexIndexes() {
+        int[] indexes = this.itsVertices.keys();
+        Arrays.sort(indexes);
+        return indexes;
+    }
+
+    /**
+     * This method returns unmodifiable data stored in a vertex by given index.
+     *
+     * @param index numerical index of vertex.
+     * @return data stored in vertex by given index.
+     * @throws NegativeVertexIndexException if parameter type {@code int < 0}.
+     * @throws NoSuchVertexIndexException   if this graph does not contain vertex with given {@code int} index.
+     * @since 2.0
+     */
+    public final @UnmodifiableView T getVertexData(int index) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        return getVertex(index).getElement();
+    }
+
+
+    /**
+     * This method set the data stored in a vertex by given index.
+     *
+     * @param index numerical index of vertex
+     * @param data  data to store in a vertex by given index.
+     * @throws NegativeVertexIndexException if parameter type {@code int < 0}.
+     * @throws NoSuchVertexIndexException   if this graph does not contain vertex with given {@code int} index.
+     * @since 2.0
+     */
+    public void setVertexData(int index, T data) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        getWritableVertex(index).setElement(data);
+        this.modCount++;
+    }
+
+    /**
+     * This method adds a named column of vertex attributes of given type to this graph.
+     * <p>
+     * Unlike data stored by {@link #setVertexData(int, Object)}, values of a column are kept in a single
+     * primitive array indexed by dense identifiers of vertices, so they are neither boxed nor scattered across the heap.
+     * A graph can have many columns; a vertex reads {@code 0}, {@code 0.0} or {@code false} until its value is set,
+     * and its values are reset once it is removed. Columns are not a part of a snapshot created by {@link #freeze()}.
+     * </p>
+     *
+     * @param name name of a column.
+     * @param type type of values of a column.
+     * @throws IllegalArgumentException if this graph already has a column of given name.
+     * @see #getVertexDouble(String, int)
+     * @since 2.1
+     */
+    public void addColumn(@NotNull String name, @NotNull ColumnType type) {
+        this.beforeModification();
+        if (this.columns.containsKey(name)) throw new IllegalArgumentException("Column " + name + " already exists.");
+        this.columns.put(name, new VertexColumn(type, this.epoch));
+    }
+
+    /**
+     * This method removes a named column of vertex attributes from this graph, together with its values.
+     *
+     * @param name name of a column.
+     * @return {@code true} if a column has been removed, {@code false} if this graph had no column of given name.
+     * @since 2.1
+     */
+    public boolean removeColumn(@NotNull String name) {
+        this.beforeModification();
+        return this.columns.remove(name) != null;
+    }
+
+    /**
+     * This method returns names of columns of vertex attributes of this graph in order of their creation.
+     *
+     * @return unmodifiable set of names of columns.
+     * @since 2.1
+     */
+    public @NotNull @Unmodifiable Set<String> getColumnNames() {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(this.columns.keySet()));
+    }
+
+    /**
+     * This method returns an {@code int} value of a vertex given by index from a column of given name.
+     *
+     * @param column name of a column of {@link ColumnType#INT} type.
+     * @param index  numerical index of vertex.
+     * @return value of a vertex.
+     * @throws NegativeVertexIndexException if parameter type {@code int < 0}.
+     * @throws NoSuchVertexIndexException   if this graph does not contain vertex with given {@code int} index.
+     * @throws IllegalArgumentException     if this graph has no column of given name and type.
+     * @see #addColumn(String, ColumnType)
+     * @since 2.1
+     */
+    public int getVertexInt(@NotNull String column, int index) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        return this.getColumn(column, ColumnType.INT).getInt(this.getVertex(index).id);
+    }
+
+    /**
+     * This method sets an {@code int} value of a vertex given by index in a column of given name.
+     *
+     * @param column name of a column of {@link ColumnType#INT} type.
+     * @param index  numerical index of vertex.
+     * @param value  value of a vertex.
+     * @throws NegativeVertexIndexException if parameter type {@code int < 0}.
+     * @throws NoSuchVertexIndexException   if this graph does not contain vertex with given {@code int} index.
+     * @throws IllegalArgumentException     if this graph has no column of given name and type.
+     * @see #addColumn(String, ColumnType)
+     * @since 2.1
+     */
+    public void setVertexInt(@NotNull String column, int index, int value) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        int id = this.getVertex(index).id;
+        this.getWritableColumn(column, ColumnType.INT).setInt(id, value);
+    }
+
+    /**
+     * This method returns a {@code long} value of a vertex given by index from a column of given name.
+     *
+     * @param column name of a column of {@link ColumnType#LONG} type.
+     * @param index  numerical index of vertex.
+     * @return value of a vertex.
+     * @throws NegativeVertexIndexException if parameter type {@code int < 0}.
+     * @throws NoSuchVertexIndexException   if this graph does not contain vertex with given {@code int} index.
+     * @throws IllegalArgumentException     if this graph has no column of given name and type.
+     * @see #addColumn(String, ColumnType)
+     * @since 2.1
+     */
+    public long getVertexLong(@NotNull String column, int index) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        return this.getColumn(column, ColumnType.LONG).getLong(this.getVertex(index).id);
+    }
+
+    /**
+     * This method sets a {@code long} value of a vertex given by index in a column of given name.
+     *
+     * @param column name of a column of {@link ColumnType#LONG} type.
+     * @param index  numerical index of vertex.
+     * @param value  value of a vertex.
+     * @throws NegativeVertexIndexException if parameter type {@code int < 0}.
+     * @throws NoSuchVertexIndexException   if this graph does not contain vertex with given {@code int} index.
+     * @throws IllegalArgumentException     if this graph has no column of given name and type.
+     * @see #addColumn(String, ColumnType)
+     * @since 2.1
+     */
+    public void setVertexLong(@NotNull String column, int index, long value) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        int id = this.getVertex(index).id;
+        this.getWritableColumn(column, ColumnType.LONG).setLong(id, value);
+    }
+
+    /**
+     * This method returns a {@code double} value of a vertex given by index from a column of given name.
+     *
+     * @param column name of a column of {@link ColumnType#DOUBLE} type.
+     * @param index  numerical index of vertex.
+     * @return value of a vertex.
+     * @throws NegativeVertexIndexException if parameter type {@code int < 0}.
+     * @throws NoSuchVertexIndexException   if this graph does not contain vertex with given {@code int} index.
+     * @throws IllegalArgumentException     if this graph has no column of given name and type.
+     * @see #addColumn(String, ColumnType)
+     * @since 2.1
+     */
+    public double getVertexDouble(@NotNull String column, int index) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        return this.getColumn(column, ColumnType.DOUBLE).getDouble(this.getVertex(index).id);
+    }
+
+    /**
+     * This method sets a {@code double} value of a vertex given by index in a column of given name.
+     *
+     * @param column name of a column of {@link ColumnType#DOUBLE} type.
+     * @param index  numerical index of vertex.
+     * @param value  value of a vertex.
+     * @throws NegativeVertexIndexException if parameter type {@code int < 0}.
+     * @throws NoSuchVertexIndexException   if this graph does not contain vertex with given {@code int} index.
+     * @throws IllegalArgumentException     if this graph has no column of given name and type.
+     * @see #addColumn(String, ColumnType)
+     * @since 2.1
+     */
+    public void setVertexDouble(@NotNull String column, int index, double value) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        int id = this.getVertex(index).id;
+        this.getWritableColumn(column, ColumnType.DOUBLE).setDouble(id, value);
+    }
+
+    /**
+     * This method returns a {@code boolean} value of a vertex given by index from a column of given name.
+     *
+     * @param column name of a column of {@link ColumnType#BOOLEAN} type.
+     * @param index  numerical index of vertex.
+     * @return value of a vertex.
+     * @throws NegativeVertexIndexException if parameter type {@code int < 0}.
+     * @throws NoSuchVertexIndexException   if this graph does not contain vertex with given {@code int} index.
+     * @throws IllegalArgumentException     if this graph has no column of given name and type.
+     * @see #addColumn(String, ColumnType)
+     * @since 2.1
+     */
+    public boolean getVertexBoolean(@NotNull String column, int index) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        return this.getColumn(column, ColumnType.BOOLEAN).getBoolean(this.getVertex(index).id);
+    }
+
+    /**
+     * This method sets a {@code boolean} value of a vertex given by index in a column of given name.
+     *
+     * @param column name of a column of {@link ColumnType#BOOLEAN} type.
+     * @param index  numerical index of vertex.
+     * @param value  value of a vertex.
+     * @throws NegativeVertexIndexException if parameter type {@code int < 0}.
+     * @throws NoSuchVertexIndexException   if this graph does not contain vertex with given {@code int} index.
+     * @throws IllegalArgumentException     if this graph has no column of given name and type.
+     * @see #addColumn(String, ColumnType)
+     * @since 2.1
+     */
+    public void setVertexBoolean(@NotNull String column, int index, boolean value) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        int id = this.getVertex(index).id;
+        this.getWritableColumn(column, ColumnType.BOOLEAN).setBoolean(id, value);
+    }
+
+    /**
+     * This method returns a column of given name and type.
+     *
+     * @param name name of a column.
+     * @param type expected type of values of a column.
+     * @return column of given name.
+     * @throws IllegalArgumentException if this graph has no column of given name and type.
+     * @since 2.1
+     */
+    private @NotNull VertexColumn getColumn(@NotNull String name, @NotNull ColumnType type) {
+        VertexColumn column = this.columns.get(name);
+        if (column == null) throw new IllegalArgumentException("Column " + name + " does not exist.");
+        if (column.type() != type) throw new IllegalArgumentException("Column " + name + " stores " + column.type() + " values, not " + type + ".");
+        return column;
+    }
+
+    /**
+     * This method returns a column of given name and type that is not shared with any snapshot,
+     * so it can be modified. A shared column is replaced by its copy.
+     *
+     * @param name name of a column.
+     * @param type expected type of values of a column.
+     * @return column of given name, owned by this graph only.
+     * @throws IllegalArgumentException      if this graph has no column of given name and type.
+     * @throws UnsupportedOperationException if this graph is a snapshot.
+     * @see #snapshot()
+     * @since 2.1
+     */
+    private @NotNull VertexColumn getWritableColumn(@NotNull String name, @NotNull ColumnType type) {
+        this.beforeModification();
+        VertexColumn column = this.getColumn(name, type);
+        if (column.epoch() != this.epoch) {
+            column = column.copy(this.epoch);
+            this.columns.put(name, column);
+        }
+        return column;
+    }
+
+    /**
+     * This method returns an identifier for a new vertex, reusing identifiers of removed vertices first.
+     *
+     * @return dense identifier of a vertex.
+     * @see Vertex#id
+     * @since 2.1
+     */
+    private int allocateId() {
+        return this.freeCount > 0 ? this.freeIds[--this.freeCount] : this.nextId++;
+    }
+
+    /**
+     * This method releases an identifier of a removed vertex and resets its values in all columns.
+     *
+     * @param id dense identifier of a removed vertex.
+     * @since 2.1
+     */
+    private void releaseId(int id) {
+        for (Map.Entry<String, VertexColumn> entry : this.columns.entrySet()) {
+            this.getWritableColumn(entry.getKey(), entry.getValue().type()).clear(id);
+        }
+        if (this.freeCount == this.freeIds.length) {
+            this.freeIds = Arrays.copyOf(this.freeIds, Math.max(4, this.freeCount * 2));
+        }
+        this.freeIds[this.freeCount++] = id;
+    }
+
+    /**
+     * This method returns an unmodifiable sorted set of neighbours of vertex given by {@code int} index.
      *
      * @param index numerical index of a vertex.
      * @return unmodifiable sorted set of neighbours of a vertex given by {@code int} index.
      * @throws NegativeVertexIndexException if parameter type {@code int < 0}.
      * @throws NoSuchVertexIndexException   if this graph does not contain vertex with given {@code int} index.
+     * @see #getVertexNeighbourhoodView(int)
      * @since 1.0
      */
     public final @NotNull @Unmodifiable Set<Integer> getVertexNeighbourhood(int index) throws NegativeVertexIndexException, NoSuchVertexIndexException {
-        return this.mapVerticesToIndexes(this.getVertex(index).neighbours);
+        return toUnmodifiableSortedSet(this.getVertex(index).neighbours.stream());
     }
 
     /**
-     * This method checks whether this graph contains a vertex with given {@code int} index.
+     * This method returns a live, read-only view of neighbours of vertex given by {@code int} index, which copies nothing.
+     * Neighbours are iterated in ascending order, unless a vertex of high degree keeps them hashed,
+     * while {@code size()} takes constant time and {@code contains(Object)} takes constant time or a binary search of a few neighbours.
+     * <p>
+     * The view reflects later modifications of this graph, which must not modify the neighbourhood during iteration.
+     * Once the vertex is removed, the view is empty. For a stable sorted copy, see {@link #getVertexNeighbourhood(int)}.
+     * </p>
      *
-     * @param index numerical index of vertex.
-     * @return {@code true} if this graph contains vertex with given index, {@code false} otherwise.
+     * @param index numerical index of a vertex.
+     * @return live, read-only view of neighbours of a vertex given by {@code int} index.
      * @throws NegativeVertexIndexException if parameter type {@code int < 0}.
-     * @see #areVerticesOfGraph(Collection)
-     * @since 1.0-beta
+     * @throws NoSuchVertexIndexException   if this graph does not contain vertex with given {@code int} index.
+     * @since 2.1
      */
-    public boolean isVertexOfGraph(int index) throws NegativeVertexIndexException {
-        return this.isVertexOfSubGraph(this.itsVertices, index);
+    public final @NotNull @UnmodifiableView Set<Integer> getVertexNeighbourhoodView(int index) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        this.getVertex(index);
+        return new NeighbourhoodView(index);
     }
 
     /**
-     * This method checks whether given subset contains a vertex with given {@code int} index.
+     * This method returns indexes of neighbours of vertex given by {@code int} index without boxing them.
      *
-     * @param vertices vertices subset of graph.
-     * @param index    numerical index of vertex.
-     * @return {@code true} if given subset contains vertex with given index, {@code false} otherwise.
+     * @param index numerical index of a vertex.
+     * @return sorted array of indexes of neighbours of a vertex.
      * @throws NegativeVertexIndexException if parameter type {@code int < 0}.
-     * @since 1.1
+     * @throws NoSuchVertexIndexException   if this graph does not contain vertex with given {@code int} index.
+     * @see #getVertexNeighbourhood(int)
+     * @since 2.1
      */
-    private boolean isVertexOfSubGraph(@NotNull Collection<Vertex<T>> vertices, int index) throws NegativeVertexIndexException {
-        return vertices.contains(new Vertex<>(index));
+    @Override
+    public final int @NotNull [] getNeighbourIndexes(int index) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        int[] indexes = this.getVertex(index).neighbours.toArray();
+        Arrays.sort(indexes);
+        return indexes;
     }
 
+    /**
+     * This method returns the degree of vertex given by {@code int} index.
+     *
+     * @param index numerical index of a vertex.
+     * @return number of vertices in an open neighbourhood of a vertex.
+     * @throws NegativeVertexIndexException if parameter type {@code int < 0}.
+     * @throws NoSuchVertexIndexException   if this graph does not contain vertex with given {@code int} index.
+     * @since 2.1
+     */
+    @Override
+    public int getDegree(int index) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        return this.getVertex(index).getDegree();
+    }
 
     /**
-     * This method checks whether a given subset contains a given vertex.
+     * This method checks whether this graph contains a vertex with given {@code int} index.
      *
-     * @param vertices vertices subset of graph.
-     * @param vertex   a vertex to check if it is in the subset.
-     * @return {@code true} if given subset contains given vertex, {@code false} otherwise.
-     * @since 1.1
+     * @param index numerical index of vertex.
+     * @return {@code true} if this graph contains vertex with given index, {@code false} otherwise.
+     * @throws NegativeVertexIndexException if parameter type {@code int < 0}.
+     * @see #areVerticesOfGraph(Collection)
+     * @since 1.0-beta
      */
-    @Contract(pure = true)
-    private boolean isVertexOfSubGraph(@NotNull Collection<Vertex<T>> vertices, Vertex<T> vertex) {
-        return vertices.contains(vertex);
+    @Override
+    public boolean isVertexOfGraph(int index) throws NegativeVertexIndexException {
+        if (index < 0) throw new NegativeVertexIndexException();
+        return this.itsVertices.containsKey(index);
     }
 
     /**
@@ -433,6 +1353,24 @@ public class Graph<T> {
         return !subset.isEmpty() && subset.stream().allMatch(this::isVertexOfGraph);
     }
 
+    /**
+     * This method checks whether given indexes are a subset of vertices of this graph.
+     *
+     * @param subset indexes of vertices to check if they are in this graph.
+     * @return true if given indexes are a subset of vertices of this graph, false otherwise.
+     * @throws NegativeVertexIndexException if given indexes contain negative number(s).
+     * @see #areVerticesOfGraph(Collection)
+     * @since 2.1
+     */
+    @Override
+    public boolean areVerticesOfGraph(int @NotNull ... subset) throws NegativeVertexIndexException {
+        if (subset.length == 0) return false;
+        for (int index : subset) {
+            if (!isVertexOfGraph(index)) return false;
+        }
+        return true;
+    }
+
     /**
      * This method adds a new vertex to this graph.
      * The vertex is added only if the graph does not contain it already.
@@ -444,8 +1382,13 @@ public class Graph<T> {
      * @since 1.0-beta
      */
     public boolean addNewVertex(int index) throws NegativeVertexIndexException {
+        this.beforeModification();
         if (isVertexOfGraph(index)) return false;
-        return this.itsVertices.add(new Vertex<>(index));
+        this.itsVertices.put(index, new Vertex<>(index));
+        this.statistics.add(0);
+        if (this.connectivity != null) this.connectivity.addVertex(index);
+        this.modCount++;
+        return true;
     }
 
     /**
@@ -497,25 +1440,163 @@ public class Graph<T> {
      * @since 1.0-beta
      */
     public boolean connectVertices(int indexV, int indexU) throws NegativeVertexIndexException, NoSuchVertexIndexException {
-        Vertex<T> v = getVertex(indexV);
-        Vertex<T> u = getVertex(indexU);
-        return v.connectWith(u);
+        Vertex<T> v = getWritableVertex(indexV);
+        Vertex<T> u = getWritableVertex(indexU);
+        boolean connected = modifiedIf(v.connectWith(u));
+        if (connected && this.connectivity != null) this.connectivity.connect(indexV, indexU);
+        return connected;
+    }
+
+    /**
+     * This method connects vertices with indexes given at the same positions of both arrays in bulk.
+     * <p>
+     * Edges are sorted and deduplicated in parallel, so each vertex is looked up once and its new neighbours
+     * are added together; a vertex with no neighbours yet gets a neighbourhood of exact size at once.
+     * Loops and edges that already exist are skipped, as {@link #connectVertices(int, int)} would do.
+     * No edge is added unless all indexes are vertices of this graph.
+     * </p>
+     *
+     * @param from first ends of edges.
+     * @param to   second ends of edges.
+     * @return number of edges that have been added.
+     * @throws NegativeVertexIndexException if any of arrays contains negative number(s).
+     * @throws NoSuchVertexIndexException   if any of arrays contains number that could not be identified with any vertex index.
+     * @throws IllegalArgumentException     if arrays differ in length.
+     * @see GraphBuilder
+     * @since 2.1
+     */
+    public int addEdges(int @NotNull [] from, int @NotNull [] to) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        if (from.length != to.length) throw new IllegalArgumentException("Arrays of ends of edges differ in length.");
+        return addEdges(from, to, from.length);
+    }
+
+    /**
+     * This method connects vertices with indexes given at the same positions of both arrays in bulk,
+     * taking only given number of first elements of the arrays into account.
+     *
+     * @param from   first ends of edges.
+     * @param to     second ends of edges.
+     * @param length number of edges to take.
+     * @return number of edges that have been added.
+     * @throws NegativeVertexIndexException if any of arrays contains negative number(s).
+     * @throws NoSuchVertexIndexException   if any of arrays contains number that could not be identified with any vertex index.
+     * @see #addEdges(int[], int[])
+     * @since 2.1
+     */
+    int addEdges(int @NotNull [] from, int @NotNull [] to, int length) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        long[] arcs = sortArcs(from, to, length);
+        List<Vertex<T>> tails = new ArrayList<>();
+        for (int start = 0; start < arcs.length; start = nextTail(arcs, start)) {
+            tails.add(getWritableVertex((int) (arcs[start] >>> Integer.SIZE)));
+        }
+        long edgesBefore = this.statistics.getEdgeCount();
+        int start = 0;
+        for (Vertex<T> tail : tails) {
+            int end = nextTail(arcs, start);
+            if (tail.getDegree() == 0) {
+                int[] heads = new int[end - start];
+                for (int k = start; k < end; k++) {
+                    heads[k - start] = (int) arcs[k];
+                }
+                Adjacency neighbours = Adjacency.of(heads);
+                tail.neighbours = this.denseAdjacency && !(neighbours instanceof BitSetAdjacency) ? new BitSetAdjacency(neighbours) : neighbours;
+                this.statistics.change(0, heads.length);
+            } else {
+                for (int k = start; k < end; k++) {
+                    tail.addNeighbour((int) arcs[k]);
+                }
+            }
+            start = end;
+        }
+        int added = (int) (this.statistics.getEdgeCount() - edgesBefore);
+        if (this.connectivity != null) {
+            for (long arc : arcs) {
+                this.connectivity.connect((int) (arc >>> Integer.SIZE), (int) arc);
+            }
+        }
+        return modifiedIf(added > 0) ? added : 0;
+    }
+
+    /**
+     * This method turns each edge into two arcs, one for each of its directions, encoded as {@code tail << 32 | head},
+     * then sorts them in parallel and drops repeated ones. Loops are dropped before sorting.
+     *
+     * @param from   first ends of edges.
+     * @param to     second ends of edges.
+     * @param length number of edges to take.
+     * @return sorted distinct arcs, grouped by their tails.
+     * @throws NegativeVertexIndexException if any of arrays contains negative number(s).
+     * @since 2.1
+     */
+    private static long @NotNull [] sortArcs(int @NotNull [] from, int @NotNull [] to, int length) throws NegativeVertexIndexException {
+        long[] arcs = new long[2 * length];
+        int count = 0;
+        for (int k = 0; k < length; k++) {
+            if (from[k] < 0 || to[k] < 0) throw new NegativeVertexIndexException();
+            if (from[k] != to[k]) {
+                arcs[count++] = (long) from[k] << Integer.SIZE | to[k];
+                arcs[count++] = (long) to[k] << Integer.SIZE | from[k];
+            }
+        }
+        Arrays.parallelSort(arcs, 0, count);
+        int distinct = 0;
+        for (int k = 0; k < count; k++) {
+            if (distinct == 0 || arcs[k] != arcs[distinct - 1]) {
+                arcs[distinct++] = arcs[k];
+            }
+        }
+        return Arrays.copyOf(arcs, distinct);
+    }
+
+    /**
+     * This method finds the first arc of the next tail in sorted arcs.
+     *
+     * @param arcs  sorted arcs, grouped by their tails.
+     * @param start position of the first arc of a tail.
+     * @return position of the first arc of the next tail, or length of given arcs if there is none.
+     * @since 2.1
+     */
+    private static int nextTail(long @NotNull [] arcs, int start) {
+        long tail = arcs[start] >>> Integer.SIZE;
+        int end = start + 1;
+        while (end < arcs.length && arcs[end] >>> Integer.SIZE == tail) {
+            end++;
+        }
+        return end;
     }
 
     /**
      * This method disconnects given two vertices.
+     * If connected components are maintained, disconnecting an edge of their spanning forest
+     * takes {@code O(n + m)} time in the worst case, see {@link #setDynamicConnectivity(boolean)}.
      *
      * @param indexV numerical index of the first vertex.
      * @param indexU numerical index of another vertex.
      * @return {@code true} if vertices with given indexes have been disconnected, {@code false} otherwise.
      * @throws NegativeVertexIndexException if any {@code int < 0}.
      * @throws NoSuchVertexIndexException   if this graph does not contain vertex with given either index.
+     * @see #setDynamicConnectivity(boolean)
      * @since 1.0
      */
     public boolean disconnectVertices(int indexV, int indexU) throws NegativeVertexIndexException, NoSuchVertexIndexException {
-        Vertex<T> v = getVertex(indexV);
-        Vertex<T> u = getVertex(indexU);
-        return v.disconnectWith(u) && u.disconnectWith(v);
+        Vertex<T> v = getWritableVertex(indexV);
+        Vertex<T> u = getWritableVertex(indexU);
+        boolean disconnected = modifiedIf(v.disconnectWith(u) && u.disconnectWith(v));
+        if (disconnected && this.connectivity != null) this.connectivity.disconnect(indexV, indexU);
+        return disconnected;
+    }
+
+    /**
+     * This method counts a modification of this graph if it has happened.
+     *
+     * @param modified {@code true} if this graph has been modified.
+     * @return given value.
+     * @see #modCount
+     * @since 2.1
+     */
+    private boolean modifiedIf(boolean modified) {
+        if (modified) this.modCount++;
+        return modified;
     }
 
     /**
@@ -529,13 +1610,16 @@ public class Graph<T> {
      * @since 1.0
      */
     public boolean removeVertex(int index) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        this.beforeModification();
         Vertex<T> vertex = getVertex(index);
-        if (!vertex.neighbours.isEmpty()) {
-            for (Vertex<T> v : vertex.neighbours) {
-                vertex.disconnectWith(v);
-            }
+        for (int neighbour : vertex.neighbours.toArray()) {
+            vertex.disconnectWith(getWritableVertex(neighbour));
         }
-        return this.itsVertices.remove(vertex);
+        this.statistics.remove(vertex.getDegree());
+        this.releaseId(vertex.id);
+        boolean removed = modifiedIf(this.itsVertices.remove(vertex.index) != null);
+        if (this.connectivity != null) this.connectivity.removeVertex(index);
+        return removed;
     }
 
     /**
@@ -561,73 +1645,31 @@ public class Graph<T> {
         return true;
     }
 
-    /**
-     * This method is a modified implementation of a known traverse algorithm in graphs - breadth-first search.
-     * Only vertices from given {@code Collection} can be visited.
-     * It returns the number of visited vertices.
-     *
-     * @param subset subset of vertices of this graph.
-     * @return numbers of visited vertices.
-     * @see #depthFirstSearch(Collection)
-     * @since 1.0
-     */
-    private int breadthFirstSearch(@NotNull Collection<Vertex<T>> subset) {
-        HashSet<Vertex<T>> visited = new HashSet<>();
-        if (!subset.isEmpty()) {
-            Deque<Vertex<T>> queue = new LinkedList<>();
-            Vertex<T> start = subset.iterator().next();
-            queue.push(start);
-            while (!queue.isEmpty()) {
-                Vertex<T> current = queue.poll();
-                visited.add(current);
-                current.neighbours.forEach(neighbour -> {
-                    if (isInSubsetNotVisited(subset, neighbour, visited)) {
-                        queue.add(neighbour);
-                    }
-                });
-            }
-        }
-        return visited.size();
-    }
-
-    /**
-     * This method checks if given vertex was not already visited and is in given subset.
-     *
-     * @param subset  subset of vertices
-     * @param vertex  a vertex to check if it is given subset, and it was not yet visited.
-     * @param visited set of visited vertices.
-     * @return {@code true} if vertex is in the subset and was not yet visited, {@code false} otherwise.
-     * @since 1.1
-     */
-    private boolean isInSubsetNotVisited(@NotNull Collection<Vertex<T>> subset, Vertex<T> vertex, HashSet<Vertex<T>> visited) {
-        return isVertexOfSubGraph(subset, vertex) && !isVertexOfSubGraph(visited, vertex);
-    }
-
     /**
      * This method is a modified implementation of a known traverse algorithm in graphs - depth-first search.
-     * Only vertices from given {@code Collection} can be visited.
+     * Only vertices from given subset can be visited.
      * It returns the number of visited vertices.
+     * Both subset and visited vertices are checked in constant time, so the search takes linear time.
      *
      * @param subset subset of vertices of this graph.
      * @return numbers of visited vertices.
-     * @see #breadthFirstSearch(Collection)
      * @since 1.0-beta
      */
-    private int depthFirstSearch(@NotNull Collection<Vertex<T>> subset) {
-        HashSet<Vertex<T>> visited = new HashSet<>();
-        if (!subset.isEmpty()) {
-            Deque<Vertex<T>> stack = new LinkedList<>();
-            Vertex<T> start = subset.iterator().next();
-            stack.push(start);
-            visited.add(start);
-            while (!stack.isEmpty()) {
-                Vertex<T> current = stack.pop();
-                current.neighbours.forEach(neighbour -> {
-                    if (isInSubsetNotVisited(subset, neighbour, visited)) {
-                        stack.push(neighbour);
-                        visited.add(neighbour);
-                    }
-                });
+    private int depthFirstSearch(@NotNull VertexSubset subset) {
+        if (subset.isEmpty()) return 0;
+        Adjacency visited = new HashAdjacency(subset.size());
+        int[] stack = new int[subset.size()];
+        int top = 0;
+        int start = subset.stream().findFirst().orElseThrow();
+        visited.add(start);
+        stack[top++] = start;
+        while (top > 0) {
+            Vertex<T> current = this.itsVertices.get(stack[--top]);
+            for (PrimitiveIterator.OfInt neighbours = current.neighbours.iterator(); neighbours.hasNext(); ) {
+                int neighbour = neighbours.nextInt();
+                if (subset.contains(neighbour) && visited.add(neighbour)) {
+                    stack[top++] = neighbour;
+                }
             }
         }
         return visited.size();
@@ -635,12 +1677,21 @@ public class Graph<T> {
 
     /**
      * This method checks whether this graph is connected or disconnected.
+     * It takes constant time if connected components are maintained, see {@link #setDynamicConnectivity(boolean)}.
+     * Otherwise, a graph of at least {@link Parallelism#THRESHOLD} vertices is searched
+     * in parallel over its snapshot in compressed sparse row format,
+     * which the first call after a modification of this graph rebuilds in {@code O(n + m)} time, see {@link #freeze()}.
      *
      * @return {@code true} if this graph is connected, {@code false} otherwise.
+     * @see CsrGraph#isConnected()
      * @since 1.0-beta
      */
     public boolean isConnected() {
-        return isConnectedSubGraph(this.itsVertices);
+        if (this.connectivity != null) return this.connectivity.count() <= 1;
+        if (this.itsVertices.size() >= Parallelism.THRESHOLD) {
+            return freeze().isConnected();
+        }
+        return isConnectedSubGraph(VertexSubset.of(this.itsVertices.keys()));
     }
 
     /**
@@ -653,51 +1704,139 @@ public class Graph<T> {
      * @since 1.0-beta
      */
     public boolean doInduceConnectedSubGraph(Collection<Integer> subset) throws NegativeVertexIndexException, NoSuchVertexIndexException {
-        Collection<Vertex<T>> vertices = mapIndexesToVertices(subset);
-        return isConnectedSubGraph(vertices);
+        return doInduceConnectedSubGraph(VertexSubset.of(subset));
+    }
+
+    /**
+     * This method checks whether given indexes induce connected subgraph of this graph, or do not.
+     *
+     * @param subset indexes of vertices to check if they induce connected subgraph of this graph.
+     * @return {@code true} if given indexes induce connected subgraph of this graph, {@code false} otherwise.
+     * @throws NegativeVertexIndexException if given indexes contain negative number(s).
+     * @throws NoSuchVertexIndexException   if given indexes contain number that could not be identified with any vertex index.
+     * @see #doInduceConnectedSubGraph(Collection)
+     * @since 2.1
+     */
+    @Override
+    public boolean doInduceConnectedSubGraph(int @NotNull ... subset) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        return doInduceConnectedSubGraph(VertexSubset.of(subset));
+    }
+
+    /**
+     * This method checks whether given subset induces connected subgraph of this graph, or does not.
+     * A subset of at least {@link Parallelism#THRESHOLD} vertices is searched over the snapshot returned by {@link #freeze()},
+     * which the first call after a modification of this graph rebuilds in {@code O(n + m)} time.
+     *
+     * @param subset indexes of vertices to check if they induce connected subgraph of this graph.
+     * @return {@code true} if given subset induces connected subgraph of this graph, {@code false} otherwise.
+     * @throws NoSuchVertexIndexException if given subset contains number that could not be identified with any vertex index.
+     * @see #doInduceConnectedSubGraph(Collection)
+     * @since 2.1
+     */
+    @Override
+    public boolean doInduceConnectedSubGraph(@NotNull VertexSubset subset) throws NoSuchVertexIndexException {
+        requireVertices(subset);
+        return isConnectedSubGraph(subset);
     }
 
     /**
      * This method checks whether the all given vertices are in a connected subgraph of this graph or are not.
+     * A subset of at least {@link Parallelism#THRESHOLD} vertices is searched
+     * in parallel over a snapshot of this graph in compressed sparse row format,
+     * which the first call after a modification of this graph rebuilds in {@code O(n + m)} time, see {@link #freeze()}.
      *
      * @param subset subset of vertices of this graph.
-     * @return {@code true} if given {@code Collection} induces connected subgraph of this graph, {@code false} otherwise.
+     * @return {@code true} if given subset induces connected subgraph of this graph, {@code false} otherwise.
      * @see #isConnected()
      * @since 1.0-beta
      */
-    private boolean isConnectedSubGraph(Collection<Vertex<T>> subset) {
+    private boolean isConnectedSubGraph(@NotNull VertexSubset subset) {
+        if (subset.size() >= Parallelism.THRESHOLD) {
+            return freeze().doInduceConnectedSubGraph(subset);
+        }
         return depthFirstSearch(subset) == subset.size();
     }
 
+    /**
+     * This method returns connected components of this graph, together with their sizes and the largest of them.
+     * Components are computed by a disjoint-set forest over the snapshot returned by {@link #freeze()},
+     * so they are cached until the next modification of this graph.
+     * The first call after a modification of this graph rebuilds the snapshot in {@code O(n + m)} time, see {@link #freeze()}.
+     *
+     * @return connected components of this graph.
+     * @see CsrGraph#connectedComponents()
+     * @since 2.1
+     */
+    @Override
+    public final @NotNull ConnectedComponents connectedComponents() {
+        return freeze().connectedComponents();
+    }
+
+    /**
+     * This method checks whether vertices with given indexes are in the same connected component of this graph.
+     * It takes constant time if connected components are maintained, see {@link #setDynamicConnectivity(boolean)},
+     * otherwise it uses {@link #connectedComponents()}, which takes {@code O(n + m)} time after a modification of this graph.
+     *
+     * @param indexV numerical index of the first vertex.
+     * @param indexU numerical index of another vertex.
+     * @return {@code true} if a path joins given vertices, {@code false} otherwise.
+     * @throws NegativeVertexIndexException if any {@code int < 0}.
+     * @throws NoSuchVertexIndexException   if this graph does not contain vertex with given either index.
+     * @since 2.1
+     */
+    public boolean areConnected(int indexV, int indexU) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        getVertex(indexV);
+        getVertex(indexU);
+        if (this.connectivity != null) return this.connectivity.areConnected(indexV, indexU);
+        return connectedComponents().areConnected(indexV, indexU);
+    }
+
     /**
      * This method checks whether this graph is complete or is not.
+     * As a graph has neither loops nor multiple edges, it is complete once it has {@code n(n - 1)/2} edges,
+     * which is checked in constant time.
      *
      * @return {@code true} if graph is complete, {@code false} otherwise.
      * @since 1.0
      */
     public boolean isComplete() {
-        ArrayList<Vertex<T>> allVertices = new ArrayList<>(this.itsVertices);
-        for (Vertex<T> v : this.itsVertices) {
-            boolean containsEveryOther = new HashSet<>(v.neighbours).containsAll(allVertices.stream()
-                    .filter(vertex -> !vertex.equals(v))
-                    .toList());
-            if (!containsEveryOther) return false;
-        }
-        return true;
+        long order = this.itsVertices.size();
+        return this.statistics.getEdgeCount() == order * (order - 1) / 2;
     }
 
     /**
      * This method checks whether this graph is bipartite or is not.
+     * Every connected component is checked, over the snapshot returned by {@link #freeze()}.
+     * The first call after a modification of this graph rebuilds the snapshot in {@code O(n + m)} time, see {@link #freeze()}.
      *
-     * @return {@code true} if this graph is bipartite, {@code false} otherwise.
+     * @return {@code true} if this graph is not empty and is bipartite, {@code false} otherwise.
+     * @see #findBipartition()
      * @since 1.0
      */
     public boolean isBipartite() {
-        return isBipartiteSubGraph(this.itsVertices);
+        return findBipartition().isBipartite();
+    }
+
+    /**
+     * This method splits vertices of this graph into two parts, so that each edge joins vertices of different parts,
+     * or finds an odd cycle, which proves that there are no such parts.
+     * Vertices are coloured in linear time over the snapshot returned by {@link #freeze()},
+     * so the result is cached until the next modification of this graph.
+     * The first call after a modification of this graph rebuilds the snapshot in {@code O(n + m)} time, see {@link #freeze()}.
+     *
+     * @return bipartition of this graph, or an odd cycle of this graph.
+     * @see CsrGraph#findBipartition()
+     * @since 2.1
+     */
+    @Override
+    public final @NotNull Bipartition findBipartition() {
+        return freeze().findBipartition();
     }
 
     /**
      * This method checks whether given {@code Collection} induces bipartite subgraph of this graph or does not.
+     * Every connected component of the subgraph is checked, over the snapshot returned by {@link #freeze()}.
+     * The first call after a modification of this graph rebuilds the snapshot in {@code O(n + m)} time, see {@link #freeze()}.
      *
      * @param subset {@code Collection} containing indexes of vertices to check if they induce bipartite subgraph of this graph.
      * @return {@code true} if given {@code Collection} is a subset of vertices of this graph that induces bipartite subgraph, {@code false} otherwise.
@@ -707,42 +1846,38 @@ public class Graph<T> {
      * @since 1.0
      */
     public boolean doInduceBipartiteSubGraph(@NotNull Collection<Integer> subset) throws NegativeVertexIndexException, NoSuchVertexIndexException {
-        Collection<Vertex<T>> vertices = mapIndexesToVertices(subset);
-        return isBipartiteSubGraph(vertices);
+        return freeze().doInduceBipartiteSubGraph(subset);
     }
 
     /**
-     * This method checks whether the all given vertices are in a bipartite subgraph of this graph or are not.
+     * This method checks whether given indexes induce bipartite subgraph of this graph, or do not.
+     * The first call after a modification of this graph rebuilds the snapshot in {@code O(n + m)} time, see {@link #freeze()}.
      *
-     * @param subset subset of vertices of this graph.
-     * @return {@code true} if given {@code Collection} induces bipartite subgraph of this graph, {@code false} otherwise.
-     * @since 1.0
+     * @param subset indexes of vertices to check if they induce bipartite subgraph of this graph.
+     * @return {@code true} if given indexes induce bipartite subgraph of this graph, {@code false} otherwise.
+     * @throws NegativeVertexIndexException if given indexes contain negative number(s).
+     * @throws NoSuchVertexIndexException   if given indexes contain number that could not be identified with any vertex index.
+     * @see #doInduceBipartiteSubGraph(Collection)
+     * @since 2.1
      */
-    private boolean isBipartiteSubGraph(@NotNull Collection<Vertex<T>> subset) {
-        if (!subset.isEmpty()) {
-            HashMap<Vertex<T>, Integer> coloredVertices =
-                    subset.stream()
-                            .collect(Collectors.toMap(Function.identity(), vertex -> -1,
-                                    (integer1, integer2) -> integer2, HashMap::new));
-            Deque<Vertex<T>> queue = new LinkedList<>();
-            Vertex<T> first = subset.iterator().next();
-            queue.add(first);
-            coloredVertices.put(first, 1);
-            while (!queue.isEmpty()) {
-                Vertex<T> v = queue.poll();
-                for (Vertex<T> neighbour : v.neighbours) {
-                    if (isVertexOfSubGraph(subset, neighbour) && coloredVertices.get(neighbour) == -1) {
-                        coloredVertices.put(neighbour, 1 - coloredVertices.get(v));
-                        queue.add(neighbour);
-                    } else if (isVertexOfSubGraph(subset, neighbour) &&
-                            Objects.equals(coloredVertices.get(neighbour), coloredVertices.get(v))) {
-                        return false;
-                    }
-                }
-            }
-            return true;
-        }
-        return false;
+    @Override
+    public boolean doInduceBipartiteSubGraph(int @NotNull ... subset) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        return freeze().doInduceBipartiteSubGraph(subset);
+    }
+
+    /**
+     * This method checks whether given subset induces bipartite subgraph of this graph, or does not.
+     * The first call after a modification of this graph rebuilds the snapshot in {@code O(n + m)} time, see {@link #freeze()}.
+     *
+     * @param subset indexes of vertices to check if they induce bipartite subgraph of this graph.
+     * @return {@code true} if given subset is not empty and induces bipartite subgraph of this graph, {@code false} otherwise.
+     * @throws NoSuchVertexIndexException if given subset contains number that could not be identified with any vertex index.
+     * @see #doInduceBipartiteSubGraph(Collection)
+     * @since 2.1
+     */
+    @Override
+    public boolean doInduceBipartiteSubGraph(@NotNull VertexSubset subset) throws NoSuchVertexIndexException {
+        return freeze().doInduceBipartiteSubGraph(subset);
     }
 
     /**
@@ -755,11 +1890,40 @@ public class Graph<T> {
      * @since 1.0-beta
      */
     public boolean isCDS(Collection<Integer> subset) throws NegativeVertexIndexException, NoSuchVertexIndexException {
-        Collection<Vertex<T>> vertices = mapIndexesToVertices(subset);
-        if (isConnectedSubGraph(vertices)) {
-            return this.itsVertices.stream()
-                    .noneMatch(v -> !isVertexOfSubGraph(vertices, v) &&
-                            v.neighbours.stream().noneMatch(vertices::contains));
+        return isCDS(VertexSubset.of(subset));
+    }
+
+    /**
+     * This method checks whether given indexes are a connected dominating set of this graph, or are not.
+     *
+     * @param subset indexes of vertices to check if they are a connected dominating set of this graph.
+     * @return {@code true} if given indexes are a connected dominating set of this graph, {@code false} otherwise.
+     * @throws NegativeVertexIndexException if given indexes contain negative number(s).
+     * @throws NoSuchVertexIndexException   if given indexes contain number that could not be identified with any vertex index.
+     * @see #isCDS(Collection)
+     * @since 2.1
+     */
+    @Override
+    public boolean isCDS(int @NotNull ... subset) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        return isCDS(VertexSubset.of(subset));
+    }
+
+    /**
+     * This method checks whether given subset is a connected dominating set of this graph, or is not.
+     * Each vertex outside the subset stops at its first neighbour in the subset, so the check takes linear time.
+     *
+     * @param subset indexes of vertices to check if they are a connected dominating set of this graph.
+     * @return {@code true} if given subset is a connected dominating set of this graph, {@code false} otherwise.
+     * @throws NoSuchVertexIndexException if given subset contains number that could not be identified with any vertex index.
+     * @see #isCDS(Collection)
+     * @since 2.1
+     */
+    @Override
+    public boolean isCDS(@NotNull VertexSubset subset) throws NoSuchVertexIndexException {
+        requireVertices(subset);
+        if (isConnectedSubGraph(subset)) {
+            return this.itsVertices.values().stream()
+                    .noneMatch(v -> !subset.contains(v.index) && v.neighbours.stream().noneMatch(subset::contains));
         }
         return false;
     }
@@ -774,173 +1938,383 @@ public class Graph<T> {
      * @since 1.0
      */
     public boolean isIndependentSet(Collection<Integer> subset) throws NegativeVertexIndexException, NoSuchVertexIndexException {
-        Collection<Vertex<T>> vertices = mapIndexesToVertices(subset);
-        return depthFirstSearch(vertices) == 1;
+        return isIndependentSet(VertexSubset.of(subset));
+    }
+
+    /**
+     * This method checks whether given indexes are an independent set of this graph, or are not.
+     *
+     * @param subset indexes of vertices to check if they are an independent set of this graph.
+     * @return {@code true} if given indexes are an independent set of this graph, {@code false} otherwise.
+     * @throws NegativeVertexIndexException if given indexes contain negative number(s).
+     * @throws NoSuchVertexIndexException   if given indexes contain number that could not be identified with any vertex index.
+     * @see #isIndependentSet(Collection)
+     * @since 2.1
+     */
+    @Override
+    public boolean isIndependentSet(int @NotNull ... subset) throws NegativeVertexIndexException, NoSuchVertexIndexException {
+        return isIndependentSet(VertexSubset.of(subset));
+    }
+
+    /**
+     * This method checks whether given subset is an independent set of this graph, or is not.
+     * Neighbours of each vertex of the subset are checked once, so the check takes linear time.
+     *
+     * @param subset indexes of vertices to check if they are an independent set of this graph.
+     * @return {@code true} if given subset is not empty and is an independent set of this graph, {@code false} otherwise.
+     * @throws NoSuchVertexIndexException if given subset contains number that could not be identified with any vertex index.
+     * @see #isIndependentSet(Collection)
+     * @since 2.1
+     */
+    @Override
+    public boolean isIndependentSet(@NotNull VertexSubset subset) throws NoSuchVertexIndexException {
+        requireVertices(subset);
+        return !subset.isEmpty() && subset.stream()
+                .noneMatch(index -> this.itsVertices.get(index).neighbours.stream().anyMatch(subset::contains));
     }
 
     /**
      * This method finds a minimal connected dominating set in this graph.
      * The result is an unmodifiable-sorted subset of vertices of this graph.
      * <p>
-     * To learn more details, read here {@link #computeMCDS()}.
+     * It is an implementation of an approximation algorithm for finding minimum connected dominating set in {@link Graph}.
+     * Since domination problem is a NP-C problem, this method can find not necessary an optimal solution.
+     * Hence, we will say it computes minimal connected dominating set, which is indeed always a true.
+     * The set is computed over the snapshot returned by {@link #freeze()}, quickly on random graphs,
+     * but in {@code O(n (n + m))} time in the worst case,
+     * to learn more details, read here: {@link CsrGraph#findMCDS()}.
+     * The first call after a modification of this graph rebuilds the snapshot in {@code O(n + m)} time, see {@link #freeze()}.
      * </p>
      *
      * @return minimal connected dominating set of this graph.
      * @since 1.0-beta
      */
     public final @NotNull @Unmodifiable Set<Integer> findMCDS() {
-        return mapVerticesToIndexes(computeMCDS());
+        return freeze().findMCDS();
     }
 
     /**
-     * This method computes a minimal connected dominating set in this graph.
+     * This method finds a minimal connected dominating set in this graph by given strategy.
+     * The result is an unmodifiable-sorted subset of vertices of this graph.
      * <p>
-     * It is an implementation of an approximation algorithm for finding minimum connected dominating set in {@link Graph}.
-     * Since domination problem is a NP-C problem, this method can find not necessary an optimal solution.
-     * Hence, we will say it computes minimal connected dominating set, which is indeed always a true.
+     * The set is computed over the snapshot returned by {@link #freeze()},
+     * to learn more details, read here: {@link ConnectedDominatingSetStrategy}.
+     * The first call after a modification of this graph rebuilds the snapshot in {@code O(n + m)} time, see {@link #freeze()}.
      * </p>
      *
-     * @return minimal connected dominating set in this graph as a {@code Collection} of {@link Graph.Vertex}.
+     * @param strategy strategy of finding a connected dominating set.
+     * @return minimal connected dominating set of this graph.
      * @see #findMCDS()
-     * @since 1.0-beta
+     * @since 2.1
      */
-    private @NotNull Collection<Vertex<T>> computeMCDS() {
-        List<Vertex<T>> currentMinCDS = new ArrayList<>(this.itsVertices);
-        List<Vertex<T>> fixedVertices = new ArrayList<>();
-        HashMap<Vertex<T>, Integer> nonFixed = currentMinCDS.stream()
-                .collect(Collectors.toMap(Function.identity(), Vertex::getDegree,
-                        (integer1, integer2) -> integer2, HashMap::new));
-        while (!nonFixed.isEmpty()) {
-            Vertex<T> u = nonFixed.keySet().stream()
-                    .min(Comparator.comparingInt(nonFixed::get))
-                    .orElseThrow();
-            nonFixed.remove(u);
-            currentMinCDS.remove(u);
-            if (!isConnectedSubGraph(currentMinCDS)) {
-                currentMinCDS.add(u);
-                fixedVertices.add(u);
-            } else {
-                boolean intersection = false;
-                for (Vertex<T> neighbour : u.neighbours) {
-                    nonFixed.computeIfPresent(neighbour, (vertex, degree) -> --degree);
-                    if (!intersection && isVertexOfSubGraph(fixedVertices, neighbour))
-                        intersection = true;
-                }
-                if (!intersection) {
-                    Optional<Vertex<T>> w = u.neighbours.stream()
-                            .filter(currentMinCDS::contains)
-                            .max(Comparator.comparingInt(nonFixed::get));
-                    w.ifPresent(vertex -> {
-                        fixedVertices.add(vertex);
-                        nonFixed.remove(vertex);
-                    });
-                }
-            }
-        }
-        return currentMinCDS;
+    public final @NotNull @Unmodifiable Set<Integer> findMCDS(@NotNull ConnectedDominatingSetStrategy strategy) {
+        return freeze().findMCDS(strategy);
+    }
+
+    /**
+     * This method finds a minimal connected dominating set in this graph without boxing indexes of its vertices.
+     * The first call after a modification of this graph rebuilds the snapshot in {@code O(n + m)} time, see {@link #freeze()}.
+     *
+     * @return sorted array of indexes of vertices of minimal connected dominating set.
+     * @see #findMCDS()
+     * @since 2.1
+     */
+    @Override
+    public final int @NotNull [] findMCDSIndexes() {
+        return freeze().findMCDSIndexes();
+    }
+
+    /**
+     * This method finds a minimal connected dominating set in this graph by given strategy without boxing indexes of its vertices.
+     * The first call after a modification of this graph rebuilds the snapshot in {@code O(n + m)} time, see {@link #freeze()}.
+     *
+     * @param strategy strategy of finding a connected dominating set.
+     * @return sorted array of indexes of vertices of minimal connected dominating set.
+     * @see #findMCDS(ConnectedDominatingSetStrategy)
+     * @since 2.1
+     */
+    @Override
+    public final int @NotNull [] findMCDSIndexes(@NotNull ConnectedDominatingSetStrategy strategy) {
+        return freeze().findMCDSIndexes(strategy);
     }
 
     /**
      * This method finds a minimal dominating set in this graph.
      * The result is an unmodifiable-sorted subset of vertices of this graph.
      * <p>
-     * To learn more details, read here: {@link #computeMDS()}.
+     * It is an implementation of an approximation algorithm for finding minimum dominating set in {@link Graph}.
+     * Since domination problem is a NP-C problem, this method can find not necessary an optimal solution.
+     * Hence, we will say it computes minimal dominating set, which is indeed always a true.
+     * The set is computed in linear time over the snapshot returned by {@link #freeze()},
+     * to learn more details, read here: {@link CsrGraph#findMDS()}.
+     * The first call after a modification of this graph rebuilds the snapshot in {@code O(n + m)} time, see {@link #freeze()}.
      * </p>
      *
      * @return minimal dominating set of this graph.
      * @since 1.0
      */
     public final @NotNull @Unmodifiable Set<Integer> findMDS() {
-        return mapVerticesToIndexes(computeMDS());
+        return freeze().findMDS();
+    }
+
+    /**
+     * This method finds a minimal dominating set in this graph without boxing indexes of its vertices.
+     * The first call after a modification of this graph rebuilds the snapshot in {@code O(n + m)} time, see {@link #freeze()}.
+     *
+     * @return sorted array of indexes of vertices of minimal dominating set.
+     * @see #findMDS()
+     * @since 2.1
+     */
+    @Override
+    public final int @NotNull [] findMDSIndexes() {
+        return freeze().findMDSIndexes();
     }
 
     /**
-     * This method computes a minimal dominating set in this graph.
+     * This method finds a dominating set of this graph by a round-based parallel greedy with rounded spans,
+     * which runs in parallel on the common {@code ForkJoinPool} once this graph is large enough.
+     * The result is an unmodifiable-sorted subset of vertices of this graph.
      * <p>
-     * It is an implementation of an approximation algorithm for finding minimum dominating set in {@link Graph}.
-     * Since domination problem is a NP-C problem, this method can find not necessary an optimal solution.
-     * Hence, we will say it computes minimal dominating set, which is indeed always a true.
+     * It trades a slightly larger set than the one of {@link #findMDS()} for rounds spread over threads.
+     * The set is computed over the snapshot returned by {@link #freeze()},
+     * to learn more details, read here: {@link CsrGraph#findParallelMDS()}.
+     * The first call after a modification of this graph rebuilds the snapshot in {@code O(n + m)} time, see {@link #freeze()}.
      * </p>
      *
-     * @return minimal dominating set in this graph as a {@code Collection} of {@link Graph.Vertex}.
+     * @return dominating set of this graph.
      * @see #findMDS()
-     * @since 1.0
+     * @since 2.1
      */
-    private @NotNull Collection<Vertex<T>> computeMDS() {
-        List<Vertex<T>> minimalDS = new ArrayList<>();
-        List<Vertex<T>> whiteNodes = new ArrayList<>(this.itsVertices);
-        while (!whiteNodes.isEmpty()) {
-            Vertex<T> v = whiteNodes.stream()
-                    .max(Comparator.comparingInt(vertex -> (int) vertex.neighbours.stream()
-                            .filter(alreadyAdded -> !isVertexOfSubGraph(minimalDS, alreadyAdded))
-                            .count()))
-                    .orElseThrow();
-            minimalDS.add(v);
-            for (Vertex<T> vertex : v.neighbours) {
-                whiteNodes.remove(vertex);
-            }
-            whiteNodes.remove(v);
-        }
-        return minimalDS;
+    public final @NotNull @Unmodifiable Set<Integer> findParallelMDS() {
+        return freeze().findParallelMDS();
+    }
+
+    /**
+     * This method finds a dominating set of this graph by a round-based parallel greedy with rounded spans
+     * without boxing indexes of its vertices.
+     * The first call after a modification of this graph rebuilds the snapshot in {@code O(n + m)} time, see {@link #freeze()}.
+     *
+     * @return sorted array of indexes of vertices of dominating set.
+     * @see #findParallelMDS()
+     * @since 2.1
+     */
+    @Override
+    public final int @NotNull [] findParallelMDSIndexes() {
+        return freeze().findParallelMDSIndexes();
     }
 
     /**
      * This method finds a maximal independent set of this graph.
      * The result is an unmodifiable-sorted subset of vertices of this graph.
      * <p>
-     * To learn more details, read here: {@link #computeMIS()}
+     * It is an implementation of an approximation algorithm for finding maximum independent set in {@link Graph}.
+     * Since maximum independent set problem is a NP-hard problem that is hard to approximate,
+     * this method can find not necessary an optimal solution.
+     * Hence, we will say it computes maximal independent set, which is indeed always a true.
+     * The set is computed in linear time over the snapshot returned by {@link #freeze()}
+     * by the {@link IndependentSetStrategy#MIN_DEGREE} strategy, to learn more details, read here: {@link CsrGraph#findMIS()}.
+     * The first call after a modification of this graph rebuilds the snapshot in {@code O(n + m)} time, see {@link #freeze()}.
      * </p>
      *
      * @return maximal independent set of this graph.
      * @since 1.0
      */
     public final @NotNull @Unmodifiable Set<Integer> findMIS() {
-        return mapVerticesToIndexes(computeMIS());
+        return freeze().findMIS();
     }
 
     /**
-     * This method computes a maximal independent set in this graph.
+     * This method finds a maximal independent set of this graph by given greedy strategy.
+     * The result is an unmodifiable-sorted subset of vertices of this graph.
      * <p>
-     * It is an implementation of an approximation algorithm for finding maximum independent set in {@link Graph}.
-     * Since maximum independent set problem is a NP-hard problem that is hard to approximate,
-     * this method can find not necessary an optimal solution.
-     * Hence, we will say it computes maximal independent set, which is indeed always a true.
+     * The set is computed in linear time over the snapshot returned by {@link #freeze()},
+     * to learn more details, read here: {@link IndependentSetStrategy}.
+     * The first call after a modification of this graph rebuilds the snapshot in {@code O(n + m)} time, see {@link #freeze()}.
      * </p>
      *
-     * @return maximal independent set in this graph as a {@code Collection} of {@link Graph.Vertex}.
+     * @param strategy greedy strategy of taking vertices.
+     * @return maximal independent set of this graph.
      * @see #findMIS()
-     * @since 1.0
+     * @since 2.1
+     */
+    public final @NotNull @Unmodifiable Set<Integer> findMIS(@NotNull IndependentSetStrategy strategy) {
+        return freeze().findMIS(strategy);
+    }
+
+    /**
+     * This method finds a maximal independent set of this graph without boxing indexes of its vertices.
+     * The first call after a modification of this graph rebuilds the snapshot in {@code O(n + m)} time, see {@link #freeze()}.
+     *
+     * @return sorted array of indexes of vertices of maximal independent set.
+     * @see #findMIS()
+     * @since 2.1
+     */
+    @Override
+    public final int @NotNull [] findMISIndexes() {
+        return freeze().findMISIndexes();
+    }
+
+    /**
+     * This method finds a maximal independent set of this graph by given greedy strategy without boxing indexes of its vertices.
+     * The first call after a modification of this graph rebuilds the snapshot in {@code O(n + m)} time, see {@link #freeze()}.
+     *
+     * @param strategy greedy strategy of taking vertices.
+     * @return sorted array of indexes of vertices of maximal independent set.
+     * @see #findMIS(IndependentSetStrategy)
+     * @since 2.1
+     */
+    @Override
+    public final int @NotNull [] findMISIndexes(@NotNull IndependentSetStrategy strategy) {
+        return freeze().findMISIndexes(strategy);
+    }
+
+    /**
+     * This method finds a maximal independent set of this graph by a randomized algorithm in the style of Luby,
+     * which runs in parallel on the common {@code ForkJoinPool} once this graph is large enough.
+     * The result is an unmodifiable-sorted subset of vertices of this graph, which is the same for the same seed.
+     * <p>
+     * The set is computed over the snapshot returned by {@link #freeze()},
+     * to learn more details, read here: {@link CsrGraph#findParallelMIS(long)}.
+     * The first call after a modification of this graph rebuilds the snapshot in {@code O(n + m)} time, see {@link #freeze()}.
+     * </p>
+     *
+     * @param seed seed of random priorities of vertices.
+     * @return maximal independent set of this graph.
+     * @see #findMIS()
+     * @since 2.1
+     */
+    public final @NotNull @Unmodifiable Set<Integer> findParallelMIS(long seed) {
+        return freeze().findParallelMIS(seed);
+    }
+
+    /**
+     * This method finds a maximal independent set of this graph by a randomized algorithm in the style of Luby
+     * without boxing indexes of its vertices.
+     * The first call after a modification of this graph rebuilds the snapshot in {@code O(n + m)} time, see {@link #freeze()}.
+     *
+     * @param seed seed of random priorities of vertices.
+     * @return sorted array of indexes of vertices of maximal independent set.
+     * @see #findParallelMIS(long)
+     * @since 2.1
+     */
+    @Override
+    public final int @NotNull [] findParallelMISIndexes(long seed) {
+        return freeze().findParallelMISIndexes(seed);
+    }
+
+    /**
+     * This method returns a read-only snapshot of this graph in constant time.
+     * The snapshot is a graph that answers all queries and runs all algorithms as of the moment of this call,
+     * while this graph can still be modified. Any attempt to modify the snapshot throws {@code UnsupportedOperationException}.
+     * <p>
+     * The snapshot shares vertices with this graph, and this graph copies them on write:
+     * each vertex remembers the epoch of its creation, and a modified vertex of an earlier epoch
+     * is replaced by its copy with its own neighbourhood, so vertices that are not modified are never copied.
+     * The table of vertices is copied in pages of {@code 256} entries on their first write, so the first modification
+     * after a snapshot copies only the pages it writes to and a directory of pages, {@code 256} times shorter than the table.
+     * A snapshot never changes, so it can be handed over to another thread and analysed there
+     * while this graph keeps being modified. Calling this method on a snapshot returns the same snapshot.
+     * </p>
+     *
+     * @return read-only snapshot of this graph.
+     * @see #freeze()
+     * @since 2.1
+     */
+    public final @NotNull Graph<T> snapshot() {
+        if (this.readOnly) return this;
+        this.epoch++;
+        this.shared = true;
+        return new Graph<>(this);
+    }
+
+    /**
+     * This method returns an immutable snapshot of this graph in compressed sparse row format.
+     * The snapshot exposes the same queries and algorithms, but it runs them over primitive arrays,
+     * so it is meant for graphs that are built once and then analysed many times.
+     * <p>
+     * The snapshot is not affected by later modifications of this graph.
+     * Calling this method again returns the same snapshot in constant time, unless this graph has been modified in the meantime.
+     * Otherwise, the snapshot is built again from all vertices and edges, which takes {@code O(n + m)} time and memory.
+     * Algorithms of this graph that run over the snapshot pay this cost on their first call after a modification,
+     * so modifications interleaved with such calls are better batched.
+     * </p>
+     *
+     * @return snapshot of this graph.
+     * @see CsrGraph
+     * @since 2.1
      */
-    private @NotNull Collection<Vertex<T>> computeMIS() {
-        List<Vertex<T>> maximalIS = new ArrayList<>();
-        List<Vertex<T>> leftVertices = new ArrayList<>(this.itsVertices);
-        while (!leftVertices.isEmpty()) {
-            Vertex<T> v = leftVertices.stream()
-                    .filter(u -> !isVertexOfSubGraph(maximalIS, u))
-                    .min(Comparator.comparingInt(Vertex::getDegree))
-                    .orElseThrow();
-            maximalIS.add(v);
-            for (Vertex<T> neighbour : v.neighbours) {
-                leftVertices.remove(neighbour);
+    public final @NotNull CsrGraph<T> freeze() {
+        if (this.frozen == null || this.frozenModCount != this.modCount) {
+            this.frozen = this.compress(false);
+            this.frozenModCount = this.modCount;
+        }
+        return this.frozen;
+    }
+
+    /**
+     * This method creates a new snapshot of this graph in compressed sparse row format, kept outside of the heap.
+     * A snapshot answers the same queries and runs the same algorithms as one returned by {@link #freeze()},
+     * but its offsets, neighbours and indexes neither count towards a heap budget nor are scanned by the garbage collector.
+     * Only the snapshot is kept off-heap: elements of its vertices, as well as this graph with its neighbourhoods
+     * and columns, stay on the heap, so the heap is relieved only once this graph is no longer referenced.
+     * <p>
+     * Unlike {@link #freeze()}, each call creates a new snapshot, which is owned by a caller
+     * and should be released by {@link CsrGraph#close()}, preferably in try-with-resources statement.
+     * Direct memory available to snapshots is limited by {@code -XX:MaxDirectMemorySize}.
+     * </p>
+     *
+     * @return new off-heap snapshot of this graph.
+     * @see #freeze()
+     * @since 2.1
+     */
+    @Contract(" -> new")
+    public final @NotNull CsrGraph<T> freezeOffHeap() {
+        return this.compress(true);
+    }
+
+    /**
+     * This method creates a new snapshot of this graph in compressed sparse row format.
+     * Dense identifiers of vertices follow order of insertion of vertices.
+     *
+     * @param offHeap whether arrays of a snapshot should be kept outside of the heap.
+     * @return new snapshot of this graph.
+     * @since 2.1
+     */
+    private @NotNull CsrGraph<T> compress(boolean offHeap) {
+        int order = this.itsVertices.size();
+        IntStorage indexes = IntStorage.allocate(order, offHeap);
+        IntStorage offsets = IntStorage.allocate(order + 1, offHeap);
+        Object[] elements = null;
+        int id = 0;
+        for (Vertex<T> vertex : this.itsVertices.values()) {
+            indexes.set(id, vertex.index);
+            offsets.set(id + 1, offsets.get(id) + vertex.getDegree());
+            if (vertex.element != null) {
+                if (elements == null) elements = new Object[order];
+                elements[id] = vertex.element;
             }
-            leftVertices.remove(v);
+            id++;
         }
-        return maximalIS;
+        IntStorage targets = IntStorage.allocate(offsets.get(order), offHeap);
+        id = 0;
+        for (Vertex<T> vertex : this.itsVertices.values()) {
+            int position = offsets.get(id++);
+            for (int neighbour : vertex.neighbours.toArray()) {
+                targets.set(position++, neighbour);
+            }
+        }
+        return new CsrGraph<>(indexes, offsets, targets, elements, offHeap);
     }
 
     /**
-     * This method maps a {@code Collection} of vertices indexes to a {@code Collection} of {@link Graph.Vertex}.
+     * This method checks whether all indexes of given subset are indexes of vertices of this graph.
      *
-     * @param indexes subset of vertices indexes of this graph.
-     * @return {@code  Collection} of {@link Graph.Vertex}.
-     * @throws NegativeVertexIndexException if given {@code Collection} contains negative number(s).
-     * @throws NoSuchVertexIndexException   if given {@code Collection} contains number that could not be identified with any vertex index.
-     * @since 1.0-beta
+     * @param subset subset of vertices indexes.
+     * @throws NoSuchVertexIndexException if given subset contains number that could not be identified with any vertex index.
+     * @since 2.1
      */
-    private @NotNull Collection<Vertex<T>> mapIndexesToVertices(@NotNull Collection<Integer> indexes) throws NegativeVertexIndexException, NoSuchVertexIndexException {
-        return indexes.stream()
-                .map(this::getVertex)
-                .toList();
+    private void requireVertices(@NotNull VertexSubset subset) throws NoSuchVertexIndexException {
+        subset.stream().forEach(this::getVertex);
     }
 
     /**
@@ -952,8 +2326,19 @@ public class Graph<T> {
      * @since 1.0
      */
     private @NotNull @UnmodifiableView Set<Integer> mapVerticesToIndexes(@NotNull Collection<Vertex<T>> vertices) {
-        return Collections.unmodifiableSortedSet(vertices.stream()
-                .mapToInt(Vertex::getIndex)
+        return toUnmodifiableSortedSet(vertices.stream().mapToInt(Vertex::getIndex));
+    }
+
+    /**
+     * This method collects a stream of vertices indexes to unmodifiable {@code SortedSet}.
+     *
+     * @param indexes stream of vertices indexes.
+     * @return unmodifiable {@code SortedSet} of given vertices indexes.
+     * @see Collections#unmodifiableSortedSet(SortedSet)
+     * @since 2.1
+     */
+    private static @NotNull @UnmodifiableView Set<Integer> toUnmodifiableSortedSet(@NotNull IntStream indexes) {
+        return Collections.unmodifiableSortedSet(indexes
                 .boxed()
                 .collect(Collectors.toCollection(TreeSet::new)));
     }
@@ -975,10 +2360,11 @@ public class Graph<T> {
      */
     @Override
     public String toString() {
-        return this.itsVertices.stream()
+        return this.itsVertices.values().stream()
                 .sorted(Comparator.comparingInt(Vertex::getIndex))
                 .map(vertex -> vertex + " -> " + vertex.neighbours.stream()
-                        .sorted(Comparator.comparingInt(Vertex::getIndex))
+                        .sorted()
+                        .boxed()
                         .toList()
                         + ", content: " + vertex.element)
                 .collect(Collectors.joining("\n"));
@@ -0,0 +1,181 @@
+package com.graphs.struct;
+
+import com.graphs.exceptions.vertex.NegativeVertexIndexException;
+import org.jetbrains.annotations.Contract;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * This class builds a {@link Graph} from vertices and edges collected in bulk.
+ * <p>
+ * Vertices and edges are only recorded in primitive arrays until {@link #build()} is called.
+ * Then vertices are added in order of their first occurrence, while edges are sorted and deduplicated in parallel,
+ * and each neighbourhood is created at once with its exact size, see {@link Graph#addEdges(int[], int[])}.
+ * Loops and repeated edges are dropped, as {@link Graph#connectVertices(int, int)} would do.
+ * </p>
+ * A builder may be used to build any number of graphs, each of them containing everything recorded so far.
+ *
+ * @param <T> the bounding type stored in a built graph in its vertices.
+ * @author Łukasz Malara
+ * @version JDK 1.7
+ * @see Graph#addEdges(int[], int[])
+ * @since 2.1
+ */
+public final class GraphBuilder<T> {
+
+    /**
+     * This field stores first ends of recorded edges. A single vertex is recorded as a loop, which is never connected.
+     *
+     * @since 2.1
+     */
+    private int[] from;
+
+    /**
+     * This field stores second ends of recorded edges, in the same order as {@link #from}.
+     *
+     * @since 2.1
+     */
+    private int[] to;
+
+    /**
+     * This field stores the number of recorded edges.
+     *
+     * @since 2.1
+     */
+    private int size;
+
+    /**
+     * This field stores data of vertices by their indexes, if any data has been given.
+     *
+     * @since 2.1
+     */
+    private final IntLinkedHashMap<T> elements = new IntLinkedHashMap<>();
+
+    /**
+     * This constructor creates an empty builder.
+     *
+     * @since 2.1
+     */
+    public GraphBuilder() {
+        this(16);
+    }
+
+    /**
+     * This constructor creates an empty builder with room for given number of edges.
+     *
+     * @param expectedSize expected number of edges and single vertices.
+     * @since 2.1
+     */
+    public GraphBuilder(int expectedSize) {
+        this.from = new int[Math.max(1, expectedSize)];
+        this.to = new int[Math.max(1, expectedSize)];
+    }
+
+    /**
+     * This method records a vertex with given {@code int} index.
+     *
+     * @param index numerical index of vertex.
+     * @return this builder.
+     * @throws NegativeVertexIndexException if parameter type {@code int < 0}.
+     * @since 2.1
+     */
+    @Contract("_ -> this")
+    public @NotNull GraphBuilder<T> addVertex(int index) throws NegativeVertexIndexException {
+        return addEdge(index, index);
+    }
+
+    /**
+     * This method records a vertex with given {@code int} index and data to store in it.
+     *
+     * @param index numerical index of vertex.
+     * @param data  data to store in a vertex.
+     * @return this builder.
+     * @throws NegativeVertexIndexException if parameter type {@code int < 0}.
+     * @since 2.1
+     */
+    @Contract("_, _ -> this")
+    public @NotNull GraphBuilder<T> addVertex(int index, T data) throws NegativeVertexIndexException {
+        addVertex(index);
+        this.elements.put(index, data);
+        return this;
+    }
+
+    /**
+     * This method records an edge between vertices with given indexes, together with both of the vertices.
+     *
+     * @param indexV numerical index of the first vertex.
+     * @param indexU numerical index of another vertex.
+     * @return this builder.
+     * @throws NegativeVertexIndexException if any {@code int < 0}.
+     * @since 2.1
+     */
+    @Contract("_, _ -> this")
+    public @NotNull GraphBuilder<T> addEdge(int indexV, int indexU) throws NegativeVertexIndexException {
+        if (indexV < 0 || indexU < 0) throw new NegativeVertexIndexException();
+        if (this.size == this.from.length) {
+            this.from = Arrays.copyOf(this.from, this.size * 2);
+            this.to = Arrays.copyOf(this.to, this.size * 2);
+        }
+        this.from[this.size] = indexV;
+        this.to[this.size++] = indexU;
+        return this;
+    }
+
+    /**
+     * This method records edges between vertices with indexes given at the same positions of both arrays,
+     * together with all of the vertices.
+     *
+     * @param from first ends of edges.
+     * @param to   second ends of edges.
+     * @return this builder.
+     * @throws NegativeVertexIndexException if any of arrays contains negative number(s).
+     * @throws IllegalArgumentException     if arrays differ in length.
+     * @since 2.1
+     */
+    @Contract("_, _ -> this")
+    public @NotNull GraphBuilder<T> addEdges(int @NotNull [] from, int @NotNull [] to) throws NegativeVertexIndexException {
+        if (from.length != to.length) throw new IllegalArgumentException("Arrays of ends of edges differ in length.");
+        for (int k = 0; k < from.length; k++) {
+            if (from[k] < 0 || to[k] < 0) throw new NegativeVertexIndexException();
+        }
+        if (this.from.length - this.size < from.length) {
+            int capacity = Math.max(this.size + from.length, this.from.length * 2);
+            this.from = Arrays.copyOf(this.from, capacity);
+            this.to = Arrays.copyOf(this.to, capacity);
+        }
+        System.arraycopy(from, 0, this.from, this.size, from.length);
+        System.arraycopy(to, 0, this.to, this.size, to.length);
+        this.size += from.length;
+        return this;
+    }
+
+    /**
+     * This method builds a new graph containing all recorded vertices and edges.
+     *
+     * @return new graph.
+     * @since 2.1
+     */
+    @Contract(" -> new")
+    public @NotNull Graph<T> build() {
+        Graph<T> graph = new Graph<>();
+        populate(graph);
+        return graph;
+    }
+
+    /**
+     * This method adds all recorded vertices and edges to given graph.
+     * Vertices are added in order of their first occurrence, before any edge is connected.
+     *
+     * @param graph graph to populate.
+     * @since 2.1
+     */
+    void populate(@NotNull Graph<T> graph) {
+        for (int k = 0; k < this.size; k++) {
+            graph.addNewVertex(this.from[k]);
+            graph.addNewVertex(this.to[k]);
+        }
+        this.elements.keyStream().forEach(index -> graph.setVertexData(index, this.elements.get(index)));
+        graph.addEdges(this.from, this.to, this.size);
+    }
+}
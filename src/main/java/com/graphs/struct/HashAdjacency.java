@@ -0,0 +1,219 @@
+package com.graphs.struct;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.stream.IntStream;
+
+/**
+ * This class implements neighbourhood of a vertex of high degree as an open-addressing hash set of indexes.
+ * Collisions are resolved by linear probing and removal shifts following indexes back,
+ * so the table never contains tombstones and checking an edge takes expected constant time.
+ *
+ * @author Łukasz Malara
+ * @version JDK 1.7
+ * @see SortedArrayAdjacency
+ * @since 2.1
+ */
+final class HashAdjacency implements Adjacency {
+
+    /**
+     * This field stores a value of an unused slot. It is never a valid vertex index.
+     *
+     * @since 2.1
+     */
+    private static final int EMPTY = -1;
+
+    /**
+     * This field stores the least capacity of a table.
+     *
+     * @since 2.1
+     */
+    private static final int MIN_CAPACITY = 16;
+
+    /**
+     * This field stores the slots of this set. Its length is always a power of two.
+     *
+     * @since 2.1
+     */
+    private int[] table;
+
+    /**
+     * This field stores the number of used slots of {@link #table}.
+     *
+     * @since 2.1
+     */
+    private int size;
+
+    /**
+     * This constructor creates an empty neighbourhood, which holds given number of indexes without rehashing.
+     *
+     * @param size expected number of indexes.
+     * @since 2.1
+     */
+    HashAdjacency(int size) {
+        this.table = emptyTable(capacityFor(size));
+    }
+
+    /**
+     * This constructor creates a neighbourhood containing the same indexes as given one.
+     *
+     * @param adjacency neighbourhood to copy indexes from.
+     * @since 2.1
+     */
+    HashAdjacency(@NotNull Adjacency adjacency) {
+        this.table = emptyTable(capacityFor(adjacency.size()));
+        adjacency.stream().forEach(this::add);
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean contains(int index) {
+        return this.slotOf(index) >= 0;
+    }
+
+    @Override
+    public boolean add(int index) {
+        int mask = this.table.length - 1;
+        int slot = hash(index) & mask;
+        while (this.table[slot] != EMPTY) {
+            if (this.table[slot] == index) return false;
+            slot = (slot + 1) & mask;
+        }
+        this.table[slot] = index;
+        if (++this.size > this.table.length / 2) {
+            this.rehash(this.table.length * 2);
+        }
+        return true;
+    }
+
+    @Override
+    public boolean remove(int index) {
+        int gap = this.slotOf(index);
+        if (gap < 0) return false;
+        int mask = this.table.length - 1;
+        int slot = (gap + 1) & mask;
+        while (this.table[slot] != EMPTY) {
+            int home = hash(this.table[slot]) & mask;
+            if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+                this.table[gap] = this.table[slot];
+                gap = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        this.table[gap] = EMPTY;
+        this.size--;
+        return true;
+    }
+
+    @Override
+    public int @NotNull [] toArray() {
+        return this.stream().toArray();
+    }
+
+    @Override
+    public @NotNull IntStream stream() {
+        return Arrays.stream(this.table).filter(index -> index != EMPTY);
+    }
+
+    @Override
+    public @NotNull PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int slot;
+
+            @Override
+            public boolean hasNext() {
+                int[] table = HashAdjacency.this.table;
+                while (this.slot < table.length && table[this.slot] == EMPTY) {
+                    this.slot++;
+                }
+                return this.slot < table.length;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!this.hasNext()) throw new NoSuchElementException();
+                return HashAdjacency.this.table[this.slot++];
+            }
+        };
+    }
+
+    @Override
+    public @NotNull Adjacency copy() {
+        return new HashAdjacency(this);
+    }
+
+    /**
+     * This method finds a slot of given index.
+     *
+     * @param index numerical index of vertex.
+     * @return slot of given index, or {@code -1} if this set does not contain it.
+     * @since 2.1
+     */
+    private int slotOf(int index) {
+        int mask = this.table.length - 1;
+        int slot = hash(index) & mask;
+        while (this.table[slot] != EMPTY) {
+            if (this.table[slot] == index) return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * This method moves all indexes to a new table of given capacity.
+     *
+     * @param capacity capacity of a new table, a power of two.
+     * @since 2.1
+     */
+    private void rehash(int capacity) {
+        int[] old = this.table;
+        this.table = emptyTable(capacity);
+        this.size = 0;
+        for (int index : old) {
+            if (index != EMPTY) this.add(index);
+        }
+    }
+
+    /**
+     * This method spreads bits of given index, so consecutive indexes do not form long probing sequences.
+     *
+     * @param index numerical index of vertex.
+     * @return hash of given index.
+     * @since 2.1
+     */
+    private static int hash(int index) {
+        int hash = index * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+
+    /**
+     * This method returns the least power of two capacity that holds given number of indexes at most half full.
+     *
+     * @param size expected number of indexes.
+     * @return capacity of a table.
+     * @since 2.1
+     */
+    private static int capacityFor(int size) {
+        return Math.max(MIN_CAPACITY, Integer.highestOneBit(Math.max(1, size) * 4 - 1));
+    }
+
+    /**
+     * This method creates a table of given capacity with every slot unused.
+     *
+     * @param capacity capacity of a table.
+     * @return new table.
+     * @since 2.1
+     */
+    private static int @NotNull [] emptyTable(int capacity) {
+        int[] table = new int[capacity];
+        Arrays.fill(table, EMPTY);
+        return table;
+    }
+}
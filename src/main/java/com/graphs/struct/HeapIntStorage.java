@@ -0,0 +1,55 @@
+package com.graphs.struct;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * This class implements a storage of {@code int} values on the heap, as a plain array.
+ *
+ * @author Łukasz Malara
+ * @version JDK 1.7
+ * @see DirectIntStorage
+ * @since 2.1
+ */
+final class HeapIntStorage implements IntStorage {
+
+    /**
+     * This field stores values of this storage.
+     *
+     * @since 2.1
+     */
+    private final int[] values;
+
+    /**
+     * This constructor creates a storage backed by given array.
+     *
+     * @param values array of values, which is not copied.
+     * @since 2.1
+     */
+    HeapIntStorage(int @NotNull [] values) {
+        this.values = values;
+    }
+
+    @Override
+    public int length() {
+        return this.values.length;
+    }
+
+    @Override
+    public int get(int position) {
+        return this.values[position];
+    }
+
+    @Override
+    public void set(int position, int value) {
+        this.values[position] = value;
+    }
+
+    @Override
+    public void close() {
+    }
+
+    @Override
+    public int @NotNull [] toArray() {
+        return this.values.clone();
+    }
+}
@@ -0,0 +1,31 @@
+package com.graphs.struct;
+
+/**
+ * This enum lists greedy strategies of finding a maximal independent set of {@link Graph}.
+ * Each strategy repeatedly adds a vertex of the least degree to an independent set,
+ * and then removes the vertex and its neighbours from the graph, until no vertex is left.
+ * Strategies differ in the degree they take into account.
+ *
+ * @author Łukasz Malara
+ * @version JDK 1.7
+ * @see Graph#findMIS(IndependentSetStrategy)
+ * @since 2.1
+ */
+public enum IndependentSetStrategy {
+
+    /**
+     * This constant stands for taking vertices by their degree in the whole graph,
+     * which is the strategy of {@link Graph#findMIS()}.
+     *
+     * @since 2.1
+     */
+    MIN_DEGREE,
+
+    /**
+     * This constant stands for taking vertices by their residual degree, that is the number of their neighbours
+     * which have not been removed yet. It usually finds a larger independent set than {@link #MIN_DEGREE}.
+     *
+     * @since 2.1
+     */
+    MIN_RESIDUAL_DEGREE
+}
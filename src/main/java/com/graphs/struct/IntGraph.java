@@ -0,0 +1,277 @@
+package com.graphs.struct;
+
+import com.graphs.exceptions.vertex.NegativeVertexIndexException;
+import com.graphs.exceptions.vertex.NoSuchVertexIndexException;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * This interface is a primitive counterpart of queries of {@link Graph}.
+ * Vertices, neighbourhoods and subsets of vertices are passed as arrays of {@code int} indexes,
+ * so none of the methods boxes an index into {@code Integer} or builds a {@code Set} of them.
+ * <p>
+ * Returned arrays are always new and sorted in ascending order, so a caller is free to modify them.
+ * Subsets given as parameters are neither modified nor retained.
+ * </p>
+ *
+ * @author Łukasz Malara
+ * @version JDK 1.7
+ * @see Graph
+ * @see CsrGraph
+ * @since 2.1
+ */
+public interface IntGraph {
+
+    /**
+     * This method returns the number of vertices of this graph.
+     *
+     * @return number of vertices.
+     * @since 2.1
+     */
+    int getOrder();
+
+    /**
+     * This method returns the number of edges of this graph.
+     *
+     * @return number of edges.
+     * @since 2.1
+     */
+    long getEdgeCount();
+
+    /**
+     * This method returns the minimal degree of a vertex of this graph.
+     *
+     * @return minimal degree, or {@code 0} if this graph is empty.
+     * @since 2.1
+     */
+    int getMinDegree();
+
+    /**
+     * This method returns the maximal degree of a vertex of this graph.
+     *
+     * @return maximal degree, or {@code 0} if this graph is empty.
+     * @since 2.1
+     */
+    int getMaxDegree();
+
+    /**
+     * This method returns density of this graph, that is the number of its edges
+     * divided by the number of edges of a complete graph of the same order.
+     *
+     * @return density from {@code 0} to {@code 1}, or {@code 0} if this graph has less than two vertices.
+     * @since 2.1
+     */
+    default double getDensity() {
+        long order = getOrder();
+        return order < 2 ? 0 : 2.0 * getEdgeCount() / (order * (order - 1));
+    }
+
+    /**
+     * This method returns indexes of all vertices of this graph.
+     *
+     * @return sorted array of vertices indexes.
+     * @since 2.1
+     */
+    int @NotNull [] getVertexIndexes();
+
+    /**
+     * This method returns indexes of neighbours of vertex given by {@code int} index.
+     *
+     * @param index numerical index of a vertex.
+     * @return sorted array of indexes of neighbours of a vertex.
+     * @throws NegativeVertexIndexException if parameter type {@code int < 0}.
+     * @throws NoSuchVertexIndexException   if this graph does not contain vertex with given {@code int} index.
+     * @since 2.1
+     */
+    int @NotNull [] getNeighbourIndexes(int index) throws NegativeVertexIndexException, NoSuchVertexIndexException;
+
+    /**
+     * This method returns the degree of vertex given by {@code int} index.
+     *
+     * @param index numerical index of a vertex.
+     * @return number of vertices in an open neighbourhood of a vertex.
+     * @throws NegativeVertexIndexException if parameter type {@code int < 0}.
+     * @throws NoSuchVertexIndexException   if this graph does not contain vertex with given {@code int} index.
+     * @since 2.1
+     */
+    int getDegree(int index) throws NegativeVertexIndexException, NoSuchVertexIndexException;
+
+    /**
+     * This method checks whether this graph contains a vertex with given {@code int} index.
+     *
+     * @param index numerical index of vertex.
+     * @return {@code true} if this graph contains vertex with given index, {@code false} otherwise.
+     * @throws NegativeVertexIndexException if parameter type {@code int < 0}.
+     * @since 2.1
+     */
+    boolean isVertexOfGraph(int index) throws NegativeVertexIndexException;
+
+    /**
+     * This method checks whether given indexes are a subset of vertices of this graph.
+     *
+     * @param subset indexes of vertices to check if they are in this graph.
+     * @return {@code true} if given indexes are a non-empty subset of vertices of this graph, {@code false} otherwise.
+     * @throws NegativeVertexIndexException if given indexes contain negative number(s).
+     * @since 2.1
+     */
+    boolean areVerticesOfGraph(int @NotNull ... subset) throws NegativeVertexIndexException;
+
+    /**
+     * This method checks whether given indexes induce connected subgraph of this graph, or do not.
+     *
+     * @param subset indexes of vertices to check if they induce connected subgraph of this graph.
+     * @return {@code true} if given indexes induce connected subgraph of this graph, {@code false} otherwise.
+     * @throws NegativeVertexIndexException if given indexes contain negative number(s).
+     * @throws NoSuchVertexIndexException   if given indexes contain number that could not be identified with any vertex index.
+     * @since 2.1
+     */
+    boolean doInduceConnectedSubGraph(int @NotNull ... subset) throws NegativeVertexIndexException, NoSuchVertexIndexException;
+
+    /**
+     * This method checks whether given subset induces connected subgraph of this graph, or does not.
+     *
+     * @param subset indexes of vertices to check if they induce connected subgraph of this graph.
+     * @return {@code true} if given subset induces connected subgraph of this graph, {@code false} otherwise.
+     * @throws NoSuchVertexIndexException if given subset contains number that could not be identified with any vertex index.
+     * @since 2.1
+     */
+    boolean doInduceConnectedSubGraph(@NotNull VertexSubset subset) throws NoSuchVertexIndexException;
+
+    /**
+     * This method returns connected components of this graph.
+     *
+     * @return connected components of this graph.
+     * @since 2.1
+     */
+    @NotNull ConnectedComponents connectedComponents();
+
+    /**
+     * This method splits vertices of this graph into two parts, so that each edge joins vertices of different parts,
+     * or finds an odd cycle, which proves that there are no such parts.
+     *
+     * @return bipartition of this graph, or an odd cycle of this graph.
+     * @since 2.1
+     */
+    @NotNull Bipartition findBipartition();
+
+    /**
+     * This method checks whether given indexes induce bipartite subgraph of this graph, or do not.
+     *
+     * @param subset indexes of vertices to check if they induce bipartite subgraph of this graph.
+     * @return {@code true} if given indexes induce bipartite subgraph of this graph, {@code false} otherwise.
+     * @throws NegativeVertexIndexException if given indexes contain negative number(s).
+     * @throws NoSuchVertexIndexException   if given indexes contain number that could not be identified with any vertex index.
+     * @since 2.1
+     */
+    boolean doInduceBipartiteSubGraph(int @NotNull ... subset) throws NegativeVertexIndexException, NoSuchVertexIndexException;
+
+    /**
+     * This method checks whether given subset induces bipartite subgraph of this graph, or does not.
+     *
+     * @param subset indexes of vertices to check if they induce bipartite subgraph of this graph.
+     * @return {@code true} if given subset induces bipartite subgraph of this graph, {@code false} otherwise.
+     * @throws NoSuchVertexIndexException if given subset contains number that could not be identified with any vertex index.
+     * @since 2.1
+     */
+    boolean doInduceBipartiteSubGraph(@NotNull VertexSubset subset) throws NoSuchVertexIndexException;
+
+    /**
+     * This method checks whether given indexes are a connected dominating set of this graph, or are not.
+     *
+     * @param subset indexes of vertices to check if they are a connected dominating set of this graph.
+     * @return {@code true} if given indexes are a connected dominating set of this graph, {@code false} otherwise.
+     * @throws NegativeVertexIndexException if given indexes contain negative number(s).
+     * @throws NoSuchVertexIndexException   if given indexes contain number that could not be identified with any vertex index.
+     * @since 2.1
+     */
+    boolean isCDS(int @NotNull ... subset) throws NegativeVertexIndexException, NoSuchVertexIndexException;
+
+    /**
+     * This method checks whether given subset is a connected dominating set of this graph, or is not.
+     *
+     * @param subset indexes of vertices to check if they are a connected dominating set of this graph.
+     * @return {@code true} if given subset is a connected dominating set of this graph, {@code false} otherwise.
+     * @throws NoSuchVertexIndexException if given subset contains number that could not be identified with any vertex index.
+     * @since 2.1
+     */
+    boolean isCDS(@NotNull VertexSubset subset) throws NoSuchVertexIndexException;
+
+    /**
+     * This method checks whether given indexes are an independent set of this graph, or are not.
+     *
+     * @param subset indexes of vertices to check if they are an independent set of this graph.
+     * @return {@code true} if given indexes are an independent set of this graph, {@code false} otherwise.
+     * @throws NegativeVertexIndexException if given indexes contain negative number(s).
+     * @throws NoSuchVertexIndexException   if given indexes contain number that could not be identified with any vertex index.
+     * @since 2.1
+     */
+    boolean isIndependentSet(int @NotNull ... subset) throws NegativeVertexIndexException, NoSuchVertexIndexException;
+
+    /**
+     * This method checks whether given subset is an independent set of this graph, or is not.
+     *
+     * @param subset indexes of vertices to check if they are an independent set of this graph.
+     * @return {@code true} if given subset is an independent set of this graph, {@code false} otherwise.
+     * @throws NoSuchVertexIndexException if given subset contains number that could not be identified with any vertex index.
+     * @since 2.1
+     */
+    boolean isIndependentSet(@NotNull VertexSubset subset) throws NoSuchVertexIndexException;
+
+    /**
+     * This method finds a minimal connected dominating set in this graph.
+     *
+     * @return sorted array of indexes of vertices of minimal connected dominating set.
+     * @since 2.1
+     */
+    int @NotNull [] findMCDSIndexes();
+
+    /**
+     * This method finds a minimal connected dominating set in this graph by given strategy.
+     *
+     * @param strategy strategy of finding a connected dominating set.
+     * @return sorted array of indexes of vertices of minimal connected dominating set.
+     * @since 2.1
+     */
+    int @NotNull [] findMCDSIndexes(@NotNull ConnectedDominatingSetStrategy strategy);
+
+    /**
+     * This method finds a minimal dominating set in this graph.
+     *
+     * @return sorted array of indexes of vertices of minimal dominating set.
+     * @since 2.1
+     */
+    int @NotNull [] findMDSIndexes();
+
+    /**
+     * This method finds a dominating set in this graph by a round-based parallel algorithm.
+     *
+     * @return sorted array of indexes of vertices of dominating set.
+     * @since 2.1
+     */
+    int @NotNull [] findParallelMDSIndexes();
+
+    /**
+     * This method finds a maximal independent set of this graph.
+     *
+     * @return sorted array of indexes of vertices of maximal independent set.
+     * @since 2.1
+     */
+    int @NotNull [] findMISIndexes();
+
+    /**
+     * This method finds a maximal independent set of this graph by given greedy strategy.
+     *
+     * @param strategy greedy strategy of taking vertices.
+     * @return sorted array of indexes of vertices of maximal independent set.
+     * @since 2.1
+     */
+    int @NotNull [] findMISIndexes(@NotNull IndependentSetStrategy strategy);
+
+    /**
+     * This method finds a maximal independent set of this graph by a randomized parallel algorithm.
+     *
+     * @param seed seed of random priorities of vertices.
+     * @return sorted array of indexes of vertices of maximal independent set.
+     * @since 2.1
+     */
+    int @NotNull [] findParallelMISIndexes(long seed);
+}
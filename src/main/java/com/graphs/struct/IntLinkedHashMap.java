@@ -0,0 +1,561 @@
+package com.graphs.struct;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.UnmodifiableView;
+
+import java.util.AbstractCollection;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.stream.IntStream;
+
+/**
+ * This class implements a map from non-negative {@code int} keys to values that keeps order of insertion.
+ * Unlike {@code LinkedHashMap<Integer, V>}, it never boxes a key.
+ * <p>
+ * Entries are stored one after another in order of insertion, and an open-addressing table
+ * maps a key to the position of its entry. A removed entry leaves a gap,
+ * and gaps are squeezed out once they outnumber the entries.
+ * </p>
+ * <p>
+ * Entries and the table are split into pages of {@link #PAGE_SIZE} slots, which are shared by a map and its copy
+ * until either of them writes to a page. Hence, a copy takes time proportional to the number of pages,
+ * and each page is copied at most once afterwards, on the first write to it.
+ * </p>
+ *
+ * @param <V> the type of mapped values.
+ * @author Łukasz Malara
+ * @version JDK 1.7
+ * @since 2.1
+ */
+final class IntLinkedHashMap<V> {
+
+    /**
+     * This field stores a value of an unused slot of {@link #slots} and of a removed key in {@link #keys}.
+     *
+     * @since 2.1
+     */
+    private static final int EMPTY = -1;
+
+    /**
+     * This field stores the binary logarithm of {@link #PAGE_SIZE}.
+     *
+     * @since 2.1
+     */
+    private static final int PAGE_SHIFT = 8;
+
+    /**
+     * This field stores the greatest number of slots of a page.
+     * Arrays smaller than a page are kept in a single page of their own length.
+     *
+     * @since 2.1
+     */
+    private static final int PAGE_SIZE = 1 << PAGE_SHIFT;
+
+    /**
+     * This field stores a mask of a position within a page.
+     *
+     * @since 2.1
+     */
+    private static final int PAGE_MASK = PAGE_SIZE - 1;
+
+    /**
+     * This field stores keys of entries in order of insertion, in pages.
+     *
+     * @since 2.1
+     */
+    private int[][] keys;
+
+    /**
+     * This field stores values of entries in the same order and pages as {@link #keys}.
+     *
+     * @since 2.1
+     */
+    private Object[][] values;
+
+    /**
+     * This field tells which pages of {@link #keys} and {@link #values} are owned by this map,
+     * so they can be written to without being copied.
+     *
+     * @since 2.1
+     */
+    private boolean[] ownedEntries;
+
+    /**
+     * This field stores the number of positions of {@link #keys}.
+     *
+     * @since 2.1
+     */
+    private int capacity;
+
+    /**
+     * This field stores positions of entries in {@link #keys}, placed by hashes of their keys, in pages.
+     * The number of its slots is always a power of two.
+     *
+     * @since 2.1
+     */
+    private int[][] slots;
+
+    /**
+     * This field tells which pages of {@link #slots} are owned by this map,
+     * so they can be written to without being copied.
+     *
+     * @since 2.1
+     */
+    private boolean[] ownedSlots;
+
+    /**
+     * This field stores the number of slots of {@link #slots}.
+     *
+     * @since 2.1
+     */
+    private int slotCount;
+
+    /**
+     * This field stores the position right after the last entry.
+     *
+     * @since 2.1
+     */
+    private int end;
+
+    /**
+     * This field stores the number of entries.
+     *
+     * @since 2.1
+     */
+    private int size;
+
+    /**
+     * This constructor creates an empty map.
+     *
+     * @since 2.1
+     */
+    IntLinkedHashMap() {
+        this.allocateEntries(8);
+        this.allocateSlots(16);
+    }
+
+    /**
+     * This constructor creates a copy of given map, which shares pages with given map until either of them writes to one.
+     * Values are not copied, they are shared by both maps.
+     *
+     * @param map map to copy.
+     * @since 2.1
+     */
+    private IntLinkedHashMap(@NotNull IntLinkedHashMap<V> map) {
+        this.keys = map.keys.clone();
+        this.values = map.values.clone();
+        this.ownedEntries = new boolean[this.keys.length];
+        this.capacity = map.capacity;
+        this.slots = map.slots.clone();
+        this.ownedSlots = new boolean[this.slots.length];
+        this.slotCount = map.slotCount;
+        this.end = map.end;
+        this.size = map.size;
+        Arrays.fill(map.ownedEntries, false);
+        Arrays.fill(map.ownedSlots, false);
+    }
+
+    /**
+     * This method returns an independent copy of this map, which shares values with this map.
+     * It takes time proportional to the number of pages, as pages are copied later, on the first write to each of them.
+     *
+     * @return new map with the same entries in the same order.
+     * @since 2.1
+     */
+    @NotNull IntLinkedHashMap<V> copy() {
+        return new IntLinkedHashMap<>(this);
+    }
+
+    /**
+     * This method returns the number of entries in this map.
+     *
+     * @return number of entries.
+     * @since 2.1
+     */
+    int size() {
+        return this.size;
+    }
+
+    /**
+     * This method checks whether this map contains no entries.
+     *
+     * @return {@code true} if this map is empty, {@code false} otherwise.
+     * @since 2.1
+     */
+    boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * This method checks whether this map contains given key.
+     *
+     * @param key non-negative key.
+     * @return {@code true} if this map contains given key, {@code false} otherwise.
+     * @since 2.1
+     */
+    boolean containsKey(int key) {
+        return this.slotOf(key) >= 0;
+    }
+
+    /**
+     * This method returns a value mapped by given key.
+     *
+     * @param key non-negative key.
+     * @return value mapped by given key, or {@code null} if this map does not contain it.
+     * @since 2.1
+     */
+    V get(int key) {
+        int slot = this.slotOf(key);
+        return slot < 0 ? null : this.valueAt(this.slotAt(slot));
+    }
+
+    /**
+     * This method maps given key to given value.
+     * A new key is placed after all other keys, while an already mapped key keeps its position.
+     *
+     * @param key   non-negative key.
+     * @param value value to map.
+     * @return previously mapped value, or {@code null} if this map did not contain given key.
+     * @since 2.1
+     */
+    V put(int key, V value) {
+        int slot = this.slotOf(key);
+        if (slot >= 0) {
+            int position = this.slotAt(slot);
+            V previous = this.valueAt(position);
+            this.setEntry(position, key, value);
+            return previous;
+        }
+        if (this.end == this.capacity) {
+            if (this.end - this.size >= this.size) {
+                this.compact();
+            } else {
+                this.growEntries();
+            }
+        }
+        this.setEntry(this.end, key, value);
+        this.place(this.end++);
+        if (++this.size * 2 > this.slotCount) {
+            this.rehash(this.slotCount * 2);
+        }
+        return null;
+    }
+
+    /**
+     * This method removes an entry of given key.
+     *
+     * @param key non-negative key.
+     * @return removed value, or {@code null} if this map did not contain given key.
+     * @since 2.1
+     */
+    V remove(int key) {
+        int gap = this.slotOf(key);
+        if (gap < 0) return null;
+        int position = this.slotAt(gap);
+        V removed = this.valueAt(position);
+        int mask = this.slotCount - 1;
+        int slot = (gap + 1) & mask;
+        while (this.slotAt(slot) != EMPTY) {
+            int home = hash(this.keyAt(this.slotAt(slot))) & mask;
+            if (((slot - home) & mask) >= ((slot - gap) & mask)) {
+                this.setSlot(gap, this.slotAt(slot));
+                gap = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        this.setSlot(gap, EMPTY);
+        this.setEntry(position, EMPTY, null);
+        this.size--;
+        while (this.end > 0 && this.keyAt(this.end - 1) == EMPTY) {
+            this.end--;
+        }
+        return removed;
+    }
+
+    /**
+     * This method returns the position right after the last entry.
+     * Positions of entries follow order of insertion, but some positions below it may be gaps of removed entries.
+     *
+     * @return position right after the last entry.
+     * @see #valueAt(int)
+     * @since 2.1
+     */
+    int end() {
+        return this.end;
+    }
+
+    /**
+     * This method returns a value of an entry at given position.
+     *
+     * @param position position below {@link #end()}.
+     * @return value of an entry, or {@code null} if an entry at given position has been removed.
+     * @since 2.1
+     */
+    @SuppressWarnings("unchecked")
+    V valueAt(int position) {
+        return (V) this.values[position >>> PAGE_SHIFT][position & PAGE_MASK];
+    }
+
+    /**
+     * This method returns a copy of keys of this map in order of insertion.
+     *
+     * @return new array of keys.
+     * @since 2.1
+     */
+    int @NotNull [] keys() {
+        return this.keyStream().toArray();
+    }
+
+    /**
+     * This method returns a sequential stream of keys of this map in order of insertion.
+     *
+     * @return stream of keys.
+     * @since 2.1
+     */
+    @NotNull IntStream keyStream() {
+        return IntStream.range(0, this.end).map(this::keyAt).filter(key -> key != EMPTY);
+    }
+
+    /**
+     * This method returns a live, unmodifiable view of values of this map in order of insertion.
+     *
+     * @return view of values.
+     * @since 2.1
+     */
+    @NotNull @UnmodifiableView Collection<V> values() {
+        return new AbstractCollection<>() {
+            @Override
+            public @NotNull Iterator<V> iterator() {
+                return new Iterator<>() {
+                    private int position = skipRemoved(0);
+
+                    @Override
+                    public boolean hasNext() {
+                        return this.position < IntLinkedHashMap.this.end;
+                    }
+
+                    @Override
+                    public V next() {
+                        if (!this.hasNext()) throw new NoSuchElementException();
+                        V value = IntLinkedHashMap.this.valueAt(this.position);
+                        this.position = skipRemoved(this.position + 1);
+                        return value;
+                    }
+                };
+            }
+
+            @Override
+            public int size() {
+                return IntLinkedHashMap.this.size;
+            }
+        };
+    }
+
+    /**
+     * This method returns the first position of an entry, starting from given position.
+     *
+     * @param position position to start from.
+     * @return position of an entry, or {@link #end} if there is none.
+     * @since 2.1
+     */
+    private int skipRemoved(int position) {
+        while (position < this.end && this.keyAt(position) == EMPTY) {
+            position++;
+        }
+        return position;
+    }
+
+    /**
+     * This method finds a slot pointing at an entry of given key.
+     *
+     * @param key non-negative key.
+     * @return slot of given key, or {@code -1} if this map does not contain it.
+     * @since 2.1
+     */
+    private int slotOf(int key) {
+        int mask = this.slotCount - 1;
+        int slot = hash(key) & mask;
+        int position;
+        while ((position = this.slotAt(slot)) != EMPTY) {
+            if (this.keyAt(position) == key) return slot;
+            slot = (slot + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * This method places an entry at given position into the first free slot for its key.
+     *
+     * @param position position of an entry.
+     * @since 2.1
+     */
+    private void place(int position) {
+        int mask = this.slotCount - 1;
+        int slot = hash(this.keyAt(position)) & mask;
+        while (this.slotAt(slot) != EMPTY) {
+            slot = (slot + 1) & mask;
+        }
+        this.setSlot(slot, position);
+    }
+
+    /**
+     * This method moves all entries to the beginning of new pages, keeping their order, and places them again.
+     *
+     * @since 2.1
+     */
+    private void compact() {
+        int[][] keys = this.keys;
+        Object[][] values = this.values;
+        int end = this.end;
+        this.allocateEntries(this.capacity);
+        this.end = 0;
+        for (int position = 0; position < end; position++) {
+            int key = keys[position >>> PAGE_SHIFT][position & PAGE_MASK];
+            if (key != EMPTY) this.setEntry(this.end++, key, values[position >>> PAGE_SHIFT][position & PAGE_MASK]);
+        }
+        this.rehash(this.slotCount);
+    }
+
+    /**
+     * This method places all entries again into new slots of given capacity.
+     *
+     * @param capacity capacity of new slots, a power of two.
+     * @since 2.1
+     */
+    private void rehash(int capacity) {
+        this.allocateSlots(capacity);
+        for (int position = 0; position < this.end; position++) {
+            if (this.keyAt(position) != EMPTY) this.place(position);
+        }
+    }
+
+    /**
+     * This method returns a key of an entry at given position.
+     *
+     * @param position position below {@link #capacity}.
+     * @return key of an entry, or {@link #EMPTY} if an entry at given position has been removed.
+     * @since 2.1
+     */
+    private int keyAt(int position) {
+        return this.keys[position >>> PAGE_SHIFT][position & PAGE_MASK];
+    }
+
+    /**
+     * This method writes given key and value at given position, copying their pages first if they are shared.
+     *
+     * @param position position below {@link #capacity}.
+     * @param key      key of an entry, or {@link #EMPTY} for a removed entry.
+     * @param value    value of an entry, or {@code null} for a removed entry.
+     * @since 2.1
+     */
+    private void setEntry(int position, int key, Object value) {
+        int page = position >>> PAGE_SHIFT;
+        if (!this.ownedEntries[page]) {
+            this.keys[page] = this.keys[page].clone();
+            this.values[page] = this.values[page].clone();
+            this.ownedEntries[page] = true;
+        }
+        this.keys[page][position & PAGE_MASK] = key;
+        this.values[page][position & PAGE_MASK] = value;
+    }
+
+    /**
+     * This method returns a position stored in given slot.
+     *
+     * @param slot slot below {@link #slotCount}.
+     * @return position of an entry, or {@link #EMPTY} if given slot is unused.
+     * @since 2.1
+     */
+    private int slotAt(int slot) {
+        return this.slots[slot >>> PAGE_SHIFT][slot & PAGE_MASK];
+    }
+
+    /**
+     * This method writes given position into given slot, copying its page first if it is shared.
+     *
+     * @param slot     slot below {@link #slotCount}.
+     * @param position position of an entry, or {@link #EMPTY} for an unused slot.
+     * @since 2.1
+     */
+    private void setSlot(int slot, int position) {
+        int page = slot >>> PAGE_SHIFT;
+        if (!this.ownedSlots[page]) {
+            this.slots[page] = this.slots[page].clone();
+            this.ownedSlots[page] = true;
+        }
+        this.slots[page][slot & PAGE_MASK] = position;
+    }
+
+    /**
+     * This method replaces entries with new, empty pages of given capacity, all of them owned by this map.
+     *
+     * @param capacity number of positions, either a power of two below {@link #PAGE_SIZE} or a multiple of it.
+     * @since 2.1
+     */
+    private void allocateEntries(int capacity) {
+        int pages = Math.max(1, capacity >>> PAGE_SHIFT);
+        int length = Math.min(capacity, PAGE_SIZE);
+        this.keys = new int[pages][length];
+        this.values = new Object[pages][length];
+        this.ownedEntries = new boolean[pages];
+        Arrays.fill(this.ownedEntries, true);
+        this.capacity = capacity;
+    }
+
+    /**
+     * This method adds positions for entries: a single page is doubled until it is full, then whole pages are added.
+     *
+     * @since 2.1
+     */
+    private void growEntries() {
+        if (this.capacity < PAGE_SIZE) {
+            this.keys[0] = Arrays.copyOf(this.keys[0], this.capacity * 2);
+            this.values[0] = Arrays.copyOf(this.values[0], this.capacity * 2);
+            this.ownedEntries[0] = true;
+            this.capacity *= 2;
+            return;
+        }
+        int page = this.capacity >>> PAGE_SHIFT;
+        if (page == this.keys.length) {
+            this.keys = Arrays.copyOf(this.keys, page * 2);
+            this.values = Arrays.copyOf(this.values, page * 2);
+            this.ownedEntries = Arrays.copyOf(this.ownedEntries, page * 2);
+        }
+        this.keys[page] = new int[PAGE_SIZE];
+        this.values[page] = new Object[PAGE_SIZE];
+        this.ownedEntries[page] = true;
+        this.capacity += PAGE_SIZE;
+    }
+
+    /**
+     * This method replaces slots with new pages of given capacity with every slot unused, all of them owned by this map.
+     *
+     * @param capacity number of slots, a power of two.
+     * @since 2.1
+     */
+    private void allocateSlots(int capacity) {
+        int pages = Math.max(1, capacity >>> PAGE_SHIFT);
+        int length = Math.min(capacity, PAGE_SIZE);
+        this.slots = new int[pages][length];
+        for (int[] page : this.slots) {
+            Arrays.fill(page, EMPTY);
+        }
+        this.ownedSlots = new boolean[pages];
+        Arrays.fill(this.ownedSlots, true);
+        this.slotCount = capacity;
+    }
+
+    /**
+     * This method spreads bits of given key, so consecutive keys do not form long probing sequences.
+     *
+     * @param key non-negative key.
+     * @return hash of given key.
+     * @since 2.1
+     */
+    private static int hash(int key) {
+        int hash = key * 0x9E3779B9;
+        return hash ^ (hash >>> 16);
+    }
+}
@@ -0,0 +1,109 @@
+package com.graphs.struct;
+
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * This interface represents a fixed-length sequence of {@code int} values that backs arrays of {@link CsrGraph}.
+ * <p>
+ * Values are kept either on the heap, in {@link HeapIntStorage}, or outside of it, in {@link DirectIntStorage}.
+ * Off-heap values are neither scanned nor moved by the garbage collector,
+ * so a large snapshot kept there does not lengthen collection pauses and does not count towards a heap budget.
+ * Storages back only arrays of snapshots, never neighbourhoods of a mutable {@link Graph}.
+ * </p>
+ *
+ * @author Łukasz Malara
+ * @version JDK 1.7
+ * @since 2.1
+ */
+interface IntStorage {
+
+    /**
+     * This field stores a storage that replaces storages of a closed {@link CsrGraph}.
+     * Every access to it throws {@code IllegalStateException}.
+     *
+     * @since 2.1
+     */
+    IntStorage CLOSED = new IntStorage() {
+        @Override
+        public int length() {
+            throw closed();
+        }
+
+        @Override
+        public int get(int position) {
+            throw closed();
+        }
+
+        @Override
+        public void set(int position, int value) {
+            throw closed();
+        }
+
+        @Override
+        public void close() {
+        }
+
+        private @NotNull IllegalStateException closed() {
+            return new IllegalStateException("Graph has been closed.");
+        }
+    };
+
+    /**
+     * This method returns the number of values in this storage.
+     *
+     * @return number of values.
+     * @since 2.1
+     */
+    int length();
+
+    /**
+     * This method returns a value at given position.
+     *
+     * @param position position of a value, from {@code 0} inclusive to {@link #length()} exclusive.
+     * @return value at given position.
+     * @since 2.1
+     */
+    int get(int position);
+
+    /**
+     * This method replaces a value at given position.
+     *
+     * @param position position of a value, from {@code 0} inclusive to {@link #length()} exclusive.
+     * @param value    new value.
+     * @since 2.1
+     */
+    void set(int position, int value);
+
+    /**
+     * This method releases memory held by this storage. A storage must not be accessed once it is closed.
+     *
+     * @since 2.1
+     */
+    void close();
+
+    /**
+     * This method returns a copy of values of this storage.
+     *
+     * @return new array of values.
+     * @since 2.1
+     */
+    default int @NotNull [] toArray() {
+        int[] values = new int[length()];
+        for (int position = 0; position < values.length; position++) {
+            values[position] = get(position);
+        }
+        return values;
+    }
+
+    /**
+     * This method creates a storage of given length, filled with zeros.
+     *
+     * @param length  number of values.
+     * @param offHeap whether values should be kept outside of the heap.
+     * @return new storage.
+     * @since 2.1
+     */
+    static @NotNull IntStorage allocate(int length, boolean offHeap) {
+        return offHeap ? new DirectIntStorage(length) : new HeapIntStorage(new int[length]);
+    }
+}
@@ -0,0 +1,209 @@
+package com.graphs.struct;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+
+/**
+ * This class implements the marking process of Wu and Li, which finds a connected dominating set
+ * of a connected graph that is not complete, over arrays of {@link CsrGraph}.
+ * <p>
+ * A vertex is marked once it has two neighbours that are not adjacent. Marked vertices of a connected graph,
+ * which is not complete, are a connected dominating set. Then a marked vertex is unmarked by one of two rules:
+ * </p>
+ * <ol>
+ *     <li>its closed neighbourhood is covered by the closed neighbourhood of a marked neighbour of a greater identifier,</li>
+ *     <li>its open neighbourhood is covered by open neighbourhoods of two marked neighbours of greater identifiers.</li>
+ * </ol>
+ * <p>
+ * Rules are checked against marks before any of them is applied, so they are applied to all vertices at once,
+ * which keeps the set connected and dominating. Each vertex is decided on by looking at its own neighbourhood
+ * and at neighbourhoods of its neighbours only, so vertices are processed in parallel on the common {@code ForkJoinPool}.
+ * Neighbourhoods are copied and sorted once, so they are compared by merging and bisection.
+ * </p>
+ * <p>
+ * An instance is meant for a single computation and is not reused.
+ * </p>
+ *
+ * @author Łukasz Malara
+ * @version JDK 1.7
+ * @see ConnectedDominatingSetStrategy#MARKING
+ * @since 2.1
+ */
+final class MarkingProcess {
+
+    /**
+     * This field stores the beginning of neighbours of each vertex in {@link #neighbours}.
+     *
+     * @since 2.1
+     */
+    private final IntStorage offsets;
+
+    /**
+     * This field stores dense identifiers of neighbours of all vertices, one vertex after another,
+     * each neighbourhood sorted in ascending order.
+     *
+     * @since 2.1
+     */
+    private final int[] neighbours;
+
+    /**
+     * This field stores whether each vertex has been marked.
+     *
+     * @since 2.1
+     */
+    private final boolean[] marked;
+
+    /**
+     * This field stores whether vertices are processed in parallel.
+     *
+     * @since 2.1
+     */
+    private final boolean parallel;
+
+    /**
+     * This constructor prepares a marking process over given arrays of a graph, sorting a copy of each neighbourhood.
+     * A graph of at least {@link Parallelism#THRESHOLD} vertices is processed in parallel,
+     * while a smaller one is processed faster by a single thread.
+     *
+     * @param offsets beginning of neighbours of each vertex in targets, of length {@code order + 1}.
+     * @param targets dense identifiers of neighbours of all vertices, one vertex after another.
+     * @since 2.1
+     */
+    MarkingProcess(@NotNull IntStorage offsets, @NotNull IntStorage targets) {
+        int order = offsets.length() - 1;
+        this.offsets = offsets;
+        this.neighbours = new int[targets.length()];
+        this.marked = new boolean[order];
+        this.parallel = Parallelism.isParallel(order);
+        Parallelism.range(order, this.parallel).forEach(id -> {
+            int from = offsets.get(id);
+            int to = offsets.get(id + 1);
+            for (int k = from; k < to; k++) {
+                this.neighbours[k] = targets.get(k);
+            }
+            Arrays.sort(this.neighbours, from, to);
+        });
+    }
+
+    /**
+     * This method marks vertices and then unmarks ones that are covered by the rules.
+     *
+     * @return dense identifiers of vertices that are left marked, in ascending order.
+     * @since 2.1
+     */
+    int @NotNull [] compute() {
+        Parallelism.range(this.marked.length, this.parallel)
+                .forEach(id -> this.marked[id] = this.hasNonAdjacentNeighbours(id));
+        return Parallelism.range(this.marked.length, this.parallel)
+                .filter(id -> this.marked[id] && !this.isCoveredByOne(id) && !this.isCoveredByTwo(id))
+                .toArray();
+    }
+
+    /**
+     * This method checks whether given vertex has two neighbours that are not adjacent.
+     *
+     * @param id dense identifier of a vertex.
+     * @return {@code true} if given vertex is marked, {@code false} if its neighbourhood is a clique.
+     * @since 2.1
+     */
+    private boolean hasNonAdjacentNeighbours(int id) {
+        for (int k = this.offsets.get(id); k < this.offsets.get(id + 1); k++) {
+            int neighbour = this.neighbours[k];
+            if (!this.covers(neighbour, this.neighbours, this.offsets.get(id), this.offsets.get(id + 1), neighbour)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * This method checks the rule 1: whether the closed neighbourhood of given vertex is covered by the closed neighbourhood
+     * of a marked neighbour of a greater identifier. The neighbour belongs to both neighbourhoods, and given vertex is its neighbour,
+     * so it is enough to check whether other neighbours of given vertex are adjacent to the neighbour.
+     *
+     * @param id dense identifier of a marked vertex.
+     * @return {@code true} if given vertex is unmarked by the rule 1, {@code false} otherwise.
+     * @since 2.1
+     */
+    private boolean isCoveredByOne(int id) {
+        int from = this.offsets.get(id);
+        int to = this.offsets.get(id + 1);
+        for (int k = from; k < to; k++) {
+            int neighbour = this.neighbours[k];
+            if (neighbour > id && this.marked[neighbour] && this.covers(neighbour, this.neighbours, from, to, neighbour)) return true;
+        }
+        return false;
+    }
+
+    /**
+     * This method checks the rule 2: whether the open neighbourhood of given vertex is covered by open neighbourhoods
+     * of two marked neighbours of greater identifiers. Neighbours of given vertex that are not adjacent to the first neighbour
+     * are gathered once, and then checked against the second one. The first neighbour is among them,
+     * so the second one has to be adjacent to it.
+     *
+     * @param id dense identifier of a marked vertex.
+     * @return {@code true} if given vertex is unmarked by the rule 2, {@code false} otherwise.
+     * @since 2.1
+     */
+    private boolean isCoveredByTwo(int id) {
+        int from = this.offsets.get(id);
+        int to = this.offsets.get(id + 1);
+        int[] uncovered = new int[to - from];
+        for (int k = from; k < to; k++) {
+            int first = this.neighbours[k];
+            if (first < id || !this.marked[first]) continue;
+            int size = this.difference(from, to, first, uncovered);
+            for (int j = from; j < to; j++) {
+                int second = this.neighbours[j];
+                if (second != first && second > id && this.marked[second] && this.covers(second, uncovered, 0, size, -1)) return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * This method checks whether given vertices, except one, are all neighbours of given vertex.
+     * Each vertex is searched for by bisection past the previous one, so a few vertices are checked against
+     * a large neighbourhood without walking all of it.
+     *
+     * @param id      dense identifier of a vertex, whose neighbourhood should cover given vertices.
+     * @param sorted  array of dense identifiers of vertices, sorted in ascending order within given range.
+     * @param from    beginning of a range of vertices, inclusive.
+     * @param to      end of a range of vertices, exclusive.
+     * @param skipped dense identifier of a vertex that need not be covered, or {@code -1} if there is none.
+     * @return {@code true} if the neighbourhood of given vertex covers given vertices, {@code false} otherwise.
+     * @since 2.1
+     */
+    private boolean covers(int id, int @NotNull [] sorted, int from, int to, int skipped) {
+        int k = this.offsets.get(id);
+        int end = this.offsets.get(id + 1);
+        for (int position = from; position < to; position++) {
+            int vertex = sorted[position];
+            if (vertex == skipped) continue;
+            k = Arrays.binarySearch(this.neighbours, k, end, vertex);
+            if (k < 0) return false;
+        }
+        return true;
+    }
+
+    /**
+     * This method gathers vertices of a range of sorted neighbours that are not neighbours of given vertex.
+     *
+     * @param from       beginning of a range of neighbours, inclusive.
+     * @param to         end of a range of neighbours, exclusive.
+     * @param id         dense identifier of a vertex, whose neighbours are left out.
+     * @param difference array to fill with gathered vertices, in ascending order.
+     * @return number of gathered vertices.
+     * @since 2.1
+     */
+    private int difference(int from, int to, int id, int @NotNull [] difference) {
+        int k = this.offsets.get(id);
+        int end = this.offsets.get(id + 1);
+        int size = 0;
+        for (int position = from; position < to; position++) {
+            int vertex = this.neighbours[position];
+            while (k < end && this.neighbours[k] < vertex) k++;
+            if (k == end || this.neighbours[k] != vertex) difference[size++] = vertex;
+        }
+        return size;
+    }
+}
@@ -0,0 +1,334 @@
+package com.graphs.struct;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.stream.IntStream;
+
+/**
+ * This class implements a level-synchronous, direction-optimizing breadth-first search
+ * over arrays of {@link CsrGraph}, which runs each level in parallel on the common {@code ForkJoinPool}.
+ * <p>
+ * A level is expanded either top-down, where vertices of the frontier claim their unvisited neighbours,
+ * or bottom-up, where each unvisited vertex looks for any neighbour in the frontier and stops at the first one.
+ * Top-down suits a small frontier, while bottom-up suits a large one, as it skips most of the edges.
+ * Visited vertices are marked in a bitset of atomic words, so each vertex is claimed by exactly one thread.
+ * A frontier is kept as a queue of dense identifiers while searching top-down, and as a bitmap while searching bottom-up.
+ * </p>
+ * <p>
+ * An instance is meant for a single search and is not reused.
+ * </p>
+ *
+ * @author Łukasz Malara
+ * @version JDK 1.7
+ * @see CsrGraph#isConnected()
+ * @since 2.1
+ */
+final class ParallelBreadthFirstSearch {
+
+    /**
+     * This field stores a factor of switching from top-down to bottom-up.
+     * A search turns bottom-up once edges of the frontier outnumber unexplored edges divided by it.
+     *
+     * @since 2.1
+     */
+    private static final int ALPHA = 14;
+
+    /**
+     * This field stores a factor of switching from bottom-up back to top-down.
+     * A search turns top-down once the frontier is shrinking and has less vertices than the subset divided by it.
+     *
+     * @since 2.1
+     */
+    private static final int BETA = 24;
+
+    /**
+     * This field stores the beginning of neighbours of each vertex in {@link #targets}.
+     *
+     * @since 2.1
+     */
+    private final IntStorage offsets;
+
+    /**
+     * This field stores dense identifiers of neighbours of all vertices, one vertex after another.
+     *
+     * @since 2.1
+     */
+    private final IntStorage targets;
+
+    /**
+     * This field stores membership of each vertex in a searched subset as a bitmap,
+     * or {@code null} if all vertices are searched.
+     *
+     * @since 2.1
+     */
+    private final long[] member;
+
+    /**
+     * This field stores visited vertices as a bitmap of atomic words.
+     *
+     * @since 2.1
+     */
+    private final AtomicLongArray visited;
+
+    /**
+     * This field stores the number of vertices of a graph.
+     *
+     * @since 2.1
+     */
+    private final int order;
+
+    /**
+     * This constructor prepares a search over given arrays of a graph.
+     *
+     * @param offsets beginning of neighbours of each vertex in targets, of length {@code order + 1}.
+     * @param targets dense identifiers of neighbours of all vertices, one vertex after another.
+     * @param member  membership of each vertex in a searched subset as a bitmap, or {@code null} to search all vertices.
+     * @since 2.1
+     */
+    ParallelBreadthFirstSearch(@NotNull IntStorage offsets, @NotNull IntStorage targets, long[] member) {
+        this.offsets = offsets;
+        this.targets = targets;
+        this.member = member;
+        this.order = offsets.length() - 1;
+        this.visited = new AtomicLongArray(words(this.order));
+    }
+
+    /**
+     * This method returns a bitmap of given subset of vertices.
+     *
+     * @param order  number of vertices of a graph.
+     * @param subset dense identifiers of a subset of vertices.
+     * @return bitmap, where set bits mark vertices from given subset.
+     * @since 2.1
+     */
+    static long @NotNull [] bitmap(int order, int @NotNull [] subset) {
+        long[] bitmap = new long[words(order)];
+        for (int id : subset) {
+            bitmap[id >>> 6] |= 1L << id;
+        }
+        return bitmap;
+    }
+
+    /**
+     * This method visits all vertices of the searched subset reachable from given vertex.
+     *
+     * @param source dense identifier of a vertex of the searched subset to start from.
+     * @param size   number of vertices of the searched subset.
+     * @return number of visited vertices, including given one.
+     * @since 2.1
+     */
+    int search(int source, int size) {
+        this.visited.set(source >>> 6, 1L << source);
+        int[] queue = new int[]{source};
+        int queueSize = 1;
+        long[] frontier = null;
+        int frontierSize = 1;
+        long frontierEdges = this.degree(source);
+        long unexplored = this.unexploredEdges();
+        int count = 1;
+        boolean bottomUp = false;
+        while (frontierSize > 0) {
+            if (!bottomUp && frontierEdges > unexplored / ALPHA) {
+                bottomUp = true;
+                frontier = this.toBitmap(queue, queueSize);
+            }
+            int previousSize = frontierSize;
+            if (bottomUp) {
+                long[] next = new long[frontier.length];
+                frontierSize = this.stepBottomUp(frontier, next);
+                frontier = next;
+                if (frontierSize < previousSize && frontierSize < size / BETA) {
+                    bottomUp = false;
+                    queue = this.toQueue(frontier, frontierSize);
+                    queueSize = frontierSize;
+                    frontierEdges = this.edgesOf(queue, queueSize);
+                    unexplored = this.unexploredEdges();
+                }
+            } else {
+                int[] next = new int[(int) Math.min(this.order, Math.max(frontierEdges, 1))];
+                queueSize = this.stepTopDown(queue, queueSize, next);
+                queue = next;
+                frontierSize = queueSize;
+                frontierEdges = this.edgesOf(queue, queueSize);
+                unexplored -= frontierEdges;
+            }
+            count += frontierSize;
+        }
+        return count;
+    }
+
+    /**
+     * This method expands a frontier top-down: each vertex of the frontier claims its unvisited neighbours.
+     *
+     * @param queue     dense identifiers of vertices of the frontier.
+     * @param queueSize number of vertices of the frontier.
+     * @param next      array to fill with dense identifiers of vertices of the next frontier.
+     * @return number of vertices of the next frontier.
+     * @since 2.1
+     */
+    private int stepTopDown(int @NotNull [] queue, int queueSize, int @NotNull [] next) {
+        AtomicInteger tail = new AtomicInteger();
+        IntStream.range(0, queueSize).parallel().forEach(position -> {
+            int current = queue[position];
+            for (int k = this.offsets.get(current); k < this.offsets.get(current + 1); k++) {
+                int neighbour = this.targets.get(k);
+                if (this.isMember(neighbour) && this.claim(neighbour)) {
+                    next[tail.getAndIncrement()] = neighbour;
+                }
+            }
+        });
+        return tail.get();
+    }
+
+    /**
+     * This method expands a frontier bottom-up: each unvisited vertex joins the next frontier
+     * once it finds any neighbour in the current frontier.
+     * Words of bitmaps are split between threads, so each word of the next frontier is written by a single thread.
+     *
+     * @param frontier bitmap of vertices of the frontier.
+     * @param next     empty bitmap to fill with vertices of the next frontier.
+     * @return number of vertices of the next frontier.
+     * @since 2.1
+     */
+    private int stepBottomUp(long @NotNull [] frontier, long @NotNull [] next) {
+        return IntStream.range(0, next.length).parallel().map(word -> {
+            long candidates = ~this.visited.get(word) & (this.member == null ? -1L : this.member[word]);
+            if (word == next.length - 1 && (this.order & 63) != 0) {
+                candidates &= (1L << this.order) - 1;
+            }
+            long found = 0;
+            while (candidates != 0) {
+                long bit = Long.lowestOneBit(candidates);
+                candidates ^= bit;
+                int current = word << 6 | Long.numberOfTrailingZeros(bit);
+                for (int k = this.offsets.get(current); k < this.offsets.get(current + 1); k++) {
+                    int neighbour = this.targets.get(k);
+                    if ((frontier[neighbour >>> 6] & 1L << neighbour) != 0) {
+                        found |= bit;
+                        break;
+                    }
+                }
+            }
+            if (found == 0) return 0;
+            next[word] = found;
+            this.visited.getAndAccumulate(word, found, (left, right) -> left | right);
+            return Long.bitCount(found);
+        }).sum();
+    }
+
+    /**
+     * This method marks given vertex as visited, unless another thread has already done it.
+     *
+     * @param id dense identifier of a vertex.
+     * @return {@code true} if given vertex has been marked by this call, {@code false} if it was already visited.
+     * @since 2.1
+     */
+    private boolean claim(int id) {
+        int word = id >>> 6;
+        long bit = 1L << id;
+        long current = this.visited.get(word);
+        while ((current & bit) == 0) {
+            long witness = this.visited.compareAndExchange(word, current, current | bit);
+            if (witness == current) return true;
+            current = witness;
+        }
+        return false;
+    }
+
+    /**
+     * This method checks whether given vertex belongs to the searched subset.
+     *
+     * @param id dense identifier of a vertex.
+     * @return {@code true} if given vertex belongs to the searched subset, {@code false} otherwise.
+     * @since 2.1
+     */
+    private boolean isMember(int id) {
+        return this.member == null || (this.member[id >>> 6] & 1L << id) != 0;
+    }
+
+    /**
+     * This method returns the number of ends of edges of vertices of the searched subset that are not visited yet.
+     *
+     * @return sum of degrees of unvisited vertices of the searched subset.
+     * @since 2.1
+     */
+    private long unexploredEdges() {
+        return IntStream.range(0, this.order).parallel()
+                .filter(id -> this.isMember(id) && (this.visited.get(id >>> 6) & 1L << id) == 0)
+                .mapToLong(this::degree)
+                .sum();
+    }
+
+    /**
+     * This method returns the number of ends of edges of vertices of a frontier.
+     *
+     * @param queue     dense identifiers of vertices of the frontier.
+     * @param queueSize number of vertices of the frontier.
+     * @return sum of degrees of vertices of the frontier.
+     * @since 2.1
+     */
+    private long edgesOf(int @NotNull [] queue, int queueSize) {
+        return IntStream.range(0, queueSize).parallel()
+                .mapToLong(position -> this.degree(queue[position]))
+                .sum();
+    }
+
+    /**
+     * This method turns a frontier kept as a queue into a bitmap.
+     *
+     * @param queue     dense identifiers of vertices of the frontier.
+     * @param queueSize number of vertices of the frontier.
+     * @return bitmap of vertices of the frontier.
+     * @since 2.1
+     */
+    private long @NotNull [] toBitmap(int @NotNull [] queue, int queueSize) {
+        long[] bitmap = new long[words(this.order)];
+        for (int position = 0; position < queueSize; position++) {
+            bitmap[queue[position] >>> 6] |= 1L << queue[position];
+        }
+        return bitmap;
+    }
+
+    /**
+     * This method turns a frontier kept as a bitmap into a queue.
+     *
+     * @param bitmap bitmap of vertices of the frontier.
+     * @param size   number of vertices of the frontier.
+     * @return dense identifiers of vertices of the frontier.
+     * @since 2.1
+     */
+    private int @NotNull [] toQueue(long @NotNull [] bitmap, int size) {
+        int[] queue = new int[size];
+        int position = 0;
+        for (int word = 0; word < bitmap.length; word++) {
+            for (long bits = bitmap[word]; bits != 0; bits &= bits - 1) {
+                queue[position++] = word << 6 | Long.numberOfTrailingZeros(bits);
+            }
+        }
+        return queue;
+    }
+
+    /**
+     * This method returns the degree of a vertex given by its dense identifier.
+     *
+     * @param id dense identifier of a vertex.
+     * @return number of neighbours of a vertex.
+     * @since 2.1
+     */
+    private int degree(int id) {
+        return this.offsets.get(id + 1) - this.offsets.get(id);
+    }
+
+    /**
+     * This method returns the number of 64-bit words needed to keep a bitmap of given number of vertices.
+     *
+     * @param order number of vertices.
+     * @return number of words.
+     * @since 2.1
+     */
+    private static int words(int order) {
+        return (order + 63) >>> 6;
+    }
+}
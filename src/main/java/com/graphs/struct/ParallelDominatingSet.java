@@ -0,0 +1,242 @@
+package com.graphs.struct;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.stream.IntStream;
+
+/**
+ * This class implements a round-based parallel greedy dominating set algorithm with rounded spans,
+ * in the style of Jia, Rajaraman and Suel, over arrays of {@link CsrGraph},
+ * which runs each round in parallel on the common {@code ForkJoinPool}.
+ * <p>
+ * A span of a vertex is the number of vertices of its closed neighbourhood that are not dominated yet.
+ * The sequential greedy takes a vertex of the greatest span one at a time, while here spans are rounded down
+ * to powers of two, and all vertices of the greatest rounded span are candidates of a round.
+ * Each vertex that is not dominated votes for a candidate of the highest random priority in its closed neighbourhood,
+ * and a candidate joins the set once it gets votes of at least a half of its span.
+ * Votes are disjoint, so each vertex joined dominates at least a quarter of the greatest span on its own,
+ * which keeps the logarithmic approximation ratio of the greedy up to a constant factor.
+ * A candidate of the highest priority gets all votes, so each round adds at least one vertex.
+ * </p>
+ * <p>
+ * Priorities are fixed, so the result does not depend on the number of threads,
+ * but it is usually a bit larger than the one of {@link CsrGraph#findMDS()}.
+ * An instance is meant for a single computation and is not reused.
+ * </p>
+ *
+ * @author Łukasz Malara
+ * @version JDK 1.7
+ * @see CsrGraph#findParallelMDS()
+ * @since 2.1
+ */
+final class ParallelDominatingSet {
+
+    /**
+     * This field stores a seed of random priorities of vertices.
+     *
+     * @since 2.1
+     */
+    private static final long SEED = 0x5DEECE66DL;
+
+    /**
+     * This field stores the beginning of neighbours of each vertex in {@link #targets}.
+     *
+     * @since 2.1
+     */
+    private final IntStorage offsets;
+
+    /**
+     * This field stores dense identifiers of neighbours of all vertices, one vertex after another.
+     *
+     * @since 2.1
+     */
+    private final IntStorage targets;
+
+    /**
+     * This field stores whether each vertex is not dominated yet.
+     *
+     * @since 2.1
+     */
+    private final boolean[] white;
+
+    /**
+     * This field stores whether each vertex is a candidate of the current round.
+     *
+     * @since 2.1
+     */
+    private final boolean[] candidate;
+
+    /**
+     * This field stores a span of each vertex as of the current round.
+     *
+     * @since 2.1
+     */
+    private final int[] spans;
+
+    /**
+     * This field stores a candidate each vertex that is not dominated votes for in the current round,
+     * or {@code -1} if there is none in its closed neighbourhood.
+     *
+     * @since 2.1
+     */
+    private final int[] votes;
+
+    /**
+     * This field stores whether rounds are run in parallel.
+     *
+     * @since 2.1
+     */
+    private final boolean parallel;
+
+    /**
+     * This constructor prepares a computation over given arrays of a graph.
+     * A graph of at least {@link Parallelism#THRESHOLD} vertices is processed in parallel,
+     * while a smaller one is processed faster by a single thread.
+     *
+     * @param offsets beginning of neighbours of each vertex in targets, of length {@code order + 1}.
+     * @param targets dense identifiers of neighbours of all vertices, one vertex after another.
+     * @since 2.1
+     */
+    ParallelDominatingSet(@NotNull IntStorage offsets, @NotNull IntStorage targets) {
+        this.offsets = offsets;
+        this.targets = targets;
+        int order = offsets.length() - 1;
+        this.white = new boolean[order];
+        this.candidate = new boolean[order];
+        this.spans = new int[order];
+        this.votes = new int[order];
+        this.parallel = Parallelism.isParallel(order);
+        Arrays.fill(this.white, true);
+    }
+
+    /**
+     * This method computes a dominating set of a graph.
+     *
+     * @return dense identifiers of vertices of dominating set, in no particular order.
+     * @since 2.1
+     */
+    int @NotNull [] compute() {
+        int[] dominatingSet = new int[this.white.length];
+        int size = 0;
+        int[] active = IntStream.range(0, this.white.length).toArray();
+        while (active.length > 0) {
+            int[] round = active;
+            Parallelism.range(round.length, this.parallel)
+                    .forEach(position -> this.spans[round[position]] = this.span(round[position]));
+            active = Parallelism.range(round.length, this.parallel)
+                    .map(position -> round[position])
+                    .filter(id -> this.spans[id] > 0)
+                    .toArray();
+            if (active.length == 0) break;
+            int[] current = active;
+            int level = Parallelism.range(current.length, this.parallel)
+                    .map(position -> level(this.spans[current[position]]))
+                    .max()
+                    .orElseThrow();
+            int[] candidates = Parallelism.range(current.length, this.parallel)
+                    .map(position -> current[position])
+                    .filter(id -> level(this.spans[id]) == level)
+                    .toArray();
+            Parallelism.range(candidates.length, this.parallel).forEach(position -> this.candidate[candidates[position]] = true);
+            Parallelism.range(current.length, this.parallel).forEach(position -> this.vote(current[position]));
+            int[] joined = Parallelism.range(candidates.length, this.parallel)
+                    .map(position -> candidates[position])
+                    .filter(this::isElected)
+                    .toArray();
+            Parallelism.range(candidates.length, this.parallel).forEach(position -> this.candidate[candidates[position]] = false);
+            Parallelism.range(joined.length, this.parallel).forEach(position -> this.dominate(joined[position]));
+            System.arraycopy(joined, 0, dominatingSet, size, joined.length);
+            size += joined.length;
+        }
+        return Arrays.copyOf(dominatingSet, size);
+    }
+
+    /**
+     * This method counts vertices of the closed neighbourhood of given vertex that are not dominated yet.
+     *
+     * @param id dense identifier of a vertex.
+     * @return span of given vertex.
+     * @since 2.1
+     */
+    private int span(int id) {
+        int span = this.white[id] ? 1 : 0;
+        for (int k = this.offsets.get(id); k < this.offsets.get(id + 1); k++) {
+            if (this.white[this.targets.get(k)]) span++;
+        }
+        return span;
+    }
+
+    /**
+     * This method lets given vertex vote for a candidate of the highest priority in its closed neighbourhood,
+     * unless it is already dominated. Each vertex writes only its own vote.
+     *
+     * @param id dense identifier of a vertex.
+     * @since 2.1
+     */
+    private void vote(int id) {
+        if (!this.white[id]) return;
+        int chosen = this.candidate[id] ? id : -1;
+        for (int k = this.offsets.get(id); k < this.offsets.get(id + 1); k++) {
+            int neighbour = this.targets.get(k);
+            if (this.candidate[neighbour] && (chosen < 0 || this.outranks(neighbour, chosen))) chosen = neighbour;
+        }
+        this.votes[id] = chosen;
+    }
+
+    /**
+     * This method checks whether given candidate got votes of at least a half of its span.
+     *
+     * @param id dense identifier of a candidate.
+     * @return {@code true} if given candidate joins the set in this round, {@code false} otherwise.
+     * @since 2.1
+     */
+    private boolean isElected(int id) {
+        int count = this.white[id] && this.votes[id] == id ? 1 : 0;
+        for (int k = this.offsets.get(id); k < this.offsets.get(id + 1); k++) {
+            int neighbour = this.targets.get(k);
+            if (this.white[neighbour] && this.votes[neighbour] == id) count++;
+        }
+        return 2 * count >= this.spans[id];
+    }
+
+    /**
+     * This method marks the closed neighbourhood of given vertex joining the set as dominated.
+     * Vertices dominated by several vertices of a round are written the same value by each of them.
+     *
+     * @param id dense identifier of a vertex joining the set.
+     * @since 2.1
+     */
+    private void dominate(int id) {
+        this.white[id] = false;
+        for (int k = this.offsets.get(id); k < this.offsets.get(id + 1); k++) {
+            this.white[this.targets.get(k)] = false;
+        }
+    }
+
+    /**
+     * This method checks whether a vertex has a higher priority than another one.
+     * Ties of priorities are broken by dense identifiers.
+     *
+     * @param id      dense identifier of the first vertex.
+     * @param otherId dense identifier of the second vertex.
+     * @return {@code true} if the first vertex has a higher priority, {@code false} otherwise.
+     * @since 2.1
+     */
+    private boolean outranks(int id, int otherId) {
+        long priority = Parallelism.priority(SEED, id);
+        long otherPriority = Parallelism.priority(SEED, otherId);
+        return priority > otherPriority || priority == otherPriority && id < otherId;
+    }
+
+    /**
+     * This method rounds given span down to a power of two.
+     *
+     * @param span positive span of a vertex.
+     * @return exponent of the greatest power of two not greater than given span.
+     * @since 2.1
+     */
+    private static int level(int span) {
+        return 31 - Integer.numberOfLeadingZeros(span);
+    }
+}
@@ -0,0 +1,178 @@
+package com.graphs.struct;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.stream.IntStream;
+
+/**
+ * This class implements a randomized maximal independent set algorithm in the style of Luby,
+ * over arrays of {@link CsrGraph}, which runs each round in parallel on the common {@code ForkJoinPool}.
+ * <p>
+ * Each vertex gets a random priority drawn from a seed, and in each round every vertex left joins the set
+ * once its priority is lower than priorities of all its neighbours left. Then vertices joined and their neighbours
+ * are removed, and the next round runs over vertices left, until no vertex is left.
+ * Vertices of a round are only read while deciding who joins, and only written while removing,
+ * so no vertex is ever claimed by two threads. Random priorities make the expected number of rounds logarithmic.
+ * </p>
+ * <p>
+ * Priorities are a fixed permutation of vertices given by the seed, so the result is the same greedy set
+ * that would be taken sequentially in order of priorities, whatever the number of threads.
+ * Hence, a result is reproducible from the seed, as in Blelloch's deterministic reservations.
+ * </p>
+ * <p>
+ * An instance is meant for a single computation and is not reused.
+ * </p>
+ *
+ * @author Łukasz Malara
+ * @version JDK 1.7
+ * @see CsrGraph#findParallelMIS(long)
+ * @since 2.1
+ */
+final class ParallelIndependentSet {
+
+    /**
+     * This field stores a state of a vertex that is left.
+     *
+     * @since 2.1
+     */
+    private static final byte LEFT = 0;
+
+    /**
+     * This field stores a state of a vertex that has joined the set.
+     *
+     * @since 2.1
+     */
+    private static final byte JOINED = 1;
+
+    /**
+     * This field stores a state of a vertex that has been removed as a neighbour of a vertex of the set.
+     *
+     * @since 2.1
+     */
+    private static final byte REMOVED = 2;
+
+    /**
+     * This field stores the beginning of neighbours of each vertex in {@link #targets}.
+     *
+     * @since 2.1
+     */
+    private final IntStorage offsets;
+
+    /**
+     * This field stores dense identifiers of neighbours of all vertices, one vertex after another.
+     *
+     * @since 2.1
+     */
+    private final IntStorage targets;
+
+    /**
+     * This field stores a state of each vertex.
+     *
+     * @since 2.1
+     */
+    private final byte[] states;
+
+    /**
+     * This field stores a seed of random priorities of vertices.
+     *
+     * @since 2.1
+     */
+    private final long seed;
+
+    /**
+     * This field stores whether rounds are run in parallel.
+     *
+     * @since 2.1
+     */
+    private final boolean parallel;
+
+    /**
+     * This constructor prepares a computation over given arrays of a graph.
+     * A graph of at least {@link Parallelism#THRESHOLD} vertices is processed in parallel,
+     * while a smaller one is processed faster by a single thread.
+     *
+     * @param offsets beginning of neighbours of each vertex in targets, of length {@code order + 1}.
+     * @param targets dense identifiers of neighbours of all vertices, one vertex after another.
+     * @param seed    seed of random priorities of vertices.
+     * @since 2.1
+     */
+    ParallelIndependentSet(@NotNull IntStorage offsets, @NotNull IntStorage targets, long seed) {
+        this.offsets = offsets;
+        this.targets = targets;
+        this.seed = seed;
+        int order = offsets.length() - 1;
+        this.states = new byte[order];
+        this.parallel = Parallelism.isParallel(order);
+    }
+
+    /**
+     * This method computes a maximal independent set of a graph.
+     *
+     * @return dense identifiers of vertices of maximal independent set, in no particular order.
+     * @since 2.1
+     */
+    int @NotNull [] compute() {
+        int[] left = IntStream.range(0, this.states.length).toArray();
+        while (left.length > 0) {
+            int[] round = left;
+            int[] joined = Parallelism.range(round.length, this.parallel)
+                    .map(position -> round[position])
+                    .filter(this::isLocalMinimum)
+                    .toArray();
+            Parallelism.range(joined.length, this.parallel).forEach(position -> this.join(joined[position]));
+            left = Parallelism.range(round.length, this.parallel)
+                    .map(position -> round[position])
+                    .filter(id -> this.states[id] == LEFT)
+                    .toArray();
+        }
+        return Parallelism.range(this.states.length, this.parallel)
+                .filter(id -> this.states[id] == JOINED)
+                .toArray();
+    }
+
+    /**
+     * This method checks whether given vertex has a lower priority than all its neighbours left.
+     *
+     * @param id dense identifier of a vertex left.
+     * @return {@code true} if given vertex joins the set in this round, {@code false} otherwise.
+     * @since 2.1
+     */
+    private boolean isLocalMinimum(int id) {
+        long priority = Parallelism.priority(this.seed, id);
+        for (int k = this.offsets.get(id); k < this.offsets.get(id + 1); k++) {
+            int neighbour = this.targets.get(k);
+            if (this.states[neighbour] != LEFT) continue;
+            if (this.precedes(neighbour, Parallelism.priority(this.seed, neighbour), id, priority)) return false;
+        }
+        return true;
+    }
+
+    /**
+     * This method adds given vertex to the set and removes its neighbours.
+     * Vertices joined in the same round are never adjacent, so a removed vertex has never joined the set.
+     *
+     * @param id dense identifier of a vertex joining the set.
+     * @since 2.1
+     */
+    private void join(int id) {
+        this.states[id] = JOINED;
+        for (int k = this.offsets.get(id); k < this.offsets.get(id + 1); k++) {
+            this.states[this.targets.get(k)] = REMOVED;
+        }
+    }
+
+    /**
+     * This method checks whether a vertex comes before another one in order of priorities.
+     * Ties of priorities are broken by dense identifiers.
+     *
+     * @param id            dense identifier of the first vertex.
+     * @param priority      priority of the first vertex.
+     * @param otherId       dense identifier of the second vertex.
+     * @param otherPriority priority of the second vertex.
+     * @return {@code true} if the first vertex comes first, {@code false} otherwise.
+     * @since 2.1
+     */
+    private boolean precedes(int id, long priority, int otherId, long otherPriority) {
+        return priority < otherPriority || priority == otherPriority && id < otherId;
+    }
+}
@@ -0,0 +1,71 @@
+package com.graphs.struct;
+
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.stream.IntStream;
+
+/**
+ * This utility class gathers what parallel computations over arrays of {@link CsrGraph} have in common:
+ * the least size worth running in parallel, streams of positions that are parallel above it,
+ * and random priorities of vertices, which keep randomized results independent of the number of threads.
+ *
+ * @author Łukasz Malara
+ * @version JDK 1.7
+ * @see ParallelBreadthFirstSearch
+ * @see ParallelIndependentSet
+ * @see ParallelDominatingSet
+ * @see MarkingProcess
+ * @since 2.1
+ */
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+final class Parallelism {
+
+    /**
+     * This field stores the least number of vertices that is processed in parallel,
+     * as fewer vertices are processed faster by a single thread.
+     *
+     * @since 2.1
+     */
+    static final int THRESHOLD = 1 << 15;
+
+    /**
+     * This method checks whether given number of vertices is worth processing in parallel.
+     *
+     * @param count number of vertices.
+     * @return {@code true} if given number is at least {@link #THRESHOLD}, {@code false} otherwise.
+     * @since 2.1
+     */
+    static boolean isParallel(int count) {
+        return count >= THRESHOLD;
+    }
+
+    /**
+     * This method returns a stream of positions, which is parallel if asked to.
+     *
+     * @param length   number of positions.
+     * @param parallel whether the stream is parallel.
+     * @return stream of positions from {@code 0} to given length.
+     * @since 2.1
+     */
+    static @NotNull IntStream range(int length, boolean parallel) {
+        IntStream positions = IntStream.range(0, length);
+        return parallel ? positions.parallel() : positions;
+    }
+
+    /**
+     * This method returns a random priority of given vertex, drawn from given seed by the SplitMix64 finalizer.
+     *
+     * @param seed seed of random priorities of vertices.
+     * @param id   dense identifier of a vertex.
+     * @return priority of given vertex.
+     * @since 2.1
+     */
+    static long priority(long seed, int id) {
+        long z = seed + (id + 1L) * 0x9E3779B97F4A7C15L;
+        z = (z ^ z >>> 30) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ z >>> 27) * 0x94D049BB133111EBL;
+        return z ^ z >>> 31;
+    }
+}
@@ -0,0 +1,131 @@
+package com.graphs.struct;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+import java.util.PrimitiveIterator;
+import java.util.stream.IntStream;
+
+/**
+ * This class implements neighbourhood of a vertex of low degree as a sorted array of indexes.
+ * Membership is checked by binary search, which for a few indexes is as fast as hashing and needs no extra space.
+ *
+ * @author Łukasz Malara
+ * @version JDK 1.7
+ * @see HashAdjacency
+ * @since 2.1
+ */
+final class SortedArrayAdjacency implements Adjacency {
+
+    /**
+     * This field stores indexes of this neighbourhood in ascending order, followed by unused slots.
+     *
+     * @since 2.1
+     */
+    private int[] indexes;
+
+    /**
+     * This field stores the number of used slots of {@link #indexes}.
+     *
+     * @since 2.1
+     */
+    private int size;
+
+    /**
+     * This constructor creates an empty neighbourhood.
+     *
+     * @since 2.1
+     */
+    SortedArrayAdjacency() {
+        this.indexes = new int[4];
+    }
+
+    /**
+     * This constructor creates a neighbourhood containing the same indexes as given one.
+     *
+     * @param adjacency neighbourhood to copy indexes from.
+     * @since 2.1
+     */
+    SortedArrayAdjacency(@NotNull Adjacency adjacency) {
+        this(adjacency.toArray());
+    }
+
+    /**
+     * This constructor creates a neighbourhood containing given distinct indexes.
+     *
+     * @param indexes distinct indexes of vertices, which are copied.
+     * @since 2.1
+     */
+    SortedArrayAdjacency(int @NotNull [] indexes) {
+        this.indexes = indexes.clone();
+        this.size = this.indexes.length;
+        Arrays.sort(this.indexes);
+    }
+
+    @Override
+    public int size() {
+        return this.size;
+    }
+
+    @Override
+    public boolean contains(int index) {
+        return Arrays.binarySearch(this.indexes, 0, this.size, index) >= 0;
+    }
+
+    @Override
+    public boolean add(int index) {
+        int position = Arrays.binarySearch(this.indexes, 0, this.size, index);
+        if (position >= 0) return false;
+        position = -(position + 1);
+        if (this.size == this.indexes.length) {
+            this.indexes = Arrays.copyOf(this.indexes, Math.max(4, this.size * 2));
+        }
+        System.arraycopy(this.indexes, position, this.indexes, position + 1, this.size - position);
+        this.indexes[position] = index;
+        this.size++;
+        return true;
+    }
+
+    @Override
+    public boolean remove(int index) {
+        int position = Arrays.binarySearch(this.indexes, 0, this.size, index);
+        if (position < 0) return false;
+        System.arraycopy(this.indexes, position + 1, this.indexes, position, this.size - position - 1);
+        this.size--;
+        return true;
+    }
+
+    @Override
+    public int @NotNull [] toArray() {
+        return Arrays.copyOf(this.indexes, this.size);
+    }
+
+    @Override
+    public @NotNull IntStream stream() {
+        return Arrays.stream(this.indexes, 0, this.size);
+    }
+
+    @Override
+    public @NotNull PrimitiveIterator.OfInt iterator() {
+        return new PrimitiveIterator.OfInt() {
+            private int position;
+
+            @Override
+            public boolean hasNext() {
+                return this.position < SortedArrayAdjacency.this.size;
+            }
+
+            @Override
+            public int nextInt() {
+                if (!this.hasNext()) throw new NoSuchElementException();
+                return SortedArrayAdjacency.this.indexes[this.position++];
+            }
+        };
+    }
+
+    @Override
+    public @NotNull Adjacency copy() {
+        return new SortedArrayAdjacency(Arrays.copyOf(this.indexes, this.size));
+    }
+}
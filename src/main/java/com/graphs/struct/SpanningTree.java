@@ -0,0 +1,263 @@
+package com.graphs.struct;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * This class maintains a spanning tree of a connected subgraph of {@link CsrGraph} while vertices are removed from it,
+ * so a cut vertex of the subgraph is recognised without searching the whole subgraph again.
+ * <p>
+ * The tree is kept as a parent of each vertex. To remove a vertex, each edge of the tree at that vertex is cut,
+ * and both sides of the cut are walked in turns until the smaller side is exhausted.
+ * Then edges of the smaller side are searched for a replacement edge, which leads to the other side and avoids the removed vertex.
+ * If there is one, the smaller side is re-rooted at its end and hung on the other side, and the next edge is cut.
+ * If there is none, the vertex is a cut vertex of the subgraph, the edge is restored and the vertex is kept.
+ * Hence, a removal takes time proportional to smaller sides of cut edges and their neighbourhoods.
+ * </p>
+ * <p>
+ * A smaller side may still hold a constant fraction of the subgraph, for instance when an inner vertex of a long path is checked,
+ * so a removal takes {@code O(n + m)} time in the worst case, and checking every vertex takes {@code O(n (n + m))} time,
+ * as much as searching the whole subgraph after each removal. Low-link values of Tarjan are not used instead,
+ * as a single removal may change cut vertices anywhere in its biconnected component, so they would be recomputed each time.
+ * </p>
+ *
+ * @author Łukasz Malara
+ * @version JDK 1.7
+ * @see CsrGraph#findMCDS()
+ * @see ConnectedDominatingSetStrategy#SPANNING_TREE
+ * @since 2.1
+ */
+final class SpanningTree {
+
+    /**
+     * This field stores the beginning of neighbours of each vertex in {@link #targets}.
+     *
+     * @since 2.1
+     */
+    private final IntStorage offsets;
+
+    /**
+     * This field stores dense identifiers of neighbours of all vertices, one vertex after another.
+     *
+     * @since 2.1
+     */
+    private final IntStorage targets;
+
+    /**
+     * This field stores membership of each vertex in the subgraph.
+     *
+     * @since 2.1
+     */
+    private final boolean[] member;
+
+    /**
+     * This field stores a parent of each vertex in the tree, or {@code -1} for a root and for a removed vertex.
+     *
+     * @since 2.1
+     */
+    private final int[] parents;
+
+    /**
+     * This field stores a stamp of the last smaller side each vertex has belonged to.
+     *
+     * @since 2.1
+     */
+    private final int[] stamps;
+
+    /**
+     * This field stores a stamp of the current smaller side.
+     *
+     * @since 2.1
+     */
+    private int stamp;
+
+    /**
+     * This field stores neighbours of vertices in the tree, which are walked on both sides of a cut edge.
+     *
+     * @since 2.1
+     */
+    private final TreeWalk.Neighbours tree = this::forEachTreeNeighbour;
+
+    /**
+     * This constructor builds a spanning tree of a connected graph by breadth-first search.
+     *
+     * @param offsets beginning of neighbours of each vertex in targets, of length {@code order + 1}.
+     * @param targets dense identifiers of neighbours of all vertices, one vertex after another.
+     * @throws IllegalArgumentException if a graph is empty or is not connected.
+     * @since 2.1
+     */
+    SpanningTree(@NotNull IntStorage offsets, @NotNull IntStorage targets) {
+        this(offsets, targets, 0);
+    }
+
+    /**
+     * This constructor builds a spanning tree of a connected graph by breadth-first search from given root.
+     *
+     * @param offsets beginning of neighbours of each vertex in targets, of length {@code order + 1}.
+     * @param targets dense identifiers of neighbours of all vertices, one vertex after another.
+     * @param root    dense identifier of a root of the tree.
+     * @throws IllegalArgumentException if a graph is empty or is not connected.
+     * @since 2.1
+     */
+    SpanningTree(@NotNull IntStorage offsets, @NotNull IntStorage targets, int root) {
+        this.offsets = offsets;
+        this.targets = targets;
+        int order = offsets.length() - 1;
+        if (order == 0) throw new IllegalArgumentException("Graph is empty.");
+        this.member = new boolean[order];
+        this.parents = new int[order];
+        this.stamps = new int[order];
+        Arrays.fill(this.member, true);
+        boolean[] reached = new boolean[order];
+        int[] queue = new int[order];
+        int head = 0;
+        int tail = 0;
+        queue[tail++] = root;
+        reached[root] = true;
+        this.parents[root] = -1;
+        while (head < tail) {
+            int current = queue[head++];
+            for (int k = offsets.get(current); k < offsets.get(current + 1); k++) {
+                int neighbour = targets.get(k);
+                if (!reached[neighbour]) {
+                    reached[neighbour] = true;
+                    this.parents[neighbour] = current;
+                    queue[tail++] = neighbour;
+                }
+            }
+        }
+        if (tail < order) throw new IllegalArgumentException("Graph is not connected.");
+    }
+
+    /**
+     * This method tells whether given vertex is still in the subgraph.
+     *
+     * @param id dense identifier of a vertex.
+     * @return {@code true} if given vertex has not been removed, {@code false} otherwise.
+     * @since 2.1
+     */
+    boolean isMember(int id) {
+        return this.member[id];
+    }
+
+    /**
+     * This method returns a parent of given vertex in the tree.
+     *
+     * @param id dense identifier of a vertex.
+     * @return dense identifier of a parent of given vertex, or {@code -1} for a root and for a removed vertex.
+     * @since 2.1
+     */
+    int parentOf(int id) {
+        return this.parents[id];
+    }
+
+    /**
+     * This method removes given vertex from the subgraph, unless the subgraph would become disconnected.
+     * Removing the last vertex of the subgraph leaves it empty, which is regarded as connected.
+     * It takes {@code O(n + m)} time in the worst case, when a cut edge splits the subgraph into halves.
+     *
+     * @param id dense identifier of a vertex of the subgraph.
+     * @return {@code true} if given vertex has been removed, {@code false} if it is a cut vertex of the subgraph.
+     * @since 2.1
+     */
+    boolean removeUnlessCut(int id) {
+        for (int k = this.offsets.get(id); k < this.offsets.get(id + 1); k++) {
+            int neighbour = this.targets.get(k);
+            if (this.isTreeEdge(id, neighbour)) {
+                if (!this.replace(id, neighbour)) return false;
+            }
+        }
+        this.member[id] = false;
+        this.parents[id] = -1;
+        return true;
+    }
+
+    /**
+     * This method cuts an edge of the tree between given vertices, and hangs the smaller side of the cut
+     * on the other side by an edge that avoids a removed vertex. If there is no such edge, the cut edge is restored.
+     * No edge is needed once the removed vertex is left alone on its side.
+     *
+     * @param removed  dense identifier of a vertex to be removed.
+     * @param neighbour dense identifier of its neighbour in the tree.
+     * @return {@code true} if the edge has been replaced, {@code false} if it has been restored.
+     * @since 2.1
+     */
+    private boolean replace(int removed, int neighbour) {
+        if (this.parents[neighbour] == removed) {
+            this.parents[neighbour] = -1;
+        } else {
+            this.parents[removed] = -1;
+        }
+        TreeWalk removedSide = new TreeWalk(this.tree, removed);
+        TreeWalk neighbourSide = new TreeWalk(this.tree, neighbour);
+        boolean exhausted = false;
+        while (!exhausted) {
+            exhausted = !removedSide.step() || !neighbourSide.step();
+        }
+        TreeWalk smaller = removedSide.isExhausted() ? removedSide : neighbourSide;
+        if (smaller == removedSide && smaller.count() == 1) return true;
+        this.stamp++;
+        for (int k = 0; k < smaller.count(); k++) {
+            this.stamps[smaller.visited(k)] = this.stamp;
+        }
+        for (int k = 0; k < smaller.count(); k++) {
+            int vertex = smaller.visited(k);
+            if (vertex == removed) continue;
+            for (int j = this.offsets.get(vertex); j < this.offsets.get(vertex + 1); j++) {
+                int other = this.targets.get(j);
+                if (other != removed && this.member[other] && this.stamps[other] != this.stamp) {
+                    this.link(vertex, other);
+                    return true;
+                }
+            }
+        }
+        this.link(removed, neighbour);
+        return false;
+    }
+
+    /**
+     * This method passes each neighbour of given vertex in the tree to given action.
+     *
+     * @param vertex dense identifier of a vertex.
+     * @param action action to take for each neighbour in the tree.
+     * @since 2.1
+     */
+    private void forEachTreeNeighbour(int vertex, @NotNull IntConsumer action) {
+        for (int k = this.offsets.get(vertex); k < this.offsets.get(vertex + 1); k++) {
+            int next = this.targets.get(k);
+            if (this.isTreeEdge(vertex, next)) action.accept(next);
+        }
+    }
+
+    /**
+     * This method checks whether an edge between given vertices is an edge of the tree.
+     *
+     * @param vertex dense identifier of a vertex.
+     * @param other  dense identifier of its neighbour in a graph.
+     * @return {@code true} if either vertex is a parent of another one, {@code false} otherwise.
+     * @since 2.1
+     */
+    private boolean isTreeEdge(int vertex, int other) {
+        return this.parents[other] == vertex || this.parents[vertex] == other;
+    }
+
+    /**
+     * This method re-roots a tree of the first vertex at it, and hangs it on another vertex, which is in another tree.
+     *
+     * @param vertex dense identifier of a vertex to become a child.
+     * @param parent dense identifier of a vertex to become its parent.
+     * @since 2.1
+     */
+    private void link(int vertex, int parent) {
+        int previous = parent;
+        int current = vertex;
+        while (current >= 0) {
+            int next = this.parents[current];
+            this.parents[current] = previous;
+            previous = current;
+            current = next;
+        }
+    }
+}
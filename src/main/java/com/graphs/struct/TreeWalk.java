@@ -0,0 +1,195 @@
+package com.graphs.struct;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.function.IntConsumer;
+
+/**
+ * This class walks a tree one vertex at a time, so two walks can be run in turns
+ * until the smaller side of a cut edge is exhausted.
+ * <p>
+ * A tree is given by {@link Neighbours}, which tells neighbours of a vertex in a tree,
+ * so the same walk serves a spanning forest kept as adjacency and a spanning tree kept as parents.
+ * </p>
+ *
+ * @author Łukasz Malara
+ * @version JDK 1.7
+ * @see DynamicConnectivity
+ * @see SpanningTree
+ * @since 2.1
+ */
+final class TreeWalk {
+
+    /**
+     * This interface tells neighbours of a vertex in a tree.
+     *
+     * @since 2.1
+     */
+    @FunctionalInterface
+    interface Neighbours {
+
+        /**
+         * This method passes each neighbour of given vertex in a tree to given action.
+         *
+         * @param vertex vertex of a tree.
+         * @param action action to take for each neighbour.
+         * @since 2.1
+         */
+        void forEach(int vertex, @NotNull IntConsumer action);
+    }
+
+    /**
+     * This field stores neighbours of vertices in a walked tree.
+     *
+     * @since 2.1
+     */
+    private final Neighbours tree;
+
+    /**
+     * This field stores an action that puts a neighbour of {@link #current} on the stack, unless it is {@link #from}.
+     * It is created once, so a step allocates nothing.
+     *
+     * @since 2.1
+     */
+    private final IntConsumer offer = this::offer;
+
+    /**
+     * This field stores vertices to visit, each followed by a vertex it is reached from.
+     *
+     * @since 2.1
+     */
+    private int[] stack = new int[8];
+
+    /**
+     * This field stores the number of used slots of {@link #stack}.
+     *
+     * @since 2.1
+     */
+    private int top;
+
+    /**
+     * This field stores visited vertices in order of visiting.
+     *
+     * @since 2.1
+     */
+    private int[] visited = new int[8];
+
+    /**
+     * This field stores the number of visited vertices.
+     *
+     * @since 2.1
+     */
+    private int count;
+
+    /**
+     * This field stores a vertex visited by the current step.
+     *
+     * @since 2.1
+     */
+    private int current;
+
+    /**
+     * This field stores a vertex the current step has reached {@link #current} from, or {@code -1} if there is none.
+     *
+     * @since 2.1
+     */
+    private int from;
+
+    /**
+     * This constructor starts a walk of given tree from given vertex.
+     *
+     * @param tree  neighbours of vertices in a tree.
+     * @param start vertex to start from.
+     * @since 2.1
+     */
+    TreeWalk(@NotNull Neighbours tree, int start) {
+        this.tree = tree;
+        this.push(start, -1);
+    }
+
+    /**
+     * This method visits the next vertex of a walk.
+     *
+     * @return {@code true} if a vertex has been visited, {@code false} if the whole tree has been walked.
+     * @since 2.1
+     */
+    boolean step() {
+        if (this.top == 0) return false;
+        this.from = this.stack[--this.top];
+        this.current = this.stack[--this.top];
+        if (this.count == this.visited.length) this.visited = Arrays.copyOf(this.visited, this.count * 2);
+        this.visited[this.count++] = this.current;
+        this.tree.forEach(this.current, this.offer);
+        return true;
+    }
+
+    /**
+     * This method visits all remaining vertices of a walk.
+     *
+     * @return this walk.
+     * @since 2.1
+     */
+    @NotNull TreeWalk finish() {
+        boolean walking = true;
+        while (walking) {
+            walking = this.step();
+        }
+        return this;
+    }
+
+    /**
+     * This method checks whether the whole tree has been walked.
+     *
+     * @return {@code true} if there is no vertex left to visit, {@code false} otherwise.
+     * @since 2.1
+     */
+    boolean isExhausted() {
+        return this.top == 0;
+    }
+
+    /**
+     * This method returns the number of visited vertices.
+     *
+     * @return number of visited vertices.
+     * @since 2.1
+     */
+    int count() {
+        return this.count;
+    }
+
+    /**
+     * This method returns a visited vertex at given position in order of visiting.
+     *
+     * @param position position below {@link #count()}.
+     * @return visited vertex.
+     * @since 2.1
+     */
+    int visited(int position) {
+        return this.visited[position];
+    }
+
+    /**
+     * This method puts given neighbour of the vertex of the current step on the stack,
+     * unless it is the vertex the current step has come from.
+     *
+     * @param next neighbour of the vertex of the current step.
+     * @since 2.1
+     */
+    private void offer(int next) {
+        if (next != this.from) this.push(next, this.current);
+    }
+
+    /**
+     * This method puts given vertex on the stack of vertices to visit.
+     *
+     * @param vertex vertex to visit.
+     * @param from   vertex it is reached from, or {@code -1} if there is none.
+     * @since 2.1
+     */
+    private void push(int vertex, int from) {
+        if (this.top + 2 > this.stack.length) this.stack = Arrays.copyOf(this.stack, this.stack.length * 2);
+        this.stack[this.top++] = vertex;
+        this.stack[this.top++] = from;
+    }
+}
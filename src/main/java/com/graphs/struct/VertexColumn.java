@@ -0,0 +1,255 @@
+package com.graphs.struct;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.BitSet;
+
+/**
+ * This class implements a column of vertex attributes of a single primitive type.
+ * A value of a vertex is kept at the position of its dense identifier, see {@link Graph#addColumn(String, ColumnType)}.
+ * <p>
+ * A column grows as values of vertices of higher identifiers are set,
+ * and a vertex whose value has never been set reads {@code 0}, {@code 0.0} or {@code false}.
+ * </p>
+ *
+ * @author Łukasz Malara
+ * @version JDK 1.7
+ * @see ColumnType
+ * @since 2.1
+ */
+final class VertexColumn {
+
+    /**
+     * This field stores a type of values of this column.
+     *
+     * @since 2.1
+     */
+    private final ColumnType type;
+
+    /**
+     * This field stores values of a column of {@link ColumnType#INT} type.
+     *
+     * @since 2.1
+     */
+    private int[] ints;
+
+    /**
+     * This field stores values of a column of {@link ColumnType#LONG} type.
+     *
+     * @since 2.1
+     */
+    private long[] longs;
+
+    /**
+     * This field stores values of a column of {@link ColumnType#DOUBLE} type.
+     *
+     * @since 2.1
+     */
+    private double[] doubles;
+
+    /**
+     * This field stores values of a column of {@link ColumnType#BOOLEAN} type.
+     *
+     * @since 2.1
+     */
+    private BitSet booleans;
+
+    /**
+     * This field stores the epoch of a graph in which this column has been created.
+     * A column of an earlier epoch may be shared with a snapshot, so it is copied before it is modified.
+     *
+     * @see Graph#snapshot()
+     * @since 2.1
+     */
+    private final int epoch;
+
+    /**
+     * This constructor creates an empty column of given type.
+     *
+     * @param type  type of values of this column.
+     * @param epoch epoch of a graph.
+     * @since 2.1
+     */
+    VertexColumn(@NotNull ColumnType type, int epoch) {
+        this.type = type;
+        this.epoch = epoch;
+        switch (type) {
+            case INT -> this.ints = new int[0];
+            case LONG -> this.longs = new long[0];
+            case DOUBLE -> this.doubles = new double[0];
+            case BOOLEAN -> this.booleans = new BitSet();
+        }
+    }
+
+    /**
+     * This constructor creates a copy of given column.
+     *
+     * @param column column to copy.
+     * @param epoch  epoch of a graph.
+     * @since 2.1
+     */
+    private VertexColumn(@NotNull VertexColumn column, int epoch) {
+        this.type = column.type;
+        this.epoch = epoch;
+        this.ints = column.ints == null ? null : column.ints.clone();
+        this.longs = column.longs == null ? null : column.longs.clone();
+        this.doubles = column.doubles == null ? null : column.doubles.clone();
+        this.booleans = column.booleans == null ? null : (BitSet) column.booleans.clone();
+    }
+
+    /**
+     * This method returns a type of values of this column.
+     *
+     * @return type of values.
+     * @since 2.1
+     */
+    @NotNull ColumnType type() {
+        return this.type;
+    }
+
+    /**
+     * This method returns the epoch of a graph in which this column has been created.
+     *
+     * @return epoch of a graph.
+     * @since 2.1
+     */
+    int epoch() {
+        return this.epoch;
+    }
+
+    /**
+     * This method returns an independent copy of this column for given epoch of a graph.
+     *
+     * @param epoch epoch of a graph.
+     * @return new column with the same values.
+     * @since 2.1
+     */
+    @NotNull VertexColumn copy(int epoch) {
+        return new VertexColumn(this, epoch);
+    }
+
+    /**
+     * This method returns an {@code int} value of a vertex with given identifier.
+     *
+     * @param id dense identifier of a vertex.
+     * @return value of a vertex.
+     * @since 2.1
+     */
+    int getInt(int id) {
+        return id < this.ints.length ? this.ints[id] : 0;
+    }
+
+    /**
+     * This method sets an {@code int} value of a vertex with given identifier.
+     *
+     * @param id    dense identifier of a vertex.
+     * @param value value of a vertex.
+     * @since 2.1
+     */
+    void setInt(int id, int value) {
+        if (id >= this.ints.length) this.ints = Arrays.copyOf(this.ints, capacityFor(id, this.ints.length));
+        this.ints[id] = value;
+    }
+
+    /**
+     * This method returns a {@code long} value of a vertex with given identifier.
+     *
+     * @param id dense identifier of a vertex.
+     * @return value of a vertex.
+     * @since 2.1
+     */
+    long getLong(int id) {
+        return id < this.longs.length ? this.longs[id] : 0L;
+    }
+
+    /**
+     * This method sets a {@code long} value of a vertex with given identifier.
+     *
+     * @param id    dense identifier of a vertex.
+     * @param value value of a vertex.
+     * @since 2.1
+     */
+    void setLong(int id, long value) {
+        if (id >= this.longs.length) this.longs = Arrays.copyOf(this.longs, capacityFor(id, this.longs.length));
+        this.longs[id] = value;
+    }
+
+    /**
+     * This method returns a {@code double} value of a vertex with given identifier.
+     *
+     * @param id dense identifier of a vertex.
+     * @return value of a vertex.
+     * @since 2.1
+     */
+    double getDouble(int id) {
+        return id < this.doubles.length ? this.doubles[id] : 0.0;
+    }
+
+    /**
+     * This method sets a {@code double} value of a vertex with given identifier.
+     *
+     * @param id    dense identifier of a vertex.
+     * @param value value of a vertex.
+     * @since 2.1
+     */
+    void setDouble(int id, double value) {
+        if (id >= this.doubles.length) this.doubles = Arrays.copyOf(this.doubles, capacityFor(id, this.doubles.length));
+        this.doubles[id] = value;
+    }
+
+    /**
+     * This method returns a {@code boolean} value of a vertex with given identifier.
+     *
+     * @param id dense identifier of a vertex.
+     * @return value of a vertex.
+     * @since 2.1
+     */
+    boolean getBoolean(int id) {
+        return this.booleans.get(id);
+    }
+
+    /**
+     * This method sets a {@code boolean} value of a vertex with given identifier.
+     *
+     * @param id    dense identifier of a vertex.
+     * @param value value of a vertex.
+     * @since 2.1
+     */
+    void setBoolean(int id, boolean value) {
+        this.booleans.set(id, value);
+    }
+
+    /**
+     * This method resets a value of a vertex with given identifier, so it reads as if it has never been set.
+     *
+     * @param id dense identifier of a vertex.
+     * @since 2.1
+     */
+    void clear(int id) {
+        switch (this.type) {
+            case INT -> {
+                if (id < this.ints.length) this.ints[id] = 0;
+            }
+            case LONG -> {
+                if (id < this.longs.length) this.longs[id] = 0L;
+            }
+            case DOUBLE -> {
+                if (id < this.doubles.length) this.doubles[id] = 0.0;
+            }
+            case BOOLEAN -> this.booleans.clear(id);
+        }
+    }
+
+    /**
+     * This method returns a new capacity of an array, so it covers given identifier.
+     *
+     * @param id     dense identifier of a vertex.
+     * @param length current length of an array.
+     * @return new length of an array.
+     * @since 2.1
+     */
+    private static int capacityFor(int id, int length) {
+        return Math.max(id + 1, Math.max(8, length * 2));
+    }
+}
@@ -0,0 +1,120 @@
+package com.graphs.struct;
+
+import java.util.Arrays;
+
+/**
+ * This class implements a binary min-heap of vertices keyed by {@code int} values, where vertices of the same key
+ * are taken in ascending order of dense identifiers.
+ * <p>
+ * A vertex and its key are packed into a single {@code long}, so the heap is a plain primitive array.
+ * A key is never decreased in place. Instead, a vertex is pushed again with its new key,
+ * and stale entries are skipped by the caller once they are polled, like in a lazy priority queue.
+ * A max-heap is obtained by pushing negated keys.
+ * </p>
+ *
+ * @author Łukasz Malara
+ * @version JDK 1.7
+ * @since 2.1
+ */
+final class VertexHeap {
+
+    /**
+     * This field stores packed entries of this heap in heap order.
+     *
+     * @since 2.1
+     */
+    private long[] entries;
+
+    /**
+     * This field stores the number of entries of this heap.
+     *
+     * @since 2.1
+     */
+    private int size;
+
+    /**
+     * This constructor creates an empty heap of given initial capacity.
+     *
+     * @param capacity initial number of entries, which can be exceeded.
+     * @since 2.1
+     */
+    VertexHeap(int capacity) {
+        this.entries = new long[Math.max(capacity, 1)];
+    }
+
+    /**
+     * This method returns a dense identifier of a vertex of given entry.
+     *
+     * @param entry entry returned by {@link #poll()}.
+     * @return dense identifier of a vertex.
+     * @since 2.1
+     */
+    static int id(long entry) {
+        return (int) entry;
+    }
+
+    /**
+     * This method returns a key of given entry.
+     *
+     * @param entry entry returned by {@link #poll()}.
+     * @return key of a vertex at the moment it has been pushed.
+     * @since 2.1
+     */
+    static int key(long entry) {
+        return (int) (entry >> Integer.SIZE);
+    }
+
+    /**
+     * This method tells whether this heap has no entries.
+     *
+     * @return {@code true} if this heap is empty, {@code false} otherwise.
+     * @since 2.1
+     */
+    boolean isEmpty() {
+        return this.size == 0;
+    }
+
+    /**
+     * This method adds an entry of given vertex and key.
+     *
+     * @param id  dense identifier of a vertex.
+     * @param key key of a vertex.
+     * @since 2.1
+     */
+    void push(int id, int key) {
+        if (this.size == this.entries.length) this.entries = Arrays.copyOf(this.entries, this.size * 2);
+        long entry = (long) key << Integer.SIZE | id;
+        int position = this.size++;
+        while (position > 0) {
+            int parent = (position - 1) >>> 1;
+            if (this.entries[parent] <= entry) break;
+            this.entries[position] = this.entries[parent];
+            position = parent;
+        }
+        this.entries[position] = entry;
+    }
+
+    /**
+     * This method removes an entry of the least key, and of the least dense identifier among entries of that key.
+     *
+     * @return removed entry, to be read by {@link #id(long)} and {@link #key(long)}.
+     * @throws IllegalStateException if this heap is empty.
+     * @since 2.1
+     */
+    long poll() {
+        if (this.size == 0) throw new IllegalStateException("Heap is empty.");
+        long least = this.entries[0];
+        long last = this.entries[--this.size];
+        int position = 0;
+        int half = this.size >>> 1;
+        while (position < half) {
+            int child = 2 * position + 1;
+            if (child + 1 < this.size && this.entries[child + 1] < this.entries[child]) child++;
+            if (last <= this.entries[child]) break;
+            this.entries[position] = this.entries[child];
+            position = child;
+        }
+        this.entries[position] = last;
+        return least;
+    }
+}
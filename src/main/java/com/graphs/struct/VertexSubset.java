@@ -0,0 +1,148 @@
+package com.graphs.struct;
+
+import com.graphs.exceptions.vertex.NegativeVertexIndexException;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.stream.IntStream;
+
+/**
+ * This class represents a set of indexes of vertices, which is given to subset predicates of a graph,
+ * such as {@link Graph#isCDS(VertexSubset)} or {@link Graph#isIndependentSet(VertexSubset)}.
+ * <p>
+ * Membership of an index is checked in constant time, so a predicate runs in time linear in the size of a graph.
+ * Indexes that span at most {@link Adjacency#DENSE_FACTOR} times their number are kept in a bitset,
+ * other ones are hashed, so a subset never takes more memory than a small multiple of its size.
+ * A subset does not depend on any graph, so the same one may be checked against several graphs.
+ * </p>
+ * <p>
+ * Subsets are immutable, and duplicated indexes are counted once.
+ * </p>
+ *
+ * @author Łukasz Malara
+ * @version JDK 1.7
+ * @see Graph#doInduceConnectedSubGraph(VertexSubset)
+ * @see CsrGraph#doInduceConnectedSubGraph(VertexSubset)
+ * @since 2.1
+ */
+public final class VertexSubset {
+
+    /**
+     * This field stores indexes of this subset.
+     *
+     * @since 2.1
+     */
+    private final Adjacency indexes;
+
+    /**
+     * This constructor creates a subset of given indexes.
+     *
+     * @param indexes indexes of this subset, which are not modified afterwards.
+     * @since 2.1
+     */
+    private VertexSubset(@NotNull Adjacency indexes) {
+        this.indexes = indexes;
+    }
+
+    /**
+     * This method creates a subset of given indexes.
+     *
+     * @param indexes indexes of vertices, possibly repeated.
+     * @return new subset of given indexes.
+     * @throws NegativeVertexIndexException if given indexes contain negative number(s).
+     * @since 2.1
+     */
+    public static @NotNull VertexSubset of(int @NotNull ... indexes) throws NegativeVertexIndexException {
+        int min = Integer.MAX_VALUE;
+        int max = 0;
+        for (int index : indexes) {
+            if (index < 0) throw new NegativeVertexIndexException();
+            min = Math.min(min, index);
+            max = Math.max(max, index);
+        }
+        if (indexes.length == 0) return new VertexSubset(new BitSetAdjacency());
+        long span = (long) max - min + 1;
+        Adjacency members = span <= (long) Adjacency.DENSE_FACTOR * indexes.length
+                ? new BitSetAdjacency(min, 0)
+                : new HashAdjacency(indexes.length);
+        for (int index : indexes) {
+            members.add(index);
+        }
+        return new VertexSubset(members);
+    }
+
+    /**
+     * This method creates a subset of indexes of given {@code Collection}.
+     *
+     * @param indexes {@code Collection} containing indexes of vertices, possibly repeated.
+     * @return new subset of given indexes.
+     * @throws NegativeVertexIndexException if given {@code Collection} contains negative number(s).
+     * @since 2.1
+     */
+    public static @NotNull VertexSubset of(@NotNull Collection<Integer> indexes) throws NegativeVertexIndexException {
+        return of(indexes.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * This method returns the number of distinct indexes of this subset.
+     *
+     * @return size of this subset.
+     * @since 2.1
+     */
+    public int size() {
+        return this.indexes.size();
+    }
+
+    /**
+     * This method checks whether this subset has no indexes.
+     *
+     * @return {@code true} if this subset is empty, {@code false} otherwise.
+     * @since 2.1
+     */
+    public boolean isEmpty() {
+        return this.indexes.size() == 0;
+    }
+
+    /**
+     * This method checks whether this subset contains given index. It takes constant time.
+     *
+     * @param index numerical index of vertex.
+     * @return {@code true} if this subset contains given index, {@code false} otherwise.
+     * @since 2.1
+     */
+    public boolean contains(int index) {
+        return this.indexes.contains(index);
+    }
+
+    /**
+     * This method returns indexes of this subset.
+     *
+     * @return new array of distinct indexes, in no particular order.
+     * @since 2.1
+     */
+    public int @NotNull [] toArray() {
+        return this.indexes.toArray();
+    }
+
+    /**
+     * This method returns a sequential stream of indexes of this subset.
+     *
+     * @return stream of distinct indexes, in no particular order.
+     * @since 2.1
+     */
+    public @NotNull IntStream stream() {
+        return this.indexes.stream();
+    }
+
+    /**
+     * This method returns user-friendly representation of this subset as its indexes in ascending order.
+     *
+     * @return indexes of this subset.
+     * @since 2.1
+     */
+    @Override
+    public String toString() {
+        return "Vertex subset: " + Arrays.toString(this.indexes.stream().sorted().toArray());
+    }
+}
@@ -0,0 +1,177 @@
+import com.graphs.exceptions.vertex.NegativeVertexIndexException;
+import com.graphs.exceptions.vertex.NoSuchVertexIndexException;
+import com.graphs.struct.ConcurrentGraph;
+import com.graphs.struct.CsrGraph;
+import com.graphs.struct.Graph;
+import com.graphs.struct.IntGraph;
+import org.junit.jupiter.api.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.Random.class)
+class ConcurrentGraphTest {
+
+    private static final Random RANDOM = new Random();
+    private static final int THREADS = 4;
+
+    private int order;
+    private ConcurrentGraph<Object> graph;
+    private ExecutorService executor;
+
+    @BeforeEach
+    @DisplayName("Creating a concurrent graph of random order without edges.")
+    void givenRandomOrder_WhenAddVertices_ThenSetGraph() {
+        order = 2 + RANDOM.nextInt(200);
+        graph = new ConcurrentGraph<>(THREADS);
+        for (int i = 0; i < order; i++) {
+            graph.addNewVertex(i);
+        }
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void shutdownExecutor() {
+        executor.shutdownNow();
+    }
+
+    private void runConcurrently(List<Callable<Object>> tasks) throws InterruptedException, ExecutionException {
+        for (Future<Object> future : executor.invokeAll(tasks)) {
+            future.get();
+        }
+    }
+
+    private static void assertSymmetric(IntGraph graph) {
+        long degreeSum = 0;
+        for (int v : graph.getVertexIndexes()) {
+            for (int u : graph.getNeighbourIndexes(v)) {
+                assertTrue(graph.isVertexOfGraph(u));
+                assertTrue(Arrays.binarySearch(graph.getNeighbourIndexes(u), v) >= 0);
+            }
+            degreeSum += graph.getDegree(v);
+        }
+        assertEquals(degreeSum, 2 * graph.getEdgeCount());
+    }
+
+    @RepeatedTest(9)
+    @DisplayName("Checking if edges connected by many threads, while others read, equal edges connected by a single thread.")
+    void givenRandomEdges_WhenConnectConcurrently_ThenEqualsGraphConnectedSequentially() throws Exception {
+        Graph<Object> expected = new Graph<>();
+        for (int i = 0; i < order; i++) {
+            expected.addNewVertex(i);
+        }
+        int[][] edges = new int[order * 4][];
+        for (int k = 0; k < edges.length; k++) {
+            edges[k] = new int[]{RANDOM.nextInt(order), RANDOM.nextInt(order)};
+            expected.connectVertices(edges[k][0], edges[k][1]);
+        }
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int first = t;
+            tasks.add(() -> {
+                for (int k = first; k < edges.length; k += THREADS) {
+                    graph.connectVertices(edges[k][0], edges[k][1]);
+                    graph.getNeighbourIndexes(edges[k][1]);
+                    graph.getDegree(edges[k][0]);
+                }
+                return null;
+            });
+        }
+        runConcurrently(tasks);
+        CsrGraph<Object> frozen = graph.freeze();
+        assertAll(() -> {
+            assertEquals(expected.getEdgeCount(), graph.getEdgeCount());
+            assertArrayEquals(expected.getVertexIndexes(), graph.getVertexIndexes());
+            for (int v = 0; v < order; v++) {
+                assertArrayEquals(expected.getNeighbourIndexes(v), graph.getNeighbourIndexes(v));
+                assertArrayEquals(expected.getNeighbourIndexes(v), frozen.getNeighbourIndexes(v));
+            }
+            assertEquals(expected.getMinDegree(), graph.getMinDegree());
+            assertEquals(expected.getMaxDegree(), graph.getMaxDegree());
+            assertArrayEquals(expected.findMDSIndexes(), graph.findMDSIndexes());
+            assertArrayEquals(expected.findMISIndexes(), graph.findMISIndexes());
+        });
+    }
+
+    @RepeatedTest(9)
+    @DisplayName("Checking if a graph stays symmetric when threads connect, disconnect, remove and add vertices at the same time.")
+    void givenMixedWorkload_WhenRunConcurrently_ThenGraphStaysSymmetric() throws Exception {
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            tasks.add(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                for (int k = 0; k < order * 8; k++) {
+                    int v = random.nextInt(order);
+                    int u = random.nextInt(order);
+                    try {
+                        switch (random.nextInt(6)) {
+                            case 0 -> graph.removeVertex(v);
+                            case 1 -> graph.addNewVertex(v);
+                            case 2 -> graph.disconnectVertices(v, u);
+                            case 3 -> graph.getVertexNeighbourhood(v);
+                            default -> graph.connectVertices(v, u);
+                        }
+                    } catch (NoSuchVertexIndexException e) {
+                        // a vertex removed by another thread
+                    }
+                }
+                return null;
+            });
+        }
+        tasks.add(() -> {
+            for (int k = 0; k < 20; k++) {
+                CsrGraph<Object> frozen = graph.freeze();
+                assertEquals(frozen.getOrder(), frozen.getVertexIndexes().length);
+                assertSymmetric(frozen);
+            }
+            return null;
+        });
+        runConcurrently(tasks);
+        assertAll(() -> {
+            assertSymmetric(graph);
+            assertEquals(graph.getVertexIndexes().length, graph.getOrder());
+            assertEquals(graph.getEdgeCount(), graph.freeze().getEdgeCount());
+            assertEquals(graph.freeze().getMinDegree(), graph.getMinDegree());
+            assertEquals(graph.freeze().getMaxDegree(), graph.getMaxDegree());
+        });
+    }
+
+    @Test
+    @DisplayName("Checking if a snapshot is reused until a graph is modified.")
+    void givenSnapshot_WhenModify_ThenFreezeAgain() {
+        graph.setVertexData(0, "zero");
+        CsrGraph<Object> frozen = graph.freeze();
+        assertSame(frozen, graph.freeze());
+        graph.connectVertices(0, 1);
+        CsrGraph<Object> refrozen = graph.freeze();
+        assertAll(() -> {
+            assertNotSame(frozen, refrozen);
+            assertEquals(0, frozen.getEdgeCount());
+            assertEquals(1, refrozen.getEdgeCount());
+            assertEquals("zero", graph.getVertexData(0));
+            assertEquals("zero", refrozen.getVertexData(0));
+        });
+    }
+
+    @Test
+    @DisplayName("Checking if a concurrent graph rejects vertices the same way as a graph.")
+    void givenInvalidVertices_WhenQueryOrModify_ThenThrowException() {
+        assertAll(() -> {
+            assertThrows(NegativeVertexIndexException.class, () -> graph.addNewVertex(-1));
+            assertThrows(NegativeVertexIndexException.class, () -> graph.isVertexOfGraph(-1));
+            assertThrows(NoSuchVertexIndexException.class, () -> graph.getNeighbourIndexes(order));
+            assertThrows(NoSuchVertexIndexException.class, () -> graph.connectVertices(0, order));
+            assertThrows(NoSuchVertexIndexException.class, () -> graph.removeVertex(order));
+            assertThrows(IllegalArgumentException.class, () -> new ConcurrentGraph<>(0));
+            assertFalse(graph.addNewVertex(0));
+            assertFalse(graph.connectVertices(0, 0));
+            assertFalse(graph.disconnectVertices(0, 1));
+        });
+    }
+}
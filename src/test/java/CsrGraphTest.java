@@ -0,0 +1,598 @@
+import com.graphs.exceptions.vertex.NegativeVertexIndexException;
+import com.graphs.exceptions.vertex.NoSuchVertexIndexException;
+import com.graphs.struct.Bipartition;
+import com.graphs.struct.ConnectedComponents;
+import com.graphs.struct.ConnectedDominatingSetStrategy;
+import com.graphs.struct.CsrGraph;
+import com.graphs.struct.Graph;
+import com.graphs.struct.IndependentSetStrategy;
+import com.graphs.struct.IntGraph;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.Random.class)
+class CsrGraphTest {
+
+    private static final Random RANDOM = new Random();
+    private static final String RESOURCES_PATH = "src/main/resources/";
+
+    private Graph<String> graph;
+    private CsrGraph<String> frozen;
+
+    private static Graph<String> randomGraph(int order, int size) {
+        Graph<String> random = new Graph<>();
+        for (int i = 0; i < order; i++) {
+            random.addNewVertex(RANDOM.nextInt(order * 4));
+        }
+        List<Integer> vertices = List.copyOf(random.getVertices());
+        for (int i = 0; i < size; i++) {
+            random.connectVertices(vertices.get(RANDOM.nextInt(vertices.size())),
+                    vertices.get(RANDOM.nextInt(vertices.size())));
+        }
+        return random;
+    }
+
+    private static Graph<String> randomForest(int order, int components, int extraEdgesPerVertex) {
+        Graph<String> forest = new Graph<>();
+        for (int i = 0; i < order; i++) {
+            forest.addNewVertex(i);
+        }
+        int edges = order - components + order * extraEdgesPerVertex;
+        int[] from = new int[edges];
+        int[] to = new int[edges];
+        int edge = 0;
+        for (int i = components; i < order; i++, edge++) {
+            from[edge] = i;
+            to[edge] = RANDOM.nextInt(i / components) * components + i % components;
+        }
+        for (; edge < edges; edge++) {
+            from[edge] = RANDOM.nextInt(order);
+            to[edge] = RANDOM.nextInt(order / components) * components + from[edge] % components;
+        }
+        forest.addEdges(from, to);
+        return forest;
+    }
+
+    @BeforeEach
+    @DisplayName("Creating a snapshot of a graph from a text file.")
+    void givenFile_WhenFreezeGraph_ThenSetSnapshot() {
+        graph = new Graph<>(RESOURCES_PATH + "graph_example.txt");
+        frozen = graph.freeze();
+        assertNotNull(frozen);
+    }
+
+    @Test
+    @DisplayName("Checking if a snapshot has the same vertices and neighbourhoods as its graph.")
+    void givenSnapshot_WhenGetVerticesAndNeighbourhoods_ThenEqualsGraph() {
+        assertAll(() -> {
+            assertEquals(graph.getVertices(), frozen.getVertices());
+            for (Integer index : graph.getVertices()) {
+                assertTrue(frozen.isVertexOfGraph(index));
+                assertEquals(graph.getVertexNeighbourhood(index), frozen.getVertexNeighbourhood(index));
+            }
+            assertEquals(graph.toString(), frozen.toString());
+        });
+    }
+
+    @Test
+    @DisplayName("Checking if freezing an unmodified graph returns the same snapshot.")
+    void givenUnmodifiedGraph_WhenFreeze_ThenReturnSameSnapshot() {
+        assertSame(frozen, graph.freeze());
+    }
+
+    @Test
+    @DisplayName("Checking if a snapshot is not affected by later modifications of its graph.")
+    void givenModifiedGraph_WhenFreeze_ThenReturnNewSnapshot() {
+        assertAll(() -> {
+            assertTrue(graph.disconnectVertices(1, 2));
+            graph.setVertexData(3, "modified");
+            assertTrue(frozen.getVertexNeighbourhood(1).contains(2));
+            assertNull(frozen.getVertexData(3));
+            CsrGraph<String> refrozen = graph.freeze();
+            assertNotSame(frozen, refrozen);
+            assertFalse(refrozen.getVertexNeighbourhood(1).contains(2));
+            assertEquals("modified", refrozen.getVertexData(3));
+        });
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, -100, Integer.MIN_VALUE})
+    @DisplayName("Checking if a snapshot rejects negative indexes.")
+    void givenNegativeIndex_WhenIsVertexOfSnapshot_ThenThrowNegativeVertexIndexException(int index) {
+        assertThrowsExactly(NegativeVertexIndexException.class, () -> frozen.isVertexOfGraph(index));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 14, 100, Integer.MAX_VALUE})
+    @DisplayName("Checking if a snapshot does not contain vertices its graph does not contain.")
+    void givenMissingIndex_WhenGetVertexNeighbourhood_ThenThrowNoSuchVertexIndexException(int index) {
+        assertThrowsExactly(NoSuchVertexIndexException.class, () -> frozen.getVertexNeighbourhood(index));
+    }
+
+    @Test
+    @DisplayName("Checking if a snapshot computes the same sets as its graph.")
+    void givenSnapshot_WhenComputingSets_ThenEqualsExpectedSets() {
+        assertAll(() -> {
+            assertEquals(Set.of(3, 7, 8, 12), frozen.findMDS());
+            assertEquals(Set.of(1, 3, 4, 5, 7, 8, 9), frozen.findMCDS());
+            assertEquals(Set.of(2, 4, 6, 10, 11, 13), frozen.findMIS());
+            assertTrue(frozen.isConnected());
+            assertFalse(frozen.isComplete());
+            assertTrue(frozen.isCDS(frozen.findMCDS()));
+        });
+    }
+
+    @Test
+    @DisplayName("Checking if an off-heap snapshot answers the same as a heap snapshot.")
+    void givenGraph_WhenFreezeOffHeap_ThenAnswersEqualHeapSnapshot() {
+        try (CsrGraph<String> offHeap = graph.freezeOffHeap()) {
+            assertAll(() -> {
+                assertEquals(frozen.toString(), offHeap.toString());
+                assertArrayEquals(frozen.getVertexIndexes(), offHeap.getVertexIndexes());
+                assertEquals(frozen.findMDS(), offHeap.findMDS());
+                assertEquals(frozen.findMCDS(), offHeap.findMCDS());
+                assertEquals(frozen.findMIS(), offHeap.findMIS());
+                assertEquals(frozen.isBipartite(), offHeap.isBipartite());
+                assertThrowsExactly(NoSuchVertexIndexException.class, () -> offHeap.getVertexData(100));
+            });
+        }
+    }
+
+    @Test
+    @DisplayName("Checking if a closed off-heap snapshot cannot be queried.")
+    void givenClosedOffHeapSnapshot_WhenQuerying_ThenThrowIllegalStateException() {
+        CsrGraph<String> offHeap = graph.freezeOffHeap();
+        offHeap.close();
+        assertAll(() -> {
+            assertThrowsExactly(IllegalStateException.class, offHeap::getOrder);
+            assertThrowsExactly(IllegalStateException.class, () -> offHeap.isVertexOfGraph(1));
+            assertThrowsExactly(IllegalStateException.class, offHeap::findMDS);
+            assertDoesNotThrow(offHeap::close);
+        });
+    }
+
+    @RepeatedTest(9)
+    @DisplayName("Checking if a snapshot of a random graph answers the same as the graph.")
+    void givenRandomGraph_WhenFreeze_ThenAnswersEqualGraph() {
+        Graph<String> random = randomGraph(60, 90);
+        CsrGraph<String> snapshot = random.freeze();
+        assertAll(() -> {
+            assertEquals(random.isConnected(), snapshot.isConnected());
+            assertEquals(random.isBipartite(), snapshot.isBipartite());
+            assertEquals(random.isComplete(), snapshot.isComplete());
+            assertEquals(random.findMDS(), snapshot.findMDS());
+            assertEquals(random.findMIS(), snapshot.findMIS());
+            assertTrue(random.isCDS(snapshot.findMCDS()) || !random.isConnected());
+        });
+    }
+
+    @RepeatedTest(9)
+    @DisplayName("Checking if a snapshot of a random graph answers primitive queries the same as the graph.")
+    void givenRandomGraph_WhenQueryingByIntArrays_ThenAnswersEqualGraph() {
+        IntGraph random = randomGraph(60, 90);
+        IntGraph snapshot = ((Graph<?>) random).freeze();
+        assertAll(() -> {
+            assertEquals(random.getOrder(), snapshot.getOrder());
+            assertArrayEquals(random.getVertexIndexes(), snapshot.getVertexIndexes());
+            for (int index : random.getVertexIndexes()) {
+                assertArrayEquals(random.getNeighbourIndexes(index), snapshot.getNeighbourIndexes(index));
+                assertEquals(random.getDegree(index), snapshot.getDegree(index));
+            }
+            int[] subset = Arrays.copyOf(random.getVertexIndexes(), 20);
+            assertEquals(random.doInduceConnectedSubGraph(subset), snapshot.doInduceConnectedSubGraph(subset));
+            assertEquals(random.doInduceBipartiteSubGraph(subset), snapshot.doInduceBipartiteSubGraph(subset));
+            assertEquals(random.isIndependentSet(subset), snapshot.isIndependentSet(subset));
+            assertArrayEquals(random.findMDSIndexes(), snapshot.findMDSIndexes());
+            assertArrayEquals(random.findMISIndexes(), snapshot.findMISIndexes());
+            assertTrue(random.isCDS(snapshot.findMCDSIndexes()) || !random.doInduceConnectedSubGraph(random.getVertexIndexes()));
+        });
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 2, 8})
+    @DisplayName("Checking if connectivity of a large graph, which is searched in parallel, is found correctly.")
+    void givenLargeRandomForest_WhenCheckingConnectivity_ThenAnswersByNumberOfComponents(int extraEdgesPerVertex) {
+        int order = 70_000;
+        Graph<String> connected = randomForest(order, 1, extraEdgesPerVertex);
+        Graph<String> disconnected = randomForest(order, 2, extraEdgesPerVertex);
+        int[] firstComponent = IntStream.range(0, order).filter(index -> index % 2 == 0).toArray();
+        int[] bridged = IntStream.concat(IntStream.of(firstComponent), IntStream.of(1)).toArray();
+        assertAll(() -> {
+            assertTrue(connected.isConnected());
+            assertTrue(connected.freeze().isConnected());
+            assertFalse(disconnected.isConnected());
+            assertFalse(disconnected.freeze().isConnected());
+            assertTrue(disconnected.doInduceConnectedSubGraph(firstComponent));
+            assertFalse(disconnected.doInduceConnectedSubGraph(bridged));
+            try (CsrGraph<String> offHeap = disconnected.freezeOffHeap()) {
+                assertFalse(offHeap.isConnected());
+                assertTrue(offHeap.doInduceConnectedSubGraph(firstComponent));
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Checking if a long path, which is searched in parallel level by level, is connected until its middle edge is removed.")
+    void givenLongPath_WhenRemovingMiddleEdge_ThenBecomesDisconnected() {
+        int order = 80_000;
+        Graph<String> path = new Graph<>();
+        for (int i = 0; i < order; i++) {
+            path.addNewVertex(i);
+        }
+        path.addEdges(IntStream.range(1, order).toArray(), IntStream.range(0, order - 1).toArray());
+        assertAll(() -> {
+            assertTrue(path.isConnected());
+            assertTrue(path.disconnectVertices(order / 2, order / 2 - 1));
+            assertFalse(path.isConnected());
+            assertTrue(path.doInduceConnectedSubGraph(IntStream.range(0, order / 2).toArray()));
+            assertFalse(path.doInduceConnectedSubGraph(IntStream.range(1, order / 2).map(i -> i == order / 4 ? 0 : i).toArray()));
+        });
+    }
+
+    @RepeatedTest(9)
+    @DisplayName("Checking if each connected component of a random graph induces a connected subgraph, and no two of them are joined.")
+    void givenRandomGraph_WhenComputingComponents_ThenEachComponentIsConnected() {
+        Graph<String> random = randomGraph(80, 60);
+        ConnectedComponents components = random.connectedComponents();
+        assertAll(() -> {
+            assertEquals(random.getOrder(), IntStream.of(components.getComponentSizes()).sum());
+            assertEquals(random.isConnected(), components.getCount() == 1);
+            for (int component = 0; component < components.getCount(); component++) {
+                int[] indexes = components.getComponentIndexes(component);
+                assertTrue(random.doInduceConnectedSubGraph(indexes));
+                for (int index : indexes) {
+                    for (int neighbour : random.getNeighbourIndexes(index)) {
+                        assertEquals(component, components.getComponent(neighbour));
+                    }
+                }
+                int least = indexes[0];
+                assertTrue(component == 0 || components.getComponentIndexes(component - 1)[0] < least);
+            }
+        });
+    }
+
+    private static void assertProperBipartition(IntGraph graph, Bipartition bipartition) {
+        if (bipartition.isBipartite()) {
+            int[] first = bipartition.getFirstPartIndexes();
+            int[] second = bipartition.getSecondPartIndexes();
+            assertEquals(graph.getOrder(), first.length + second.length);
+            assertTrue(bipartition.getOddCycle().isEmpty());
+            Set<Integer> firstPart = bipartition.getFirstPart();
+            for (int index : graph.getVertexIndexes()) {
+                boolean inFirst = firstPart.contains(index);
+                assertTrue(inFirst || Arrays.binarySearch(second, index) >= 0);
+                for (int neighbour : graph.getNeighbourIndexes(index)) {
+                    assertNotEquals(inFirst, firstPart.contains(neighbour));
+                }
+            }
+            ConnectedComponents components = graph.connectedComponents();
+            for (int component = 0; component < components.getCount(); component++) {
+                assertTrue(firstPart.contains(components.getComponentIndexes(component)[0]));
+            }
+        } else {
+            int[] cycle = bipartition.getOddCycleIndexes();
+            assertEquals(1, cycle.length % 2);
+            assertEquals(cycle.length, IntStream.of(cycle).distinct().count());
+            assertTrue(bipartition.getFirstPart().isEmpty() && bipartition.getSecondPart().isEmpty());
+            for (int k = 0; k < cycle.length; k++) {
+                int next = cycle[(k + 1) % cycle.length];
+                assertTrue(Arrays.binarySearch(graph.getNeighbourIndexes(cycle[k]), next) >= 0);
+            }
+        }
+    }
+
+    private static int[] greedyDominatingSet(Graph<?> graph) {
+        int[] vertices = graph.vertexStream().toArray();
+        Set<Integer> white = new HashSet<>();
+        Arrays.stream(vertices).forEach(white::add);
+        List<Integer> dominatingSet = new ArrayList<>();
+        while (!white.isEmpty()) {
+            int chosen = -1;
+            for (int index : vertices) {
+                if (white.contains(index) && (chosen < 0 || graph.getDegree(index) > graph.getDegree(chosen))) chosen = index;
+            }
+            dominatingSet.add(chosen);
+            white.remove(chosen);
+            Arrays.stream(graph.getNeighbourIndexes(chosen)).forEach(white::remove);
+        }
+        return dominatingSet.stream().mapToInt(Integer::intValue).sorted().toArray();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {50, 300, 2_000})
+    @DisplayName("Checking if a dominating set taken from buckets of degrees equals the one chosen by rescanning all vertices.")
+    void givenRandomGraph_WhenFindMDS_ThenEqualsGreedyByRescanning(int order) {
+        Graph<String> random = randomGraph(order, order * (1 + RANDOM.nextInt(4)));
+        CsrGraph<String> snapshot = random.freeze();
+        int[] expected = greedyDominatingSet(random);
+        assertAll(() -> {
+            assertArrayEquals(expected, snapshot.findMDSIndexes());
+            assertArrayEquals(expected, random.findMDSIndexes());
+            for (int index : random.getVertexIndexes()) {
+                assertTrue(Arrays.binarySearch(expected, index) >= 0 || Arrays.stream(random.getNeighbourIndexes(index))
+                        .anyMatch(neighbour -> Arrays.binarySearch(expected, neighbour) >= 0));
+            }
+        });
+    }
+
+    private static int[] greedyIndependentSet(Graph<?> graph) {
+        int[] vertices = graph.vertexStream().toArray();
+        Set<Integer> left = new HashSet<>();
+        Arrays.stream(vertices).forEach(left::add);
+        List<Integer> independentSet = new ArrayList<>();
+        while (!left.isEmpty()) {
+            int chosen = -1;
+            for (int index : vertices) {
+                if (left.contains(index) && (chosen < 0 || graph.getDegree(index) < graph.getDegree(chosen))) chosen = index;
+            }
+            independentSet.add(chosen);
+            left.remove(chosen);
+            Arrays.stream(graph.getNeighbourIndexes(chosen)).forEach(left::remove);
+        }
+        return independentSet.stream().mapToInt(Integer::intValue).sorted().toArray();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {50, 300, 1_000})
+    @DisplayName("Checking if an independent set taken from buckets of degrees equals the one chosen by rescanning all vertices.")
+    void givenRandomGraph_WhenFindMIS_ThenEqualsGreedyByRescanning(int order) {
+        Graph<String> random = randomGraph(order, order * (1 + RANDOM.nextInt(4)));
+        CsrGraph<String> snapshot = random.freeze();
+        int[] expected = greedyIndependentSet(random);
+        assertAll(() -> {
+            assertArrayEquals(expected, snapshot.findMISIndexes());
+            assertArrayEquals(expected, random.findMISIndexes());
+            assertArrayEquals(expected, random.findMISIndexes(IndependentSetStrategy.MIN_DEGREE));
+            assertTrue(random.isIndependentSet(expected));
+        });
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {50, 300, 1_000})
+    @DisplayName("Checking if an independent set taken from a bucket queue of residual degrees is maximal.")
+    void givenRandomGraph_WhenFindMISByResidualDegree_ThenIsMaximal(int order) {
+        Graph<String> random = randomGraph(order, order * (1 + RANDOM.nextInt(4)));
+        int[] independentSet = random.findMISIndexes(IndependentSetStrategy.MIN_RESIDUAL_DEGREE);
+        assertAll(() -> {
+            assertEquals(random.findMIS(IndependentSetStrategy.MIN_RESIDUAL_DEGREE).size(), independentSet.length);
+            assertTrue(random.isIndependentSet(independentSet));
+            for (int index : random.getVertexIndexes()) {
+                assertTrue(Arrays.binarySearch(independentSet, index) >= 0 || Arrays.stream(random.getNeighbourIndexes(index))
+                        .anyMatch(neighbour -> Arrays.binarySearch(independentSet, neighbour) >= 0));
+            }
+        });
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {50, 2_000, 40_000})
+    @DisplayName("Checking if a randomized independent set is maximal and reproducible from its seed.")
+    void givenRandomGraph_WhenFindParallelMIS_ThenIsMaximalAndReproducible(int order) {
+        Graph<String> random = randomGraph(order, order * (1 + RANDOM.nextInt(4)));
+        long seed = RANDOM.nextLong();
+        int[] independentSet = random.findParallelMISIndexes(seed);
+        assertAll(() -> {
+            assertArrayEquals(independentSet, random.freeze().findParallelMISIndexes(seed));
+            assertEquals(random.findParallelMIS(seed).size(), independentSet.length);
+            assertTrue(random.isIndependentSet(independentSet));
+            for (int index : random.getVertexIndexes()) {
+                assertTrue(Arrays.binarySearch(independentSet, index) >= 0 || Arrays.stream(random.getNeighbourIndexes(index))
+                        .anyMatch(neighbour -> Arrays.binarySearch(independentSet, neighbour) >= 0));
+            }
+        });
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {50, 2_000, 40_000})
+    @DisplayName("Checking if a dominating set found in parallel dominates all vertices and is reproducible.")
+    void givenRandomGraph_WhenFindParallelMDS_ThenDominatesAllVertices(int order) {
+        Graph<String> random = randomGraph(order, order * (1 + RANDOM.nextInt(4)));
+        int[] dominatingSet = random.findParallelMDSIndexes();
+        assertAll(() -> {
+            assertArrayEquals(dominatingSet, random.freeze().findParallelMDSIndexes());
+            assertEquals(random.findParallelMDS().size(), dominatingSet.length);
+            for (int index : random.getVertexIndexes()) {
+                assertTrue(Arrays.binarySearch(dominatingSet, index) >= 0 || Arrays.stream(random.getNeighbourIndexes(index))
+                        .anyMatch(neighbour -> Arrays.binarySearch(dominatingSet, neighbour) >= 0));
+            }
+        });
+    }
+
+    private static int[] connectedDominatingSetByRescanning(Graph<?> graph) {
+        int[] vertices = graph.vertexStream().boxed()
+                .collect(Collectors.toMap(VertexKey::new, index -> 0, (first, second) -> second, HashMap::new))
+                .keySet().stream().mapToInt(VertexKey::index).toArray();
+        Map<Integer, Integer> degrees = new HashMap<>();
+        Arrays.stream(vertices).forEach(index -> degrees.put(index, graph.getDegree(index)));
+        Set<Integer> current = new HashSet<>(degrees.keySet());
+        Set<Integer> nonFixed = new HashSet<>(degrees.keySet());
+        Set<Integer> fixed = new HashSet<>();
+        while (!nonFixed.isEmpty()) {
+            int u = -1;
+            for (int index : vertices) {
+                if (nonFixed.contains(index) && (u < 0 || degrees.get(index) < degrees.get(u))) u = index;
+            }
+            nonFixed.remove(u);
+            current.remove(u);
+            if (!current.isEmpty() && !graph.doInduceConnectedSubGraph(current)) {
+                current.add(u);
+                fixed.add(u);
+                continue;
+            }
+            boolean intersection = false;
+            for (int neighbour : graph.getNeighbourIndexes(u)) {
+                if (nonFixed.contains(neighbour)) degrees.merge(neighbour, -1, Integer::sum);
+                if (fixed.contains(neighbour)) intersection = true;
+            }
+            if (!intersection) {
+                int w = -1;
+                for (int neighbour : graph.getNeighbourIndexes(u)) {
+                    if (current.contains(neighbour) && (w < 0 || degrees.get(neighbour) > degrees.get(w))) w = neighbour;
+                }
+                if (w >= 0) {
+                    fixed.add(w);
+                    nonFixed.remove(w);
+                }
+            }
+        }
+        return current.stream().mapToInt(Integer::intValue).sorted().toArray();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {40, 200, 800})
+    @DisplayName("Checking if a connected dominating set found with a spanning tree equals the one found by searching after each removal.")
+    void givenRandomConnectedGraph_WhenFindMCDS_ThenEqualsSetFoundBySearching(int order) {
+        Graph<String> random = randomForest(order, 1, RANDOM.nextInt(3));
+        int[] expected = connectedDominatingSetByRescanning(random);
+        assertAll(() -> {
+            assertArrayEquals(expected, random.findMCDSIndexes());
+            assertTrue(random.isCDS(expected));
+        });
+    }
+
+    @Test
+    @DisplayName("Checking if a connected dominating set of a large graph is found, and a disconnected graph keeps all vertices.")
+    void givenLargeGraph_WhenFindMCDS_ThenReturnConnectedDominatingSet() {
+        Graph<String> large = randomForest(200_000, 1, 2);
+        CsrGraph<String> snapshot = large.freeze();
+        int[] connectedDominatingSet = snapshot.findMCDSIndexes();
+        Graph<String> disconnected = randomForest(1_000, 2, 2);
+        assertAll(() -> {
+            assertTrue(connectedDominatingSet.length < large.getOrder());
+            assertTrue(snapshot.isCDS(connectedDominatingSet));
+            assertArrayEquals(disconnected.getVertexIndexes(), disconnected.findMCDSIndexes());
+        });
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 4, 12})
+    @DisplayName("Checking if vertices left marked by the marking process and its rules are a connected dominating set.")
+    void givenRandomConnectedGraph_WhenFindMCDSByMarking_ThenIsConnectedDominatingSet(int extraEdgesPerVertex) {
+        Graph<String> random = randomForest(2_000, 1, extraEdgesPerVertex);
+        Graph<String> large = randomForest(50_000, 1, extraEdgesPerVertex);
+        int[] connectedDominatingSet = random.findMCDSIndexes(ConnectedDominatingSetStrategy.MARKING);
+        int[] largeConnectedDominatingSet = large.findMCDSIndexes(ConnectedDominatingSetStrategy.MARKING);
+        assertAll(() -> {
+            assertTrue(random.isCDS(connectedDominatingSet));
+            assertTrue(large.isCDS(largeConnectedDominatingSet));
+            assertEquals(random.findMCDS(ConnectedDominatingSetStrategy.MARKING).size(), connectedDominatingSet.length);
+        });
+    }
+
+    @ParameterizedTest
+    @EnumSource(ConnectedDominatingSetStrategy.class)
+    @DisplayName("Checking if each strategy finds a connected dominating set of a connected graph, and keeps all vertices of a disconnected graph.")
+    void givenStrategy_WhenFindMCDS_ThenIsConnectedDominatingSet(ConnectedDominatingSetStrategy strategy) {
+        Graph<String> sparse = randomForest(3_000, 1, 0);
+        Graph<String> dense = randomForest(3_000, 1, 3);
+        Graph<String> disconnected = randomForest(1_000, 2, 2);
+        assertAll(() -> {
+            assertTrue(sparse.isCDS(sparse.findMCDSIndexes(strategy)));
+            assertTrue(dense.isCDS(dense.findMCDSIndexes(strategy)));
+            assertArrayEquals(disconnected.getVertexIndexes(), disconnected.findMCDSIndexes(strategy));
+        });
+    }
+
+    @Test
+    @DisplayName("Checking if linear-time strategies find a single vertex of a complete graph, and keep all vertices of a disconnected graph.")
+    void givenCompleteOrDisconnectedGraph_WhenFindMCDSInLinearTime_ThenReturnSingleOrAllVertices() {
+        Graph<Integer> complete = new Graph<Integer>().complete(1, 6);
+        Graph<Integer> single = new Graph<Integer>().complete(1, 1);
+        Graph<String> disconnected = randomForest(1_000, 2, 2);
+        assertAll(() -> {
+            for (ConnectedDominatingSetStrategy strategy : List.of(ConnectedDominatingSetStrategy.MARKING,
+                    ConnectedDominatingSetStrategy.SPANNING_TREE, ConnectedDominatingSetStrategy.GREEDY_GROWTH)) {
+                assertEquals(1, complete.findMCDSIndexes(strategy).length);
+                assertTrue(complete.isCDS(complete.findMCDSIndexes(strategy)));
+                assertArrayEquals(new int[]{1}, single.findMCDSIndexes(strategy));
+            }
+            assertArrayEquals(disconnected.getVertexIndexes(), disconnected.findMCDSIndexes(ConnectedDominatingSetStrategy.MARKING));
+        });
+    }
+
+    @RepeatedTest(9)
+    @DisplayName("Checking if a random graph is split into two parts, or has an odd cycle found.")
+    void givenRandomGraph_WhenFindBipartition_ThenFindPartsOrOddCycle() {
+        Graph<String> random = randomGraph(60, 40 + RANDOM.nextInt(20));
+        CsrGraph<String> snapshot = random.freeze();
+        Bipartition bipartition = snapshot.findBipartition();
+        assertAll(() -> {
+            assertSame(bipartition, random.findBipartition());
+            assertEquals(bipartition.isBipartite(), random.isBipartite());
+            assertEquals(bipartition.isBipartite(), random.doInduceBipartiteSubGraph(random.getVertexIndexes()));
+            assertProperBipartition(snapshot, bipartition);
+            if (!bipartition.isBipartite()) {
+                assertFalse(random.doInduceBipartiteSubGraph(bipartition.getOddCycleIndexes()));
+            }
+        });
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 7})
+    @DisplayName("Checking if a large forest, whose components are coloured in parallel, is bipartite until an odd cycle is closed.")
+    void givenLargeRandomForest_WhenFindBipartition_ThenFindPartsOrOddCycle(int count) {
+        int order = 70_000 - 70_000 % count;
+        Graph<String> forest = randomForest(order, count, 0);
+        assertAll(() -> {
+            assertTrue(forest.isBipartite());
+            assertProperBipartition(forest, forest.findBipartition());
+            int leaf = order - 1;
+            int parent = forest.getNeighbourIndexes(leaf)[0];
+            int grandparent = Arrays.stream(forest.getNeighbourIndexes(parent))
+                    .filter(index -> index != leaf)
+                    .findFirst()
+                    .orElseThrow();
+            forest.connectVertices(leaf, grandparent);
+            Bipartition bipartition = forest.findBipartition();
+            assertFalse(bipartition.isBipartite());
+            assertFalse(forest.isBipartite());
+            assertProperBipartition(forest, bipartition);
+            assertEquals(Set.of(leaf, parent, grandparent), Set.copyOf(bipartition.getOddCycle()));
+        });
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 7})
+    @DisplayName("Checking if connected components of a large graph, which are computed in parallel, are found correctly.")
+    void givenLargeRandomForest_WhenComputingComponents_ThenFindEachComponent(int count) {
+        int order = 70_000 - 70_000 % count;
+        Graph<String> forest = randomForest(order, count, 3);
+        ConnectedComponents components = forest.connectedComponents();
+        try (CsrGraph<String> offHeap = forest.freezeOffHeap()) {
+            ConnectedComponents offHeapComponents = offHeap.connectedComponents();
+            assertAll(() -> {
+                assertEquals(count, components.getCount());
+                assertEquals(count, offHeapComponents.getCount());
+                for (int index = 0; index < order; index++) {
+                    assertEquals(index % count, components.getComponent(index));
+                    assertEquals(index % count, offHeapComponents.getComponent(index));
+                }
+                assertEquals(0, components.getLargestComponent());
+                assertEquals(order / count, components.getComponentSize(count - 1));
+            });
+        }
+    }
+
+    private record VertexKey(int index) {
+
+        @Override
+        public int hashCode() {
+            return 59 + this.index;
+        }
+    }
+}
@@ -0,0 +1,663 @@
+import com.graphs.struct.ColumnType;
+import com.graphs.struct.ConcurrentGraph;
+import com.graphs.struct.ConnectedDominatingSetStrategy;
+import com.graphs.struct.CsrGraph;
+import com.graphs.struct.Graph;
+import com.graphs.struct.GraphBuilder;
+import com.graphs.struct.IndependentSetStrategy;
+import com.graphs.utils.PrettierPrinter;
+
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.stream.IntStream;
+
+/**
+ * This class implements a simple benchmark of {@link Graph} class.
+ * It measures the time of chosen operations on a random graph of a given order and size.
+ * <p>
+ * The results are rough wall-clock measurements printed on console,
+ * they are meant to compare implementations with each other, not to be treated as absolute values.
+ * The benchmark is kept with test sources, so it is not shipped with the library, and it is run by its own {@link #main(String[])}.
+ * </p>
+ *
+ * @author Łukasz Malara
+ * @version JDK 1.7
+ * @since 2.1
+ */
+public class GraphBenchmark implements Runnable {
+
+    /**
+     * This method runs the benchmark once.
+     *
+     * @param args unused.
+     * @since 2.1
+     */
+    public static void main(String[] args) {
+        new GraphBenchmark().run();
+    }
+
+    /**
+     * This field stores a seed of a random generator, so every run of a benchmark works on the same graph.
+     *
+     * @since 2.1
+     */
+    private static final long SEED = 42L;
+
+    /**
+     * This field stores the greatest order of a graph used to benchmark algorithms of quadratic time complexity.
+     *
+     * @since 2.1
+     */
+    private static final int ANALYTICS_ORDER = 5_000;
+
+    /**
+     * This field stores the order of a benchmarked complete graph.
+     *
+     * @since 2.1
+     */
+    private static final int COMPLETE_ORDER = 4_000;
+
+    /**
+     * This field stores the number of operations performed by each thread of a concurrent benchmark.
+     *
+     * @since 2.1
+     */
+    private static final int OPERATIONS_PER_THREAD = 500_000;
+
+    /**
+     * This field stores a percentage of writes among operations of a concurrent benchmark.
+     *
+     * @since 2.1
+     */
+    private static final int WRITE_PERCENTAGE = 10;
+
+    /**
+     * This field stores the number of updates of a graph, each followed by a check of connectivity.
+     *
+     * @since 2.1
+     */
+    private static final int UPDATES = 2_000;
+
+    /**
+     * This field stores the number of vertices of a benchmarked graph.
+     *
+     * @since 2.1
+     */
+    private final int order;
+
+    /**
+     * This field stores the number of edges to load into a benchmarked graph.
+     *
+     * @since 2.1
+     */
+    private final int size;
+
+    /**
+     * This constructor creates a benchmark of a graph with {@code 200 000} vertices and {@code 1 000 000} edges.
+     *
+     * @since 2.1
+     */
+    public GraphBenchmark() {
+        this(200_000, 1_000_000);
+    }
+
+    /**
+     * This constructor creates a benchmark of a graph with given order and size.
+     *
+     * @param order number of vertices of a benchmarked graph.
+     * @param size  number of edges to load into a benchmarked graph.
+     * @since 2.1
+     */
+    public GraphBenchmark(int order, int size) {
+        this.order = order;
+        this.size = size;
+    }
+
+    /**
+     * This method runs a benchmark of {@link Graph} class.
+     *
+     * @since 2.1
+     */
+    @Override
+    public void run() {
+        PrettierPrinter.printHeader("START OF A BENCHMARK");
+        benchmarkLoad();
+        benchmarkHub();
+        benchmarkComplete();
+        benchmarkAnalytics();
+        benchmarkOffHeap();
+        benchmarkConnectivity();
+        benchmarkBipartiteness();
+        benchmarkDomination();
+        benchmarkIndependence();
+        benchmarkStreams();
+        benchmarkPayload();
+        benchmarkConcurrency();
+        PrettierPrinter.printFooter("END OF THE BENCHMARK");
+    }
+
+    /**
+     * This method measures loading vertices and edges one by one into an empty graph,
+     * and building the same graph in bulk by {@link GraphBuilder}.
+     *
+     * @since 2.1
+     */
+    private void benchmarkLoad() {
+        long millis = measure(this::randomGraph);
+        printResult("Loading " + order + " vertices and " + size + " edges", millis);
+        Random random = new Random(SEED);
+        int[] from = new int[size];
+        int[] to = new int[size];
+        for (int i = 0; i < size; i++) {
+            from[i] = random.nextInt(order);
+            to[i] = random.nextInt(order);
+        }
+        millis = measure(() -> {
+            GraphBuilder<Object> builder = new GraphBuilder<>(order + size);
+            for (int i = 0; i < order; i++) {
+                builder.addVertex(i);
+            }
+            builder.addEdges(from, to).build();
+        });
+        printResult("Building " + order + " vertices and " + size + " edges in bulk", millis);
+    }
+
+    /**
+     * This method measures connecting every vertex of this benchmark with a single hub vertex,
+     * which then checks each of its edges once again.
+     *
+     * @since 2.1
+     */
+    private void benchmarkHub() {
+        long millis = measure(() -> {
+            Graph<Object> star = new Graph<>();
+            star.addNewVertex(0);
+            for (int i = 1; i < order; i++) {
+                star.addNewVertex(i);
+                star.connectVertices(0, i);
+            }
+            for (int i = 1; i < order; i++) {
+                star.connectVertices(i, 0);
+            }
+        });
+        printResult("Connecting a hub with " + (order - 1) + " vertices", millis);
+    }
+
+    /**
+     * This method measures building a complete graph directly and by mapping an edgeless graph to complete,
+     * and then checking whether the result is complete.
+     *
+     * @since 2.1
+     */
+    private void benchmarkComplete() {
+        String label = " of " + COMPLETE_ORDER + " vertices";
+        Graph<Object> complete = new Graph<>();
+        printResult("Building a complete graph" + label, measure(() -> complete.complete(0, COMPLETE_ORDER)));
+        printResult("Checking completeness of a complete graph" + label, measure(complete::isComplete));
+        Graph<Object> mapped = new Graph<>();
+        mapped.setDenseAdjacency(true);
+        for (int i = 0; i < COMPLETE_ORDER; i++) {
+            mapped.addNewVertex(i);
+        }
+        printResult("Mapping a dense graph to complete" + label, measure(mapped::mapToComplete));
+    }
+
+    /**
+     * This method measures computing dominating and independent sets in a graph and in its frozen snapshot.
+     * The quadratic algorithms of a graph are run on a random graph of at most {@link #ANALYTICS_ORDER} vertices.
+     *
+     * @since 2.1
+     */
+    private void benchmarkAnalytics() {
+        int analyticsOrder = Math.min(order, ANALYTICS_ORDER);
+        Graph<Object> graph = randomGraph(analyticsOrder, analyticsOrder * (size / order));
+        String label = " on " + analyticsOrder + " vertices";
+        printResult("Graph: MDS, MIS and connectivity" + label, measure(() -> runAnalytics(graph)));
+        printResult("Freezing a graph" + label, measure(graph::freeze));
+        printResult("Snapshot: MDS, MIS and connectivity" + label, measure(() -> {
+            CsrGraph<Object> frozen = graph.freeze();
+            frozen.findMDS();
+            frozen.findMIS();
+            frozen.isConnected();
+        }));
+    }
+
+    /**
+     * This method compares a snapshot kept on the heap with a snapshot kept outside of it.
+     * For each of them, only the snapshot is left reachable, then the used heap, the time of a full garbage collection
+     * and the time of checking connectivity are measured.
+     *
+     * @since 2.1
+     */
+    private void benchmarkOffHeap() {
+        String label = " with a snapshot of " + order + " vertices";
+        CsrGraph<Object> heap = randomGraph().freeze();
+        printMemory("Heap used" + label, usedHeap());
+        printResult("Full garbage collection" + label, measure(System::gc));
+        printResult("Heap snapshot: connectivity", measure(heap::isConnected));
+        heap = null;
+        try (CsrGraph<Object> offHeap = randomGraph().freezeOffHeap()) {
+            String offHeapLabel = " with an off-heap snapshot of " + order + " vertices";
+            printMemory("Heap used" + offHeapLabel, usedHeap());
+            printResult("Full garbage collection" + offHeapLabel, measure(System::gc));
+            printResult("Off-heap snapshot: connectivity", measure(offHeap::isConnected));
+        }
+    }
+
+    /**
+     * This method measures checking connectivity of a graph, which is searched in parallel once it is large enough.
+     * The first check includes freezing a graph, while the second one reuses its snapshot.
+     * Then connectivity of a subgraph induced by a half of vertices is checked, and connected components are computed.
+     * Finally, a graph of at most {@link #ANALYTICS_ORDER} vertices is updated edge by edge and checked after each update,
+     * either by a search or by maintained connected components.
+     *
+     * @since 2.1
+     */
+    private void benchmarkConnectivity() {
+        Graph<Object> graph = randomGraph();
+        String label = " of " + order + " vertices";
+        printResult("Graph: connectivity, including freezing" + label, measure(graph::isConnected));
+        printResult("Graph: connectivity" + label, measure(graph::isConnected));
+        int[] half = IntStream.range(0, order / 2).toArray();
+        printResult("Graph: connectivity of a subgraph induced by a half" + label,
+                measure(() -> graph.doInduceConnectedSubGraph(half)));
+        printResult("Graph: connected components" + label, measure(graph::connectedComponents));
+        int updatesOrder = Math.min(order, ANALYTICS_ORDER);
+        String updatesLabel = " on " + updatesOrder + " vertices";
+        Graph<Object> searched = randomGraph(updatesOrder, updatesOrder * (size / order));
+        printResult("Graph: " + UPDATES + " updates, each checked by a search" + updatesLabel,
+                measure(() -> updateAndCheck(searched)));
+        Graph<Object> maintained = randomGraph(updatesOrder, updatesOrder * (size / order));
+        maintained.setDynamicConnectivity(true);
+        printResult("Graph: " + UPDATES + " updates, each checked by maintained components" + updatesLabel,
+                measure(() -> updateAndCheck(maintained)));
+    }
+
+    /**
+     * This method measures checking bipartiteness of a random bipartite graph, of a subgraph induced by a half of it,
+     * and of a random graph, where an odd cycle is found.
+     *
+     * @since 2.1
+     */
+    private void benchmarkBipartiteness() {
+        Random random = new Random(SEED);
+        Graph<Object> bipartite = new Graph<>();
+        for (int i = 0; i < order; i++) {
+            bipartite.addNewVertex(i);
+        }
+        int half = order / 2;
+        for (int i = 0; i < size; i++) {
+            bipartite.connectVertices(2 * random.nextInt(half), 2 * random.nextInt(half) + 1);
+        }
+        String label = " of " + order + " vertices";
+        printResult("Graph: bipartiteness of a bipartite graph, including freezing" + label,
+                measure(bipartite::isBipartite));
+        int[] subset = IntStream.range(0, half).toArray();
+        printResult("Graph: bipartiteness of a subgraph induced by a half" + label,
+                measure(() -> bipartite.doInduceBipartiteSubGraph(subset)));
+        Graph<Object> graph = randomGraph();
+        printResult("Graph: odd cycle of a random graph, including freezing" + label,
+                measure(() -> System.out.println(graph.findBipartition().getOddCycle().size() + " vertices of an odd cycle")));
+    }
+
+    /**
+     * This method measures finding a minimal dominating set of a random graph of the benchmarked order,
+     * both including freezing the graph and over its snapshot, and then a minimal connected dominating set by each strategy.
+     * A dominating set found in parallel over the snapshot is reported relative to the greedy one.
+     *
+     * @since 2.1
+     */
+    private void benchmarkDomination() {
+        Graph<Object> graph = randomGraph();
+        String label = " of " + order + " vertices";
+        printResult("Graph: MDS, including freezing" + label, measure(() ->
+                System.out.println(graph.findMDSIndexes().length + " vertices of MDS")));
+        CsrGraph<Object> frozen = graph.freeze();
+        int greedy = frozen.findMDSIndexes().length;
+        printResult("Snapshot: MDS" + label, measure(frozen::findMDSIndexes));
+        printResult("Snapshot: parallel MDS" + label, measure(() -> {
+            int parallel = frozen.findParallelMDSIndexes().length;
+            System.out.printf("%d vertices of parallel MDS, %.3f of %d vertices of greedy MDS%n",
+                    parallel, (double) parallel / Math.max(greedy, 1), greedy);
+        }));
+        for (ConnectedDominatingSetStrategy strategy : ConnectedDominatingSetStrategy.values()) {
+            printResult("Snapshot: MCDS by " + strategy + label, measure(() ->
+                    System.out.println(frozen.findMCDSIndexes(strategy).length + " vertices of MCDS")));
+        }
+    }
+
+    /**
+     * This method measures finding a maximal independent set of a random graph of the benchmarked order
+     * by each greedy strategy, both including freezing the graph and over its snapshot,
+     * and by the randomized algorithm over its snapshot, run by {@code 1, 2, 4, ...} threads up to the number of available processors.
+     * Parallel streams started by a task of a pool run in that pool, so each pool limits the number of threads.
+     *
+     * @since 2.1
+     */
+    private void benchmarkIndependence() {
+        Graph<Object> graph = randomGraph();
+        String label = " of " + order + " vertices";
+        printResult("Graph: MIS, including freezing" + label, measure(() ->
+                System.out.println(graph.findMISIndexes().length + " vertices of MIS")));
+        CsrGraph<Object> frozen = graph.freeze();
+        for (IndependentSetStrategy strategy : IndependentSetStrategy.values()) {
+            printResult("Snapshot: MIS by " + strategy + label, measure(() ->
+                    System.out.println(frozen.findMISIndexes(strategy).length + " vertices of MIS")));
+        }
+        int processors = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1, previous = 0; previous < processors; previous = threads, threads = Math.min(threads * 2, processors)) {
+            ForkJoinPool pool = new ForkJoinPool(threads);
+            printResult("Snapshot: randomized MIS with " + threads + " thread(s)" + label, measure(() ->
+                    System.out.println(pool.submit(() -> frozen.findParallelMISIndexes(SEED)).join().length + " vertices of MIS")));
+            pool.shutdown();
+        }
+    }
+
+    /**
+     * This method connects or disconnects random vertices of given graph, and checks its connectivity after each update.
+     *
+     * @param graph graph to update.
+     * @since 2.1
+     */
+    private static void updateAndCheck(Graph<Object> graph) {
+        Random random = new Random(SEED);
+        int graphOrder = graph.getOrder();
+        for (int i = 0; i < UPDATES; i++) {
+            int v = random.nextInt(graphOrder);
+            int u = random.nextInt(graphOrder);
+            if (random.nextBoolean()) {
+                graph.connectVertices(v, u);
+            } else {
+                graph.disconnectVertices(v, graph.getNeighbourIndexes(v).length == 0 ? u : graph.getNeighbourIndexes(v)[0]);
+            }
+            graph.isConnected();
+        }
+    }
+
+    /**
+     * This method measures walking all edges of a graph by copies of neighbourhoods,
+     * and by a stream of edges, both sequential and parallel.
+     *
+     * @since 2.1
+     */
+    private void benchmarkStreams() {
+        Graph<Object> graph = randomGraph();
+        String label = " of " + graph.getEdgeCount() + " edges";
+        printResult("Walking edges by neighbourhoods" + label, measure(() -> {
+            long edges = 0;
+            for (int v : graph.getVertices()) {
+                for (int u : graph.getVertexNeighbourhood(v)) {
+                    if (v < u) edges++;
+                }
+            }
+            System.out.println(edges + " edges walked");
+        }));
+        printResult("Streaming edges sequentially" + label, measure(() ->
+                System.out.println(graph.edgeStream().map(edge -> edge & 1).sum() + " edges of odd ends")));
+        printResult("Streaming edges in parallel" + label, measure(() ->
+                System.out.println(graph.edgeStream().parallel().map(edge -> edge & 1).sum() + " edges of odd ends")));
+    }
+
+    /**
+     * This method compares a score of each vertex stored as boxed data of a vertex with one stored in a column.
+     * For each of them, the heap used by scores and the time of summing them up are measured.
+     *
+     * @since 2.1
+     */
+    private void benchmarkPayload() {
+        String label = " of " + order + " vertices";
+        Graph<Double> boxed = new Graph<>();
+        Graph<Object> columnar = new Graph<>();
+        columnar.addColumn("score", ColumnType.DOUBLE);
+        for (int i = 0; i < order; i++) {
+            boxed.addNewVertex(i);
+            columnar.addNewVertex(i);
+        }
+        long before = usedHeap();
+        for (int i = 0; i < order; i++) {
+            boxed.setVertexData(i, i * 0.5);
+        }
+        printMemory("Heap used by boxed scores" + label, usedHeap() - before);
+        before = usedHeap();
+        for (int i = 0; i < order; i++) {
+            columnar.setVertexDouble("score", i, i * 0.5);
+        }
+        printMemory("Heap used by a column of scores" + label, usedHeap() - before);
+        printResult("Summing boxed scores" + label, measure(() ->
+                System.out.println(boxed.vertexStream().mapToDouble(boxed::getVertexData).sum())));
+        printResult("Summing a column of scores" + label, measure(() ->
+                System.out.println(columnar.vertexStream().mapToDouble(i -> columnar.getVertexDouble("score", i)).sum())));
+    }
+
+    /**
+     * This method measures throughput of a mixed workload of {@link #WRITE_PERCENTAGE} percent of writes,
+     * run by {@code 1, 2, 4, ...} threads up to the number of available processors.
+     * A graph guarded by a single lock is compared with {@link ConcurrentGraph}.
+     * Each thread performs {@link #OPERATIONS_PER_THREAD} operations on random vertices:
+     * connecting or disconnecting two of them, or reading a neighbourhood and checking a vertex.
+     * {@link ConcurrentGraph} is also measured when reads are degree statistics of the whole graph,
+     * and when another thread keeps taking snapshots of it meanwhile.
+     *
+     * @since 2.1
+     */
+    private void benchmarkConcurrency() {
+        Graph<Object> locked = randomGraph();
+        ConcurrentGraph<Object> concurrent = new ConcurrentGraph<>();
+        for (int i = 0; i < order; i++) {
+            concurrent.addNewVertex(i);
+        }
+        Random random = new Random(SEED);
+        for (int i = 0; i < size; i++) {
+            concurrent.connectVertices(random.nextInt(order), random.nextInt(order));
+        }
+        int processors = Runtime.getRuntime().availableProcessors();
+        for (int threads = 1, previous = 0; previous < processors; previous = threads, threads = Math.min(threads * 2, processors)) {
+            String label = " with " + threads + " thread(s)";
+            printThroughput("Single lock graph" + label, threads, (v, u, write) -> {
+                synchronized (locked) {
+                    operate(locked, v, u, write);
+                }
+            });
+            printThroughput("Concurrent graph" + label, threads, (v, u, write) -> {
+                if (!write) {
+                    concurrent.getNeighbourIndexes(v);
+                    concurrent.isVertexOfGraph(u);
+                } else if (!concurrent.connectVertices(v, u)) {
+                    concurrent.disconnectVertices(v, u);
+                }
+            });
+            printThroughput("Concurrent graph reading degree statistics" + label, threads, (v, u, write) -> {
+                if (!write) {
+                    concurrent.getMinDegree();
+                    concurrent.getMaxDegree();
+                } else if (!concurrent.connectVertices(v, u)) {
+                    concurrent.disconnectVertices(v, u);
+                }
+            });
+            Thread freezer = new Thread(() -> {
+                while (!Thread.currentThread().isInterrupted()) {
+                    concurrent.freeze();
+                }
+            });
+            freezer.start();
+            printThroughput("Concurrent graph while snapshots are taken" + label, threads, (v, u, write) -> {
+                if (!write) {
+                    concurrent.getNeighbourIndexes(v);
+                    concurrent.isVertexOfGraph(u);
+                } else if (!concurrent.connectVertices(v, u)) {
+                    concurrent.disconnectVertices(v, u);
+                }
+            });
+            freezer.interrupt();
+            try {
+                freezer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * This method performs a single operation of a mixed workload on a graph.
+     *
+     * @param graph graph to operate on.
+     * @param v     index of the first random vertex.
+     * @param u     index of another random vertex.
+     * @param write {@code true} to connect or disconnect vertices, {@code false} to read them.
+     * @since 2.1
+     */
+    private static void operate(Graph<Object> graph, int v, int u, boolean write) {
+        if (!write) {
+            graph.getNeighbourIndexes(v);
+            graph.isVertexOfGraph(u);
+        } else if (!graph.connectVertices(v, u)) {
+            graph.disconnectVertices(v, u);
+        }
+    }
+
+    /**
+     * This method runs a mixed workload by given number of threads and prints its throughput.
+     *
+     * @param label     description of a measured workload.
+     * @param threads   number of threads.
+     * @param operation a single operation of a workload.
+     * @since 2.1
+     */
+    private void printThroughput(String label, int threads, Operation operation) {
+        Thread[] workers = new Thread[threads];
+        long millis = measure(() -> {
+            for (int t = 0; t < threads; t++) {
+                workers[t] = new Thread(() -> {
+                    ThreadLocalRandom random = ThreadLocalRandom.current();
+                    for (int i = 0; i < OPERATIONS_PER_THREAD; i++) {
+                        operation.run(random.nextInt(order), random.nextInt(order), random.nextInt(100) < WRITE_PERCENTAGE);
+                    }
+                });
+                workers[t].start();
+            }
+            for (Thread worker : workers) {
+                try {
+                    worker.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        long operations = (long) threads * OPERATIONS_PER_THREAD;
+        System.out.println(label + ": " + operations / Math.max(1, millis) + " operations per ms");
+        PrettierPrinter.printlnSeparator();
+    }
+
+    /**
+     * This interface represents a single operation of a mixed workload on two random vertices.
+     *
+     * @since 2.1
+     */
+    @FunctionalInterface
+    private interface Operation {
+
+        /**
+         * This method performs an operation.
+         *
+         * @param v     index of the first random vertex.
+         * @param u     index of another random vertex.
+         * @param write {@code true} to connect or disconnect vertices, {@code false} to read them.
+         * @since 2.1
+         */
+        void run(int v, int u, boolean write);
+    }
+
+    /**
+     * This method computes dominating and independent sets and checks connectivity of a given graph.
+     *
+     * @param graph a graph to analyse.
+     * @since 2.1
+     */
+    private static void runAnalytics(Graph<Object> graph) {
+        graph.findMDS();
+        graph.findMIS();
+        graph.isConnected();
+    }
+
+    /**
+     * This method creates a random graph of an order and a size of this benchmark.
+     * Loops and duplicated edges are drawn as well, they are simply rejected by the graph.
+     *
+     * @return random graph.
+     * @since 2.1
+     */
+    private Graph<Object> randomGraph() {
+        return randomGraph(order, size);
+    }
+
+    /**
+     * This method creates a random graph of given order and size.
+     * Loops and duplicated edges are drawn as well, they are simply rejected by the graph.
+     *
+     * @param order number of vertices of a graph.
+     * @param size  number of edges to draw.
+     * @return random graph.
+     * @since 2.1
+     */
+    private static Graph<Object> randomGraph(int order, int size) {
+        Random random = new Random(SEED);
+        Graph<Object> graph = new Graph<>();
+        for (int i = 0; i < order; i++) {
+            graph.addNewVertex(i);
+        }
+        for (int i = 0; i < size; i++) {
+            graph.connectVertices(random.nextInt(order), random.nextInt(order));
+        }
+        return graph;
+    }
+
+    /**
+     * This method measures the wall-clock time of a given task.
+     *
+     * @param task task to measure.
+     * @return time of execution in milliseconds.
+     * @since 2.1
+     */
+    private static long measure(Runnable task) {
+        long start = System.nanoTime();
+        task.run();
+        return (System.nanoTime() - start) / 1_000_000;
+    }
+
+    /**
+     * This method returns the number of bytes used on the heap after a full garbage collection.
+     *
+     * @return used heap in bytes.
+     * @since 2.1
+     */
+    private static long usedHeap() {
+        Runtime runtime = Runtime.getRuntime();
+        System.gc();
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+
+    /**
+     * This method prints a single measurement of memory.
+     *
+     * @param label description of a measured state.
+     * @param bytes measured memory in bytes.
+     * @since 2.1
+     */
+    private static void printMemory(String label, long bytes) {
+        System.out.println(label + ": " + bytes / (1024 * 1024) + " MB");
+        PrettierPrinter.printlnSeparator();
+    }
+
+    /**
+     * This method prints a result of a single measurement.
+     *
+     * @param label  description of a measured operation.
+     * @param millis measured time in milliseconds.
+     * @since 2.1
+     */
+    private static void printResult(String label, long millis) {
+        System.out.println(label + ": " + millis + " ms");
+        PrettierPrinter.printlnSeparator();
+    }
+}
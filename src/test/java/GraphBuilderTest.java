@@ -0,0 +1,122 @@
+import com.graphs.exceptions.vertex.NegativeVertexIndexException;
+import com.graphs.exceptions.vertex.NoSuchVertexIndexException;
+import com.graphs.struct.Graph;
+import com.graphs.struct.GraphBuilder;
+import org.junit.jupiter.api.*;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@TestMethodOrder(MethodOrderer.Random.class)
+class GraphBuilderTest {
+
+    private static final Random RANDOM = new Random();
+
+    private int[] from;
+    private int[] to;
+
+    @BeforeEach
+    @DisplayName("Drawing random edges, including loops and repeated edges.")
+    void givenRandom_WhenDrawEdges_ThenSetEdges() {
+        int order = 1 + RANDOM.nextInt(300);
+        int size = RANDOM.nextInt(order * 4);
+        from = new int[size];
+        to = new int[size];
+        for (int k = 0; k < size; k++) {
+            from[k] = RANDOM.nextInt(order);
+            to[k] = RANDOM.nextInt(order);
+        }
+    }
+
+    @RepeatedTest(9)
+    @DisplayName("Checking if a built graph equals a graph loaded edge by edge.")
+    void givenRandomEdges_WhenBuild_ThenEqualsGraphLoadedEdgeByEdge() {
+        Graph<Object> expected = new Graph<>();
+        for (int k = 0; k < from.length; k++) {
+            expected.addNewVertex(from[k]);
+            expected.addNewVertex(to[k]);
+            expected.connectVertices(from[k], to[k]);
+        }
+        Graph<Object> built = new GraphBuilder<>().addEdges(from, to).build();
+        assertAll(() -> {
+            assertEquals(expected.toString(), built.toString());
+            assertEquals(expected.getEdgeCount(), built.getEdgeCount());
+            assertEquals(expected.getMaxDegree(), built.getMaxDegree());
+            assertEquals(expected.findMDS(), built.findMDS());
+            assertEquals(expected.findMIS(), built.findMIS());
+        });
+    }
+
+    @RepeatedTest(9)
+    @DisplayName("Checking if edges added in bulk to a graph with edges equal edges added one by one.")
+    void givenGraphWithEdges_WhenAddEdges_ThenEqualsEdgesAddedOneByOne() {
+        Graph<Object> expected = new GraphBuilder<>().addEdges(from, to).build();
+        Graph<Object> bulk = new GraphBuilder<>().addEdges(from, to).build();
+        int[] moreFrom = new int[from.length];
+        int[] moreTo = new int[to.length];
+        int added = 0;
+        for (int k = 0; k < from.length; k++) {
+            moreFrom[k] = from[RANDOM.nextInt(from.length)];
+            moreTo[k] = to[RANDOM.nextInt(to.length)];
+            if (expected.connectVertices(moreFrom[k], moreTo[k])) added++;
+        }
+        int expectedAdded = added;
+        assertAll(() -> {
+            assertEquals(expectedAdded, bulk.addEdges(moreFrom, moreTo));
+            assertEquals(expected.toString(), bulk.toString());
+            assertEquals(expected.getEdgeCount(), bulk.getEdgeCount());
+            assertEquals(0, bulk.addEdges(moreFrom, moreTo));
+        });
+    }
+
+    @Test
+    @DisplayName("Checking if a builder keeps order of vertices and their data.")
+    void givenVerticesAndEdges_WhenBuild_ThenKeepsOrderAndData() {
+        Graph<String> built = new GraphBuilder<String>()
+                .addVertex(7, "seven")
+                .addEdge(3, 1)
+                .addVertex(3)
+                .addEdge(1, 7)
+                .addVertex(0)
+                .build();
+        Graph<String> expected = new Graph<>();
+        for (int index : new int[]{7, 3, 1, 0}) {
+            expected.addNewVertex(index);
+        }
+        expected.setVertexData(7, "seven");
+        expected.connectVertices(3, 1);
+        expected.connectVertices(1, 7);
+        assertAll(() -> {
+            assertEquals(expected.toString(), built.toString());
+            assertEquals("seven", built.getVertexData(7));
+            assertTrue(built.getVertexNeighbourhood(0).isEmpty());
+        });
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {-1, Integer.MIN_VALUE})
+    @DisplayName("Checking if a builder rejects negative indexes.")
+    void givenNegativeIndex_WhenAddEdge_ThenThrowNegativeVertexIndexException(int index) {
+        assertAll(() -> {
+            assertThrowsExactly(NegativeVertexIndexException.class, () -> new GraphBuilder<>().addEdge(0, index));
+            assertThrowsExactly(NegativeVertexIndexException.class, () -> new GraphBuilder<>().addEdges(new int[]{index}, new int[]{0}));
+        });
+    }
+
+    @Test
+    @DisplayName("Checking if adding edges of a missing vertex leaves a graph unchanged.")
+    void givenMissingVertex_WhenAddEdges_ThenThrowNoSuchVertexIndexExceptionAndKeepGraph() {
+        Graph<Object> graph = new GraphBuilder<>().addEdges(from, to).build();
+        String before = graph.toString();
+        assertAll(() -> {
+            assertThrowsExactly(NoSuchVertexIndexException.class,
+                    () -> graph.addEdges(new int[]{from.length == 0 ? 0 : from[0], 0}, new int[]{1000, 1000}));
+            assertEquals(before, graph.toString());
+            assertThrowsExactly(IllegalArgumentException.class, () -> graph.addEdges(new int[1], new int[2]));
+        });
+    }
+}
@@ -1,7 +1,11 @@
 import com.graphs.exceptions.vertex.NegativeVertexIndexException;
 import com.graphs.exceptions.vertex.NoSuchVertexIndexException;
 import com.graphs.exceptions.vertex.VertexIndexException;
+import com.graphs.struct.Bipartition;
+import com.graphs.struct.ColumnType;
+import com.graphs.struct.ConnectedComponents;
 import com.graphs.struct.Graph;
+import com.graphs.struct.VertexSubset;
 import org.junit.jupiter.api.*;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.*;
@@ -186,6 +190,110 @@ class GraphTest {
                 });
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 3, 7, 13})
+    @DisplayName("Checking if removed vertex can no longer be found in a graph and can be added again.")
+    void givenVertexOfGraph_WhenRemoveVertex_ThenIsNotVertexOfGraph(int index) {
+        Set<Integer> neighbourhood = fromFile.getVertexNeighbourhood(index);
+        assertAll(() -> {
+            assertTrue(fromFile.removeVertex(index));
+            assertFalse(fromFile.isVertexOfGraph(index));
+            assertThrowsExactly(NoSuchVertexIndexException.class, () -> fromFile.getVertexData(index));
+            neighbourhood.forEach(neighbour ->
+                    assertFalse(fromFile.getVertexNeighbourhood(neighbour).contains(index)));
+            assertTrue(fromFile.addNewVertex(index));
+            assertTrue(fromFile.isVertexOfGraph(index));
+            assertTrue(fromFile.getVertexNeighbourhood(index).isEmpty());
+        });
+    }
+
+    @RepeatedTest(3)
+    @DisplayName("Checking if neighbourhood of a hub vertex stays consistent while it grows and shrinks.")
+    void givenHubVertex_WhenConnectAndDisconnectVertices_ThenNeighbourhoodEqualsExpected() {
+        Graph<Object> hub = new Graph<>();
+        List<Integer> leaves = IntStream.rangeClosed(1, 200)
+                .map(i -> i * 7919)
+                .boxed()
+                .toList();
+        Set<Integer> expected = new TreeSet<>();
+        assertAll(() -> {
+            assertTrue(hub.addNewVertex(0));
+            assertTrue(hub.addNewVertices(leaves));
+            for (int i = 0; i < 5000; i++) {
+                int leaf = leaves.get(RANDOM.nextInt(leaves.size()));
+                if (RANDOM.nextInt(3) > 0) {
+                    assertEquals(expected.add(leaf), hub.connectVertices(0, leaf));
+                } else {
+                    assertEquals(expected.remove(leaf), hub.disconnectVertices(leaf, 0));
+                }
+            }
+            assertEquals(expected, hub.getVertexNeighbourhood(0));
+            leaves.forEach(leaf ->
+                    assertEquals(expected.contains(leaf), hub.getVertexNeighbourhood(leaf).contains(0)));
+        });
+    }
+
+    @RepeatedTest(3)
+    @DisplayName("Checking if neighbourhood of a hub vertex of close neighbours stays consistent while it grows and shrinks.")
+    void givenHubVertexOfCloseNeighbours_WhenConnectAndDisconnectVertices_ThenNeighbourhoodEqualsExpected() {
+        Graph<Object> hub = new Graph<>();
+        Set<Integer> expected = new TreeSet<>();
+        assertAll(() -> {
+            assertTrue(hub.addNewVertex(0));
+            for (int i = 300; i > 0; i--) {
+                assertTrue(hub.addNewVertex(i));
+                assertTrue(hub.connectVertices(0, i));
+                expected.add(i);
+            }
+            for (int i = 0; i < 5000; i++) {
+                int leaf = 1 + RANDOM.nextInt(300);
+                if (RANDOM.nextInt(3) == 0) {
+                    assertEquals(expected.add(leaf), hub.connectVertices(leaf, 0));
+                } else {
+                    assertEquals(expected.remove(leaf), hub.disconnectVertices(0, leaf));
+                }
+                assertEquals(expected.size(), hub.getDegree(0));
+            }
+            assertEquals(expected, hub.getVertexNeighbourhood(0));
+        });
+    }
+
+    @RepeatedTest(9)
+    @DisplayName("Checking if degree statistics stay equal to recomputed ones while a graph changes.")
+    void givenRandomModifications_WhenGetDegreeStatistics_ThenEqualsRecomputedStatistics() {
+        Graph<Object> graph = new Graph<>();
+        assertAll(() -> {
+            assertEquals(0, graph.getEdgeCount());
+            assertEquals(0, graph.getMaxDegree());
+            for (int i = 0; i < 2000; i++) {
+                int indexV = RANDOM.nextInt(60);
+                int indexU = RANDOM.nextInt(60);
+                graph.addNewVertex(indexV);
+                graph.addNewVertex(indexU);
+                switch (RANDOM.nextInt(10)) {
+                    case 0 -> graph.removeVertex(indexV);
+                    case 1, 2, 3 -> graph.disconnectVertices(indexV, indexU);
+                    default -> graph.connectVertices(indexV, indexU);
+                }
+            }
+            int[] degrees = graph.getVertices().stream()
+                    .mapToInt(index -> graph.getVertexNeighbourhood(index).size())
+                    .toArray();
+            int[] histogram = new int[Arrays.stream(degrees).max().orElse(-1) + 1];
+            Arrays.stream(degrees).forEach(degree -> histogram[degree]++);
+            assertEquals(Arrays.stream(degrees).sum() / 2, graph.getEdgeCount());
+            assertEquals(Arrays.stream(degrees).min().orElse(0), graph.getMinDegree());
+            assertEquals(Arrays.stream(degrees).max().orElse(0), graph.getMaxDegree());
+            assertArrayEquals(histogram, graph.getDegreeHistogram());
+            assertEquals(graph.getEdgeCount(), graph.freeze().getEdgeCount());
+            assertEquals(graph.getMinDegree(), graph.freeze().getMinDegree());
+            assertEquals(graph.getMaxDegree(), graph.freeze().getMaxDegree());
+            graph.mapToComplete();
+            assertEquals(1.0, graph.getDensity());
+            assertEquals(graph.getOrder() - 1, graph.getMinDegree());
+        });
+    }
+
     @RepeatedTest(9)
     @DisplayName("Checking if found proper minimal dominating set in the graph from file.")
     void givenExpectedMDS_whenComputingMDS_ThenEqualsExpectedMDS() {
@@ -219,6 +327,369 @@ class GraphTest {
         });
     }
 
+    @Test
+    @DisplayName("Checking if primitive queries of the graph from file equal their Collection counterparts.")
+    void givenGraphFromFile_WhenQueryingByIntArrays_ThenEqualsCollectionQueries() {
+        assertAll(() -> {
+            assertEquals(fromFile.getVertices().size(), fromFile.getOrder());
+            assertArrayEquals(fromFile.getVertices().stream().mapToInt(Integer::intValue).toArray(),
+                    fromFile.getVertexIndexes());
+            for (int index : fromFile.getVertexIndexes()) {
+                int[] neighbours = fromFile.getNeighbourIndexes(index);
+                assertArrayEquals(fromFile.getVertexNeighbourhood(index).stream().mapToInt(Integer::intValue).toArray(),
+                        neighbours);
+                assertEquals(neighbours.length, fromFile.getDegree(index));
+            }
+            assertArrayEquals(new int[]{3, 7, 8, 12}, fromFile.findMDSIndexes());
+            assertArrayEquals(new int[]{1, 3, 4, 5, 7, 8, 9}, fromFile.findMCDSIndexes());
+            assertArrayEquals(new int[]{2, 4, 6, 10, 11, 13}, fromFile.findMISIndexes());
+            assertTrue(fromFile.isCDS(fromFile.findMCDSIndexes()));
+            assertTrue(fromFile.areVerticesOfGraph(1, 2, 3));
+            assertFalse(fromFile.areVerticesOfGraph());
+            assertEquals(fromFile.doInduceConnectedSubGraph(Set.of(1, 2, 3)), fromFile.doInduceConnectedSubGraph(1, 2, 3));
+            assertEquals(fromFile.doInduceBipartiteSubGraph(Set.of(1, 2, 3)), fromFile.doInduceBipartiteSubGraph(1, 2, 3));
+            assertThrowsExactly(NegativeVertexIndexException.class, () -> fromFile.isIndependentSet(1, -1));
+        });
+    }
+
+    @RepeatedTest(9)
+    @DisplayName("Checking if streams of vertices and edges report each of them once, sequentially and in parallel.")
+    void givenRandomGraph_WhenStreamVerticesAndEdges_ThenReportEachOnce() {
+        Graph<Object> graph = new Graph<>();
+        for (int i = 0; i < 3000; i++) {
+            int indexV = RANDOM.nextInt(500);
+            int indexU = RANDOM.nextInt(500);
+            graph.addNewVertex(indexV);
+            graph.addNewVertex(indexU);
+            if (RANDOM.nextInt(10) == 0) {
+                graph.removeVertex(indexV);
+            } else {
+                graph.connectVertices(indexV, indexU);
+            }
+        }
+        graph.addNewVertex(1000);
+        for (int index = 1001; index < 1100; index++) {
+            graph.addNewVertex(index);
+            graph.connectVertices(1000, index);
+        }
+        Set<Long> expected = new HashSet<>();
+        for (int v : graph.getVertexIndexes()) {
+            for (int u : graph.getNeighbourIndexes(v)) {
+                expected.add((long) Math.min(v, u) << 32 | Math.max(v, u));
+            }
+        }
+        long[] sequential = graph.edgeStream().toArray();
+        long[] parallel = graph.edgeStream().parallel().toArray();
+        assertAll(() -> {
+            assertEquals(graph.getEdgeCount(), sequential.length);
+            assertEquals(expected, Arrays.stream(sequential).boxed().collect(Collectors.toSet()));
+            assertArrayEquals(sequential, parallel);
+            assertTrue(Arrays.stream(sequential).allMatch(edge -> (int) (edge >>> 32) < (int) edge));
+            assertArrayEquals(graph.getVertexIndexes(), graph.vertexStream().sorted().toArray());
+            assertArrayEquals(graph.getVerticesView().stream().mapToInt(Integer::intValue).toArray(),
+                    graph.vertexStream().parallel().toArray());
+            assertEquals(0, new Graph<>().edgeStream().count());
+        });
+    }
+
+    @Test
+    @DisplayName("Checking if columns of the graph from file store values of vertices without affecting each other.")
+    void givenColumns_WhenSetValuesOfVertices_ThenGetEqualValues() {
+        fromFile.addColumn("score", ColumnType.DOUBLE);
+        fromFile.addColumn("rank", ColumnType.INT);
+        fromFile.addColumn("stamp", ColumnType.LONG);
+        fromFile.addColumn("visited", ColumnType.BOOLEAN);
+        for (int index : fromFile.getVertexIndexes()) {
+            fromFile.setVertexDouble("score", index, index / 2.0);
+            fromFile.setVertexInt("rank", index, -index);
+            fromFile.setVertexLong("stamp", index, (long) index << 40);
+            fromFile.setVertexBoolean("visited", index, index % 2 == 0);
+        }
+        assertAll(() -> {
+            assertEquals(List.of("score", "rank", "stamp", "visited"), List.copyOf(fromFile.getColumnNames()));
+            for (int index : fromFile.getVertexIndexes()) {
+                assertEquals(index / 2.0, fromFile.getVertexDouble("score", index));
+                assertEquals(-index, fromFile.getVertexInt("rank", index));
+                assertEquals((long) index << 40, fromFile.getVertexLong("stamp", index));
+                assertEquals(index % 2 == 0, fromFile.getVertexBoolean("visited", index));
+                assertNull(fromFile.getVertexData(index));
+            }
+            assertThrowsExactly(IllegalArgumentException.class, () -> fromFile.addColumn("score", ColumnType.INT));
+            assertThrowsExactly(IllegalArgumentException.class, () -> fromFile.getVertexInt("score", 1));
+            assertThrowsExactly(IllegalArgumentException.class, () -> fromFile.setVertexDouble("missing", 1, 1.0));
+            assertThrowsExactly(NoSuchVertexIndexException.class, () -> fromFile.getVertexDouble("score", 100));
+            assertTrue(fromFile.removeColumn("stamp"));
+            assertFalse(fromFile.removeColumn("stamp"));
+            assertThrowsExactly(IllegalArgumentException.class, () -> fromFile.getVertexLong("stamp", 1));
+        });
+    }
+
+    @Test
+    @DisplayName("Checking if values of a removed vertex are reset and not seen by a snapshot or a vertex added later.")
+    void givenColumnAndSnapshot_WhenRemoveAndAddVertex_ThenValuesAreIsolated() {
+        fromFile.addColumn("score", ColumnType.DOUBLE);
+        fromFile.setVertexDouble("score", 1, 7.5);
+        fromFile.setVertexDouble("score", 2, 2.5);
+        Graph<Object> snapshot = fromFile.snapshot();
+        fromFile.removeVertex(1);
+        fromFile.addNewVertex(100);
+        fromFile.addNewVertex(1);
+        fromFile.setVertexDouble("score", 2, 3.5);
+        fromFile.setVertexDouble("score", 100, 9.5);
+        assertAll(() -> {
+            assertEquals(0.0, fromFile.getVertexDouble("score", 1));
+            assertEquals(3.5, fromFile.getVertexDouble("score", 2));
+            assertEquals(9.5, fromFile.getVertexDouble("score", 100));
+            assertEquals(7.5, snapshot.getVertexDouble("score", 1));
+            assertEquals(2.5, snapshot.getVertexDouble("score", 2));
+            assertThrowsExactly(UnsupportedOperationException.class, () -> snapshot.setVertexDouble("score", 2, 1.0));
+            assertThrowsExactly(UnsupportedOperationException.class, () -> snapshot.addColumn("rank", ColumnType.INT));
+        });
+    }
+
+    @Test
+    @DisplayName("Checking if live views of the graph from file equal copies and follow its modifications.")
+    void givenGraphFromFile_WhenGetViews_ThenEqualCopiesAndFollowModifications() {
+        Set<Integer> vertices = fromFile.getVerticesView();
+        Set<Integer> neighbourhood = fromFile.getVertexNeighbourhoodView(1);
+        assertAll(() -> {
+            assertEquals(fromFile.getVertices(), vertices);
+            for (int index : fromFile.getVertexIndexes()) {
+                assertEquals(fromFile.getVertexNeighbourhood(index), fromFile.getVertexNeighbourhoodView(index));
+            }
+            assertThrowsExactly(UnsupportedOperationException.class, () -> vertices.add(100));
+            assertThrowsExactly(UnsupportedOperationException.class, () -> neighbourhood.remove(neighbourhood.iterator().next()));
+            assertThrowsExactly(UnsupportedOperationException.class, neighbourhood::clear);
+            assertThrowsExactly(NoSuchVertexIndexException.class, () -> fromFile.getVertexNeighbourhoodView(100));
+            assertFalse(vertices.contains(-1));
+            assertFalse(vertices.contains("1"));
+            fromFile.addNewVertex(100);
+            fromFile.connectVertices(1, 100);
+            assertTrue(vertices.contains(100));
+            assertTrue(neighbourhood.contains(100));
+            assertEquals(fromFile.getVertexNeighbourhood(1), neighbourhood);
+            for (int index = 200; index < 300; index++) {
+                fromFile.addNewVertex(index);
+                fromFile.connectVertices(1, index);
+            }
+            assertEquals(fromFile.getVertexNeighbourhood(1), neighbourhood);
+            assertEquals(fromFile.getOrder(), vertices.size());
+            fromFile.removeVertex(1);
+            assertFalse(vertices.contains(1));
+            assertTrue(neighbourhood.isEmpty());
+        });
+    }
+
+    @Test
+    @DisplayName("Checking if a snapshot of the graph from file keeps its state while the graph is modified.")
+    void givenSnapshot_WhenModifyGraphFromFile_ThenSnapshotIsUnchanged() {
+        String expected = fromFile.toString();
+        Graph<Object> snapshot = fromFile.snapshot();
+        fromFile.setVertexData(1, "data");
+        fromFile.removeVertex(3);
+        fromFile.connectVertices(1, 2);
+        fromFile.addNewVertex(99);
+        fromFile.mapToComplete();
+        assertAll(() -> {
+            assertEquals(expected, snapshot.toString());
+            assertSame(snapshot, snapshot.snapshot());
+            assertNull(snapshot.getVertexData(1));
+            assertEquals(Set.of(3, 7, 8, 12), snapshot.findMDS());
+            assertEquals(Set.of(1, 3, 4, 5, 7, 8, 9), snapshot.findMCDS());
+            assertEquals(Set.of(2, 4, 6, 10, 11, 13), snapshot.findMIS());
+            assertTrue(fromFile.isComplete());
+            assertFalse(fromFile.isVertexOfGraph(3));
+            assertThrowsExactly(UnsupportedOperationException.class, () -> snapshot.addNewVertex(100));
+            assertThrowsExactly(UnsupportedOperationException.class, () -> snapshot.connectVertices(1, 2));
+            assertThrowsExactly(UnsupportedOperationException.class, () -> snapshot.removeVertex(1));
+            assertThrowsExactly(UnsupportedOperationException.class, () -> snapshot.setVertexData(1, "data"));
+            assertThrowsExactly(UnsupportedOperationException.class, () -> snapshot.setDenseAdjacency(true));
+        });
+    }
+
+    @RepeatedTest(9)
+    @DisplayName("Checking if snapshots taken between random modifications equal copies of a graph taken at the same moments.")
+    void givenRandomModifications_WhenTakeSnapshots_ThenEqualCopiesOfGraph() {
+        Graph<Object> graph = new Graph<>();
+        List<Graph<Object>> snapshots = new ArrayList<>();
+        List<String> copies = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            int indexV = RANDOM.nextInt(60);
+            int indexU = RANDOM.nextInt(60);
+            graph.addNewVertex(indexV);
+            graph.addNewVertex(indexU);
+            switch (RANDOM.nextInt(10)) {
+                case 0 -> graph.removeVertex(indexV);
+                case 1, 2, 3 -> graph.disconnectVertices(indexV, indexU);
+                case 4 -> graph.setVertexData(indexV, i);
+                default -> graph.connectVertices(indexV, indexU);
+            }
+            if (i % 100 == 0) {
+                snapshots.add(graph.snapshot());
+                copies.add(graph.toString());
+            }
+        }
+        assertAll(() -> {
+            for (int k = 0; k < snapshots.size(); k++) {
+                Graph<Object> snapshot = snapshots.get(k);
+                assertEquals(copies.get(k), snapshot.toString());
+                assertEquals(snapshot.getVertices().stream()
+                        .mapToInt(index -> snapshot.getVertexNeighbourhood(index).size())
+                        .sum() / 2, snapshot.getEdgeCount());
+            }
+        });
+    }
+
+    @RepeatedTest(3)
+    @DisplayName("Checking if snapshots of a graph spanning many pages of vertices are unaffected by writes to a few of them.")
+    void givenLargeGraph_WhenModifyAfterSnapshots_ThenSnapshotsEqualCopiesOfGraph() {
+        Graph<Object> graph = new Graph<>();
+        for (int index = 0; index < 3000; index++) {
+            graph.addNewVertex(index);
+            if (index > 0) graph.connectVertices(index, RANDOM.nextInt(index));
+        }
+        List<Graph<Object>> snapshots = new ArrayList<>();
+        List<String> copies = new ArrayList<>();
+        for (int i = 0; i < 300; i++) {
+            int indexV = RANDOM.nextInt(4000);
+            int indexU = RANDOM.nextInt(4000);
+            graph.addNewVertex(indexV);
+            graph.addNewVertex(indexU);
+            switch (RANDOM.nextInt(4)) {
+                case 0 -> graph.removeVertex(indexV);
+                case 1 -> graph.disconnectVertices(indexV, indexU);
+                default -> graph.connectVertices(indexV, indexU);
+            }
+            if (i % 30 == 0) {
+                snapshots.add(graph.snapshot());
+                copies.add(graph.toString());
+            }
+        }
+        assertAll(() -> {
+            for (int k = 0; k < snapshots.size(); k++) {
+                assertEquals(copies.get(k), snapshots.get(k).toString());
+            }
+        });
+    }
+
+    @Test
+    @DisplayName("Checking if connected components of the graph from file are cached until the graph is modified.")
+    void givenGraphFromFile_WhenDisconnectLeaf_ThenComponentsAreRecomputed() {
+        ConnectedComponents components = fromFile.connectedComponents();
+        assertAll(() -> {
+            assertEquals(1, components.getCount());
+            assertEquals(fromFile.getVertices(), components.getLargestComponentVertices());
+            assertSame(components, fromFile.connectedComponents());
+            int leaf = fromFile.getVertices().stream()
+                    .filter(index -> fromFile.getVertexNeighbourhood(index).size() == 1)
+                    .findFirst()
+                    .orElseThrow();
+            int neighbour = fromFile.getVertexNeighbourhood(leaf).iterator().next();
+            assertTrue(fromFile.disconnectVertices(leaf, neighbour));
+            ConnectedComponents recomputed = fromFile.connectedComponents();
+            assertNotSame(components, recomputed);
+            assertEquals(2, recomputed.getCount());
+            assertFalse(recomputed.areConnected(leaf, neighbour));
+            assertTrue(components.areConnected(leaf, neighbour));
+            assertEquals(1, recomputed.getComponentSize(recomputed.getComponent(leaf)));
+            assertArrayEquals(new int[]{leaf}, recomputed.getComponentIndexes(recomputed.getComponent(leaf)));
+            assertEquals(fromFile.getOrder() - 1, recomputed.getComponentSize(recomputed.getLargestComponent()));
+            assertThrowsExactly(NegativeVertexIndexException.class, () -> recomputed.getComponent(-1));
+            assertThrowsExactly(NoSuchVertexIndexException.class, () -> recomputed.getComponent(100));
+            assertThrowsExactly(IllegalArgumentException.class, () -> recomputed.getComponentSize(2));
+            assertEquals(0, new Graph<>().connectedComponents().getCount());
+            assertEquals(-1, new Graph<>().connectedComponents().getLargestComponent());
+        });
+    }
+
+    @Test
+    @DisplayName("Checking if every component is checked for bipartiteness, not only the one of the first vertex.")
+    void givenSecondComponentWithTriangle_WhenIsBipartite_ThenReturnFalse() {
+        Graph<Object> graph = new Graph<>();
+        IntStream.of(1, 2, 3, 5, 6, 7).forEach(graph::addNewVertex);
+        graph.addEdges(new int[]{1, 2, 5, 6, 7}, new int[]{2, 3, 6, 7, 5});
+        Bipartition bipartition = graph.findBipartition();
+        assertAll(() -> {
+            assertFalse(graph.isBipartite());
+            assertFalse(bipartition.isBipartite());
+            assertEquals(Set.of(5, 6, 7), Set.copyOf(bipartition.getOddCycle()));
+            assertTrue(graph.doInduceBipartiteSubGraph(1, 2, 3, 5, 6));
+            assertFalse(graph.doInduceBipartiteSubGraph(1, 5, 6, 7));
+            graph.disconnectVertices(7, 5);
+            Bipartition parts = graph.findBipartition();
+            assertTrue(graph.isBipartite());
+            assertEquals(Set.of(1, 3, 5, 7), parts.getFirstPart());
+            assertEquals(Set.of(2, 6), parts.getSecondPart());
+            assertTrue(parts.getOddCycle().isEmpty());
+            assertFalse(new Graph<>().isBipartite());
+            assertFalse(new Graph<>().findBipartition().isBipartite());
+            assertTrue(new Graph<>().findBipartition().getOddCycle().isEmpty());
+        });
+    }
+
+    @Test
+    @DisplayName("Checking if subset predicates check every vertex of a subset, whether it is dense or sparse.")
+    void givenVertexSubsets_WhenCheckingSubsetPredicates_ThenEqualsIndexQueries() {
+        Graph<Object> graph = new Graph<>();
+        IntStream.of(1, 2, 3, 5, 6, 1_000_000).forEach(graph::addNewVertex);
+        graph.addEdges(new int[]{1, 2, 3, 5}, new int[]{2, 3, 5, 6});
+        VertexSubset dense = VertexSubset.of(2, 3, 5, 3);
+        VertexSubset sparse = VertexSubset.of(1, 6, 1_000_000);
+        assertAll(() -> {
+            assertEquals(3, dense.size());
+            assertTrue(sparse.contains(1_000_000));
+            assertFalse(sparse.contains(5));
+            assertTrue(graph.isIndependentSet(sparse));
+            assertFalse(graph.isIndependentSet(1, 5, 6));
+            assertFalse(graph.isIndependentSet(Set.of(1, 5, 6)));
+            assertTrue(graph.doInduceConnectedSubGraph(dense));
+            assertFalse(graph.doInduceConnectedSubGraph(sparse));
+            assertEquals(graph.doInduceBipartiteSubGraph(2, 3, 5), graph.doInduceBipartiteSubGraph(dense));
+            assertFalse(graph.isCDS(dense));
+            graph.removeVertex(1_000_000);
+            assertTrue(graph.isCDS(dense));
+            assertEquals(graph.isCDS(2, 3, 5), graph.freeze().isCDS(dense));
+            assertThrowsExactly(NoSuchVertexIndexException.class, () -> graph.isCDS(VertexSubset.of(2, 4)));
+            assertThrowsExactly(NegativeVertexIndexException.class, () -> VertexSubset.of(2, -4));
+        });
+    }
+
+    @RepeatedTest(9)
+    @DisplayName("Checking if maintained connectivity agrees with connected components after each random modification.")
+    void givenDynamicConnectivity_WhenModifyRandomly_ThenAgreesWithComponents() {
+        Graph<Object> graph = new Graph<>();
+        graph.setDynamicConnectivity(true);
+        assertTrue(graph.isDynamicConnectivity());
+        for (int i = 0; i < 1500; i++) {
+            int indexV = RANDOM.nextInt(40);
+            int indexU = RANDOM.nextInt(40);
+            int indexW = RANDOM.nextInt(40);
+            graph.addNewVertex(indexV);
+            graph.addNewVertex(indexU);
+            graph.addNewVertex(indexW);
+            switch (RANDOM.nextInt(20)) {
+                case 0 -> graph.removeVertex(indexV);
+                case 1 -> graph.addEdges(new int[]{indexV, indexU}, new int[]{indexU, indexW});
+                case 2 -> {
+                    if (i % 500 == 2) graph.mapToComplete();
+                }
+                case 3 -> graph.snapshot();
+                case 4, 5, 6, 7, 8, 9, 10, 11 -> graph.disconnectVertices(indexV, indexU);
+                default -> graph.connectVertices(indexV, indexU);
+            }
+            ConnectedComponents components = graph.connectedComponents();
+            assertEquals(components.getCount() <= 1, graph.isConnected());
+            for (int index : graph.getVertexIndexes()) {
+                if (graph.isVertexOfGraph(indexU)) {
+                    assertEquals(components.areConnected(index, indexU), graph.areConnected(index, indexU));
+                }
+            }
+        }
+        graph.setDynamicConnectivity(false);
+        assertFalse(graph.isDynamicConnectivity());
+        assertEquals(graph.connectedComponents().getCount() <= 1, graph.isConnected());
+    }
+
     @Nested
     @DisplayName("Nested class for empty graphs.")
     class EmptyGraphUnitTest {
@@ -367,6 +838,17 @@ class GraphTest {
             });
         }
 
+        @Test
+        @DisplayName("Checking if the bipartite graph from file is split into expected parts.")
+        void givenBipartiteGraph_WhenFindBipartition_ThenEqualsExpectedParts() {
+            Bipartition bipartition = bipartite.findBipartition();
+            assertAll(() -> {
+                assertEquals(Set.of(1, 3, 5, 7), bipartition.getFirstPart());
+                assertEquals(Set.of(2, 4, 6, 8), bipartition.getSecondPart());
+                assertArrayEquals(new int[0], bipartition.getOddCycleIndexes());
+            });
+        }
+
         @Test
         @DisplayName("Checking if graph is not empty.")
         void givenBipartiteGraph_WhenIsEmpty_ThenReturnFalse() {
@@ -481,5 +963,47 @@ class GraphTest {
                     assertEquals(1, computed);
             });
         }
+
+        @ParameterizedTest
+        @ValueSource(ints = {1, 63, 64, 65, 200})
+        @DisplayName("Checking if a complete graph has every pair of vertices connected.")
+        void givenSizeOfCompleteGraph_WhenGetVertexNeighbourhood_ThenContainsEveryOtherVertex(int size) {
+            final int startIndex = RANDOM.nextInt(100);
+            complete = new Graph<Integer>().complete(startIndex, size);
+            assertAll(() -> {
+                assertEquals(size, complete.getOrder());
+                for (int index = startIndex; index < startIndex + size; index++) {
+                    Set<Integer> expected = new TreeSet<>(complete.getVertices());
+                    expected.remove(index);
+                    assertEquals(expected, complete.getVertexNeighbourhood(index));
+                    assertEquals(List.copyOf(expected), List.copyOf(complete.getVertexNeighbourhoodView(index)));
+                }
+                assertTrue(complete.isComplete());
+            });
+        }
+
+        @ParameterizedTest
+        @ValueSource(booleans = {true, false})
+        @DisplayName("Checking if a graph mapped to complete stays complete until an edge is removed.")
+        void givenDenseAdjacency_WhenMapToCompleteAndDisconnectVertices_ThenIsNotComplete(boolean dense) {
+            complete = new Graph<>();
+            complete.setDenseAdjacency(dense);
+            for (int i = 0; i < 100; i++) {
+                complete.addNewVertex(RANDOM.nextInt(1_000));
+            }
+            complete.mapToComplete();
+            List<Integer> vertices = List.copyOf(complete.getVertices());
+            assertAll(() -> {
+                assertEquals(dense, complete.isDenseAdjacency());
+                assertTrue(complete.isComplete());
+                assertTrue(complete.disconnectVertices(vertices.get(0), vertices.get(1)));
+                assertFalse(complete.isComplete());
+                assertFalse(complete.getVertexNeighbourhood(vertices.get(1)).contains(vertices.get(0)));
+                complete.setDenseAdjacency(!dense);
+                assertEquals(vertices.size() - 2, complete.getVertexNeighbourhood(vertices.get(0)).size());
+                assertTrue(complete.connectVertices(vertices.get(0), vertices.get(1)));
+                assertTrue(complete.isComplete());
+            });
+        }
     }
-}
\ No newline at end of file
+}